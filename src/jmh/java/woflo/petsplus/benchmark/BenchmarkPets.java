@@ -0,0 +1,51 @@
+package woflo.petsplus.benchmark;
+
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.Nullable;
+import woflo.petsplus.TestFixtures;
+import woflo.petsplus.state.PetComponent;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic pet populations for the benchmarks, built on the stubbed entities from
+ * {@link TestFixtures}. A fixed seed keeps layouts identical between runs so results stay
+ * comparable across commits.
+ */
+final class BenchmarkPets {
+    static final long SEED = 0x5EEDL;
+    static final long START_TICK = 1_000L;
+
+    private BenchmarkPets() {
+    }
+
+    static ServerWorld world() {
+        return TestFixtures.mockWorld(START_TICK);
+    }
+
+    /**
+     * Create {@code count} pets with attached components, scattered over a square of
+     * {@code spread} blocks around the origin.
+     */
+    static Pet[] spawn(ServerWorld world, int count, int spread, @Nullable UUID ownerId) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        Pet[] pets = new Pet[count];
+        for (int i = 0; i < count; i++) {
+            BlockPos pos = new BlockPos(random.nextInt(spread) - spread / 2, 64, random.nextInt(spread) - spread / 2);
+            MobEntity mob = TestFixtures.mockPetAtPosition(world, TestFixtures.deterministicUuid(i), pos);
+            PetComponent component = new PetComponent(mob);
+            if (ownerId != null) {
+                component.setOwnerUuid(ownerId);
+            }
+            PetComponent.set(mob, component);
+            pets[i] = new Pet(mob, component);
+        }
+        return pets;
+    }
+
+    record Pet(MobEntity mob, PetComponent component) {
+    }
+}
@@ -0,0 +1,63 @@
+package woflo.petsplus.benchmark;
+
+import net.minecraft.util.Identifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import woflo.petsplus.Petsplus;
+import woflo.petsplus.mood.EmotionStimulusBus;
+import woflo.petsplus.mood.MoodService;
+import woflo.petsplus.state.PetComponent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queue a keyed stimulus for a pet and dispatch it straight away, the path every emotion
+ * trigger takes. Keys rotate so both coalesced and fresh windows are exercised.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmotionStimulusBusBenchmark {
+    private static final int KEY_COUNT = 8;
+
+    private EmotionStimulusBus bus;
+    private BenchmarkPets.Pet pet;
+    private Identifier[] keys;
+    private int next;
+
+    @Setup
+    public void setup() {
+        bus = MoodService.getInstance().getStimulusBus();
+        pet = BenchmarkPets.spawn(BenchmarkPets.world(), 1, 8, null)[0];
+        keys = new Identifier[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = Identifier.of(Petsplus.MOD_ID, "bench/stimulus_" + i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        bus.cancelPendingIdleTasks();
+    }
+
+    @Benchmark
+    public void queueAndDispatch() {
+        Identifier key = keys[next];
+        next = next + 1 == keys.length ? 0 : next + 1;
+        bus.queueSimpleStimulus(pet.mob(), key,
+            collector -> collector.pushEmotion(PetComponent.Emotion.CHEERFUL, 0.05f));
+        bus.dispatchStimuli(pet.mob());
+    }
+}
@@ -0,0 +1,120 @@
+package woflo.petsplus.benchmark;
+
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import woflo.petsplus.ai.PetMobInteractionProfile;
+import woflo.petsplus.ai.capability.MobCapabilities;
+import woflo.petsplus.ai.context.NearbyMobAgeProfile;
+import woflo.petsplus.ai.context.PetContext;
+import woflo.petsplus.ai.context.PetContextCrowdSummary;
+import woflo.petsplus.ai.context.perception.StimulusSnapshot;
+import woflo.petsplus.ai.context.social.SocialSnapshot;
+import woflo.petsplus.ai.suggester.GoalSuggester;
+import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.emotions.BehaviouralEnergyProfile;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Goal scoring for one pet. {@code fresh} advances the world tick on every call so the
+ * evaluation cache has to rescore; {@code cached} replays the same tick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GoalSuggesterBenchmark {
+    private static final MobCapabilities.CapabilityProfile LAND_PET = new MobCapabilities.CapabilityProfile(
+        true, false, true, true,
+        true, true, false, true,
+        true, true, false, false,
+        false
+    );
+
+    @Param({"fresh", "cached"})
+    public String mode;
+
+    private GoalSuggester suggester;
+    private BenchmarkPets.Pet pet;
+    private Map<PetComponent.Mood, Float> moodBlend;
+    private Map<PetComponent.Emotion, Float> emotions;
+    private boolean advance;
+    private long tick;
+
+    @Setup
+    public void setup() {
+        pet = BenchmarkPets.spawn(BenchmarkPets.world(), 1, 8, null)[0];
+        suggester = new GoalSuggester(mob -> LAND_PET);
+        moodBlend = new EnumMap<>(PetComponent.Mood.class);
+        moodBlend.put(PetComponent.Mood.HAPPY, 0.6f);
+        moodBlend.put(PetComponent.Mood.CALM, 0.4f);
+        emotions = new EnumMap<>(PetComponent.Emotion.class);
+        emotions.put(PetComponent.Emotion.CHEERFUL, 0.5f);
+        emotions.put(PetComponent.Emotion.CONTENT, 0.3f);
+        advance = "fresh".equals(mode);
+        tick = BenchmarkPets.START_TICK;
+    }
+
+    @Benchmark
+    public Optional<GoalSuggester.Suggestion> suggestBest() {
+        if (advance) {
+            tick++;
+        }
+        return suggester.suggestBest(contextAt(tick));
+    }
+
+    private PetContext contextAt(long worldTime) {
+        return new PetContext(
+            pet.mob(),
+            pet.component(),
+            PetComponent.Mood.HAPPY,
+            1,
+            moodBlend,
+            emotions,
+            null,
+            null,
+            null,
+            5,
+            0.5f,
+            worldTime - BenchmarkPets.START_TICK,
+            null,
+            false,
+            Float.MAX_VALUE,
+            List.of(),
+            PetContextCrowdSummary.empty(),
+            NearbyMobAgeProfile.empty(),
+            PetMobInteractionProfile.defaultProfile(),
+            BlockPos.ORIGIN,
+            worldTime,
+            true,
+            StimulusSnapshot.empty(),
+            SocialSnapshot.empty(),
+            false,
+            new ArrayDeque<Identifier>(),
+            Map.of(),
+            Map.of(),
+            null,
+            0L,
+            0.5f,
+            BehaviouralEnergyProfile.neutral()
+        );
+    }
+}
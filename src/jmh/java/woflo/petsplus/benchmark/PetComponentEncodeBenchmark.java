@@ -0,0 +1,60 @@
+package woflo.petsplus.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import woflo.petsplus.TestFixtures;
+import woflo.petsplus.component.PetsplusComponents;
+import woflo.petsplus.state.PetComponent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot a populated component into {@link PetsplusComponents.PetData}. {@code unchanged}
+ * encodes the same state repeatedly; {@code mutated} touches state data before each encode.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PetComponentEncodeBenchmark {
+    private static final int STATE_KEYS = 32;
+
+    @Param({"unchanged", "mutated"})
+    public String mode;
+
+    private PetComponent component;
+    private boolean mutate;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        component = BenchmarkPets.spawn(BenchmarkPets.world(), 1, 8,
+            TestFixtures.deterministicUuid(-1))[0].component();
+        for (int i = 0; i < STATE_KEYS; i++) {
+            component.setStateData("bench_key_" + i, i * 31L);
+        }
+        for (PetComponent.Emotion emotion : TestFixtures.standardEmotions()) {
+            component.pushEmotion(emotion, 0.3f);
+        }
+        mutate = "mutated".equals(mode);
+    }
+
+    @Benchmark
+    public PetsplusComponents.PetData toComponentData() {
+        if (mutate) {
+            component.setStateData("bench_counter", ++counter);
+        }
+        return component.toComponentData();
+    }
+}
@@ -0,0 +1,95 @@
+package woflo.petsplus.benchmark;
+
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.world.ServerWorld;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import woflo.petsplus.TestFixtures;
+import woflo.petsplus.state.PetComponent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retained heap per loaded mob. {@code NONE} runs untamed mobs through the
+ * {@link PetComponent#getIfPet} fast path; {@code FULL} attaches a component to each mob.
+ * The mobs themselves are allocated before the baseline reading, so the
+ * {@code retainedBytesPerMob} counter only covers what Pets+ keeps alive for them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class PetComponentHeapBenchmark {
+    private static final int MOB_COUNT = 2_000;
+
+    @Param({"NONE", "FULL"})
+    public PetComponent.Tier tier;
+
+    private ServerWorld world;
+    private MobEntity[] mobs;
+    private Object[] retained;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class HeapCounters {
+        public long retainedBytesPerMob;
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        world = BenchmarkPets.world();
+        mobs = new MobEntity[MOB_COUNT];
+        for (int i = 0; i < MOB_COUNT; i++) {
+            mobs[i] = TestFixtures.mockPet(world, TestFixtures.deterministicUuid(i));
+        }
+        retained = new Object[MOB_COUNT];
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        for (MobEntity mob : mobs) {
+            PetComponent.remove(mob);
+        }
+        mobs = null;
+        retained = null;
+    }
+
+    @Benchmark
+    public Object[] loadMobs(HeapCounters counters) {
+        long baseline = usedHeap();
+        for (int i = 0; i < MOB_COUNT; i++) {
+            MobEntity mob = mobs[i];
+            if (tier == PetComponent.Tier.FULL) {
+                PetComponent component = new PetComponent(mob);
+                PetComponent.set(mob, component);
+                retained[i] = component;
+            } else {
+                retained[i] = PetComponent.getIfPet(mob);
+            }
+        }
+        counters.retainedBytesPerMob = Math.max(0L, usedHeap() - baseline) / MOB_COUNT;
+        return retained;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
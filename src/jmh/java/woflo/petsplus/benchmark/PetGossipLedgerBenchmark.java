@@ -0,0 +1,70 @@
+package woflo.petsplus.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import woflo.petsplus.state.gossip.PetGossipLedger;
+import woflo.petsplus.state.gossip.RumorEntry;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gossip churn on a warm ledger: record or reinforce a rumor, hand one to a peer ledger,
+ * then run a decay pass on both.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PetGossipLedgerBenchmark {
+    @Param({"16", "128"})
+    public int topics;
+
+    private PetGossipLedger speaker;
+    private PetGossipLedger listener;
+    private long[] topicIds;
+    private int next;
+    private long tick;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(BenchmarkPets.SEED);
+        topicIds = new long[topics];
+        for (int i = 0; i < topics; i++) {
+            topicIds[i] = random.nextLong();
+        }
+        speaker = new PetGossipLedger();
+        listener = new PetGossipLedger();
+        tick = BenchmarkPets.START_TICK;
+        for (long topicId : topicIds) {
+            speaker.recordRumor(topicId, 0.6f, 0.7f, tick, null, null);
+        }
+    }
+
+    @Benchmark
+    public RumorEntry shareAndDecay() {
+        long now = ++tick;
+        speaker.recordRumor(topicIds[next], 0.5f, 0.6f, now, null, null);
+        next = next + 1 == topicIds.length ? 0 : next + 1;
+
+        RumorEntry shared = speaker.pollForSharing(now);
+        if (shared != null) {
+            listener.ingestRumorFromPeer(shared, now, false);
+            speaker.markShared(shared.topicId(), now);
+        }
+        speaker.tickDecay(now);
+        listener.tickDecay(now);
+        return shared;
+    }
+}
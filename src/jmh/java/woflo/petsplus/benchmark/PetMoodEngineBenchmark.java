@@ -0,0 +1,58 @@
+package woflo.petsplus.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import woflo.petsplus.TestFixtures;
+import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.emotions.PetMoodEngine;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One mood refresh per call: a small stimulus marks the engine dirty and the clock moves past
+ * the refresh interval, so every call decays and re-blends the full emotion pool. The pet has
+ * no owner, so the tick budget governor never defers the refresh.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PetMoodEngineBenchmark {
+    private static final long REFRESH_INTERVAL = 20L;
+
+    private PetComponent component;
+    private PetMoodEngine engine;
+    private PetComponent.Emotion[] emotions;
+    private int next;
+    private long now;
+
+    @Setup
+    public void setup() {
+        component = BenchmarkPets.spawn(BenchmarkPets.world(), 1, 8, null)[0].component();
+        engine = component.getMoodEngine();
+        emotions = TestFixtures.standardEmotions();
+        for (PetComponent.Emotion emotion : emotions) {
+            component.pushEmotion(emotion, 0.4f);
+        }
+        now = BenchmarkPets.START_TICK;
+    }
+
+    @Benchmark
+    public PetComponent.Mood ensureFresh() {
+        component.pushEmotion(emotions[next], 0.05f);
+        next = next + 1 == emotions.length ? 0 : next + 1;
+        now += REFRESH_INTERVAL;
+        engine.ensureFresh(now);
+        return engine.getCurrentMood();
+    }
+}
@@ -0,0 +1,62 @@
+package woflo.petsplus.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import woflo.petsplus.TestFixtures;
+import woflo.petsplus.state.coordination.PetSwarmIndex;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Neighbor queries against a single owner's swarm at increasing pack sizes. The probe pet
+ * rotates through the swarm so every cell layout gets visited.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PetSwarmIndexBenchmark {
+    private static final double RADIUS = 8.0D;
+
+    @Param({"10", "100", "1000"})
+    public int pets;
+
+    private PetSwarmIndex index;
+    private BenchmarkPets.Pet[] swarm;
+    private int probe;
+    private int visited;
+    private final PetSwarmIndex.NeighborVisitor visitor = (entry, squaredDistance) -> visited++;
+
+    @Setup
+    public void setup() {
+        UUID ownerId = TestFixtures.deterministicUuid(-1);
+        // Keep density roughly constant so larger packs cover more cells
+        int spread = Math.max(16, (int) Math.sqrt(pets) * 6);
+        swarm = BenchmarkPets.spawn(BenchmarkPets.world(), pets, spread, ownerId);
+        index = new PetSwarmIndex();
+        for (BenchmarkPets.Pet pet : swarm) {
+            index.trackPet(pet.mob(), pet.component());
+        }
+    }
+
+    @Benchmark
+    public int forEachNeighbor() {
+        BenchmarkPets.Pet pet = swarm[probe];
+        probe = probe + 1 == swarm.length ? 0 : probe + 1;
+        visited = 0;
+        index.forEachNeighbor(pet.mob(), pet.component(), RADIUS, visitor);
+        return visited;
+    }
+}
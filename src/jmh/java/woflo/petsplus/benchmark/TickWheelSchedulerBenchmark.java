@@ -0,0 +1,67 @@
+package woflo.petsplus.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import woflo.petsplus.state.coordination.TickWheelScheduler;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Steady-state schedule + drain: every invocation schedules a batch of tasks spread over the
+ * next few thousand ticks (some past the wheel, into overflow) and drains one tick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TickWheelSchedulerBenchmark {
+    private static final int MAX_DELAY = 4_096;
+
+    @Param({"16", "256"})
+    public int batch;
+
+    private TickWheelScheduler<Integer> scheduler;
+    private Integer[] values;
+    private int[] delays;
+    private Consumer<Integer> sink;
+    private long tick;
+
+    @Setup(Level.Iteration)
+    public void setup(Blackhole blackhole) {
+        scheduler = new TickWheelScheduler<>();
+        SplittableRandom random = new SplittableRandom(BenchmarkPets.SEED);
+        values = new Integer[batch];
+        delays = new int[batch];
+        for (int i = 0; i < batch; i++) {
+            values[i] = i;
+            delays[i] = 1 + random.nextInt(MAX_DELAY);
+        }
+        sink = blackhole::consume;
+        tick = 0L;
+    }
+
+    @Benchmark
+    public void scheduleAndDrain() {
+        long now = tick;
+        for (int i = 0; i < batch; i++) {
+            scheduler.schedule(now + delays[i], values[i]);
+        }
+        tick = now + 1L;
+        scheduler.drainTo(tick, sink);
+    }
+}
@@ -1,5 +1,6 @@
 package woflo.petsplus.abilities;
 
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.entity.player.PlayerEntity;
@@ -35,6 +36,12 @@ public class AbilityManager {
     private static final Map<Identifier, Ability> ALL_ABILITIES = new HashMap<>();
     private static final Map<Identifier, RoleAbilityCache> ROLE_EVENT_CACHES = new HashMap<>();
     private static final Map<Identifier, List<RoleAbilityCache.CompiledAbility>> ROLE_COMPILED_DEFAULTS = new HashMap<>();
+    // Reusable per-pet contexts; a stack so nested triggers fired from inside an ability get their own
+    private static final ThreadLocal<ArrayDeque<TriggerContext>> CONTEXT_POOL = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final int MAX_POOLED_CONTEXTS = 8;
+    // Reusable role groupings for owner events; pooled the same way since owner dispatch can nest
+    private static final ThreadLocal<ArrayDeque<RoleGroups>> GROUP_POOL = ThreadLocal.withInitial(ArrayDeque::new);
+    private static volatile int loadoutGeneration;
 
     /**
      * Initialize the ability system with default abilities.
@@ -90,6 +97,8 @@ public class AbilityManager {
             ROLE_COMPILED_DEFAULTS.put(roleType.id(), cache.defaultCompiled());
         }
 
+        loadoutGeneration++;
+
         if (ALL_ABILITIES.isEmpty()) {
             Petsplus.LOGGER.debug("Ability registry reload completed with no abilities available.");
         } else {
@@ -123,8 +132,13 @@ public class AbilityManager {
             return AbilityTriggerResult.empty();
         }
 
-        TriggerContext petContext = cloneContextForPet(pet, context);
-        return executeCompiledAbilities(component, component.getRoleType(false), compiledAbilities, petContext);
+        TriggerContext petContext = acquireContext();
+        try {
+            bindContextForPet(petContext, pet, context);
+            return executeCompiledAbilities(component, component.getRoleType(false), compiledAbilities, petContext);
+        } finally {
+            releaseContext(petContext);
+        }
     }
 
     /**
@@ -144,86 +158,129 @@ public class AbilityManager {
             return AbilityTriggerResult.empty();
         }
 
-        Map<Identifier, RoleAbilityGroup> groups = new HashMap<>();
-        Set<Identifier> skippedRoles = new HashSet<>();
-
-        for (PetComponent component : pets) {
-            if (component == null) {
-                continue;
-            }
-            MobEntity pet = component.getPetEntity();
-            if (pet == null || pet.isRemoved()) {
-                continue;
-            }
-
-            Identifier roleId = component.getRoleId();
-            if (roleId == null) {
-                continue;
-            }
-            if (skippedRoles.contains(roleId)) {
-                continue;
-            }
+        int triggerIndex = TriggerIds.indexOf(trimmedTrigger);
+        Map<String, Object> sharedData = eventData == null ? Map.of() : eventData;
+        DamageContext damageContext = null;
+        TriggerContext context = null;
+        boolean anyActivated = false;
 
-            RoleAbilityGroup group = groups.get(roleId);
-            if (group == null) {
+        RoleGroups groups = acquireGroups();
+        try {
+            // Pets run grouped by role in first-seen order; one pass builds the groups
+            groups.group(pets);
+            for (int group = 0; group < groups.count; group++) {
+                Identifier roleId = groups.roles[group];
+                int lead = groups.heads[group];
                 RoleAbilityCache cache = ROLE_EVENT_CACHES.get(roleId);
                 List<RoleAbilityCache.CompiledAbility> compiled = cache != null
-                    ? cache.compiledAbilitiesForEvent(trimmedTrigger)
+                    ? cache.compiledAbilitiesForTrigger(triggerIndex)
                     : ROLE_COMPILED_DEFAULTS.get(roleId);
                 if (compiled == null || compiled.isEmpty()) {
-                    skippedRoles.add(roleId);
                     continue;
                 }
-                PetRoleType roleType = component.getRoleType(false);
+                PetRoleType roleType = pets.get(lead).getRoleType(false);
                 if (roleType == null) {
-                    skippedRoles.add(roleId);
                     continue;
                 }
-                group = new RoleAbilityGroup(roleType, compiled);
-                groups.put(roleId, group);
-            }
+                if (damageContext == null) {
+                    damageContext = resolveDamageContext(sharedData);
+                }
 
-            ServerPlayerEntity resolvedOwner = resolveOwner(ownerHint, component);
-            if (resolvedOwner == null) {
-                continue;
+                for (int i = lead; i >= 0; i = groups.next[i]) {
+                    PetComponent component = pets.get(i);
+                    ServerPlayerEntity resolvedOwner = resolveOwner(ownerHint, component);
+                    if (resolvedOwner == null) {
+                        continue;
+                    }
+                    if (context == null) {
+                        context = acquireContext();
+                    }
+                    bindContext(context, world, component.getPetEntity(), resolvedOwner, trimmedTrigger,
+                        sharedData, damageContext);
+                    AbilityTriggerResult result = executeCompiledAbilities(component, roleType, compiled, context);
+                    anyActivated |= result.anyActivated();
+                }
+            }
+        } finally {
+            releaseGroups(groups);
+            if (context != null) {
+                releaseContext(context);
             }
-
-            group.addMember(pet, component, resolvedOwner);
         }
 
-        if (groups.isEmpty()) {
+        if (damageContext == null) {
             return AbilityTriggerResult.empty();
         }
+        return AbilityTriggerResult.of(anyActivated, damageContext.result());
+    }
 
-        Map<String, Object> sharedData = eventData == null ? Map.of() : eventData;
-        DamageContext damageContext = resolveDamageContext(sharedData);
-        boolean anyActivated = false;
+    @Nullable
+    private static Identifier eligibleRoleId(@Nullable PetComponent component) {
+        if (component == null) {
+            return null;
+        }
+        MobEntity pet = component.getPetEntity();
+        if (pet == null || pet.isRemoved()) {
+            return null;
+        }
+        return component.getRoleId();
+    }
 
-        for (RoleAbilityGroup group : groups.values()) {
-            for (RoleAbilityGroup.Member member : group.members()) {
-                TriggerContext context = new TriggerContext(world, member.pet(), member.owner(), trimmedTrigger);
-                if (!sharedData.isEmpty()) {
-                    context.getEventData().putAll(sharedData);
+    /**
+     * Eligible pets of one owner event bucketed by role. Each role keeps its pets as a chain
+     * through {@link #next}, in list order, and roles are numbered in first-seen order.
+     */
+    private static final class RoleGroups {
+        private final Object2IntOpenHashMap<Identifier> groupByRole = new Object2IntOpenHashMap<>();
+        private Identifier[] roles = new Identifier[8];
+        private int[] heads = new int[8];
+        private int[] tails = new int[8];
+        private int[] next = new int[16];
+        private int count;
+
+        RoleGroups() {
+            groupByRole.defaultReturnValue(-1);
+        }
+
+        void group(List<PetComponent> pets) {
+            int petCount = pets.size();
+            if (next.length < petCount) {
+                next = new int[Math.max(petCount, next.length * 2)];
+            }
+            for (int i = 0; i < petCount; i++) {
+                Identifier roleId = eligibleRoleId(pets.get(i));
+                if (roleId == null) {
+                    continue;
                 }
-                if (damageContext.hasContext()) {
-                    context.withDamageContext(
-                        damageContext.source(),
-                        damageContext.damageAmount(),
-                        damageContext.lethal(),
-                        damageContext.result()
-                    );
+                next[i] = -1;
+                int group = groupByRole.getInt(roleId);
+                if (group < 0) {
+                    group = addGroup(roleId, i);
+                    groupByRole.put(roleId, group);
+                } else {
+                    next[tails[group]] = i;
+                    tails[group] = i;
                 }
-                AbilityTriggerResult result = executeCompiledAbilities(
-                    member.component(),
-                    group.roleType(),
-                    group.compiledAbilities(),
-                    context
-                );
-                anyActivated |= result.anyActivated();
             }
         }
 
-        return AbilityTriggerResult.of(anyActivated, damageContext.result());
+        private int addGroup(Identifier roleId, int firstPet) {
+            if (count == roles.length) {
+                roles = Arrays.copyOf(roles, count * 2);
+                heads = Arrays.copyOf(heads, count * 2);
+                tails = Arrays.copyOf(tails, count * 2);
+            }
+            roles[count] = roleId;
+            heads[count] = firstPet;
+            tails[count] = firstPet;
+            return count++;
+        }
+
+        void clear() {
+            groupByRole.clear();
+            Arrays.fill(roles, 0, count, null);
+            count = 0;
+        }
     }
 
     public static AbilityExecutionPlan prepareOwnerExecutionPlan(OwnerBatchSnapshot snapshot,
@@ -240,6 +297,7 @@ public class AbilityManager {
             return AbilityExecutionPlan.empty();
         }
 
+        int triggerIndex = TriggerIds.indexOf(triggerId);
         List<AbilityExecutionPlan.PetExecution> executions = new ArrayList<>();
 
         for (OwnerBatchSnapshot.PetSummary petSummary : pets) {
@@ -253,7 +311,7 @@ public class AbilityManager {
             if (cache == null) {
                 continue;
             }
-            List<RoleAbilityCache.CompiledAbility> compiled = cache.compiledAbilitiesForEvent(triggerId);
+            List<RoleAbilityCache.CompiledAbility> compiled = cache.compiledAbilitiesForTrigger(triggerIndex);
             if (compiled == null || compiled.isEmpty()) {
                 continue;
             }
@@ -303,50 +361,66 @@ public class AbilityManager {
         Map<String, Object> payloadData = payload.hasData() ? payload.eventData() : Map.of();
         DamageContext damageContext = resolveDamageContext(payloadData);
         boolean anyActivated = false;
+        TriggerContext context = acquireContext();
 
-        for (AbilityExecutionPlan.PetExecution execution : plan.executions()) {
-            PetComponent component = componentsById.get(execution.petUuid());
-            MobEntity pet = entitiesById.get(execution.petUuid());
-            if (component == null || pet == null || pet.isRemoved()) {
-                continue;
-            }
+        try {
+            for (AbilityExecutionPlan.PetExecution execution : plan.executions()) {
+                PetComponent component = componentsById.get(execution.petUuid());
+                MobEntity pet = entitiesById.get(execution.petUuid());
+                if (component == null || pet == null || pet.isRemoved()) {
+                    continue;
+                }
 
-            Map<String, Long> cooldowns = component.copyCooldownSnapshot();
-            if (cooldowns.isEmpty()) {
-                cooldowns = execution.cooldowns();
-            }
+                Map<String, Long> cooldowns = component.copyCooldownSnapshot();
+                if (cooldowns.isEmpty()) {
+                    cooldowns = execution.cooldowns();
+                }
 
-            List<RoleAbilityCache.CompiledAbility> readyAbilities = filterAbilitiesByCooldown(
-                execution.abilities(),
-                cooldowns,
-                applicationTick
-            );
-            if (readyAbilities.isEmpty()) {
-                continue;
-            }
-            TriggerContext context = new TriggerContext(world, pet, owner, payload.eventType());
-            if (!payloadData.isEmpty()) {
-                context.getEventData().putAll(payloadData);
-            }
-            if (damageContext.hasContext()) {
-                context.withDamageContext(
-                    damageContext.source(),
-                    damageContext.damageAmount(),
-                    damageContext.lethal(),
-                    damageContext.result()
+                List<RoleAbilityCache.CompiledAbility> readyAbilities = filterAbilitiesByCooldown(
+                    execution.abilities(),
+                    cooldowns,
+                    applicationTick
                 );
+                if (readyAbilities.isEmpty()) {
+                    continue;
+                }
+                bindContext(context, world, pet, owner, payload.eventType(), payloadData, damageContext);
+                AbilityTriggerResult result = executeCompiledAbilities(
+                    component,
+                    component.getRoleType(false),
+                    readyAbilities,
+                    context
+                );
+                anyActivated |= result.anyActivated();
             }
-            AbilityTriggerResult result = executeCompiledAbilities(
-                component,
-                component.getRoleType(false),
-                readyAbilities,
-                context
-            );
-            anyActivated |= result.anyActivated();
+        } finally {
+            releaseContext(context);
         }
         return AbilityTriggerResult.of(anyActivated, damageContext.result());
     }
 
+    /**
+     * Whether a pet of {@code roleId} has any ability that can answer {@code eventType}: one keyed
+     * to that trigger, or one without a trigger key. Callers use this to skip building a
+     * {@link TriggerContext} that {@link #triggerAbilities} would only hand to abilities whose
+     * trigger cannot match it.
+     */
+    public static boolean roleListensTo(@Nullable Identifier roleId, String eventType) {
+        if (roleId == null) {
+            return false;
+        }
+        RoleAbilityCache cache = ROLE_EVENT_CACHES.get(roleId);
+        return cache != null && cache.listensTo(TriggerIds.indexOf(eventType));
+    }
+
+    /**
+     * Bumped every time role loadouts are rebuilt. Anything derived from
+     * {@link #roleListensTo} can compare it to know when to recompute.
+     */
+    public static int loadoutGeneration() {
+        return loadoutGeneration;
+    }
+
     /**
      * Get all abilities for a specific role.
      */
@@ -382,14 +456,19 @@ public class AbilityManager {
     private static final class RoleAbilityCache {
         private final List<Ability> abilityView;
         private final List<CompiledAbility> defaultCompiled;
-        private final Map<String, List<CompiledAbility>> compiledByEvent;
+        // Indexed by TriggerIds id; null slots fall back to the default list
+        private final List<CompiledAbility>[] compiledByTrigger;
+        // Abilities without a trigger key run on every event
+        private final boolean hasUnkeyed;
 
         private RoleAbilityCache(List<Ability> abilityView,
                                  List<CompiledAbility> defaultCompiled,
-                                 Map<String, List<CompiledAbility>> compiledByEvent) {
+                                 List<CompiledAbility>[] compiledByTrigger,
+                                 boolean hasUnkeyed) {
             this.abilityView = abilityView;
             this.defaultCompiled = defaultCompiled;
-            this.compiledByEvent = compiledByEvent;
+            this.compiledByTrigger = compiledByTrigger;
+            this.hasUnkeyed = hasUnkeyed;
         }
 
         static RoleAbilityCache build(List<Ability> loadout,
@@ -400,7 +479,8 @@ public class AbilityManager {
                 return new RoleAbilityCache(
                     abilityView,
                     compileAbilities(abilityView),
-                    Collections.emptyMap()
+                    newTriggerTable(0),
+                    false
                 );
             }
 
@@ -408,7 +488,8 @@ public class AbilityManager {
             List<CompiledAbility> baseline = compileAbilities(abilityView, compiledCache);
             List<CompiledAbility> fallbackCompiled = compileAbilities(fallback, compiledCache);
 
-            Map<String, List<CompiledAbility>> compiled = new HashMap<>();
+            Map<Integer, List<CompiledAbility>> compiled = new HashMap<>();
+            int tableSize = 0;
             for (Map.Entry<String, List<Ability>> entry : eventBuckets.entrySet()) {
                 List<Ability> abilities = entry.getValue();
                 if (abilities == null || abilities.isEmpty()) {
@@ -424,14 +505,19 @@ public class AbilityManager {
                     merged.addAll(fallbackCompiled);
                     merged = Collections.unmodifiableList(merged);
                 }
-                compiled.put(entry.getKey(), merged);
+                int triggerId = TriggerIds.intern(entry.getKey());
+                compiled.put(triggerId, merged);
+                tableSize = Math.max(tableSize, triggerId + 1);
             }
 
-            return new RoleAbilityCache(
-                abilityView,
-                baseline,
-                compiled.isEmpty() ? Collections.emptyMap() : Map.copyOf(compiled)
-            );
+            List<CompiledAbility>[] table = newTriggerTable(tableSize);
+            compiled.forEach((triggerId, abilities) -> table[triggerId] = abilities);
+            return new RoleAbilityCache(abilityView, baseline, table, !fallbackCompiled.isEmpty());
+        }
+
+        @SuppressWarnings("unchecked")
+        private static List<CompiledAbility>[] newTriggerTable(int size) {
+            return (List<CompiledAbility>[]) new List[size];
         }
 
         List<Ability> abilityView() {
@@ -442,9 +528,20 @@ public class AbilityManager {
             return defaultCompiled;
         }
 
+        boolean listensTo(int triggerId) {
+            if (hasUnkeyed) {
+                return true;
+            }
+            return triggerId >= 0 && triggerId < compiledByTrigger.length && compiledByTrigger[triggerId] != null;
+        }
+
         List<CompiledAbility> compiledAbilitiesForEvent(String eventType) {
-            if (eventType != null) {
-                List<CompiledAbility> abilities = compiledByEvent.get(eventType);
+            return compiledAbilitiesForTrigger(TriggerIds.indexOf(eventType));
+        }
+
+        List<CompiledAbility> compiledAbilitiesForTrigger(int triggerId) {
+            if (triggerId >= 0 && triggerId < compiledByTrigger.length) {
+                List<CompiledAbility> abilities = compiledByTrigger[triggerId];
                 if (abilities != null) {
                     return abilities;
                 }
@@ -510,16 +607,58 @@ public class AbilityManager {
         }
     }
 
-    private static TriggerContext cloneContextForPet(MobEntity pet, TriggerContext context) {
-        TriggerContext petContext = new TriggerContext(
+    private static TriggerContext acquireContext() {
+        TriggerContext context = CONTEXT_POOL.get().pollFirst();
+        return context != null ? context : new TriggerContext(null, null, null, null);
+    }
+
+    private static RoleGroups acquireGroups() {
+        RoleGroups groups = GROUP_POOL.get().pollFirst();
+        return groups != null ? groups : new RoleGroups();
+    }
+
+    private static void releaseGroups(RoleGroups groups) {
+        groups.clear();
+        ArrayDeque<RoleGroups> pool = GROUP_POOL.get();
+        if (pool.size() < MAX_POOLED_CONTEXTS) {
+            pool.offerFirst(groups);
+        }
+    }
+
+    private static void releaseContext(TriggerContext context) {
+        context.release();
+        ArrayDeque<TriggerContext> pool = CONTEXT_POOL.get();
+        if (pool.size() < MAX_POOLED_CONTEXTS) {
+            pool.offerFirst(context);
+        }
+    }
+
+    private static void bindContext(TriggerContext context,
+                                    ServerWorld world,
+                                    MobEntity pet,
+                                    @Nullable PlayerEntity owner,
+                                    String eventType,
+                                    Map<String, Object> sharedData,
+                                    DamageContext damageContext) {
+        context.rebind(world, pet, owner, eventType, sharedData);
+        if (damageContext.hasContext()) {
+            context.withDamageContext(
+                damageContext.source(),
+                damageContext.damageAmount(),
+                damageContext.lethal(),
+                damageContext.result()
+            );
+        }
+    }
+
+    private static void bindContextForPet(TriggerContext petContext, MobEntity pet, TriggerContext context) {
+        petContext.rebind(
             context.getEntityWorld(),
             pet,
             context.getOwner(),
-            context.getEventType()
+            context.getEventType(),
+            context.getEventData()
         );
-        if (!context.getEventData().isEmpty()) {
-            petContext.getEventData().putAll(context.getEventData());
-        }
         if (context.hasDamageContext()) {
             petContext.withDamageContext(
                 context.getIncomingDamageSource(),
@@ -528,7 +667,6 @@ public class AbilityManager {
                 context.getDamageResult()
             );
         }
-        return petContext;
     }
 
     private static DamageContext resolveDamageContext(@Nullable Map<String, Object> eventData) {
@@ -743,36 +881,6 @@ public class AbilityManager {
         }
     }
 
-    private static final class RoleAbilityGroup {
-        private final PetRoleType roleType;
-        private final List<RoleAbilityCache.CompiledAbility> compiledAbilities;
-        private final List<Member> members = new ArrayList<>();
-
-        RoleAbilityGroup(PetRoleType roleType, List<RoleAbilityCache.CompiledAbility> compiledAbilities) {
-            this.roleType = roleType;
-            this.compiledAbilities = compiledAbilities;
-        }
-
-        void addMember(MobEntity pet, PetComponent component, ServerPlayerEntity owner) {
-            members.add(new Member(pet, component, owner));
-        }
-
-        PetRoleType roleType() {
-            return roleType;
-        }
-
-        List<RoleAbilityCache.CompiledAbility> compiledAbilities() {
-            return compiledAbilities;
-        }
-
-        List<Member> members() {
-            return members;
-        }
-
-        private record Member(MobEntity pet, PetComponent component, ServerPlayerEntity owner) {
-        }
-    }
-
     /**
      * Trigger an ability for testing purposes.
      */
@@ -0,0 +1,45 @@
+package woflo.petsplus.abilities;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dense int ids for ability trigger names.
+ *
+ * Names are interned as role loadouts are compiled, so per-role ability lists can be stored in
+ * plain arrays indexed by trigger. Ids stay stable for the life of the process; reloads only add
+ * names. Lookups of names no ability listens for return {@link #UNKNOWN}.
+ */
+final class TriggerIds {
+    static final int UNKNOWN = -1;
+
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static int count;
+
+    private TriggerIds() {
+    }
+
+    static synchronized int intern(String name) {
+        Integer existing = IDS.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        int id = count++;
+        IDS.put(name, id);
+        return id;
+    }
+
+    static int indexOf(@Nullable String name) {
+        if (name == null) {
+            return UNKNOWN;
+        }
+        Integer id = IDS.get(name);
+        return id != null ? id : UNKNOWN;
+    }
+
+    static synchronized int count() {
+        return count;
+    }
+}
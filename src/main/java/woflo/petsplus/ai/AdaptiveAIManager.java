@@ -6,11 +6,13 @@ import woflo.petsplus.ai.capability.MobCapabilities;
 import woflo.petsplus.ai.context.PetContext;
 import woflo.petsplus.ai.director.AdaptiveDirector;
 import woflo.petsplus.ai.director.DirectorDecision;
+import woflo.petsplus.ai.goals.AdaptiveArbiterGoal;
 import woflo.petsplus.ai.goals.AdaptiveGoal;
 import woflo.petsplus.ai.goals.GoalDefinition;
 import woflo.petsplus.ai.goals.GoalRegistry;
 import woflo.petsplus.ai.planner.DeterministicPlanner;
 import woflo.petsplus.ai.suggester.GoalSuggester;
+import woflo.petsplus.config.PetsPlusConfig;
 import woflo.petsplus.mixin.MobEntityAccessor;
 import woflo.petsplus.state.PetComponent;
 
@@ -42,7 +44,7 @@ public class AdaptiveAIManager {
             java.util.List<Object> toRemove = new java.util.ArrayList<>();
 
             for (var entry : goalSelector.getGoals()) {
-                if (entry.getGoal() instanceof AdaptiveGoal) {
+                if (entry.getGoal() instanceof AdaptiveGoal || entry.getGoal() instanceof AdaptiveArbiterGoal) {
                     if (entry.isRunning()) {
                         entry.stop();
                     }
@@ -73,6 +75,29 @@ public class AdaptiveAIManager {
             MobEntityAccessor accessor = (MobEntityAccessor) mob;
             var goalSelector = accessor.getGoalSelector();
 
+            if (PetsPlusConfig.getInstance().isAdaptiveArbiterEnabled()) {
+                List<GoalDefinition> hosted = new java.util.ArrayList<>();
+                for (GoalDefinition definition : GoalRegistry.all()) {
+                    if (!definition.isCompatible(capabilities)) {
+                        continue;
+                    }
+                    if (AdaptiveArbiterGoal.hosts(definition)) {
+                        hosted.add(definition);
+                        continue;
+                    }
+                    // Reflex goals keep their own entry so they preempt at their own priority.
+                    AdaptiveGoal goal = definition.createGoal(mob);
+                    if (goal != null) {
+                        goalSelector.add(definition.priority(), goal);
+                    }
+                }
+                AdaptiveArbiterGoal arbiter = new AdaptiveArbiterGoal(mob, hosted);
+                if (!arbiter.isEmpty()) {
+                    goalSelector.add(arbiter.priority(), arbiter);
+                }
+                return;
+            }
+
             for (GoalDefinition definition : GoalRegistry.all()) {
                 if (!definition.isCompatible(capabilities)) {
                     continue;
@@ -107,6 +132,14 @@ public class AdaptiveAIManager {
         return DIRECTORS.computeIfAbsent(mob, ignored -> new AdaptiveDirector(SUGGESTER, PLANNER));
     }
 
+    /**
+     * Whether the mob already owns an adaptive director. Used to classify component-free
+     * mobs into the adaptive tier without a goal selector scan.
+     */
+    public static boolean isDirected(MobEntity mob) {
+        return DIRECTORS.containsKey(mob);
+    }
+
     public static DirectorDecision tickDirector(MobEntity mob) {
         PetComponent component = PetComponent.get(mob);
         PetContext context = component != null ? PetContext.capture(mob, component) : PetContext.captureVanilla(mob);
@@ -120,7 +153,8 @@ public class AdaptiveAIManager {
         try {
             MobEntityAccessor accessor = (MobEntityAccessor) mob;
             return accessor.getGoalSelector().getGoals().stream()
-                .anyMatch(goal -> goal.getGoal() instanceof AdaptiveGoal);
+                .anyMatch(goal -> goal.getGoal() instanceof AdaptiveGoal
+                    || goal.getGoal() instanceof AdaptiveArbiterGoal);
         } catch (Exception e) {
             return false;
         }
@@ -45,6 +45,7 @@ public class PetAIDebugger {
             Math.round(yugenStrength * 100f) / 100f,
             Math.round(saudadeStrength * 100f) / 100f
         );
+        Petsplus.LOGGER.info("Last Suggestion: {}", petComponent.getLastSuggestionReason());
 
         // Log pathfinding penalties
         Petsplus.LOGGER.info("Pathfinding Penalties:");
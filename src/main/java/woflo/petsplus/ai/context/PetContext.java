@@ -3,6 +3,7 @@ package woflo.petsplus.ai.context;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.Nullable;
@@ -16,6 +17,7 @@ import woflo.petsplus.ai.context.perception.StimulusSnapshot;
 import woflo.petsplus.ai.context.social.SocialSnapshot;
 import woflo.petsplus.api.registry.PetRoleType;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.coordination.EntityCensus;
 import woflo.petsplus.state.emotions.BehaviouralEnergyProfile;
 
 import java.util.*;
@@ -275,7 +277,10 @@ public record PetContext(
         if (world == null) {
             return List.of();
         }
-        List<Entity> nearby = world.getOtherEntities(mob, mob.getBoundingBox().expand(8.0), e -> true);
+        // Server worlds share one per-section census per tick across every pet in range
+        List<Entity> nearby = world instanceof ServerWorld serverWorld
+            ? EntityCensus.collectNearby(serverWorld, mob, 8.0)
+            : world.getOtherEntities(mob, mob.getBoundingBox().expand(8.0), e -> true);
         if (nearby == null || nearby.isEmpty()) {
             return List.of();
         }
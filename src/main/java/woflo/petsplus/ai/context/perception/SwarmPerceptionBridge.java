@@ -1,6 +1,5 @@
 package woflo.petsplus.ai.context.perception;
 
-import org.jetbrains.annotations.Nullable;
 import woflo.petsplus.state.PetComponent;
 import woflo.petsplus.state.coordination.PetSwarmIndex;
 
@@ -9,12 +8,13 @@ import java.util.List;
 import java.util.Set;
 
 /**
- * Emits crowd stimuli whenever the swarm index observes movement updates.
+ * Emits crowd stimuli whenever the swarm index flushes an owner's batched changes.
  */
 public final class SwarmPerceptionBridge implements PetSwarmIndex.SwarmListener {
 
     @Override
-    public void onSwarmUpdated(@Nullable java.util.UUID ownerId, List<PetSwarmIndex.SwarmEntry> entries) {
+    public void onSwarmChanged(PetSwarmIndex.SwarmDelta delta) {
+        List<PetSwarmIndex.SwarmEntry> entries = delta.entries();
         if (entries == null || entries.isEmpty()) {
             return;
         }
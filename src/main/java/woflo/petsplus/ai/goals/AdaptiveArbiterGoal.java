@@ -0,0 +1,269 @@
+package woflo.petsplus.ai.goals;
+
+import net.minecraft.entity.ai.goal.Goal;
+import net.minecraft.entity.ai.goal.PrioritizedGoal;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+import woflo.petsplus.ai.AdaptiveAIManager;
+import woflo.petsplus.mixin.MobEntityAccessor;
+import woflo.petsplus.state.PetComponent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single selector entry that stands in for the director-driven adaptive goals a mob is compatible with.
+ *
+ * Instead of registering one {@link AdaptiveGoal} per {@link GoalDefinition} (each polling
+ * {@code canStart()} and rescanning the selector), the arbiter owns the control flags, runs the
+ * behaviour the director last suggested and instantiates goal bodies lazily on first use. Hosted
+ * goals answer their priority and control checks from one running-goal snapshot per tick, so the
+ * cost of a selector pass stays flat as more definitions are added to {@link GoalRegistry}.
+ *
+ * Reflex goals (baseline actors such as follow-owner, and anything more urgent than
+ * {@link #REFLEX_PRIORITY_LIMIT}) are not hosted: they must preempt on their own priority every
+ * tick, so {@link AdaptiveAIManager} keeps registering them as individual selector entries.
+ */
+public final class AdaptiveArbiterGoal extends Goal {
+    /** Definitions with a priority below this are reflexes and keep their own selector entry. */
+    public static final int REFLEX_PRIORITY_LIMIT = 10;
+
+    private static final int SUGGESTION_REEVALUATE_TICKS = 10;
+    private static final long SUGGESTION_FRESH_TICKS = 200L;
+
+    private final MobEntity mob;
+    private final Map<Identifier, GoalDefinition> compatible;
+    private final GoalDefinition[] byPriority;
+    private final Map<Identifier, AdaptiveGoal> instantiated = new HashMap<>();
+    private final List<PrioritizedGoal> runningSnapshot = new ArrayList<>();
+    private final int priority;
+
+    @Nullable
+    private AdaptiveGoal pending;
+    @Nullable
+    private AdaptiveGoal active;
+    private long snapshotTick = Long.MIN_VALUE;
+    private long nextSuggestionTick = Long.MIN_VALUE;
+
+    /**
+     * @param definitions director-driven definitions to host; see {@link #hosts(GoalDefinition)}
+     */
+    public AdaptiveArbiterGoal(MobEntity mob, List<GoalDefinition> definitions) {
+        this.mob = mob;
+        this.compatible = new HashMap<>(Math.max(4, definitions.size() * 2));
+        int lowest = 0;
+        for (GoalDefinition definition : definitions) {
+            compatible.put(definition.id(), definition);
+            lowest = Math.max(lowest, definition.priority());
+        }
+        this.byPriority = compatible.values().toArray(new GoalDefinition[0]);
+        Arrays.sort(byPriority, Comparator.comparingInt(GoalDefinition::priority));
+        this.priority = lowest;
+        // Hosted goals move, look and jump; the arbiter holds all three for whichever one runs.
+        this.setControls(EnumSet.of(Control.MOVE, Control.LOOK, Control.JUMP));
+    }
+
+    /** Whether {@code definition} belongs behind the arbiter rather than in its own selector entry. */
+    public static boolean hosts(GoalDefinition definition) {
+        return definition.priority() >= REFLEX_PRIORITY_LIMIT
+            && !GoalRegistry.movementConfig(definition.id()).baselineActor();
+    }
+
+    /**
+     * Selector priority for the arbiter: the least urgent priority among its hosted definitions,
+     * so a hosted behaviour never preempts a selector goal that it could not have preempted as its
+     * own entry. Hosted goals still yield to more urgent running goals through {@link #isPreempted}.
+     */
+    public int priority() {
+        return priority;
+    }
+
+    public boolean isEmpty() {
+        return compatible.isEmpty();
+    }
+
+    @Nullable
+    public Identifier activeGoalId() {
+        return active != null ? active.goalId : null;
+    }
+
+    @Override
+    public boolean canStart() {
+        pending = null;
+        if (compatible.isEmpty()) {
+            return false;
+        }
+        if (mob.getAttacker() != null || mob.getAttacking() != null || mob.getTarget() != null) {
+            return false;
+        }
+        // Mirror the controls vanilla disables while ridden or riding.
+        if (mob.getControllingPassenger() != null || mob.hasVehicle()) {
+            return false;
+        }
+
+        long now = mob.getEntityWorld().getTime();
+        if (now < nextSuggestionTick) {
+            return false;
+        }
+        nextSuggestionTick = now + SUGGESTION_REEVALUATE_TICKS;
+        refreshRunningSnapshot(now);
+
+        PetComponent component = PetComponent.get(mob);
+        if (component != null && hasFreshSuggestion(component, now)) {
+            // The director ticks on the pet's interval schedule; only its cached pick may run.
+            GoalDefinition suggested = compatible.get(component.getLastSuggestedGoalId());
+            return suggested != null && arm(suggested);
+        }
+
+        // No fresh suggestion lets any hosted goal start, as it did when each had its own entry;
+        // the most urgent one that can start wins.
+        for (GoalDefinition definition : byPriority) {
+            if (arm(definition)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void start() {
+        active = pending;
+        pending = null;
+        if (active != null) {
+            active.start();
+        }
+    }
+
+    @Override
+    public boolean shouldContinue() {
+        if (active == null) {
+            return false;
+        }
+        refreshRunningSnapshot(mob.getEntityWorld().getTime());
+        return active.shouldContinue();
+    }
+
+    @Override
+    public boolean canStop() {
+        return active == null || active.canStop();
+    }
+
+    @Override
+    public void tick() {
+        if (active != null) {
+            active.tick();
+        }
+    }
+
+    @Override
+    public boolean shouldRunEveryTick() {
+        return active != null && active.shouldRunEveryTick();
+    }
+
+    @Override
+    public void stop() {
+        AdaptiveGoal finished = active;
+        active = null;
+        if (finished != null) {
+            finished.stop();
+        }
+        // Let the next suggestion be evaluated right away; cooldowns gate repeats.
+        nextSuggestionTick = Long.MIN_VALUE;
+    }
+
+    /**
+     * Whether a selector goal more urgent than {@code goalPriority} is running and holds any
+     * of {@code controls} (or any control at all when exclusive access is required).
+     */
+    boolean isPreempted(int goalPriority, EnumSet<Control> controls, boolean requireExclusive) {
+        if (!requireExclusive && (controls == null || controls.isEmpty())) {
+            return false;
+        }
+        for (PrioritizedGoal running : runningSnapshot) {
+            if (running.getPriority() >= goalPriority) {
+                continue;
+            }
+            if (requireExclusive || overlaps(running.getGoal().getControls(), controls)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether any other running selector goal already holds one of {@code controls}.
+     */
+    boolean isControlTaken(EnumSet<Control> controls) {
+        for (PrioritizedGoal running : runningSnapshot) {
+            if (overlaps(running.getGoal().getControls(), controls)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean arm(GoalDefinition definition) {
+        AdaptiveGoal goal = instantiate(definition);
+        if (goal == null || !goal.canStart()) {
+            return false;
+        }
+        pending = goal;
+        return true;
+    }
+
+    @Nullable
+    private AdaptiveGoal instantiate(GoalDefinition definition) {
+        Identifier id = definition.id();
+        if (instantiated.containsKey(id)) {
+            return instantiated.get(id);
+        }
+        AdaptiveGoal created = definition.createGoal(mob);
+        if (created != null) {
+            created.attachArbiter(this);
+        }
+        // Remember factories that decline this mob so they are not retried every pass.
+        instantiated.put(id, created);
+        return created;
+    }
+
+    private static boolean hasFreshSuggestion(PetComponent component, long now) {
+        long suggestionTick = component.getLastSuggestionTick();
+        return component.getLastSuggestedGoalId() != null && suggestionTick != Long.MIN_VALUE
+            && Math.abs(now - suggestionTick) <= SUGGESTION_FRESH_TICKS;
+    }
+
+    private void refreshRunningSnapshot(long now) {
+        if (snapshotTick == now) {
+            return;
+        }
+        snapshotTick = now;
+        runningSnapshot.clear();
+        try {
+            for (PrioritizedGoal entry : ((MobEntityAccessor) mob).getGoalSelector().getGoals()) {
+                if (entry.isRunning() && entry.getGoal() != this) {
+                    runningSnapshot.add(entry);
+                }
+            }
+        } catch (Exception e) {
+            runningSnapshot.clear();
+        }
+    }
+
+    private static boolean overlaps(@Nullable EnumSet<Control> theirs, EnumSet<Control> ours) {
+        if (theirs == null || theirs.isEmpty()) {
+            return false;
+        }
+        for (Control control : ours) {
+            if (theirs.contains(control)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -46,6 +46,7 @@ public abstract class AdaptiveGoal extends Goal {
     protected final PetComponent petComponent;
     protected final PetComponent.MovementDirector movementDirector;
     private GoalMovementConfig appliedMovementConfig;
+    private AdaptiveArbiterGoal arbiter;
     
     // Capability profile - cached at goal instantiation
     private woflo.petsplus.ai.capability.MobCapabilities.CapabilityProfile cachedCapabilities = null;
@@ -97,6 +98,14 @@ public abstract class AdaptiveGoal extends Goal {
         return orientTowards(target.getX(), target.getBodyY(0.5), target.getZ(), yawSpeed, pitchSpeed, maxYawDiffDegrees);
     }
 
+    /**
+     * Binds this goal to the arbiter that hosts it. Hosted goals are not registered with the
+     * goal selector, so selector scans are answered from the arbiter's per-tick snapshot.
+     */
+    void attachArbiter(AdaptiveArbiterGoal arbiter) {
+        this.arbiter = arbiter;
+    }
+
     protected int getActiveTicks() {
         return activeTicks;
     }
@@ -630,6 +639,9 @@ public abstract class AdaptiveGoal extends Goal {
      * Check if higher priority goals are currently active.
      */
     protected boolean hasActiveHigherPriorityGoals() {
+        if (arbiter != null) {
+            return arbiter.isPreempted(currentDefinition().priority(), getControls(), requiresExclusiveAccess());
+        }
         try {
             MobEntityAccessor accessor = (MobEntityAccessor) mob;
             int ourPriority = currentDefinition().priority();
@@ -723,6 +735,9 @@ public abstract class AdaptiveGoal extends Goal {
         if (needed.isEmpty()) {
             return false;
         }
+        if (arbiter != null) {
+            return arbiter.isControlTaken(needed);
+        }
         
         try {
             MobEntityAccessor accessor = (MobEntityAccessor) mob;
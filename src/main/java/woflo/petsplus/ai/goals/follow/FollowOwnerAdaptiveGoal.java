@@ -2,6 +2,7 @@ package woflo.petsplus.ai.goals.follow;
 
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.ai.pathing.Path;
 import net.minecraft.entity.ai.pathing.PathNodeType;
 import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.entity.player.PlayerEntity;
@@ -28,6 +29,7 @@ import woflo.petsplus.api.entity.PetsplusTameable;
 import woflo.petsplus.config.DebugSettings;
 import woflo.petsplus.ai.util.MovementSafetyUtil;
 import woflo.petsplus.state.StateManager;
+import woflo.petsplus.state.coordination.PackPathService;
 import woflo.petsplus.state.coordination.PetSwarmIndex;
 import woflo.petsplus.state.emotions.BehaviouralEnergyProfile;
 import woflo.petsplus.state.emotions.PetMoodEngine;
@@ -390,20 +392,34 @@ public class FollowOwnerAdaptiveGoal extends AdaptiveGoal {
                 boolean started = false;
                 // Restart cooldown to prevent thrash
                 if (now == Long.MIN_VALUE || lastPathStartTick == Long.MIN_VALUE || (now - lastPathStartTick) >= 8) {
-                    if (mob.getEntityWorld() instanceof ServerWorld sw) {
+                    if (mob.getEntityWorld() instanceof ServerWorld serverWorld) {
                         java.util.UUID ownerId = owner.getUuid();
-                        int packSize = getPackSize(owner, now);
-                        int perTickLimit = woflo.petsplus.policy.AIBudgetPolicy.pathStartsPerOwnerPerTick(ownerIsMoving, packSize);
-                        boolean allowed = woflo.petsplus.state.coordination.PathBudgetManager.get(sw)
-                            .tryConsume(ownerId, now, perTickLimit);
-                        if (allowed) {
+                        PackPathService packPaths = StateManager.forWorld(serverWorld).getPackPathService();
+                        Vec3d ownerPos = owner.getEntityPos();
+                        // Packmates near a fresh trail ride it instead of running their own search
+                        Path spliced = packPaths.trySplice(mob, ownerId, ownerPos, moveTarget, now);
+                        if (spliced != null) {
                             attemptedPathStart = true;
-                            started = mob.getNavigation().startMovingTo(moveTarget.x, moveTarget.y, moveTarget.z, adjustedSpeed);
+                            started = mob.getNavigation().startMovingAlong(spliced, adjustedSpeed);
                             if (started) {
                                 lastPathStartTick = now;
                             }
                         } else {
-                            budgetDenied = true;
+                            int packSize = getPackSize(owner, now);
+                            int perTickLimit = woflo.petsplus.policy.AIBudgetPolicy.pathStartsPerOwnerPerTick(ownerIsMoving, packSize);
+                            boolean allowed = woflo.petsplus.state.coordination.TickBudgetGovernor.global().tryAcquire(
+                                woflo.petsplus.state.coordination.TickBudgetGovernor.Lane.PATH_START, ownerId, perTickLimit);
+                            if (allowed) {
+                                attemptedPathStart = true;
+                                Path path = mob.getNavigation().findPathTo(moveTarget.x, moveTarget.y, moveTarget.z, 1);
+                                packPaths.publish(mob, ownerId, ownerPos, path, now);
+                                started = mob.getNavigation().startMovingAlong(path, adjustedSpeed);
+                                if (started) {
+                                    lastPathStartTick = now;
+                                }
+                            } else {
+                                budgetDenied = true;
+                            }
                         }
                     } else {
                         attemptedPathStart = true;
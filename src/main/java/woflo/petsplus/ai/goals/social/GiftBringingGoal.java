@@ -23,10 +23,9 @@ import woflo.petsplus.ai.goals.GoalRegistry;
 import woflo.petsplus.events.RelationshipEventHandler;
 import woflo.petsplus.state.OwnerCombatState;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.coordination.ItemEntityIndex;
 
-import java.util.Comparator;
 import java.util.EnumSet;
-import java.util.List;
 
 /**
  * Curiosity and passion driven gift delivery. Pets now have to source a real item from the world
@@ -458,18 +457,9 @@ public class GiftBringingGoal extends AdaptiveGoal {
     }
 
     private GiftSource findLooseItem(ServerWorld world) {
-        List<ItemEntity> items = world.getEntitiesByClass(
-            ItemEntity.class,
-            mob.getBoundingBox().expand(ITEM_SCAN_RADIUS),
-            entity -> entity != null && entity.isAlive() && !entity.getStack().isEmpty() && !entity.cannotPickup()
-        );
-
-        if (items.isEmpty()) {
-            return null;
-        }
-
-        items.sort(Comparator.comparingDouble(entity -> entity.squaredDistanceTo(mob)));
-        return new ItemEntitySource(items.get(0));
+        ItemEntity nearest = ItemEntityIndex.forWorld(world).findNearest(mob.getEntityPos(), ITEM_SCAN_RADIUS,
+            ItemEntityIndex.KIND_ANY, ItemEntityIndex.GIFTABLE);
+        return nearest == null ? null : new ItemEntitySource(nearest);
     }
 
     private GiftSource findContainerItem(ServerWorld world, PlayerEntity owner) {
@@ -8,6 +8,7 @@ import net.minecraft.util.math.Box;
 import woflo.petsplus.ai.goals.AdaptiveGoal;
 import woflo.petsplus.ai.goals.GoalDefinition;
 import woflo.petsplus.api.registry.PetRoleType;
+import woflo.petsplus.state.coordination.ItemEntityIndex;
 
 import java.util.EnumSet;
 import java.util.List;
@@ -191,22 +192,8 @@ public class ScoutLootScurryGoal extends AdaptiveGoal {
         }
         
         // Fall back to items
-        List<ItemEntity> items = sw.getEntitiesByClass(
-            ItemEntity.class,
-            searchBox,
-            item -> item.isAlive() && !item.isRemoved() && item.getStack() != null
-        );
-        
-        if (!items.isEmpty()) {
-            return items.stream()
-                .min((a, b) -> Double.compare(
-                    mob.squaredDistanceTo(a),
-                    mob.squaredDistanceTo(b)
-                ))
-                .orElse(null);
-        }
-        
-        return null;
+        return ItemEntityIndex.forWorld(sw).findNearest(mob.getEntityPos(), DETECTION_RADIUS,
+            ItemEntityIndex.KIND_ANY, ItemEntityIndex.LOOSE_LOOT);
     }
     
     @Override
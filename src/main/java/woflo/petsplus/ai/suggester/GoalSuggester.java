@@ -4,6 +4,7 @@ import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
+import org.jetbrains.annotations.Nullable;
 import woflo.petsplus.ai.capability.MobCapabilities;
 import woflo.petsplus.ai.context.PetContext;
 import woflo.petsplus.ai.context.PetContextCrowdSummary;
@@ -15,11 +16,14 @@ import woflo.petsplus.ai.suggester.signal.DesirabilitySignal;
 import woflo.petsplus.ai.suggester.signal.DesirabilitySignalRegistry;
 import woflo.petsplus.ai.suggester.signal.FeasibilitySignal;
 import woflo.petsplus.ai.suggester.signal.FeasibilitySignalRegistry;
+import woflo.petsplus.ai.suggester.signal.GoalScorer;
 import woflo.petsplus.ai.suggester.signal.SignalBootstrap;
-import woflo.petsplus.ai.suggester.signal.SignalResult;
+import woflo.petsplus.state.PetComponent;
 import woflo.petsplus.state.emotions.BehaviouralEnergyProfile;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
@@ -37,15 +41,31 @@ import java.util.WeakHashMap;
  */
 public class GoalSuggester {
 
+    /**
+     * A scored goal. Suggestions from the scoring pass carry the mood and age they were scored
+     * under instead of a reason string; the human-readable {@link #reason()} is assembled on
+     * request, so re-scoring goals never builds strings unless the director's decision log or
+     * {@link woflo.petsplus.ai.PetAIDebugger} output asks for one.
+     */
     public record Suggestion(
         GoalDefinition definition,
         float desirability,
         float feasibility,
-        String reason
+        @Nullable String reason,
+        @Nullable PetComponent.Mood mood,
+        @Nullable PetContext.AgeCategory age
     ) {
+        public Suggestion(GoalDefinition definition, float desirability, float feasibility, String reason) {
+            this(definition, desirability, feasibility, reason, null, null);
+        }
+
         public float score() {
             return desirability * feasibility;
         }
+
+        public String reason() {
+            return reason != null ? reason : explainSuggestion(definition, mood, age, desirability, feasibility);
+        }
     }
 
     public static final float MAX_DESIRABILITY = 12.0f;
@@ -133,6 +153,7 @@ public class GoalSuggester {
         if (!dirtySlices.isEmpty()) {
             state.cache.markDirty(dirtySlices);
         }
+        state.scoring.begin(ctx);
 
         for (GoalDefinition definition : GoalRegistry.all()) {
             if (!definition.isCompatible(capabilities)) {
@@ -156,6 +177,7 @@ public class GoalSuggester {
                 evaluateGoal(state, ctx, definition, tick, entry);
             }
         }
+        state.scoring.release();
     }
 
     private void evaluateGoal(
@@ -165,66 +187,34 @@ public class GoalSuggester {
         long tick,
         GoalEvaluationCache.Entry entry
     ) {
-        AggregatedSignalResult desirability = aggregateDesirability(ctx, definition);
-        if (desirability.appliedValue() <= 0.0f) {
+        ScoringPass scoring = state.scoring;
+        float desirability = scoring.desirability(definition);
+        if (desirability <= 0.0f) {
             entry.invalidate(tick);
             state.cache.onEntryInvalidated(entry);
             return;
         }
 
-        AggregatedSignalResult feasibility = aggregateFeasibility(ctx, definition);
-        if (feasibility.appliedValue() <= 0.0f) {
+        float feasibility = scoring.feasibility(definition);
+        if (feasibility <= 0.0f) {
             entry.invalidate(tick);
             state.cache.onEntryInvalidated(entry);
             return;
         }
 
-        String reason = explainSuggestion(
-            definition,
-            ctx,
-            desirability.appliedValue(),
-            feasibility.appliedValue()
-        );
+        PetComponent.Mood mood = ctx.hasPetsPlusComponent() ? ctx.currentMood() : null;
         Suggestion suggestion = new Suggestion(
             definition,
-            desirability.appliedValue(),
-            feasibility.appliedValue(),
-            reason
+            desirability,
+            feasibility,
+            null,
+            mood,
+            ctx.getAgeCategory()
         );
         entry.update(suggestion, tick);
         state.cache.onEntryUpdated(entry);
     }
 
-    private AggregatedSignalResult aggregateDesirability(PetContext ctx, GoalDefinition definition) {
-        float rawValue = 1.0f;
-        float appliedValue = 1.0f;
-        for (DesirabilitySignal signal : DesirabilitySignalRegistry.all()) {
-            SignalResult result = signal.evaluate(definition, ctx);
-            rawValue *= result.rawValue();
-            appliedValue *= result.appliedValue();
-            if (appliedValue <= 0.0f) {
-                break;
-            }
-        }
-        float clamped = MathHelper.clamp(appliedValue, MIN_MULTIPLIER, MAX_DESIRABILITY);
-        return new AggregatedSignalResult(rawValue, clamped);
-    }
-
-    private AggregatedSignalResult aggregateFeasibility(PetContext ctx, GoalDefinition definition) {
-        float rawValue = 1.0f;
-        float appliedValue = 1.0f;
-        for (FeasibilitySignal signal : FeasibilitySignalRegistry.all()) {
-            SignalResult result = signal.evaluate(definition, ctx);
-            rawValue *= result.rawValue();
-            appliedValue *= result.appliedValue();
-            if (appliedValue <= 0.0f) {
-                break;
-            }
-        }
-        float clamped = MathHelper.clamp(appliedValue, MIN_MULTIPLIER, MAX_FEASIBILITY);
-        return new AggregatedSignalResult(rawValue, clamped);
-    }
-
     private EvaluationState stateFor(MobEntity mob) {
         synchronized (states) {
             return states.computeIfAbsent(mob, key -> new EvaluationState(key));
@@ -271,15 +261,21 @@ public class GoalSuggester {
         return active != null && active.equals(definition.id());
     }
 
-    private String explainSuggestion(GoalDefinition goalType, PetContext ctx, float desirability, float feasibility) {
+    private static String explainSuggestion(
+        GoalDefinition goalType,
+        @Nullable PetComponent.Mood mood,
+        @Nullable PetContext.AgeCategory age,
+        float desirability,
+        float feasibility
+    ) {
         StringBuilder reason = new StringBuilder();
         reason.append(goalType.id()).append(" (");
 
-        if (ctx.hasPetsPlusComponent() && ctx.currentMood() != null) {
-            reason.append("Mood: ").append(ctx.currentMood().name()).append(", ");
+        if (mood != null) {
+            reason.append("Mood: ").append(mood.name()).append(", ");
         }
 
-        reason.append("Age: ").append(ctx.getAgeCategory()).append(", ");
+        reason.append("Age: ").append(age).append(", ");
         reason.append("Desire: ");
         appendScaledPercent(reason, desirability);
         reason.append(", ");
@@ -348,8 +344,87 @@ public class GoalSuggester {
         out.append(fraction);
     }
 
+    /**
+     * Signals bound to one pet context for one {@code ensureFreshEvaluations} pass.
+     *
+     * <p>Each signal is prepared at most once per pass, on the first stale goal that
+     * reaches it, so goal-independent reads (mood blend, energy profile, age, bond)
+     * happen once rather than once per goal. Goals still multiply the signals in
+     * registry order and stop at the first non-positive factor, exactly as the
+     * per-goal evaluation did, so scores and rankings are unchanged.</p>
+     */
+    private static final class ScoringPass {
+        private static final GoalScorer[] NO_SCORERS = new GoalScorer[0];
+
+        private Collection<DesirabilitySignal> desirabilitySource = List.of();
+        private DesirabilitySignal[] desirabilitySignals = new DesirabilitySignal[0];
+        private GoalScorer[] desirabilityScorers = NO_SCORERS;
+        private Collection<FeasibilitySignal> feasibilitySource = List.of();
+        private FeasibilitySignal[] feasibilitySignals = new FeasibilitySignal[0];
+        private GoalScorer[] feasibilityScorers = NO_SCORERS;
+        private @Nullable PetContext context;
+
+        void begin(PetContext ctx) {
+            this.context = ctx;
+            Collection<DesirabilitySignal> desirability = DesirabilitySignalRegistry.all();
+            if (desirability != desirabilitySource) {
+                desirabilitySource = desirability;
+                desirabilitySignals = desirability.toArray(new DesirabilitySignal[0]);
+                desirabilityScorers = new GoalScorer[desirabilitySignals.length];
+            }
+            Collection<FeasibilitySignal> feasibility = FeasibilitySignalRegistry.all();
+            if (feasibility != feasibilitySource) {
+                feasibilitySource = feasibility;
+                feasibilitySignals = feasibility.toArray(new FeasibilitySignal[0]);
+                feasibilityScorers = new GoalScorer[feasibilitySignals.length];
+            }
+            Arrays.fill(desirabilityScorers, null);
+            Arrays.fill(feasibilityScorers, null);
+        }
+
+        float desirability(GoalDefinition definition) {
+            float appliedValue = 1.0f;
+            for (int i = 0; i < desirabilitySignals.length; i++) {
+                GoalScorer scorer = desirabilityScorers[i];
+                if (scorer == null) {
+                    scorer = desirabilitySignals[i].prepare(context);
+                    desirabilityScorers[i] = scorer;
+                }
+                appliedValue *= scorer.score(definition);
+                if (appliedValue <= 0.0f) {
+                    break;
+                }
+            }
+            return MathHelper.clamp(appliedValue, MIN_MULTIPLIER, MAX_DESIRABILITY);
+        }
+
+        float feasibility(GoalDefinition definition) {
+            float appliedValue = 1.0f;
+            for (int i = 0; i < feasibilitySignals.length; i++) {
+                GoalScorer scorer = feasibilityScorers[i];
+                if (scorer == null) {
+                    scorer = feasibilitySignals[i].prepare(context);
+                    feasibilityScorers[i] = scorer;
+                }
+                appliedValue *= scorer.score(definition);
+                if (appliedValue <= 0.0f) {
+                    break;
+                }
+            }
+            return MathHelper.clamp(appliedValue, MIN_MULTIPLIER, MAX_FEASIBILITY);
+        }
+
+        /** Drop the bound context and scorers so nothing outlives the pass. */
+        void release() {
+            context = null;
+            Arrays.fill(desirabilityScorers, null);
+            Arrays.fill(feasibilityScorers, null);
+        }
+    }
+
     private static final class EvaluationState {
         private final GoalEvaluationCache cache = new GoalEvaluationCache();
+        private final ScoringPass scoring = new ScoringPass();
         private final long jitterSeed;
         private ContextSignature lastSignature;
         private MobCapabilities.CapabilityProfile cachedCapabilities;
@@ -681,8 +756,6 @@ public class GoalSuggester {
         }
     }
 
-    private record AggregatedSignalResult(float rawValue, float appliedValue) { }
-
     private enum EvaluationCadence {
         REAL_TIME(1, 3, 1, 0),
         FREQUENT(5, 8, 3, 2),
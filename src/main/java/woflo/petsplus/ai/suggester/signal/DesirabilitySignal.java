@@ -12,6 +12,15 @@ public interface DesirabilitySignal {
 
     SignalResult evaluate(GoalDefinition goal, PetContext context);
 
+    /**
+     * Binds this signal to {@code context} for one suggester pass. Signals whose
+     * inputs are mostly goal-independent override this to read the context once
+     * and leave only the per-goal arithmetic in the returned scorer.
+     */
+    default GoalScorer prepare(PetContext context) {
+        return goal -> evaluate(goal, context).appliedValue();
+    }
+
     default EnumSet<ContextSlice> observedSlices(GoalDefinition goal) {
         return EnumSet.of(ContextSlice.ALL);
     }
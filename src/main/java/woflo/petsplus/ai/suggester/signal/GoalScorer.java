@@ -0,0 +1,18 @@
+package woflo.petsplus.ai.suggester.signal;
+
+import woflo.petsplus.ai.goals.GoalDefinition;
+
+/**
+ * A signal bound to one pet context for the duration of a suggester pass.
+ *
+ * <p>Signals produce a scorer once per pass via {@code prepare}, reading whatever
+ * context they need up front, and the suggester then applies it to each goal it
+ * re-evaluates. The returned multiplier must equal the applied value the
+ * signal's {@code evaluate} would report for the same goal and context.</p>
+ */
+@FunctionalInterface
+public interface GoalScorer {
+    GoalScorer IDENTITY = goal -> 1.0f;
+
+    float score(GoalDefinition goal);
+}
@@ -7,6 +7,7 @@ import woflo.petsplus.ai.context.perception.ContextSlice;
 import woflo.petsplus.ai.goals.GoalDefinition;
 import woflo.petsplus.ai.goals.GoalIds;
 import woflo.petsplus.ai.suggester.signal.DesirabilitySignal;
+import woflo.petsplus.ai.suggester.signal.GoalScorer;
 import woflo.petsplus.ai.suggester.signal.SignalResult;
 
 import java.util.EnumSet;
@@ -21,9 +22,19 @@ public class AgeDesirabilitySignal implements DesirabilitySignal {
 
     @Override
     public SignalResult evaluate(GoalDefinition goal, PetContext ctx) {
-        float modifier = 1.0f;
+        float modifier = modifierFor(goal, ctx.getAgeCategory(), ctx.nearbyMobAgeProfile());
+        return new SignalResult(modifier, modifier, null);
+    }
+
+    @Override
+    public GoalScorer prepare(PetContext ctx) {
         PetContext.AgeCategory age = ctx.getAgeCategory();
         NearbyMobAgeProfile mobAgeProfile = ctx.nearbyMobAgeProfile();
+        return goal -> modifierFor(goal, age, mobAgeProfile);
+    }
+
+    private static float modifierFor(GoalDefinition goal, PetContext.AgeCategory age, NearbyMobAgeProfile mobAgeProfile) {
+        float modifier = 1.0f;
 
         if (age == PetContext.AgeCategory.YOUNG) {
             if (goal.category() == GoalDefinition.Category.PLAY) {
@@ -53,7 +64,7 @@ public class AgeDesirabilitySignal implements DesirabilitySignal {
             }
         }
 
-        return new SignalResult(modifier, modifier, null);
+        return modifier;
     }
 
     @Override
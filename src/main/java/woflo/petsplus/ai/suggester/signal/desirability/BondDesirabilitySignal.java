@@ -5,6 +5,7 @@ import woflo.petsplus.ai.context.PetContext;
 import woflo.petsplus.ai.context.perception.ContextSlice;
 import woflo.petsplus.ai.goals.GoalDefinition;
 import woflo.petsplus.ai.suggester.signal.DesirabilitySignal;
+import woflo.petsplus.ai.suggester.signal.GoalScorer;
 import woflo.petsplus.ai.suggester.signal.SignalResult;
 
 import java.util.EnumSet;
@@ -26,6 +27,12 @@ public class BondDesirabilitySignal implements DesirabilitySignal {
         return new SignalResult(modifier, modifier, null);
     }
 
+    @Override
+    public GoalScorer prepare(PetContext ctx) {
+        float social = 1.0f + (ctx.bondStrength() * 0.8f);
+        return goal -> goal.category() == GoalDefinition.Category.SOCIAL ? social : 1.0f;
+    }
+
     @Override
     public EnumSet<ContextSlice> observedSlices(GoalDefinition goal) {
         return EnumSet.of(ContextSlice.STATE_DATA, ContextSlice.OWNER);
@@ -7,6 +7,7 @@ import woflo.petsplus.ai.context.perception.ContextSlice;
 import woflo.petsplus.ai.goals.GoalDefinition;
 import woflo.petsplus.ai.goals.GoalIds;
 import woflo.petsplus.ai.suggester.signal.DesirabilitySignal;
+import woflo.petsplus.ai.suggester.signal.GoalScorer;
 import woflo.petsplus.ai.suggester.signal.SignalResult;
 import woflo.petsplus.state.emotions.BehaviouralEnergyProfile;
 
@@ -22,19 +23,41 @@ public class EnergyDesirabilitySignal implements DesirabilitySignal {
 
     @Override
     public SignalResult evaluate(GoalDefinition goal, PetContext ctx) {
-        BehaviouralEnergyProfile profile = ctx.behaviouralEnergyProfile();
-        if (profile == null) {
-            profile = BehaviouralEnergyProfile.neutral();
-        }
-
+        BehaviouralEnergyProfile profile = profileOf(ctx);
         if (!goal.isEnergyCompatible(profile)) {
             return new SignalResult(0.0f, 0.0f, "energy_incompatible");
         }
 
+        float modifier = modifierFor(goal, profile, profile.momentum(), profile.socialCharge(),
+            profile.physicalStamina(), profile.mentalFocus());
+        return new SignalResult(modifier, modifier, null);
+    }
+
+    @Override
+    public GoalScorer prepare(PetContext ctx) {
+        BehaviouralEnergyProfile profile = profileOf(ctx);
         float momentum = profile.momentum();
         float socialCharge = profile.socialCharge();
         float physicalStamina = profile.physicalStamina();
         float mentalFocus = profile.mentalFocus();
+        return goal -> goal.isEnergyCompatible(profile)
+            ? modifierFor(goal, profile, momentum, socialCharge, physicalStamina, mentalFocus)
+            : 0.0f;
+    }
+
+    private static BehaviouralEnergyProfile profileOf(PetContext ctx) {
+        BehaviouralEnergyProfile profile = ctx.behaviouralEnergyProfile();
+        return profile != null ? profile : BehaviouralEnergyProfile.neutral();
+    }
+
+    private static float modifierFor(
+        GoalDefinition goal,
+        BehaviouralEnergyProfile profile,
+        float momentum,
+        float socialCharge,
+        float physicalStamina,
+        float mentalFocus
+    ) {
         float modifier = goal.getEnergyBias(profile);
 
         if (momentum > 0.7f) {
@@ -98,7 +121,7 @@ public class EnergyDesirabilitySignal implements DesirabilitySignal {
             }
         }
 
-        return new SignalResult(modifier, modifier, null);
+        return modifier;
     }
 
     @Override
@@ -3,6 +3,7 @@ package woflo.petsplus.ai.suggester.signal.desirability;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
@@ -16,6 +17,8 @@ import woflo.petsplus.ai.goals.social.BedtimeCompanionGoal;
 import woflo.petsplus.ai.suggester.signal.DesirabilitySignal;
 import woflo.petsplus.ai.suggester.signal.SignalResult;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.StateManager;
+import woflo.petsplus.state.environment.EnvironmentFeatureIndex;
 import woflo.petsplus.tags.PetsplusEntityTypeTags;
 
 import java.util.EnumSet;
@@ -362,6 +365,13 @@ public class EnvironmentDesirabilitySignal implements DesirabilitySignal {
         }
         World world = mob.getEntityWorld();
         BlockPos mobPos = mob.getBlockPos();
+        if (world instanceof ServerWorld serverWorld
+            && !StateManager.forWorld(serverWorld).getEnvironmentIndex().anyInBox(
+                mobPos.getX() - 3, mobPos.getY() - 1, mobPos.getZ() - 3,
+                mobPos.getX() + 3, mobPos.getY(), mobPos.getZ() + 3,
+                EnvironmentFeatureIndex.Feature.WATER.mask())) {
+            return false;
+        }
         for (BlockPos pos : BlockPos.iterate(mobPos.add(-3, -1, -3), mobPos.add(3, 0, 3))) {
             if (world.isWater(pos) && !world.isWater(pos.up())) {
                 return true;
@@ -5,6 +5,7 @@ import woflo.petsplus.ai.context.PetContext;
 import woflo.petsplus.ai.context.perception.ContextSlice;
 import woflo.petsplus.ai.goals.GoalDefinition;
 import woflo.petsplus.ai.suggester.signal.DesirabilitySignal;
+import woflo.petsplus.ai.suggester.signal.GoalScorer;
 import woflo.petsplus.ai.suggester.signal.SignalResult;
 
 import java.util.EnumSet;
@@ -23,6 +24,11 @@ public class MemoryDesirabilitySignal implements DesirabilitySignal {
         return SignalResult.identity();
     }
 
+    @Override
+    public GoalScorer prepare(PetContext ctx) {
+        return GoalScorer.IDENTITY;
+    }
+
     @Override
     public EnumSet<ContextSlice> observedSlices(GoalDefinition goal) {
         return EnumSet.of(ContextSlice.HISTORY);
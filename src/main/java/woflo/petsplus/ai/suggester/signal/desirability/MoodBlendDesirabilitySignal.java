@@ -5,17 +5,25 @@ import woflo.petsplus.ai.context.PetContext;
 import woflo.petsplus.ai.context.perception.ContextSlice;
 import woflo.petsplus.ai.goals.GoalDefinition;
 import woflo.petsplus.ai.suggester.signal.DesirabilitySignal;
+import woflo.petsplus.ai.suggester.signal.GoalScorer;
 import woflo.petsplus.ai.suggester.signal.SignalResult;
 import woflo.petsplus.ai.suggester.signal.rules.MoodSignalRules;
 import woflo.petsplus.ai.suggester.signal.rules.SignalRuleRegistry;
 import woflo.petsplus.ai.suggester.signal.rules.SignalRuleSet;
 import woflo.petsplus.state.PetComponent;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MoodBlendDesirabilitySignal implements DesirabilitySignal {
     private static final Identifier ID = Identifier.of("petsplus", "desirability/mood_blend");
+    private static final float[] NO_FACTORS = new float[0];
+
+    private volatile CompiledRules compiled;
 
     @Override
     public Identifier id() {
@@ -37,6 +45,24 @@ public class MoodBlendDesirabilitySignal implements DesirabilitySignal {
         return new SignalResult(modifier, modifier, null);
     }
 
+    /**
+     * Blend and emotion thresholds are checked once per pass; each goal then only
+     * walks the unboxed multipliers of the rules that fired, in the same order
+     * {@link #evaluate} applies them.
+     */
+    @Override
+    public GoalScorer prepare(PetContext ctx) {
+        if (!ctx.hasPetsPlusComponent()) {
+            return GoalScorer.IDENTITY;
+        }
+        CompiledRules rules = compiledRules(SignalRuleRegistry.moodRules());
+        int[] active = rules.activeRules(ctx);
+        if (active.length == 0) {
+            return GoalScorer.IDENTITY;
+        }
+        return goal -> rules.apply(goal, active);
+    }
+
     @Override
     public EnumSet<ContextSlice> observedSlices(GoalDefinition goal) {
         return EnumSet.of(ContextSlice.MOOD, ContextSlice.EMOTIONS);
@@ -91,4 +117,102 @@ public class MoodBlendDesirabilitySignal implements DesirabilitySignal {
         return result;
     }
 
+    private CompiledRules compiledRules(MoodSignalRules source) {
+        CompiledRules current = compiled;
+        if (current == null || current.source != source) {
+            current = new CompiledRules(source);
+            compiled = current;
+        }
+        return current;
+    }
+
+    /**
+     * Mood and emotion rules flattened into one ordered list, with each goal's
+     * category and goal multipliers per rule compiled into primitive rows on first use.
+     */
+    private static final class CompiledRules {
+        private final MoodSignalRules source;
+        private final PetComponent.Mood[] moods;
+        private final PetComponent.Emotion[] emotions;
+        private final SignalRuleSet[] ruleSets;
+        private final Map<Identifier, GoalRow> rows = new ConcurrentHashMap<>();
+
+        CompiledRules(MoodSignalRules source) {
+            this.source = source;
+            List<SignalRuleSet> sets = new ArrayList<>();
+            this.moods = new PetComponent.Mood[source.moodRules().size()];
+            int index = 0;
+            for (Map.Entry<PetComponent.Mood, SignalRuleSet> entry : source.moodRules().entrySet()) {
+                moods[index++] = entry.getKey();
+                sets.add(entry.getValue());
+            }
+            this.emotions = new PetComponent.Emotion[source.emotionRules().size()];
+            index = 0;
+            for (Map.Entry<PetComponent.Emotion, SignalRuleSet> entry : source.emotionRules().entrySet()) {
+                emotions[index++] = entry.getKey();
+                sets.add(entry.getValue());
+            }
+            this.ruleSets = sets.toArray(new SignalRuleSet[0]);
+        }
+
+        int[] activeRules(PetContext ctx) {
+            int[] active = new int[ruleSets.length];
+            int count = 0;
+            for (int i = 0; i < moods.length; i++) {
+                if (ctx.hasMoodInBlend(moods[i], ruleSets[i].threshold())) {
+                    active[count++] = i;
+                }
+            }
+            for (int i = 0; i < emotions.length; i++) {
+                int ruleIndex = moods.length + i;
+                if (ctx.hasEmotionAbove(emotions[i], ruleSets[ruleIndex].threshold())) {
+                    active[count++] = ruleIndex;
+                }
+            }
+            return count == active.length ? active : Arrays.copyOf(active, count);
+        }
+
+        float apply(GoalDefinition goal, int[] active) {
+            float[][] factors = rowFor(goal).factors;
+            float result = 1.0f;
+            for (int ruleIndex : active) {
+                for (float multiplier : factors[ruleIndex]) {
+                    result *= multiplier;
+                }
+            }
+            return result;
+        }
+
+        private GoalRow rowFor(GoalDefinition goal) {
+            GoalRow row = rows.get(goal.id());
+            if (row != null && row.category == goal.category()) {
+                return row;
+            }
+            float[][] factors = new float[ruleSets.length][];
+            for (int i = 0; i < ruleSets.length; i++) {
+                List<Float> categoryMultipliers = ruleSets[i].categoryMultipliersFor(goal.category());
+                List<Float> goalMultipliers = ruleSets[i].goalMultipliersFor(goal.id());
+                int size = categoryMultipliers.size() + goalMultipliers.size();
+                if (size == 0) {
+                    factors[i] = NO_FACTORS;
+                    continue;
+                }
+                float[] values = new float[size];
+                int index = 0;
+                for (float multiplier : categoryMultipliers) {
+                    values[index++] = multiplier;
+                }
+                for (float multiplier : goalMultipliers) {
+                    values[index++] = multiplier;
+                }
+                factors[i] = values;
+            }
+            row = new GoalRow(goal.category(), factors);
+            rows.put(goal.id(), row);
+            return row;
+        }
+    }
+
+    private record GoalRow(GoalDefinition.Category category, float[][] factors) {
+    }
 }
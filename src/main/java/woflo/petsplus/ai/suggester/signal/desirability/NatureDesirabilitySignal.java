@@ -6,6 +6,7 @@ import woflo.petsplus.ai.context.PetContext;
 import woflo.petsplus.ai.context.perception.ContextSlice;
 import woflo.petsplus.ai.goals.GoalDefinition;
 import woflo.petsplus.ai.suggester.signal.DesirabilitySignal;
+import woflo.petsplus.ai.suggester.signal.GoalScorer;
 import woflo.petsplus.ai.suggester.signal.SignalResult;
 import woflo.petsplus.ai.suggester.signal.rules.NatureSignalRules;
 import woflo.petsplus.ai.suggester.signal.rules.SignalRuleRegistry;
@@ -40,14 +41,23 @@ public class NatureDesirabilitySignal implements DesirabilitySignal {
             return SignalResult.identity();
         }
 
-        NatureSignalRules rules = SignalRuleRegistry.natureRules();
-        float modifier = 1.0f;
+        float modifier = modifierFor(goal, profile, SignalRuleRegistry.natureRules());
+        return new SignalResult(modifier, modifier, null);
+    }
 
-        modifier = applySlot(profile.majorEmotion(), profile.majorStrength(), rules.majorWeight(), rules.minIntensity(), goal, modifier, rules);
-        modifier = applySlot(profile.minorEmotion(), profile.minorStrength(), rules.minorWeight(), rules.minIntensity(), goal, modifier, rules);
-        modifier = applySlot(profile.quirkEmotion(), profile.quirkStrength(), rules.quirkWeight(), rules.minIntensity(), goal, modifier, rules);
+    @Override
+    public GoalScorer prepare(PetContext context) {
+        if (!context.hasPetsPlusComponent()) {
+            return GoalScorer.IDENTITY;
+        }
 
-        return new SignalResult(modifier, modifier, null);
+        PetComponent.NatureEmotionProfile profile = context.natureProfile();
+        if (profile == null || profile.isEmpty()) {
+            return GoalScorer.IDENTITY;
+        }
+
+        NatureSignalRules rules = SignalRuleRegistry.natureRules();
+        return goal -> modifierFor(goal, profile, rules);
     }
 
     @Override
@@ -55,6 +65,16 @@ public class NatureDesirabilitySignal implements DesirabilitySignal {
         return EnumSet.of(ContextSlice.STATE_DATA, ContextSlice.EMOTIONS);
     }
 
+    private float modifierFor(GoalDefinition goal, PetComponent.NatureEmotionProfile profile, NatureSignalRules rules) {
+        float modifier = 1.0f;
+
+        modifier = applySlot(profile.majorEmotion(), profile.majorStrength(), rules.majorWeight(), rules.minIntensity(), goal, modifier, rules);
+        modifier = applySlot(profile.minorEmotion(), profile.minorStrength(), rules.minorWeight(), rules.minIntensity(), goal, modifier, rules);
+        modifier = applySlot(profile.quirkEmotion(), profile.quirkStrength(), rules.quirkWeight(), rules.minIntensity(), goal, modifier, rules);
+
+        return modifier;
+    }
+
     private float applySlot(
         PetComponent.Emotion emotion,
         float strength,
@@ -3,6 +3,7 @@ package woflo.petsplus.ai.suggester.signal.rules;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.registry.Registries;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Box;
@@ -13,6 +14,7 @@ import woflo.petsplus.ai.goals.GoalDefinition;
 import woflo.petsplus.ai.goals.GoalIds;
 import woflo.petsplus.ai.suggester.signal.DesirabilitySignal;
 import woflo.petsplus.ai.suggester.signal.SignalResult;
+import woflo.petsplus.state.coordination.EntityCensus;
 
 import java.util.Set;
 import java.util.EnumSet;
@@ -55,8 +57,7 @@ public final class BoggedThreatSignal implements DesirabilitySignal {
             return SignalResult.identity();
         }
         var pet = ctx.mob();
-        World world = pet.getEntityWorld();
-        if (world == null || world.isClient()) {
+        if (!(pet.getEntityWorld() instanceof ServerWorld world)) {
             return SignalResult.identity();
         }
 
@@ -89,15 +90,10 @@ public final class BoggedThreatSignal implements DesirabilitySignal {
             return SignalResult.identity();
         }
 
-        // Iterate world entities within box; short-circuit on first match
-        for (Entity e : world.getOtherEntities(pet, box)) {
-            if (e == null || e.isRemoved()) {
-                continue;
-            }
-            if (e.getType() == boggedType) {
-                float v = 1.32f; // within 1.25–1.35; slightly defensive bias
-                return new SignalResult(v, v, "bogged_threat_nearby");
-            }
+        // Census-backed count; shares the section scan with other pets this tick
+        if (EntityCensus.count(world, Entity.class, box, e -> e != pet && e.getType() == boggedType) > 0) {
+            float v = 1.32f; // within 1.25–1.35; slightly defensive bias
+            return new SignalResult(v, v, "bogged_threat_nearby");
         }
 
         return SignalResult.identity();
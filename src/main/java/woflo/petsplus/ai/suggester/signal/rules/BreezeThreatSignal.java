@@ -3,6 +3,7 @@ package woflo.petsplus.ai.suggester.signal.rules;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.registry.Registries;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.Box;
 import net.minecraft.util.math.BlockPos;
@@ -13,6 +14,7 @@ import woflo.petsplus.ai.goals.GoalDefinition;
 import woflo.petsplus.ai.goals.GoalIds;
 import woflo.petsplus.ai.suggester.signal.DesirabilitySignal;
 import woflo.petsplus.ai.suggester.signal.SignalResult;
+import woflo.petsplus.state.coordination.EntityCensus;
 
 import java.util.Set;
 import java.util.EnumSet;
@@ -55,8 +57,7 @@ public final class BreezeThreatSignal implements DesirabilitySignal {
             return SignalResult.identity();
         }
         var pet = ctx.mob();
-        World world = pet.getEntityWorld();
-        if (world == null || world.isClient()) {
+        if (!(pet.getEntityWorld() instanceof ServerWorld world)) {
             return SignalResult.identity();
         }
 
@@ -100,15 +101,10 @@ public final class BreezeThreatSignal implements DesirabilitySignal {
             return SignalResult.identity();
         }
 
-        // Iterate entities with a lightweight filter; short-circuit on first match
-        for (Entity e : world.getOtherEntities(pet, box)) {
-            if (e == null || e.isRemoved()) {
-                continue;
-            }
-            if (e.getType() == breezeType) {
-                float v = 1.30f; // modest boost within 1.25x–1.35x
-                return new SignalResult(v, v, "breeze_threat_nearby");
-            }
+        // Census-backed count; shares the section scan with other pets this tick
+        if (EntityCensus.count(world, Entity.class, box, e -> e != pet && e.getType() == breezeType) > 0) {
+            float v = 1.30f; // modest boost within 1.25x–1.35x
+            return new SignalResult(v, v, "breeze_threat_nearby");
         }
 
         return SignalResult.identity();
@@ -7,18 +7,27 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Context object containing all relevant data for trigger evaluation.
+ *
+ * Event data handed in through {@link #rebind} is shared with every other pet answering the same
+ * event and is only copied once something writes to it, so a pack reacting to one hit does not
+ * copy the payload per pet. {@link #getEventData()} is a read-only view for that reason; writers
+ * go through {@link #withData} or {@link #getMutableEventData()}, which take the private copy.
  */
 public class TriggerContext {
-    private final ServerWorld world;
-    private final MobEntity pet;
-    private final PlayerEntity owner;
-    private final String eventType;
-    private final Map<String, Object> eventData;
+    private ServerWorld world;
+    private MobEntity pet;
+    private PlayerEntity owner;
+    private String eventType;
+    private Map<String, Object> eventData;
+    private boolean eventDataShared;
+    @Nullable
+    private Map<String, Object> eventDataView;
     private DamageSource incomingDamageSource;
     private double incomingDamageAmount;
     private boolean lethalDamage;
@@ -31,6 +40,35 @@ public class TriggerContext {
         this.eventType = eventType;
         this.eventData = new HashMap<>();
     }
+
+    /**
+     * Points this context at another pet for a new event, reading {@code sharedData} in place
+     * until the first write. Lets the ability dispatcher reuse one context across a pack;
+     * abilities must not keep a context past their activation.
+     */
+    public TriggerContext rebind(ServerWorld world,
+                                 MobEntity pet,
+                                 PlayerEntity owner,
+                                 String eventType,
+                                 Map<String, Object> sharedData) {
+        this.world = world;
+        this.pet = pet;
+        this.owner = owner;
+        this.eventType = eventType;
+        this.eventData = sharedData == null ? Map.of() : sharedData;
+        this.eventDataShared = true;
+        this.eventDataView = null;
+        this.incomingDamageSource = null;
+        this.incomingDamageAmount = 0.0D;
+        this.lethalDamage = false;
+        this.damageResult = null;
+        return this;
+    }
+
+    /** Drops entity and payload references so a pooled context does not pin them. */
+    public void release() {
+        rebind(null, null, null, null, Map.of());
+    }
     
     public ServerWorld getEntityWorld() {
         return world;
@@ -48,8 +86,19 @@ public class TriggerContext {
         return eventType;
     }
     
+    /** Read-only view of the event data; never copies a payload shared with other pets. */
     public Map<String, Object> getEventData() {
-        return eventData;
+        Map<String, Object> view = eventDataView;
+        if (view == null) {
+            view = Collections.unmodifiableMap(eventData);
+            eventDataView = view;
+        }
+        return view;
+    }
+
+    /** Event data for writing; takes this context's own copy first if the payload is shared. */
+    public Map<String, Object> getMutableEventData() {
+        return writableEventData();
     }
 
     public boolean hasDamageContext() {
@@ -86,9 +135,18 @@ public class TriggerContext {
     }
 
     public TriggerContext withData(String key, Object value) {
-        this.eventData.put(key, value);
+        writableEventData().put(key, value);
         return this;
     }
+
+    private Map<String, Object> writableEventData() {
+        if (eventDataShared) {
+            eventData = new HashMap<>(eventData);
+            eventDataShared = false;
+            eventDataView = null;
+        }
+        return eventData;
+    }
     
     @SuppressWarnings("unchecked")
     @Nullable
@@ -11,6 +11,7 @@ import net.minecraft.util.math.MathHelper;
 
 import woflo.petsplus.events.EmotionContextCues;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.modules.PetStateStore;
 import woflo.petsplus.state.coordination.PetSwarmIndex;
 import woflo.petsplus.state.gossip.GossipTopics;
 import woflo.petsplus.state.gossip.HarmonyGossipBridge;
@@ -166,7 +167,7 @@ public class GossipCircleRoutine implements SocialBehaviorRoutine {
             return;
         }
 
-        int cursor = context.component().getStateData(PetComponent.StateKeys.GOSSIP_CLUSTER_CURSOR, Integer.class, 0);
+        int cursor = context.component().getStateInt(PetStateStore.GOSSIP_CLUSTER_CURSOR, 0);
         if (cursor < 0) {
             cursor = 0;
         }
@@ -262,7 +263,7 @@ public class GossipCircleRoutine implements SocialBehaviorRoutine {
 
         if (visitedClusters > 0 && clusterCount > 0) {
             int nextCursor = (clusterCursor + Math.max(1, visitedClusters)) % clusterCount;
-            storyteller.setStateData(PetComponent.StateKeys.GOSSIP_CLUSTER_CURSOR, nextCursor);
+            storyteller.setStateInt(PetStateStore.GOSSIP_CLUSTER_CURSOR, nextCursor);
             context.setGossipClusterCursor(nextCursor);
         }
 
@@ -509,13 +510,13 @@ public class GossipCircleRoutine implements SocialBehaviorRoutine {
         if (component == null) {
             return;
         }
-        int streak = component.getStateData(PetComponent.StateKeys.GOSSIP_STALL_COUNT, Integer.class, 0);
+        int streak = component.getStateInt(PetStateStore.GOSSIP_STALL_COUNT, 0);
         streak = Math.min(16, streak + 1);
         if (streak >= MAX_STALL_PASSES) {
             component.clearStateData(PetComponent.StateKeys.GOSSIP_STALL_COUNT);
             component.optOutOfGossip(currentTick);
         } else {
-            component.setStateData(PetComponent.StateKeys.GOSSIP_STALL_COUNT, streak);
+            component.setStateInt(PetStateStore.GOSSIP_STALL_COUNT, streak);
         }
     }
 
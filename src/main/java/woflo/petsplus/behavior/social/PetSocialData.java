@@ -5,6 +5,7 @@ import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.modules.PetStateStore;
 import woflo.petsplus.state.coordination.PetSwarmIndex;
 
 /**
@@ -51,10 +52,10 @@ public final class PetSocialData {
         this.bodyYaw = pet.bodyYaw;
         this.headYaw = pet.headYaw;
         this.jitterSeed = component.getOrCreateSocialJitterSeed();
-        this.lastPetTick = component.getStateData(PetComponent.StateKeys.LAST_PET_TIME, Long.class, 0L);
-        this.lastCrouchCuddleTick = component.getStateData(PetComponent.StateKeys.LAST_CROUCH_CUDDLE_TICK, Long.class, 0L);
-        this.lastSocialInteractionTick = component.getStateData(PetComponent.StateKeys.LAST_SOCIAL_BUFFER_TICK, Long.class, 0L);
-        this.lastThreatRecoveryTick = component.getStateData(PetComponent.StateKeys.THREAT_LAST_RECOVERY_TICK, Long.class, 0L);
+        this.lastPetTick = component.getStateLong(PetStateStore.LAST_PET_TIME, 0L);
+        this.lastCrouchCuddleTick = component.getStateLong(PetStateStore.LAST_CROUCH_CUDDLE_TICK, 0L);
+        this.lastSocialInteractionTick = component.getStateLong(PetStateStore.LAST_SOCIAL_BUFFER_TICK, 0L);
+        this.lastThreatRecoveryTick = component.getStateLong(PetStateStore.THREAT_LAST_RECOVERY_TICK, 0L);
     }
 
     public MobEntity pet() {
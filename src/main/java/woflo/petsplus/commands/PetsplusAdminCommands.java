@@ -34,6 +34,7 @@ import woflo.petsplus.util.PetTargetingUtil;
 import woflo.petsplus.config.DebugSettings;
 import woflo.petsplus.data.DataMaintenance;
 import woflo.petsplus.mood.EmotionStimulusBus;
+import woflo.petsplus.state.coordination.TickBudgetGovernor;
 import woflo.petsplus.state.processing.AsyncProcessingTelemetry;
 import woflo.petsplus.state.emotions.PetMoodEngine;
 
@@ -664,6 +665,22 @@ public class PetsplusAdminCommands {
         long drop = AsyncProcessingTelemetry.TASKS_DROPPED.get();
 
         long coalesced = AsyncProcessingTelemetry.STIMULI_COALESCED.get();
+        long coalesceLookups = AsyncProcessingTelemetry.STIMULI_COALESCE_LOOKUPS.get();
+        long coalesceEvictions = AsyncProcessingTelemetry.STIMULI_COALESCE_EVICTIONS.get();
+        double coalesceHitRate = AsyncProcessingTelemetry.stimulusCoalesceHitRate();
+
+        long petDataEncodes = AsyncProcessingTelemetry.PET_DATA_ENCODES.get();
+        long petDataReused = AsyncProcessingTelemetry.PET_DATA_MODULES_REUSED.get();
+        long autosaveBytes = AsyncProcessingTelemetry.PET_DATA_AUTOSAVE_BYTES.get();
+        long autosaveNanos = AsyncProcessingTelemetry.PET_DATA_AUTOSAVE_TIME.getTotalNanos();
+        long autosaveCount = AsyncProcessingTelemetry.PET_DATA_AUTOSAVE_TIME.getCount();
+
+        long pathsPublished = AsyncProcessingTelemetry.PACK_PATHS_PUBLISHED.get();
+        long pathNodesPublished = AsyncProcessingTelemetry.PACK_PATH_NODES_PUBLISHED.get();
+        long pathsSpliced = AsyncProcessingTelemetry.PACK_PATHS_SPLICED.get();
+        long pathNodesSpliced = AsyncProcessingTelemetry.PACK_PATH_NODES_SPLICED.get();
+
+        TickBudgetGovernor governor = TickBudgetGovernor.global();
 
         long ingressNanos = AsyncProcessingTelemetry.INGRESS_TIME.getTotalNanos();
         long ingressCount = AsyncProcessingTelemetry.INGRESS_TIME.getCount();
@@ -685,7 +702,25 @@ public class PetsplusAdminCommands {
           .append(" exec=").append(exec)
           .append(" drop=").append(drop).append("]")
           .append(" | ")
-          .append("coalesced=").append(coalesced)
+          .append("coalesce[hits=").append(coalesced)
+          .append(" lookups=").append(coalesceLookups)
+          .append(" rate=").append(String.format(Locale.ROOT, "%.2f", coalesceHitRate))
+          .append(" evicted=").append(coalesceEvictions).append("]")
+          .append(" | ")
+          .append("petData[encodes=").append(petDataEncodes)
+          .append(" reused=").append(petDataReused)
+          .append(" autosave=").append(autosaveBytes).append("b/").append(autosaveNanos)
+          .append("ns/c=").append(autosaveCount).append("]")
+          .append(" | ")
+          .append("packPaths[searched=").append(pathsPublished).append("/n=").append(pathNodesPublished)
+          .append(" spliced=").append(pathsSpliced).append("/n=").append(pathNodesSpliced).append("]")
+          .append(" | ")
+          .append("governor[scale=").append(String.format(Locale.ROOT, "%.2f", governor.scale()))
+          .append(" ms=").append(String.format(Locale.ROOT, "%.2f/%.2f", governor.smoothedWorkMillis(), governor.targetMillis()))
+          .append(" denied=path:").append(governor.deniedCount(TickBudgetGovernor.Lane.PATH_START))
+          .append(",aura:").append(governor.deniedCount(TickBudgetGovernor.Lane.AURA_APPLICATION))
+          .append(",mood:").append(governor.deniedCount(TickBudgetGovernor.Lane.MOOD_RECOMPUTE))
+          .append(",async:").append(governor.deniedCount(TickBudgetGovernor.Lane.ASYNC_SUBMISSION)).append("]")
           .append(" | ")
           .append("time[nanos ")
           .append("ingress=").append(ingressNanos).append("/c=").append(ingressCount)
@@ -181,6 +181,12 @@ public class PetsPlusConfig {
         if (!core.has("pets") || !core.get("pets").isJsonObject()) {
             JsonObject pets = new JsonObject();
             pets.addProperty("async_mood_pipeline", true);
+            pets.addProperty("adaptive_arbiter", true);
+            pets.addProperty("batched_mood_kernel", false);
+            pets.addProperty("role_emotion_modifiers", false);
+            pets.addProperty("tick_budget_governor", true);
+            pets.addProperty("tick_budget_ms", 4.0);
+            pets.addProperty("swarm_update_window_ticks", 1);
             core.add("pets", pets);
             changed = true;
         } else {
@@ -189,6 +195,30 @@ public class PetsPlusConfig {
                 pets.addProperty("async_mood_pipeline", true);
                 changed = true;
             }
+            if (!pets.has("adaptive_arbiter")) {
+                pets.addProperty("adaptive_arbiter", true);
+                changed = true;
+            }
+            if (!pets.has("batched_mood_kernel")) {
+                pets.addProperty("batched_mood_kernel", false);
+                changed = true;
+            }
+            if (!pets.has("role_emotion_modifiers")) {
+                pets.addProperty("role_emotion_modifiers", false);
+                changed = true;
+            }
+            if (!pets.has("tick_budget_governor")) {
+                pets.addProperty("tick_budget_governor", true);
+                changed = true;
+            }
+            if (!pets.has("tick_budget_ms")) {
+                pets.addProperty("tick_budget_ms", 4.0);
+                changed = true;
+            }
+            if (!pets.has("swarm_update_window_ticks")) {
+                pets.addProperty("swarm_update_window_ticks", 1);
+                changed = true;
+            }
         }
         if (!core.has("visuals") || !core.get("visuals").isJsonObject()) {
             core.add("visuals", createVisualDefaults());
@@ -246,6 +276,12 @@ public class PetsPlusConfig {
         root.add("tribute_items", createDefaultTributeJson());
         JsonObject pets = new JsonObject();
         pets.addProperty("async_mood_pipeline", true);
+        pets.addProperty("adaptive_arbiter", true);
+        pets.addProperty("batched_mood_kernel", false);
+        pets.addProperty("role_emotion_modifiers", false);
+        pets.addProperty("tick_budget_governor", true);
+        pets.addProperty("tick_budget_ms", 4.0);
+        pets.addProperty("swarm_update_window_ticks", 1);
         root.add("pets", pets);
         root.add("visuals", createVisualDefaults());
         root.add("emotion_cues", createEmotionCueDefaults());
@@ -735,6 +771,36 @@ public class PetsPlusConfig {
         return readBoolean(getSection("pets"), "async_mood_pipeline", true);
     }
 
+    public boolean isAdaptiveArbiterEnabled() {
+        // One arbiter goal per mob instead of one selector entry per adaptive goal definition
+        return readBoolean(getSection("pets"), "adaptive_arbiter", true);
+    }
+
+    public boolean isBatchedMoodKernelEnabled() {
+        // Opt-in: decay every pending pet's emotions in one world-level pass at the end of the tick
+        return readBoolean(getSection("pets"), "batched_mood_kernel", false);
+    }
+
+    public boolean isRoleEmotionModifiersEnabled() {
+        // Opt-in: let role modifiers (guardian, striker, ...) adjust event emotions before they are applied
+        return readBoolean(getSection("pets"), "role_emotion_modifiers", false);
+    }
+
+    public boolean isTickBudgetGovernorEnabled() {
+        // Size path/aura/mood/async token pools from measured PetsPlus time per tick
+        return readBoolean(getSection("pets"), "tick_budget_governor", true);
+    }
+
+    public double getTickBudgetMillis() {
+        // Target milliseconds of PetsPlus work per server tick for the budget governor
+        return Math.max(0.1, readDouble(getSection("pets"), "tick_budget_ms", 4.0));
+    }
+
+    public int getSwarmUpdateWindowTicks() {
+        // Ticks a pack's movement-only swarm changes may collect before listeners hear about them
+        return Math.max(1, readInt(getSection("pets"), "swarm_update_window_ticks", 1));
+    }
+
     public int getConfigGeneration() {
         return configGeneration;
     }
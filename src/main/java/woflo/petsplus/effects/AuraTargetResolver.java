@@ -13,6 +13,7 @@ import net.minecraft.util.math.Vec3d;
 import org.jetbrains.annotations.Nullable;
 import woflo.petsplus.api.registry.PetRoleType;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.coordination.EntityCensus;
 import woflo.petsplus.state.coordination.PetSwarmIndex;
 import woflo.petsplus.state.processing.OwnerSpatialResult;
 
@@ -321,7 +322,7 @@ public final class AuraTargetResolver {
         Box searchBox = new Box(cx - effectiveRadius, cy - effectiveRadius, cz - effectiveRadius,
             cx + effectiveRadius, cy + effectiveRadius, cz + effectiveRadius);
 
-        List<ServerPlayerEntity> extras = world.getEntitiesByClass(ServerPlayerEntity.class, searchBox, candidate -> {
+        List<ServerPlayerEntity> extras = EntityCensus.getEntitiesByClass(world, ServerPlayerEntity.class, searchBox, candidate -> {
             if (candidate == null || candidate.isRemoved() || !candidate.isAlive()) {
                 return false;
             }
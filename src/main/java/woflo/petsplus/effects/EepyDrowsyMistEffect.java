@@ -28,6 +28,7 @@ import woflo.petsplus.api.EffectContext;
 import woflo.petsplus.api.registry.PetRoleType;
 import woflo.petsplus.api.registry.RegistryJsonHelper;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.coordination.EntityCensus;
 import woflo.petsplus.tags.PetsplusEntityTypeTags;
 import woflo.petsplus.ui.FeedbackManager;
 
@@ -264,7 +265,7 @@ public class EepyDrowsyMistEffect implements Effect {
                 );
             }
 
-            for (HostileEntity hostile : world.getEntitiesByClass(HostileEntity.class, searchBox, filter)) {
+            for (HostileEntity hostile : EntityCensus.getEntitiesByClass(world, HostileEntity.class, searchBox, filter)) {
                 hostile.addStatusEffect(slowness, pet);
                 if (weakness != null) {
                     hostile.addStatusEffect(weakness, pet);
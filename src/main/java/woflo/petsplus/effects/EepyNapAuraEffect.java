@@ -21,6 +21,7 @@ import woflo.petsplus.api.entity.PetsplusTameable;
 import woflo.petsplus.api.registry.PetRoleType;
 import woflo.petsplus.api.registry.RegistryJsonHelper;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.coordination.EntityCensus;
 
 import woflo.petsplus.ui.FeedbackManager;
 import woflo.petsplus.util.EffectConfigHelper;
@@ -85,7 +86,8 @@ public class EepyNapAuraEffect implements Effect {
         }
 
         Box area = pet.getBoundingBox().expand(radius);
-        List<LivingEntity> targets = world.getEntitiesByClass(
+        List<LivingEntity> targets = EntityCensus.getEntitiesByClass(
+            world,
             LivingEntity.class,
             area,
             entity -> entity != pet && entity.isAlive() && (entity instanceof PlayerEntity || hasPetComponent(entity))
@@ -17,6 +17,8 @@ import woflo.petsplus.api.registry.PetRoleType;
 import woflo.petsplus.config.PetsPlusConfig;
 import woflo.petsplus.roles.scout.ScoutBackpack;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.coordination.EntityCensus;
+import woflo.petsplus.state.coordination.ItemEntityIndex;
 import woflo.petsplus.state.tracking.PlayerTickDispatcher;
 import woflo.petsplus.state.tracking.PlayerTickListener;
 
@@ -156,22 +158,18 @@ public class MagnetizeDropsAndXpEffect implements Effect {
 
         if (state.getMode() != ScoutBackpack.RoutingMode.OFF) {
             // Magnetize item entities
-            List<ItemEntity> items = world.getEntitiesByClass(
-                ItemEntity.class,
-                searchBox,
-                item -> item.squaredDistanceTo(center) <= radiusSquared && !item.cannotPickup()
-            );
-
-            for (ItemEntity item : items) {
-                if (state.tryHandleItem(world, owner, item)) {
-                    continue;
-                }
-                magnetizeToPlayer(item, owner);
-            }
+            ItemEntityIndex.forWorld(world).forEachInRange(center, radius, ItemEntityIndex.KIND_ANY,
+                item -> !item.cannotPickup(),
+                item -> {
+                    if (!state.tryHandleItem(world, owner, item)) {
+                        magnetizeToPlayer(item, owner);
+                    }
+                });
         }
 
         // Magnetize experience orbs
-        List<ExperienceOrbEntity> orbs = world.getEntitiesByClass(
+        List<ExperienceOrbEntity> orbs = EntityCensus.getEntitiesByClass(
+            world,
             ExperienceOrbEntity.class,
             searchBox,
             orb -> orb.squaredDistanceTo(center) <= radiusSquared
@@ -22,6 +22,7 @@ import woflo.petsplus.api.registry.PetRoleType;
 import woflo.petsplus.config.PetsPlusConfig;
 import woflo.petsplus.api.registry.RoleIdentifierUtil;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.coordination.EntityCensus;
 import woflo.petsplus.state.coordination.PetSwarmIndex;
 import woflo.petsplus.state.processing.OwnerSpatialResult;
 
@@ -149,9 +150,9 @@ public final class PetsplusEffectManager {
         int limitPerTick = woflo.petsplus.policy.AIBudgetPolicy.auraTokensPerOwnerPerTick();
         java.util.UUID ownerId = owner.getUuid();
         long tick = world.getTime();
-        woflo.petsplus.state.coordination.AuraBudgetManager budget = woflo.petsplus.state.coordination.AuraBudgetManager.get(world);
+        woflo.petsplus.state.coordination.TickBudgetGovernor budget = woflo.petsplus.state.coordination.TickBudgetGovernor.global();
         for (LivingEntity target : targets) {
-            if (!budget.tryConsume(ownerId, tick, limitPerTick)) {
+            if (!budget.tryAcquire(woflo.petsplus.state.coordination.TickBudgetGovernor.Lane.AURA_APPLICATION, ownerId, limitPerTick)) {
                 break;
             }
             target.addStatusEffect(new StatusEffectInstance(entry, effect.durationTicks(), effect.amplifier(), false, true, true));
@@ -234,7 +235,7 @@ public final class PetsplusEffectManager {
     private static List<LivingEntity> findNearbyPlayersFallback(ServerWorld world, MobEntity pet, ServerPlayerEntity owner,
                                                                 double radius, double squaredRadius) {
         Box box = pet.getBoundingBox().expand(radius);
-        List<ServerPlayerEntity> players = world.getEntitiesByClass(ServerPlayerEntity.class, box,
+        List<ServerPlayerEntity> players = EntityCensus.getEntitiesByClass(world, ServerPlayerEntity.class, box,
             player -> player.isAlive() && player.squaredDistanceTo(pet) <= squaredRadius);
         if (owner != null && (squaredRadius == 0 || owner.squaredDistanceTo(pet) <= squaredRadius) && !players.contains(owner)) {
             players.add(owner);
@@ -249,9 +250,9 @@ public final class PetsplusEffectManager {
         if (owner != null && (squaredRadius == 0 || owner.squaredDistanceTo(pet) <= squaredRadius)) {
             allies.add(owner);
         }
-        allies.addAll(world.getEntitiesByClass(ServerPlayerEntity.class, box,
+        allies.addAll(EntityCensus.getEntitiesByClass(world, ServerPlayerEntity.class, box,
             player -> player != owner && player.isAlive() && player.squaredDistanceTo(pet) <= squaredRadius));
-        allies.addAll(world.getEntitiesByClass(MobEntity.class, box,
+        allies.addAll(EntityCensus.getEntitiesByClass(world, MobEntity.class, box,
             mob -> mob != pet && mob.isAlive() && PetComponent.get(mob) != null && mob.squaredDistanceTo(pet) <= squaredRadius));
         return allies;
     }
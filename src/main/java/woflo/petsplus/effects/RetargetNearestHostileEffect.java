@@ -8,8 +8,7 @@ import net.minecraft.util.math.Box;
 import org.jetbrains.annotations.Nullable;
 import woflo.petsplus.api.Effect;
 import woflo.petsplus.api.EffectContext;
-
-import java.util.List;
+import woflo.petsplus.state.coordination.EntityCensus;
 
 /**
  * Effect that retargets to the nearest hostile entity within radius.
@@ -59,24 +58,17 @@ public class RetargetNearestHostileEffect implements Effect {
         // Create bounding box around pet
         Box searchBox = Box.of(pet.getEntityPos(), radius * 2, radius * 2, radius * 2);
         
-        // Find all hostile entities in range
-        List<LivingEntity> entities = context.getEntityWorld().getEntitiesByClass(
-            LivingEntity.class, 
-            searchBox, 
-            entity -> entity instanceof HostileEntity && 
-                     entity.isAlive() && 
+        // Find the closest hostile entity in range
+        LivingEntity closest = EntityCensus.nearest(
+            context.getEntityWorld(),
+            LivingEntity.class,
+            searchBox,
+            pet.getEntityPos(),
+            entity -> entity instanceof HostileEntity &&
+                     entity.isAlive() &&
                      pet.squaredDistanceTo(entity) <= radius * radius
         );
         
-        if (entities.isEmpty()) {
-            return false;
-        }
-        
-        // Find closest entity
-        LivingEntity closest = entities.stream()
-            .min((a, b) -> Double.compare(pet.squaredDistanceTo(a), pet.squaredDistanceTo(b)))
-            .orElse(null);
-        
         if (closest != null) {
             // Store the target for use by other effects
             context.withData(storeAs, closest);
@@ -8,10 +8,6 @@ import net.minecraft.util.Identifier;
 import woflo.petsplus.state.PetComponent;
 import woflo.petsplus.events.EmotionContextMapper;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Base abstract class for role emotion modifiers that provides common functionality
  * and utility methods for implementing role-specific emotional responses.
@@ -41,73 +37,50 @@ public abstract class BaseRoleEmotionModifier implements RoleEmotionModifier {
     }
     
     @Override
-    public Map<PetComponent.Emotion, Float> modifyCombatEmotions(
+    public void modifyCombatEmotions(
         MobEntity pet,
         PetComponent petComp,
         DamageSource source,
         float amount,
         boolean isOwnerAttacker,
         boolean isPetVictim,
-        Map<PetComponent.Emotion, Float> baseEmotions
+        EmotionVector emotions
     ) {
-        // Input validation
-        if (pet == null || petComp == null || baseEmotions == null) {
-            return Collections.emptyMap();
-        }
-        
-        // Validate amount is not NaN or infinite
-        if (Float.isNaN(amount) || Float.isInfinite(amount)) {
-            amount = 0.0f;
-        }
-        
-        // Default implementation returns base emotions unchanged
-        return Collections.unmodifiableMap(new HashMap<>(baseEmotions));
+        // Default implementation leaves the emotions unchanged
     }
     
     @Override
-    public Map<PetComponent.Emotion, Float> modifySocialEmotions(
+    public void modifySocialEmotions(
         MobEntity pet,
         PetComponent petComp,
         PlayerEntity player,
         EmotionContextMapper.SocialInteractionType type,
         Object context,
-        Map<PetComponent.Emotion, Float> baseEmotions
+        EmotionVector emotions
     ) {
-        // Input validation
-        if (pet == null || petComp == null || type == null || baseEmotions == null) {
-            return Collections.emptyMap();
-        }
-        
-        // Default implementation returns base emotions unchanged
-        return Collections.unmodifiableMap(new HashMap<>(baseEmotions));
+        // Default implementation leaves the emotions unchanged
     }
     
     @Override
-    public Map<PetComponent.Emotion, Float> modifyEnvironmentalEmotions(
+    public void modifyEnvironmentalEmotions(
         MobEntity pet,
         PetComponent petComp,
         String eventType,
         Object context,
-        Map<PetComponent.Emotion, Float> baseEmotions
+        EmotionVector emotions
     ) {
-        // Input validation
-        if (pet == null || petComp == null || eventType == null || baseEmotions == null) {
-            return Collections.emptyMap();
-        }
-        
-        // Default implementation returns base emotions unchanged
-        return Collections.unmodifiableMap(new HashMap<>(baseEmotions));
+        // Default implementation leaves the emotions unchanged
     }
     
     /**
-     * Utility method to add or modify an emotion in the emotion map.
+     * Utility method to add or modify an emotion in the emotion vector.
      * 
-     * @param emotions the emotion map to modify
+     * @param emotions the emotion vector to modify
      * @param emotion the emotion to add/modify
      * @param amount the emotion amount
      * @param replace whether to replace existing value (true) or add to it (false)
      */
-    protected void modifyEmotion(Map<PetComponent.Emotion, Float> emotions,
+    protected void modifyEmotion(EmotionVector emotions,
                                 PetComponent.Emotion emotion, float amount, boolean replace) {
         // Null safety checks
         if (emotions == null || emotion == null) {
@@ -123,46 +96,45 @@ public abstract class BaseRoleEmotionModifier implements RoleEmotionModifier {
         amount = Math.max(-100.0f, Math.min(100.0f, amount));
         
         if (replace) {
-            emotions.put(emotion, amount);
+            emotions.set(emotion, amount);
         } else {
-            emotions.merge(emotion, amount, Float::sum);
-            // Ensure the result is also bounded
-            emotions.computeIfPresent(emotion, (k, v) ->
-                Math.max(-100.0f, Math.min(100.0f, v)));
+            // Absent emotions read as 0, so this also covers the first addition
+            float combined = emotions.get(emotion) + amount;
+            emotions.set(emotion, Math.max(-100.0f, Math.min(100.0f, combined)));
         }
     }
     
     /**
-     * Utility method to add an emotion to the emotion map (adds to existing value).
+     * Utility method to add an emotion to the emotion vector (adds to existing value).
      * 
-     * @param emotions the emotion map to modify
+     * @param emotions the emotion vector to modify
      * @param emotion the emotion to add
      * @param amount the emotion amount
      */
-    protected void addEmotion(Map<PetComponent.Emotion, Float> emotions, 
+    protected void addEmotion(EmotionVector emotions, 
                              PetComponent.Emotion emotion, float amount) {
         modifyEmotion(emotions, emotion, amount, false);
     }
     
     /**
-     * Utility method to set an emotion in the emotion map (replaces existing value).
+     * Utility method to set an emotion in the emotion vector (replaces existing value).
      * 
-     * @param emotions the emotion map to modify
+     * @param emotions the emotion vector to modify
      * @param emotion the emotion to set
      * @param amount the emotion amount
      */
-    protected void setEmotion(Map<PetComponent.Emotion, Float> emotions, 
+    protected void setEmotion(EmotionVector emotions, 
                              PetComponent.Emotion emotion, float amount) {
         modifyEmotion(emotions, emotion, amount, true);
     }
     
     /**
-     * Utility method to remove an emotion from the emotion map.
+     * Utility method to remove an emotion from the emotion vector.
      * 
-     * @param emotions the emotion map to modify
+     * @param emotions the emotion vector to modify
      * @param emotion the emotion to remove
      */
-    protected void removeEmotion(Map<PetComponent.Emotion, Float> emotions,
+    protected void removeEmotion(EmotionVector emotions,
                                 PetComponent.Emotion emotion) {
         // Null safety checks
         if (emotions == null || emotion == null) {
@@ -0,0 +1,125 @@
+package woflo.petsplus.emotions;
+
+import woflo.petsplus.state.PetComponent;
+
+/**
+ * Dense emotion intensities indexed by {@link PetComponent.Emotion#ordinal()}.
+ *
+ * Event emotions travel through context mapping, role modifiers and contradiction resolution
+ * in these instead of {@code Map<Emotion, Float>}, so processing one event neither boxes floats
+ * nor allocates maps. Presence is tracked apart from the value, as a map would: an emotion can
+ * be present at zero, and only present emotions take part in contradiction checks. Iteration
+ * via {@link #next(int)} runs in ordinal order, the order an {@link java.util.EnumMap} uses.
+ *
+ * Not thread-safe. Callers keep their working vectors confined to one thread and reuse them.
+ */
+public final class EmotionVector {
+    private static final PetComponent.Emotion[] EMOTIONS = PetComponent.Emotion.values();
+    public static final int SIZE = EMOTIONS.length;
+
+    static {
+        if (SIZE > Long.SIZE) {
+            throw new IllegalStateException("EmotionVector tracks presence in a long; " + SIZE + " emotions do not fit");
+        }
+    }
+
+    private final float[] values = new float[SIZE];
+    private long present;
+
+    public static PetComponent.Emotion emotion(int ordinal) {
+        return EMOTIONS[ordinal];
+    }
+
+    public static long bit(PetComponent.Emotion emotion) {
+        return 1L << emotion.ordinal();
+    }
+
+    public boolean has(PetComponent.Emotion emotion) {
+        return (present & bit(emotion)) != 0L;
+    }
+
+    /** The emotion's intensity, or 0 when it is absent. */
+    public float get(PetComponent.Emotion emotion) {
+        return values[emotion.ordinal()];
+    }
+
+    public float valueAt(int ordinal) {
+        return values[ordinal];
+    }
+
+    public void set(PetComponent.Emotion emotion, float intensity) {
+        setAt(emotion.ordinal(), intensity);
+    }
+
+    public void setAt(int ordinal, float intensity) {
+        values[ordinal] = intensity;
+        present |= 1L << ordinal;
+    }
+
+    /** Add to the emotion's intensity, treating an absent emotion as 0. */
+    public void add(PetComponent.Emotion emotion, float amount) {
+        int ordinal = emotion.ordinal();
+        values[ordinal] += amount;
+        present |= 1L << ordinal;
+    }
+
+    public void remove(PetComponent.Emotion emotion) {
+        removeAt(emotion.ordinal());
+    }
+
+    public void removeAt(int ordinal) {
+        values[ordinal] = 0.0f;
+        present &= ~(1L << ordinal);
+    }
+
+    /** Bit {@code i} is set when the emotion with ordinal {@code i} is present. */
+    public long mask() {
+        return present;
+    }
+
+    public boolean isEmpty() {
+        return present == 0L;
+    }
+
+    public int size() {
+        return Long.bitCount(present);
+    }
+
+    /** Ordinal of the first present emotion at or after {@code from}, or -1 when there is none. */
+    public int next(int from) {
+        if (from >= SIZE) {
+            return -1;
+        }
+        long remaining = present & (-1L << from);
+        return remaining == 0L ? -1 : Long.numberOfTrailingZeros(remaining);
+    }
+
+    public void clear() {
+        long remaining = present;
+        while (remaining != 0L) {
+            values[Long.numberOfTrailingZeros(remaining)] = 0.0f;
+            remaining &= remaining - 1L;
+        }
+        present = 0L;
+    }
+
+    public void copyFrom(EmotionVector other) {
+        if (other == this) {
+            return;
+        }
+        System.arraycopy(other.values, 0, values, 0, SIZE);
+        present = other.present;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        for (int i = next(0); i >= 0; i = next(i + 1)) {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(EMOTIONS[i]).append('=').append(values[i]);
+        }
+        return builder.append('}').toString();
+    }
+}
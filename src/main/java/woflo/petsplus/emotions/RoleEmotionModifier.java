@@ -7,8 +7,6 @@ import net.minecraft.util.Identifier;
 import woflo.petsplus.state.PetComponent;
 import woflo.petsplus.events.EmotionContextMapper;
 
-import java.util.Map;
-
 /**
  * Interface for role-specific emotion modifiers that allow pets to have unique
  * emotional responses to certain events based on their role.
@@ -16,6 +14,9 @@ import java.util.Map;
  * This system is separate from the personality system and provides immersive
  * role-specific behaviors like cursed_one enjoying owner hits or enchantment-bound
  * liking enchantments.
+ *
+ * Modifiers adjust the event's {@link EmotionVector} in place; the registry runs them in
+ * priority order on the same vector.
  */
 public interface RoleEmotionModifier {
     
@@ -35,17 +36,16 @@ public interface RoleEmotionModifier {
      * @param amount the damage amount
      * @param isOwnerAttacker whether the owner is the attacker
      * @param isPetVictim whether the pet is the victim
-     * @param baseEmotions the base emotions from the standard system
-     * @return modified emotions with role-specific adjustments
+     * @param emotions the emotions so far, adjusted in place with role-specific changes
      */
-    Map<PetComponent.Emotion, Float> modifyCombatEmotions(
+    void modifyCombatEmotions(
         MobEntity pet,
         PetComponent petComp,
         DamageSource source,
         float amount,
         boolean isOwnerAttacker,
         boolean isPetVictim,
-        Map<PetComponent.Emotion, Float> baseEmotions
+        EmotionVector emotions
     );
     
     /**
@@ -56,16 +56,15 @@ public interface RoleEmotionModifier {
      * @param player the interacting player
      * @param type the type of social interaction
      * @param context the interaction context
-     * @param baseEmotions the base emotions from the standard system
-     * @return modified emotions with role-specific adjustments
+     * @param emotions the emotions so far, adjusted in place with role-specific changes
      */
-    Map<PetComponent.Emotion, Float> modifySocialEmotions(
+    void modifySocialEmotions(
         MobEntity pet,
         PetComponent petComp,
         PlayerEntity player,
         EmotionContextMapper.SocialInteractionType type,
         Object context,
-        Map<PetComponent.Emotion, Float> baseEmotions
+        EmotionVector emotions
     );
     
     /**
@@ -75,15 +74,14 @@ public interface RoleEmotionModifier {
      * @param petComp the pet component
      * @param eventType the type of environmental event
      * @param context the event context
-     * @param baseEmotions the base emotions from the standard system
-     * @return modified emotions with role-specific adjustments
+     * @param emotions the emotions so far, adjusted in place with role-specific changes
      */
-    Map<PetComponent.Emotion, Float> modifyEnvironmentalEmotions(
+    void modifyEnvironmentalEmotions(
         MobEntity pet,
         PetComponent petComp,
         String eventType,
         Object context,
-        Map<PetComponent.Emotion, Float> baseEmotions
+        EmotionVector emotions
     );
     
     /**
@@ -5,6 +5,7 @@ import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.util.Identifier;
 import woflo.petsplus.Petsplus;
+import woflo.petsplus.config.PetsPlusConfig;
 import woflo.petsplus.state.PetComponent;
 import woflo.petsplus.events.EmotionContextMapper;
 import woflo.petsplus.emotions.modifiers.CursedOneEmotionModifier;
@@ -26,14 +27,30 @@ import java.util.concurrent.locks.ReentrantLock;
  * Registry that manages role-based emotion modifiers.
  * Provides centralized access to all role emotion modifiers and handles
  * the application of modifiers to emotion processing.
+ *
+ * Applicable modifiers run straight off the priority-sorted global list against the caller's
+ * {@link EmotionVector}, so applying them allocates nothing per event.
+ *
+ * Applying modifiers is opt-in through the {@code role_emotion_modifiers} config flag. Before
+ * the vector migration every built-in modifier failed on an unmodifiable map and its result was
+ * dropped, so with the flag off event emotions pass through unchanged, as they always have.
  */
 public class RoleEmotionRegistry {
     
     private static final RoleEmotionRegistry INSTANCE = new RoleEmotionRegistry();
     
+    /** Highest priority first; the sort is stable, so equal priorities keep registration order. */
+    private static final Comparator<RoleEmotionModifier> PRIORITY_ORDER =
+        (a, b) -> Integer.compare(b.getPriority(), a.getPriority());
+    
+    /** Per-thread copy of the emotions taken before each modifier, restored if it throws. */
+    private static final ThreadLocal<EmotionVector> CHECKPOINT = ThreadLocal.withInitial(EmotionVector::new);
+    
     private final Map<Identifier, List<RoleEmotionModifier>> modifiersByRole = new ConcurrentHashMap<>();
     private final List<RoleEmotionModifier> allModifiers = new CopyOnWriteArrayList<>();
     private volatile boolean initialized = false;
+    /** Overrides the config flag when non-null; only set by tests. */
+    private volatile Boolean enabledOverride;
     
     private final ReentrantLock registerLock = new ReentrantLock();
     private final ReentrantLock initializeLock = new ReentrantLock();
@@ -112,13 +129,14 @@ public class RoleEmotionRegistry {
         newRoleModifiers.add(modifier);
         
         // Sort modifiers by priority (highest first)
-        newRoleModifiers.sort((a, b) -> Integer.compare(b.getPriority(), a.getPriority()));
+        newRoleModifiers.sort(PRIORITY_ORDER);
         
         // Replace the list atomically
         modifiersByRole.put(roleId, newRoleModifiers);
         
-        // Add to global list (CopyOnWriteArrayList handles thread safety)
+        // Add to global list (CopyOnWriteArrayList handles thread safety), kept in priority order
         allModifiers.add(modifier);
+        allModifiers.sort(PRIORITY_ORDER);
         
         Petsplus.LOGGER.debug("Registered role emotion modifier for role: {}", roleId);
     }
@@ -141,13 +159,14 @@ public class RoleEmotionRegistry {
             newRoleModifiers.add(modifier);
             
             // Sort modifiers by priority (highest first)
-            newRoleModifiers.sort((a, b) -> Integer.compare(b.getPriority(), a.getPriority()));
+            newRoleModifiers.sort(PRIORITY_ORDER);
             
             // Replace the list atomically
             modifiersByRole.put(roleId, newRoleModifiers);
             
-            // Add to global list (CopyOnWriteArrayList handles thread safety)
+            // Add to global list (CopyOnWriteArrayList handles thread safety), kept in priority order
             allModifiers.add(modifier);
+            allModifiers.sort(PRIORITY_ORDER);
             
             Petsplus.LOGGER.debug("Registered role emotion modifier for role: {}", roleId);
         } finally {
@@ -164,37 +183,37 @@ public class RoleEmotionRegistry {
      * @param amount the damage amount
      * @param isOwnerAttacker whether the owner is the attacker
      * @param isPetVictim whether the pet is the victim
-     * @param baseEmotions the base emotions from the standard system
-     * @return modified emotions with role-specific adjustments
+     * @param emotions the base emotions from the standard system, adjusted in place
      */
-    public Map<PetComponent.Emotion, Float> applyCombatModifiers(
+    public void applyCombatModifiers(
         MobEntity pet,
         PetComponent petComp,
         DamageSource source,
         float amount,
         boolean isOwnerAttacker,
         boolean isPetVictim,
-        Map<PetComponent.Emotion, Float> baseEmotions
+        EmotionVector emotions
     ) {
-        Map<PetComponent.Emotion, Float> result = new HashMap<>(baseEmotions);
-        
-        // Get applicable modifiers for this pet's role
-        List<RoleEmotionModifier> applicableModifiers = getApplicableModifiers(pet, petComp);
+        if (!isEnabled()) {
+            return;
+        }
+        EmotionVector checkpoint = CHECKPOINT.get();
         
         // Apply modifiers in priority order
-        for (RoleEmotionModifier modifier : applicableModifiers) {
+        for (RoleEmotionModifier modifier : allModifiers) {
+            if (!modifier.shouldApply(pet, petComp)) {
+                continue;
+            }
+            checkpoint.copyFrom(emotions);
             try {
-                Map<PetComponent.Emotion, Float> modified = modifier.modifyCombatEmotions(
-                    pet, petComp, source, amount, isOwnerAttacker, isPetVictim, result
-                );
-                result = modified;
+                modifier.modifyCombatEmotions(pet, petComp, source, amount, isOwnerAttacker, isPetVictim, emotions);
             } catch (Exception e) {
+                // Drop the failed modifier's partial changes
+                emotions.copyFrom(checkpoint);
                 Petsplus.LOGGER.error("Error applying combat emotion modifier for role {}", 
                     modifier.getRoleId(), e);
             }
         }
-        
-        return result;
     }
     
     /**
@@ -205,36 +224,36 @@ public class RoleEmotionRegistry {
      * @param player the interacting player
      * @param type the type of social interaction
      * @param context the interaction context
-     * @param baseEmotions the base emotions from the standard system
-     * @return modified emotions with role-specific adjustments
+     * @param emotions the base emotions from the standard system, adjusted in place
      */
-    public Map<PetComponent.Emotion, Float> applySocialModifiers(
+    public void applySocialModifiers(
         MobEntity pet,
         PetComponent petComp,
         PlayerEntity player,
         EmotionContextMapper.SocialInteractionType type,
         Object context,
-        Map<PetComponent.Emotion, Float> baseEmotions
+        EmotionVector emotions
     ) {
-        Map<PetComponent.Emotion, Float> result = new HashMap<>(baseEmotions);
-        
-        // Get applicable modifiers for this pet's role
-        List<RoleEmotionModifier> applicableModifiers = getApplicableModifiers(pet, petComp);
+        if (!isEnabled()) {
+            return;
+        }
+        EmotionVector checkpoint = CHECKPOINT.get();
         
         // Apply modifiers in priority order
-        for (RoleEmotionModifier modifier : applicableModifiers) {
+        for (RoleEmotionModifier modifier : allModifiers) {
+            if (!modifier.shouldApply(pet, petComp)) {
+                continue;
+            }
+            checkpoint.copyFrom(emotions);
             try {
-                Map<PetComponent.Emotion, Float> modified = modifier.modifySocialEmotions(
-                    pet, petComp, player, type, context, result
-                );
-                result = modified;
+                modifier.modifySocialEmotions(pet, petComp, player, type, context, emotions);
             } catch (Exception e) {
+                // Drop the failed modifier's partial changes
+                emotions.copyFrom(checkpoint);
                 Petsplus.LOGGER.error("Error applying social emotion modifier for role {}", 
                     modifier.getRoleId(), e);
             }
         }
-        
-        return result;
     }
     
     /**
@@ -244,61 +263,52 @@ public class RoleEmotionRegistry {
      * @param petComp the pet component
      * @param eventType the type of environmental event
      * @param context the event context
-     * @param baseEmotions the base emotions from the standard system
-     * @return modified emotions with role-specific adjustments
+     * @param emotions the base emotions from the standard system, adjusted in place
      */
-    public Map<PetComponent.Emotion, Float> applyEnvironmentalModifiers(
+    public void applyEnvironmentalModifiers(
         MobEntity pet,
         PetComponent petComp,
         String eventType,
         Object context,
-        Map<PetComponent.Emotion, Float> baseEmotions
+        EmotionVector emotions
     ) {
-        Map<PetComponent.Emotion, Float> result = new HashMap<>(baseEmotions);
-        
-        // Get applicable modifiers for this pet's role
-        List<RoleEmotionModifier> applicableModifiers = getApplicableModifiers(pet, petComp);
+        if (!isEnabled()) {
+            return;
+        }
+        EmotionVector checkpoint = CHECKPOINT.get();
         
         // Apply modifiers in priority order
-        for (RoleEmotionModifier modifier : applicableModifiers) {
+        for (RoleEmotionModifier modifier : allModifiers) {
+            if (!modifier.shouldApply(pet, petComp)) {
+                continue;
+            }
+            checkpoint.copyFrom(emotions);
             try {
-                Map<PetComponent.Emotion, Float> modified = modifier.modifyEnvironmentalEmotions(
-                    pet, petComp, eventType, context, result
-                );
-                result = modified;
+                modifier.modifyEnvironmentalEmotions(pet, petComp, eventType, context, emotions);
             } catch (Exception e) {
+                // Drop the failed modifier's partial changes
+                emotions.copyFrom(checkpoint);
                 Petsplus.LOGGER.error("Error applying environmental emotion modifier for role {}", 
                     modifier.getRoleId(), e);
             }
         }
-        
-        return result;
     }
     
     /**
-     * Get all applicable modifiers for a pet.
+     * Whether modifiers are applied at all; follows the {@code role_emotion_modifiers} config flag.
      *
-     * @param pet the pet entity
-     * @param petComp the pet component
-     * @return list of applicable modifiers in priority order
+     * @return true if the apply methods run modifiers
      */
-    private List<RoleEmotionModifier> getApplicableModifiers(MobEntity pet, PetComponent petComp) {
-        List<RoleEmotionModifier> applicable = new ArrayList<>();
-        
-        // Snapshot to prevent concurrent modification
-        List<RoleEmotionModifier> modifiersSnapshot = new ArrayList<>(allModifiers);
-        
-        // Check all modifiers to see if they should apply
-        for (RoleEmotionModifier modifier : modifiersSnapshot) {
-            if (modifier.shouldApply(pet, petComp)) {
-                applicable.add(modifier);
-            }
-        }
-        
-        // Sort by priority (highest first)
-        applicable.sort((a, b) -> Integer.compare(b.getPriority(), a.getPriority()));
-        
-        return applicable;
+    public boolean isEnabled() {
+        Boolean override = enabledOverride;
+        return override != null ? override : PetsPlusConfig.getInstance().isRoleEmotionModifiersEnabled();
+    }
+    
+    /**
+     * Force modifiers on or off regardless of config; {@code null} restores the config flag.
+     */
+    void setEnabledForTesting(Boolean enabled) {
+        enabledOverride = enabled;
     }
     
     /**
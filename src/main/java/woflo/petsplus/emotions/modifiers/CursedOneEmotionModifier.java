@@ -7,10 +7,10 @@ import net.minecraft.entity.player.PlayerEntity;
 import woflo.petsplus.Petsplus;
 import woflo.petsplus.api.registry.PetRoleType;
 import woflo.petsplus.emotions.BaseRoleEmotionModifier;
+import woflo.petsplus.emotions.EmotionVector;
 import woflo.petsplus.events.EmotionContextMapper;
 import woflo.petsplus.state.PetComponent;
 
-import java.util.Map;
 
 /**
  * Cursed One emotion modifier that provides unique emotional responses
@@ -29,22 +29,18 @@ public class CursedOneEmotionModifier extends BaseRoleEmotionModifier {
     }
     
     @Override
-    public Map<PetComponent.Emotion, Float> modifyCombatEmotions(
+    public void modifyCombatEmotions(
         MobEntity pet,
         PetComponent petComp,
         DamageSource source,
         float amount,
         boolean isOwnerAttacker,
         boolean isPetVictim,
-        Map<PetComponent.Emotion, Float> baseEmotions
+        EmotionVector emotions
     ) {
-        Map<PetComponent.Emotion, Float> emotions = super.modifyCombatEmotions(
-            pet, petComp, source, amount, isOwnerAttacker, isPetVictim, baseEmotions
-        );
-        
         // Validate damage amount - skip processing for zero/negative damage
         if (amount <= 0.0f) {
-            return emotions;
+            return;
         }
         
         // Cursed One enjoys owner hits - unique masochistic behavior
@@ -88,23 +84,17 @@ public class CursedOneEmotionModifier extends BaseRoleEmotionModifier {
             removeEmotion(emotions, PetComponent.Emotion.ANGST);
             removeEmotion(emotions, PetComponent.Emotion.FOREBODING);
         }
-        
-        return emotions;
     }
     
     @Override
-    public Map<PetComponent.Emotion, Float> modifySocialEmotions(
+    public void modifySocialEmotions(
         MobEntity pet,
         PetComponent petComp,
         PlayerEntity player,
         EmotionContextMapper.SocialInteractionType type,
         Object context,
-        Map<PetComponent.Emotion, Float> baseEmotions
+        EmotionVector emotions
     ) {
-        Map<PetComponent.Emotion, Float> emotions = super.modifySocialEmotions(
-            pet, petComp, player, type, context, baseEmotions
-        );
-        
         switch (type) {
             case PETTING -> {
                 // Cursed One enjoys rough handling
@@ -136,22 +126,16 @@ public class CursedOneEmotionModifier extends BaseRoleEmotionModifier {
                 removeEmotion(emotions, PetComponent.Emotion.CONTENT);
             }
         }
-        
-        return emotions;
     }
     
     @Override
-    public Map<PetComponent.Emotion, Float> modifyEnvironmentalEmotions(
+    public void modifyEnvironmentalEmotions(
         MobEntity pet,
         PetComponent petComp,
         String eventType,
         Object context,
-        Map<PetComponent.Emotion, Float> baseEmotions
+        EmotionVector emotions
     ) {
-        Map<PetComponent.Emotion, Float> emotions = super.modifyEnvironmentalEmotions(
-            pet, petComp, eventType, context, baseEmotions
-        );
-        
         switch (eventType.toLowerCase()) {
             case "darkness", "night" -> {
                 // Cursed One enjoys darkness
@@ -192,8 +176,6 @@ public class CursedOneEmotionModifier extends BaseRoleEmotionModifier {
                 removeEmotion(emotions, PetComponent.Emotion.CHEERFUL);
             }
         }
-        
-        return emotions;
     }
     
     /**
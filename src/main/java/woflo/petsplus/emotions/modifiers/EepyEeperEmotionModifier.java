@@ -7,10 +7,10 @@ import net.minecraft.entity.player.PlayerEntity;
 import woflo.petsplus.Petsplus;
 import woflo.petsplus.api.registry.PetRoleType;
 import woflo.petsplus.emotions.BaseRoleEmotionModifier;
+import woflo.petsplus.emotions.EmotionVector;
 import woflo.petsplus.events.EmotionContextMapper;
 import woflo.petsplus.state.PetComponent;
 
-import java.util.Map;
 
 /**
  * Eepy Eeper emotion modifier that provides unique emotional responses
@@ -29,19 +29,15 @@ public class EepyEeperEmotionModifier extends BaseRoleEmotionModifier {
     }
     
     @Override
-    public Map<PetComponent.Emotion, Float> modifyCombatEmotions(
+    public void modifyCombatEmotions(
         MobEntity pet,
         PetComponent petComp,
         DamageSource source,
         float amount,
         boolean isOwnerAttacker,
         boolean isPetVictim,
-        Map<PetComponent.Emotion, Float> baseEmotions
+        EmotionVector emotions
     ) {
-        Map<PetComponent.Emotion, Float> emotions = super.modifyCombatEmotions(
-            pet, petComp, source, amount, isOwnerAttacker, isPetVictim, baseEmotions
-        );
-        
         // Eepy Eeper pets are reluctant and sleepy in combat
         if (!isPetVictim) {
             // Owner or pet is dealing damage - Eepy Eeper is barely awake
@@ -70,23 +66,17 @@ public class EepyEeperEmotionModifier extends BaseRoleEmotionModifier {
             addEmotion(emotions, PetComponent.Emotion.STARTLE, WAKEUP_STARTLE_SCALE);
             addEmotion(emotions, PetComponent.Emotion.WORRIED, WAKEUP_WORRIED_SCALE);
         }
-        
-        return emotions;
     }
     
     @Override
-    public Map<PetComponent.Emotion, Float> modifySocialEmotions(
+    public void modifySocialEmotions(
         MobEntity pet,
         PetComponent petComp,
         PlayerEntity player,
         EmotionContextMapper.SocialInteractionType type,
         Object context,
-        Map<PetComponent.Emotion, Float> baseEmotions
+        EmotionVector emotions
     ) {
-        Map<PetComponent.Emotion, Float> emotions = super.modifySocialEmotions(
-            pet, petComp, player, type, context, baseEmotions
-        );
-        
         switch (type) {
             case PETTING -> {
                 // Eepy Eeper pets enjoy gentle, sleep-inducing interactions
@@ -125,22 +115,16 @@ public class EepyEeperEmotionModifier extends BaseRoleEmotionModifier {
                 addEmotion(emotions, PetComponent.Emotion.ENNUI, 0.2f);
             }
         }
-        
-        return emotions;
     }
     
     @Override
-    public Map<PetComponent.Emotion, Float> modifyEnvironmentalEmotions(
+    public void modifyEnvironmentalEmotions(
         MobEntity pet,
         PetComponent petComp,
         String eventType,
         Object context,
-        Map<PetComponent.Emotion, Float> baseEmotions
+        EmotionVector emotions
     ) {
-        Map<PetComponent.Emotion, Float> emotions = super.modifyEnvironmentalEmotions(
-            pet, petComp, eventType, context, baseEmotions
-        );
-        
         switch (eventType.toLowerCase()) {
             case "sleep", "night", "bed" -> {
                 addEmotion(emotions, PetComponent.Emotion.CONTENT, 0.4f);
@@ -153,7 +137,5 @@ public class EepyEeperEmotionModifier extends BaseRoleEmotionModifier {
                 addEmotion(emotions, PetComponent.Emotion.ENNUI, 0.2f);
             }
         }
-        
-        return emotions;
     }
 }
@@ -8,10 +8,10 @@ import net.minecraft.item.ItemStack;
 import woflo.petsplus.Petsplus;
 import woflo.petsplus.api.registry.PetRoleType;
 import woflo.petsplus.emotions.BaseRoleEmotionModifier;
+import woflo.petsplus.emotions.EmotionVector;
 import woflo.petsplus.events.EmotionContextMapper;
 import woflo.petsplus.state.PetComponent;
 
-import java.util.Map;
 
 /**
  * Enchantment Bound emotion modifier that provides unique emotional responses
@@ -30,19 +30,15 @@ public class EnchantmentBoundEmotionModifier extends BaseRoleEmotionModifier {
     }
     
     @Override
-    public Map<PetComponent.Emotion, Float> modifyCombatEmotions(
+    public void modifyCombatEmotions(
         MobEntity pet,
         PetComponent petComp,
         DamageSource source,
         float amount,
         boolean isOwnerAttacker,
         boolean isPetVictim,
-        Map<PetComponent.Emotion, Float> baseEmotions
+        EmotionVector emotions
     ) {
-        Map<PetComponent.Emotion, Float> emotions = super.modifyCombatEmotions(
-            pet, petComp, source, amount, isOwnerAttacker, isPetVictim, baseEmotions
-        );
-        
         // Special response to magical damage
         if (isMagicalDamage(source)) {
             // Enchantment Bound pets are fascinated by magic, even when harmful
@@ -70,23 +66,17 @@ public class EnchantmentBoundEmotionModifier extends BaseRoleEmotionModifier {
             addEmotion(emotions, PetComponent.Emotion.FOREBODING, scaleByDamage(0.25f, amount));
             addEmotion(emotions, PetComponent.Emotion.REGRET, scaleByDamage(0.2f, amount));
         }
-        
-        return emotions;
     }
     
     @Override
-    public Map<PetComponent.Emotion, Float> modifySocialEmotions(
+    public void modifySocialEmotions(
         MobEntity pet,
         PetComponent petComp,
         PlayerEntity player,
         EmotionContextMapper.SocialInteractionType type,
         Object context,
-        Map<PetComponent.Emotion, Float> baseEmotions
+        EmotionVector emotions
     ) {
-        Map<PetComponent.Emotion, Float> emotions = super.modifySocialEmotions(
-            pet, petComp, player, type, context, baseEmotions
-        );
-        
         switch (type) {
             case PETTING -> {
                 // Enchantment Bound pets enjoy magical touches
@@ -123,22 +113,16 @@ public class EnchantmentBoundEmotionModifier extends BaseRoleEmotionModifier {
                 addEmotion(emotions, PetComponent.Emotion.UBUNTU, 0.25f);
             }
         }
-        
-        return emotions;
     }
     
     @Override
-    public Map<PetComponent.Emotion, Float> modifyEnvironmentalEmotions(
+    public void modifyEnvironmentalEmotions(
         MobEntity pet,
         PetComponent petComp,
         String eventType,
         Object context,
-        Map<PetComponent.Emotion, Float> baseEmotions
+        EmotionVector emotions
     ) {
-        Map<PetComponent.Emotion, Float> emotions = super.modifyEnvironmentalEmotions(
-            pet, petComp, eventType, context, baseEmotions
-        );
-        
         switch (eventType.toLowerCase()) {
             case "enchanting", "enchantment_table" -> {
                 // Enchantment Bound pets love enchanting
@@ -198,7 +182,5 @@ public class EnchantmentBoundEmotionModifier extends BaseRoleEmotionModifier {
                 removeEmotion(emotions, PetComponent.Emotion.CHEERFUL);
             }
         }
-        
-        return emotions;
     }
 }
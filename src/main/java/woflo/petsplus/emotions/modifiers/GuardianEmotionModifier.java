@@ -7,10 +7,10 @@ import net.minecraft.entity.player.PlayerEntity;
 import woflo.petsplus.Petsplus;
 import woflo.petsplus.api.registry.PetRoleType;
 import woflo.petsplus.emotions.BaseRoleEmotionModifier;
+import woflo.petsplus.emotions.EmotionVector;
 import woflo.petsplus.events.EmotionContextMapper;
 import woflo.petsplus.state.PetComponent;
 
-import java.util.Map;
 
 /**
  * Guardian emotion modifier that provides unique emotional responses
@@ -32,19 +32,15 @@ public class GuardianEmotionModifier extends BaseRoleEmotionModifier {
     }
     
     @Override
-    public Map<PetComponent.Emotion, Float> modifyCombatEmotions(
+    public void modifyCombatEmotions(
         MobEntity pet,
         PetComponent petComp,
         DamageSource source,
         float amount,
         boolean isOwnerAttacker,
         boolean isPetVictim,
-        Map<PetComponent.Emotion, Float> baseEmotions
+        EmotionVector emotions
     ) {
-        Map<PetComponent.Emotion, Float> emotions = super.modifyCombatEmotions(
-            pet, petComp, source, amount, isOwnerAttacker, isPetVictim, baseEmotions
-        );
-        
         // Guardian pets are extremely protective when owner is in danger
         if (!isPetVictim && isOwnerDamageSource(source, petComp)) {
             // Owner is attacking - Guardian feels supportive and ready
@@ -85,23 +81,17 @@ public class GuardianEmotionModifier extends BaseRoleEmotionModifier {
             addEmotion(emotions, PetComponent.Emotion.VIGILANT, scaleByDamage(0.25f, amount));
             addEmotion(emotions, PetComponent.Emotion.STOIC, scaleByDamage(0.2f, amount));
         }
-        
-        return emotions;
     }
     
     @Override
-    public Map<PetComponent.Emotion, Float> modifySocialEmotions(
+    public void modifySocialEmotions(
         MobEntity pet,
         PetComponent petComp,
         PlayerEntity player,
         EmotionContextMapper.SocialInteractionType type,
         Object context,
-        Map<PetComponent.Emotion, Float> baseEmotions
+        EmotionVector emotions
     ) {
-        Map<PetComponent.Emotion, Float> emotions = super.modifySocialEmotions(
-            pet, petComp, player, type, context, baseEmotions
-        );
-        
         switch (type) {
             case PETTING -> {
                 // Guardian pets enjoy protective physical contact
@@ -124,22 +114,16 @@ public class GuardianEmotionModifier extends BaseRoleEmotionModifier {
                 addEmotion(emotions, PetComponent.Emotion.UBUNTU, 0.2f);
             }
         }
-        
-        return emotions;
     }
     
     @Override
-    public Map<PetComponent.Emotion, Float> modifyEnvironmentalEmotions(
+    public void modifyEnvironmentalEmotions(
         MobEntity pet,
         PetComponent petComp,
         String eventType,
         Object context,
-        Map<PetComponent.Emotion, Float> baseEmotions
+        EmotionVector emotions
     ) {
-        Map<PetComponent.Emotion, Float> emotions = super.modifyEnvironmentalEmotions(
-            pet, petComp, eventType, context, baseEmotions
-        );
-        
         switch (eventType.toLowerCase()) {
             case "danger", "threat" -> {
                 // Guardian pets are highly alert to danger
@@ -177,7 +161,5 @@ public class GuardianEmotionModifier extends BaseRoleEmotionModifier {
                 addEmotion(emotions, PetComponent.Emotion.GUARDIAN_VIGIL, 0.35f);
             }
         }
-        
-        return emotions;
     }
 }
@@ -30,6 +30,7 @@ import net.minecraft.registry.Registries;
 import net.minecraft.registry.RegistryKeys;
 import net.minecraft.registry.tag.FluidTags;
 import net.minecraft.registry.tag.TagKey;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.ActionResult;
@@ -51,6 +52,7 @@ import woflo.petsplus.abilities.AbilityManager;
 import woflo.petsplus.abilities.AbilityTriggerResult;
 import woflo.petsplus.state.OwnerCombatState;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.modules.PetStateStore;
 import woflo.petsplus.state.morality.MalevolenceLedger;
 import woflo.petsplus.state.relationships.InteractionType;
 import woflo.petsplus.state.relationships.RelationshipType;
@@ -85,11 +87,6 @@ public class CombatEventHandler {
 
     private static final Map<EntityType<?>, Boolean> FLYER_TYPE_CACHE = new ConcurrentHashMap<>();
     
-    // Cache for expensive pet swarm operations to improve performance
-    private static final Map<java.util.UUID, List<PetSwarmIndex.SwarmEntry>> PET_SWARM_CACHE = new ConcurrentHashMap<>();
-    private static final Map<java.util.UUID, Long> PET_SWARM_CACHE_TIMESTAMPS = new ConcurrentHashMap<>();
-    private static final long PET_SWARM_CACHE_TTL = 100; // 5 seconds cache TTL (100 ticks)
-    
     // Coordinated attack tracking for Pack Spirit (enemy UUID -> set of pet UUIDs that damaged it with timestamp)
     private static final Map<java.util.UUID, Map<java.util.UUID, Long>> COORDINATED_ATTACKS = new ConcurrentHashMap<>();
     
@@ -131,12 +128,10 @@ public class CombatEventHandler {
     }
     
     /**
-     * Invalidate cached pet swarm data for a specific owner
-     * Call this when pets are added/removed or when cache needs to be refreshed
+     * Drop per-owner combat caches for a player leaving the server.
      */
-    public static void invalidatePetSwarmCache(java.util.UUID ownerUuid) {
-        PET_SWARM_CACHE.remove(ownerUuid);
-        PET_SWARM_CACHE_TIMESTAMPS.remove(ownerUuid);
+    public static void onPlayerDisconnect(UUID playerId) {
+        OwnerDamageInterceptors.forget(playerId);
     }
     
     /**
@@ -169,20 +164,6 @@ public class CombatEventHandler {
         }
     }
     
-    /**
-     * Clean up expired cache entries.
-     * Call periodically (e.g., in server tick event).
-     */
-    public static void cleanupExpiredCacheEntries(long currentTime) {
-        PET_SWARM_CACHE_TIMESTAMPS.entrySet().removeIf(entry -> {
-            if (currentTime - entry.getValue() > PET_SWARM_CACHE_TTL) {
-                PET_SWARM_CACHE.remove(entry.getKey());
-                return true;
-            }
-            return false;
-        });
-    }
-    
     /**
      * Called when any living entity receives damage.
      */
@@ -193,6 +174,9 @@ public class CombatEventHandler {
         if (amount <= 0.0F) {
             return true;
         }
+        if (!involvesPets(entity, damageSource)) {
+            return true;
+        }
 
         boolean allowDamage = true;
         float appliedDamage = amount;
@@ -316,6 +300,61 @@ public class CombatEventHandler {
         return allowDamage;
     }
 
+    /**
+     * Whether the victim, the attacker or the projectile's shooter is a pet or a player with pets
+     * tracked in any loaded world. Everything below reacts on behalf of pets, so other damage (mobs
+     * fighting each other, mob farms, pet-less players) is let through untouched. Owners whose pets
+     * wait in another dimension still get owner combat state, which the pets read when they
+     * rejoin. Costs a field read per mob and one owner lookup per world for players.
+     */
+    private static boolean involvesPets(LivingEntity entity, DamageSource damageSource) {
+        if (!(entity.getEntityWorld() instanceof ServerWorld world)) {
+            return false;
+        }
+        if (isPetOrOwner(entity, world)) {
+            return true;
+        }
+        Entity attacker = damageSource.getAttacker();
+        if (attacker != null && attacker != entity && isPetOrOwner(attacker, world)) {
+            return true;
+        }
+        return damageSource.getSource() instanceof PersistentProjectileEntity projectile
+            && projectile.getOwner() instanceof PlayerEntity shooter
+            && shooter != attacker
+            && isPetOrOwner(shooter, world);
+    }
+
+    private static boolean isPetOrOwner(Entity entity, ServerWorld world) {
+        if (entity instanceof MobEntity mob) {
+            return PetComponent.get(mob) != null;
+        }
+        if (entity instanceof PlayerEntity player) {
+            return ownsTrackedPets(player.getUuid(), world);
+        }
+        return false;
+    }
+
+    private static boolean ownsTrackedPets(UUID playerId, ServerWorld world) {
+        if (ownsTrackedPetsIn(playerId, world)) {
+            return true;
+        }
+        MinecraftServer server = world.getServer();
+        if (server == null) {
+            return false;
+        }
+        for (ServerWorld other : server.getWorlds()) {
+            if (other != world && ownsTrackedPetsIn(playerId, other)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean ownsTrackedPetsIn(UUID playerId, ServerWorld world) {
+        StateManager manager = StateManager.getIfLoaded(world);
+        return manager != null && manager.getSwarmIndex().ownerHasPets(playerId);
+    }
+
     private static DamageProcessingOutcome processOwnerDamage(PlayerEntity owner,
                                                               DamageSource damageSource,
                                                               float amount) {
@@ -329,31 +368,39 @@ public class CombatEventHandler {
             return DamageProcessingOutcome.allowOutcome(0.0F);
         }
 
-        boolean lethalPreCheck = owner.getHealth() - amount <= 0.0F;
-
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("damage", (double) amount);
-        payload.put("damage_source", damageSource);
-        payload.put("intercept_damage", true);
-        if (damageSource.isOf(DamageTypes.FALL)) {
-            payload.put("fall_distance", (double) owner.fallDistance);
-        }
-        if (lethalPreCheck) {
-            payload.put("lethal_damage", true);
-        }
-
-        if (!payload.containsKey(GuardianBulwark.STATE_DATA_KEY)) {
-            payload.put(GuardianBulwark.STATE_DATA_KEY, new GuardianBulwark.SharedState());
+        StateManager manager = StateManager.forWorld(serverWorld);
+        int stages = OwnerDamageInterceptors.stages(manager.getSwarmIndex(), serverOwner.getUuid());
+        if ((stages & (OwnerDamageInterceptors.OWNER_INCOMING | OwnerDamageInterceptors.OWNER_LETHAL)) == 0) {
+            return DamageProcessingOutcome.allowOutcome(amount);
         }
 
         DamageInterceptionResult interception = new DamageInterceptionResult(amount);
-        payload.put("damage_result", interception);
+        DamageInterceptionResult result = interception;
+        if ((stages & OwnerDamageInterceptors.OWNER_INCOMING) != 0) {
+            boolean lethalPreCheck = owner.getHealth() - amount <= 0.0F;
 
-        StateManager manager = StateManager.forWorld(serverWorld);
-        AbilityTriggerResult incoming = manager.dispatchAbilityTrigger(serverOwner, "owner_incoming_damage", payload);
-        DamageInterceptionResult result = incoming.damageResult();
-        if (result == null) {
-            result = interception;
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("damage", (double) amount);
+            payload.put("damage_source", damageSource);
+            payload.put("intercept_damage", true);
+            if (damageSource.isOf(DamageTypes.FALL)) {
+                payload.put("fall_distance", (double) owner.fallDistance);
+            }
+            if (lethalPreCheck) {
+                payload.put("lethal_damage", true);
+            }
+
+            if (!payload.containsKey(GuardianBulwark.STATE_DATA_KEY)) {
+                payload.put(GuardianBulwark.STATE_DATA_KEY, new GuardianBulwark.SharedState());
+            }
+
+            payload.put("damage_result", interception);
+
+            AbilityTriggerResult incoming = manager.dispatchAbilityTrigger(
+                serverOwner, OwnerDamageInterceptors.OWNER_INCOMING_TRIGGER, payload);
+            if (incoming.damageResult() != null) {
+                result = incoming.damageResult();
+            }
         }
 
         if (result.isCancelled() || result.getRemainingDamageAmount() <= 0.0D) {
@@ -365,7 +412,7 @@ public class CombatEventHandler {
             return DamageProcessingOutcome.cancelledOutcome();
         }
 
-        if (remaining >= owner.getHealth()) {
+        if (remaining >= owner.getHealth() && (stages & OwnerDamageInterceptors.OWNER_LETHAL) != 0) {
             Map<String, Object> lethalPayload = new HashMap<>();
             lethalPayload.put("damage", remaining);
             lethalPayload.put("damage_source", damageSource);
@@ -373,7 +420,8 @@ public class CombatEventHandler {
             lethalPayload.put("intercept_damage", true);
             lethalPayload.put("damage_result", result);
 
-            AbilityTriggerResult lethalResult = manager.dispatchAbilityTrigger(serverOwner, "owner_lethal_damage", lethalPayload);
+            AbilityTriggerResult lethalResult = manager.dispatchAbilityTrigger(
+                serverOwner, OwnerDamageInterceptors.OWNER_LETHAL_TRIGGER, lethalPayload);
             DamageInterceptionResult lethalInterception = lethalResult.damageResult();
             if (lethalInterception != null) {
                 result = lethalInterception;
@@ -409,6 +457,12 @@ public class CombatEventHandler {
             return DamageProcessingOutcome.allowOutcome(0.0F);
         }
 
+        StateManager manager = StateManager.forWorld(serverWorld);
+        if (!OwnerDamageInterceptors.any(manager.getSwarmIndex(), serverAttacker.getUuid(),
+            OwnerDamageInterceptors.OWNER_OUTGOING)) {
+            return DamageProcessingOutcome.allowOutcome(amount);
+        }
+
         boolean lethalPreCheck = victim.getHealth() - amount <= 0.0F;
 
         Map<String, Object> payload = new HashMap<>();
@@ -425,8 +479,8 @@ public class CombatEventHandler {
         DamageInterceptionResult interception = new DamageInterceptionResult(amount);
         payload.put("damage_result", interception);
 
-        StateManager manager = StateManager.forWorld(serverWorld);
-        AbilityTriggerResult outgoing = manager.dispatchAbilityTrigger(serverAttacker, "owner_outgoing_damage", payload);
+        AbilityTriggerResult outgoing = manager.dispatchAbilityTrigger(
+            serverAttacker, OwnerDamageInterceptors.OWNER_OUTGOING_TRIGGER, payload);
         DamageInterceptionResult result = outgoing.damageResult();
         if (result == null) {
             result = interception;
@@ -484,6 +538,10 @@ public class CombatEventHandler {
             }
         }
 
+        if (!AbilityManager.roleListensTo(component.getRoleId(), "pet_outgoing_damage")) {
+            return DamageProcessingOutcome.allowOutcome(amount);
+        }
+
         boolean lethalPreCheck = victim.getHealth() - amount <= 0.0F;
         double victimHpPct = Math.max(0.0F, victim.getHealth()) / Math.max(1.0F, victim.getMaxHealth());
 
@@ -550,26 +608,34 @@ public class CombatEventHandler {
             return DamageProcessingOutcome.allowOutcome(0.0F);
         }
 
+        Identifier roleId = component.getRoleId();
+        boolean interceptsIncoming = AbilityManager.roleListensTo(roleId, "pet_incoming_damage");
+        boolean interceptsLethal = AbilityManager.roleListensTo(roleId, "pet_lethal_damage");
+        if (!interceptsIncoming && !interceptsLethal) {
+            return DamageProcessingOutcome.allowOutcome(amount);
+        }
+
         PlayerEntity owner = component.getOwner();
         ServerPlayerEntity serverOwner = owner instanceof ServerPlayerEntity ? (ServerPlayerEntity) owner : null;
-        boolean lethalPreCheck = pet.getHealth() - amount <= 0.0F;
 
         DamageInterceptionResult interception = new DamageInterceptionResult(amount);
+        DamageInterceptionResult result = interception;
+        if (interceptsIncoming) {
+            boolean lethalPreCheck = pet.getHealth() - amount <= 0.0F;
+            TriggerContext incomingContext = new TriggerContext(world, pet, serverOwner, "pet_incoming_damage")
+                .withData("damage", (double) amount)
+                .withData("damage_source", damageSource)
+                .withData("lethal_damage", lethalPreCheck)
+                .withData("intercept_damage", true)
+                .withDamageContext(damageSource, amount, lethalPreCheck, interception);
+            if (damageSource.isOf(DamageTypes.FALL)) {
+                incomingContext.withData("fall_distance", (double) pet.fallDistance);
+            }
 
-        TriggerContext incomingContext = new TriggerContext(world, pet, serverOwner, "pet_incoming_damage")
-            .withData("damage", (double) amount)
-            .withData("damage_source", damageSource)
-            .withData("lethal_damage", lethalPreCheck)
-            .withData("intercept_damage", true)
-            .withDamageContext(damageSource, amount, lethalPreCheck, interception);
-        if (damageSource.isOf(DamageTypes.FALL)) {
-            incomingContext.withData("fall_distance", (double) pet.fallDistance);
-        }
-
-        AbilityTriggerResult incomingResult = AbilityManager.triggerAbilities(pet, incomingContext);
-        DamageInterceptionResult result = incomingResult.damageResult();
-        if (result == null) {
-            result = interception;
+            AbilityTriggerResult incomingResult = AbilityManager.triggerAbilities(pet, incomingContext);
+            if (incomingResult.damageResult() != null) {
+                result = incomingResult.damageResult();
+            }
         }
 
         if (result.isCancelled() || result.getRemainingDamageAmount() <= 0.0D) {
@@ -581,7 +647,7 @@ public class CombatEventHandler {
             return DamageProcessingOutcome.cancelledOutcome();
         }
 
-        if (remaining >= pet.getHealth()) {
+        if (remaining >= pet.getHealth() && interceptsLethal) {
             TriggerContext lethalContext = new TriggerContext(world, pet, serverOwner, "pet_lethal_damage")
                 .withData("damage", remaining)
                 .withData("damage_source", damageSource)
@@ -1534,10 +1600,8 @@ public class CombatEventHandler {
             return;
         }
         
-        Map<String, Object> payload = (data == null || data.isEmpty())
-            ? null
-            : new HashMap<>(data);
-        StateManager.forWorld(serverWorld).fireAbilityTrigger(serverOwner, eventType, payload);
+        // AbilityTriggerPayload takes its own immutable copy, shared read-only by every pet
+        StateManager.forWorld(serverWorld).fireAbilityTrigger(serverOwner, eventType, data);
     }
 
     private static void onEntityDeath(LivingEntity entity, DamageSource damageSource) {
@@ -2680,35 +2744,9 @@ public class CombatEventHandler {
         if (!(owner.getEntityWorld() instanceof ServerWorld serverWorld)) {
             return List.of();
         }
-        
-        java.util.UUID ownerUuid = serverOwner.getUuid();
-        long now = serverWorld.getTime();
-        
-        // Check cache first to improve performance
-        Long cacheTimestamp = PET_SWARM_CACHE_TIMESTAMPS.get(ownerUuid);
-        if (cacheTimestamp != null && (now - cacheTimestamp) < PET_SWARM_CACHE_TTL) {
-            List<PetSwarmIndex.SwarmEntry> cachedSwarm = PET_SWARM_CACHE.get(ownerUuid);
-            if (cachedSwarm != null) {
-                return cachedSwarm;
-            }
-        }
-        
-        // Cache miss or expired - fetch fresh data
-        List<PetSwarmIndex.SwarmEntry> swarm;
-        synchronized (serverOwner) {
-            StateManager stateManager = StateManager.forWorld(serverWorld);
-            if (stateManager != null) {
-                swarm = stateManager.getSwarmIndex().snapshotOwner(ownerUuid);
-            } else {
-                swarm = List.of();
-            }
-        }
-        
-        // Update cache
-        PET_SWARM_CACHE.put(ownerUuid, swarm);
-        PET_SWARM_CACHE_TIMESTAMPS.put(ownerUuid, now);
-        
-        return swarm;
+
+        // The index keeps its own snapshot per owner and only rebuilds it after the swarm changes
+        return StateManager.forWorld(serverWorld).getSwarmIndex().snapshotOwner(serverOwner.getUuid());
     }
 
     private static boolean withinRadius(PetSwarmIndex.SwarmEntry entry, Vec3d center, double radiusSq) {
@@ -3200,13 +3238,13 @@ public class CombatEventHandler {
      */
     private static void checkHealthRecovery(MobEntity pet, PetComponent petComponent, float currentHealthPercent, long now) {
         // Check if pet was previously in low health
-        long lastLowHealthTick = petComponent.getStateData(PetComponent.StateKeys.HEALTH_LAST_LOW_TICK, Long.class, 0L);
+        long lastLowHealthTick = petComponent.getStateLong(PetStateStore.HEALTH_LAST_LOW_TICK, 0L);
         if (lastLowHealthTick == 0L) {
             return; // No previous low health state
         }
 
         // Cooldown to rate-limit recovery emotions
-        long lastRecoveryCooldown = petComponent.getStateData(PetComponent.StateKeys.HEALTH_RECOVERY_COOLDOWN, Long.class, 0L);
+        long lastRecoveryCooldown = petComponent.getStateLong(PetStateStore.HEALTH_RECOVERY_COOLDOWN, 0L);
         if (now - lastRecoveryCooldown < 1200) { // 60 second cooldown
             return;
         }
@@ -6,10 +6,10 @@ import net.minecraft.entity.damage.DamageTypes;
 import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.util.math.MathHelper;
+import woflo.petsplus.emotions.EmotionVector;
 import woflo.petsplus.state.PetComponent;
 import woflo.petsplus.stats.PetImprint;
 
-import java.util.EnumMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -21,10 +21,6 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  */
 public class EmotionContextMapper {
     
-    // Thread-local reusable maps to reduce EnumMap creation overhead
-    private static final ThreadLocal<Map<PetComponent.Emotion, Float>> REUSABLE_EMOTION_MAP = 
-        ThreadLocal.withInitial(() -> new EnumMap<>(PetComponent.Emotion.class));
-    
     // Thread-safe cache for expensive relationship strength calculations with proper expiration
     private static final Map<String, CacheEntry> RELATIONSHIP_CACHE = new ConcurrentHashMap<>();
     private static final long CACHE_EXPIRY_MS = 5000; // 5 seconds cache expiry
@@ -99,14 +95,13 @@ public class EmotionContextMapper {
     }
     
     /**
-     * Maps combat damage events to contextually appropriate emotions
+     * Maps combat damage events to contextually appropriate emotions, replacing the contents of {@code emotions}
      */
-    public static Map<PetComponent.Emotion, Float> mapCombatDamage(
+    public static void mapCombatDamage(
             MobEntity pet, PetComponent petComp, DamageSource source, float amount, 
-            boolean isOwnerAttacker, boolean isPetVictim) {
+            boolean isOwnerAttacker, boolean isPetVictim, EmotionVector emotions) {
         
         ContextFactors context = buildCombatContext(pet, petComp, source, amount, isOwnerAttacker, isPetVictim);
-        Map<PetComponent.Emotion, Float> emotions = REUSABLE_EMOTION_MAP.get();
         emotions.clear(); // Clear any previous entries
         
         if (isPetVictim) {
@@ -114,20 +109,16 @@ public class EmotionContextMapper {
         } else if (isOwnerAttacker) {
             mapOwnerAttackEmotions(emotions, context, amount);
         }
-        
-        // Return a copy to avoid thread-safety issues with the thread-local map
-        return new EnumMap<>(emotions);
     }
     
     /**
-     * Maps social interaction events to appropriate emotions
+     * Maps social interaction events to appropriate emotions, replacing the contents of {@code emotions}
      */
-    public static Map<PetComponent.Emotion, Float> mapSocialInteraction(
+    public static void mapSocialInteraction(
             MobEntity pet, PetComponent petComp, PlayerEntity player, 
-            SocialInteractionType type, Object context) {
+            SocialInteractionType type, Object context, EmotionVector emotions) {
         
         ContextFactors factors = buildSocialContext(pet, petComp, player, type, context);
-        Map<PetComponent.Emotion, Float> emotions = REUSABLE_EMOTION_MAP.get();
         emotions.clear(); // Clear any previous entries
         
         switch (type) {
@@ -137,20 +128,16 @@ public class EmotionContextMapper {
             case TRIBUTE -> mapTributeEmotions(emotions, factors);
             case HEALING -> mapHealingEmotions(emotions, factors);
         }
-        
-        // Return a copy to avoid thread-safety issues with the thread-local map
-        return new EnumMap<>(emotions);
     }
     
     /**
-     * Maps environmental events to appropriate emotions
+     * Maps environmental events to appropriate emotions, replacing the contents of {@code emotions}
      */
-    public static Map<PetComponent.Emotion, Float> mapEnvironmentalEvent(
+    public static void mapEnvironmentalEvent(
             MobEntity pet, PetComponent petComp, EnvironmentalEventType type, 
-            Object context) {
+            Object context, EmotionVector emotions) {
         
         ContextFactors factors = buildEnvironmentalContext(pet, petComp, type, context);
-        Map<PetComponent.Emotion, Float> emotions = REUSABLE_EMOTION_MAP.get();
         emotions.clear(); // Clear any previous entries
         
         switch (type) {
@@ -160,12 +147,9 @@ public class EmotionContextMapper {
             case TERRAIN -> mapTerrainEmotions(emotions, factors);
             case TIME_CHANGE -> mapTimeEmotions(emotions, factors);
         }
-        
-        // Return a copy to avoid thread-safety issues with the thread-local map
-        return new EnumMap<>(emotions);
     }
     
-    private static void mapPetDamageEmotions(Map<PetComponent.Emotion, Float> emotions, 
+    private static void mapPetDamageEmotions(EmotionVector emotions, 
                                             ContextFactors context, DamageSource source, float amount) {
         
         float damageIntensity = calculateDamageIntensity(amount, context.healthRatio);
@@ -199,7 +183,7 @@ public class EmotionContextMapper {
         }
     }
     
-    private static void mapOwnerAttackEmotions(Map<PetComponent.Emotion, Float> emotions, 
+    private static void mapOwnerAttackEmotions(EmotionVector emotions, 
                                              ContextFactors context, float damageAmount) {
         
         float intensity = calculateDamageIntensity(damageAmount, 1f);
@@ -221,7 +205,7 @@ public class EmotionContextMapper {
         }
     }
     
-    private static void mapPettingEmotions(Map<PetComponent.Emotion, Float> emotions, ContextFactors context) {
+    private static void mapPettingEmotions(EmotionVector emotions, ContextFactors context) {
         float baseIntensity = context.isFirstTime ? 0.8f : 0.4f;
         
         addEmotion(emotions, PetComponent.Emotion.CHEERFUL, baseIntensity, context);
@@ -239,7 +223,7 @@ public class EmotionContextMapper {
         }
     }
     
-    private static void mapDiscoveryEmotions(Map<PetComponent.Emotion, Float> emotions, ContextFactors context) {
+    private static void mapDiscoveryEmotions(EmotionVector emotions, ContextFactors context) {
         if (context.isHighIntensityMoment) {
             // Rare discovery
             addEmotion(emotions, PetComponent.Emotion.CHEERFUL, 0.6f, context);
@@ -252,7 +236,7 @@ public class EmotionContextMapper {
         }
     }
     
-    private static void addEmotion(Map<PetComponent.Emotion, Float> emotions, 
+    private static void addEmotion(EmotionVector emotions, 
                                  PetComponent.Emotion emotion, float baseIntensity, 
                                  ContextFactors context) {
         
@@ -277,7 +261,7 @@ public class EmotionContextMapper {
         
         // Ensure minimum threshold for meaningful responses
         if (scaledIntensity > 0.05f) {
-            emotions.put(emotion, scaledIntensity);
+            emotions.set(emotion, scaledIntensity);
         }
     }
     
@@ -529,48 +513,48 @@ public class EmotionContextMapper {
     }
     
     // Missing helper methods for emotion mapping
-    private static void mapFeedingEmotions(Map<PetComponent.Emotion, Float> emotions, ContextFactors context) {
+    private static void mapFeedingEmotions(EmotionVector emotions, ContextFactors context) {
         addEmotion(emotions, PetComponent.Emotion.CHEERFUL, 0.5f, context);
         addEmotion(emotions, PetComponent.Emotion.CONTENT, 0.4f, context);
         addEmotion(emotions, PetComponent.Emotion.QUERECIA, 0.3f, context);
     }
     
-    private static void mapBreedingEmotions(Map<PetComponent.Emotion, Float> emotions, ContextFactors context) {
+    private static void mapBreedingEmotions(EmotionVector emotions, ContextFactors context) {
         addEmotion(emotions, PetComponent.Emotion.LOYALTY, 0.6f, context);
         addEmotion(emotions, PetComponent.Emotion.PLAYFULNESS, 0.5f, context);
         addEmotion(emotions, PetComponent.Emotion.CONTENT, 0.4f, context);
         addEmotion(emotions, PetComponent.Emotion.CHEERFUL, 0.35f, context);
     }
     
-    private static void mapTributeEmotions(Map<PetComponent.Emotion, Float> emotions, ContextFactors context) {
+    private static void mapTributeEmotions(EmotionVector emotions, ContextFactors context) {
         addEmotion(emotions, PetComponent.Emotion.UBUNTU, 0.7f, context);
         addEmotion(emotions, PetComponent.Emotion.QUERECIA, 0.5f, context);
         addEmotion(emotions, PetComponent.Emotion.CHEERFUL, 0.4f, context);
     }
     
-    private static void mapHealingEmotions(Map<PetComponent.Emotion, Float> emotions, ContextFactors context) {
+    private static void mapHealingEmotions(EmotionVector emotions, ContextFactors context) {
         addEmotion(emotions, PetComponent.Emotion.RELIEF, 0.6f, context);
         addEmotion(emotions, PetComponent.Emotion.UBUNTU, 0.5f, context);
         addEmotion(emotions, PetComponent.Emotion.CONTENT, 0.3f, context);
     }
     
-    private static void mapDangerEmotions(Map<PetComponent.Emotion, Float> emotions, ContextFactors context) {
+    private static void mapDangerEmotions(EmotionVector emotions, ContextFactors context) {
         addEmotion(emotions, PetComponent.Emotion.ANGST, 0.7f, context);
         addEmotion(emotions, PetComponent.Emotion.FOREBODING, 0.6f, context);
         addEmotion(emotions, PetComponent.Emotion.VIGILANT, 0.5f, context);
     }
     
-    private static void mapWeatherEmotions(Map<PetComponent.Emotion, Float> emotions, ContextFactors context) {
+    private static void mapWeatherEmotions(EmotionVector emotions, ContextFactors context) {
         addEmotion(emotions, PetComponent.Emotion.CURIOUS, 0.2f, context);
         addEmotion(emotions, PetComponent.Emotion.CONTENT, 0.1f, context);
     }
     
-    private static void mapTerrainEmotions(Map<PetComponent.Emotion, Float> emotions, ContextFactors context) {
+    private static void mapTerrainEmotions(EmotionVector emotions, ContextFactors context) {
         addEmotion(emotions, PetComponent.Emotion.CURIOUS, 0.3f, context);
         addEmotion(emotions, PetComponent.Emotion.HOPEFUL, 0.2f, context);
     }
     
-    private static void mapTimeEmotions(Map<PetComponent.Emotion, Float> emotions, ContextFactors context) {
+    private static void mapTimeEmotions(EmotionVector emotions, ContextFactors context) {
         addEmotion(emotions, PetComponent.Emotion.CONTENT, 0.1f, context);
         addEmotion(emotions, PetComponent.Emotion.CURIOUS, 0.1f, context);
     }
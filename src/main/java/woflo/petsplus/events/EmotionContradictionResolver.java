@@ -1,5 +1,6 @@
 package woflo.petsplus.events;
 
+import woflo.petsplus.emotions.EmotionVector;
 import woflo.petsplus.state.PetComponent;
 
 import java.util.EnumMap;
@@ -9,15 +10,19 @@ import java.util.Set;
 /**
  * Prevents contradictory emotions from being applied simultaneously.
  * Analyzes emotion sets and resolves conflicts based on priority and context.
+ *
+ * The contradiction table is flattened into one {@code long} mask per emotion and priorities
+ * into an ordinal-indexed array, so every check is a bitwise AND over {@link EmotionVector}
+ * presence masks. Each pass reads one vector and writes another, which may be the same one.
  */
 public class EmotionContradictionResolver {
     
     /**
-     * Groups of emotions that contradict each other
+     * Groups of emotions that contradict each other, as a presence mask per emotion ordinal
      */
-    private static final Map<PetComponent.Emotion, Set<PetComponent.Emotion>> CONTRADICTIONS = createContradictionMap();
+    private static final long[] CONTRADICTION_MASKS = toMasks(createContradictionMap());
     
-    private static Map<PetComponent.Emotion, Set<PetComponent.Emotion>> createContradictionMap() {
+    static Map<PetComponent.Emotion, Set<PetComponent.Emotion>> createContradictionMap() {
         Map<PetComponent.Emotion, Set<PetComponent.Emotion>> contradictions = new EnumMap<>(PetComponent.Emotion.class);
         
         // Positive emotions contradictions
@@ -213,12 +218,22 @@ public class EmotionContradictionResolver {
         return contradictions;
     }
     
+    private static long[] toMasks(Map<PetComponent.Emotion, Set<PetComponent.Emotion>> contradictions) {
+        long[] masks = new long[EmotionVector.SIZE];
+        contradictions.forEach((emotion, opposed) -> {
+            for (PetComponent.Emotion other : opposed) {
+                masks[emotion.ordinal()] |= EmotionVector.bit(other);
+            }
+        });
+        return masks;
+    }
+    
     /**
-     * Emotion priority levels (higher number = higher priority)
+     * Emotion priority levels by ordinal (higher number = higher priority, 0 when unlisted)
      */
-    private static final Map<PetComponent.Emotion, Integer> PRIORITIES = createPriorityMap();
+    private static final int[] PRIORITY_BY_ORDINAL = toPriorities(createPriorityMap());
     
-    private static Map<PetComponent.Emotion, Integer> createPriorityMap() {
+    static Map<PetComponent.Emotion, Integer> createPriorityMap() {
         Map<PetComponent.Emotion, Integer> priorities = new EnumMap<>(PetComponent.Emotion.class);
         
         // Highest priority emotions
@@ -277,20 +292,24 @@ public class EmotionContradictionResolver {
         return priorities;
     }
     
+    private static int[] toPriorities(Map<PetComponent.Emotion, Integer> priorities) {
+        int[] byOrdinal = new int[EmotionVector.SIZE];
+        priorities.forEach((emotion, priority) -> byOrdinal[emotion.ordinal()] = priority);
+        return byOrdinal;
+    }
+    
     /**
      * Maximum number of iterations to prevent infinite loops in contradiction resolution
      */
     private static final int MAX_RESOLUTION_ITERATIONS = 10;
     
     /**
-     * Resolves contradictory emotions in a set, keeping the highest priority ones
+     * Resolves contradictory emotions in {@code emotions}, keeping the highest priority ones.
+     * Emotions are considered in ordinal order; {@code out} receives the survivors.
      */
-    public static Map<PetComponent.Emotion, Float> resolveContradictions(Map<PetComponent.Emotion, Float> emotions) {
-        if (emotions == null || emotions.isEmpty()) {
-            return emotions;
-        }
-        
-        Map<PetComponent.Emotion, Float> resolved = new EnumMap<>(PetComponent.Emotion.class);
+    public static void resolveContradictions(EmotionVector emotions, EmotionVector out) {
+        long present = emotions.mask();
+        long resolved = 0L;
         int iterations = 0;
         boolean changed;
         
@@ -303,174 +322,133 @@ public class EmotionContradictionResolver {
                 break;
             }
             
-            // Process emotions in priority order
-            for (Map.Entry<PetComponent.Emotion, Float> entry : emotions.entrySet()) {
-                PetComponent.Emotion emotion = entry.getKey();
-                float intensity = entry.getValue();
+            long pending = present;
+            while (pending != 0L) {
+                int ordinal = Long.numberOfTrailingZeros(pending);
+                pending &= pending - 1L;
+                long bit = 1L << ordinal;
                 
                 // Skip if already resolved
-                if (resolved.containsKey(emotion)) {
+                if ((resolved & bit) != 0L) {
                     continue;
                 }
                 
-                // Check if this emotion contradicts any already-resolved emotions
-                if (!hasContradiction(emotion, resolved.keySet())) {
-                    resolved.put(emotion, intensity);
-                } else {
-                    // Check if this emotion has higher priority than existing contradictions
-                    boolean shouldReplace = false;
-                    for (PetComponent.Emotion existing : resolved.keySet()) {
-                        if (contradicts(emotion, existing) && 
-                            getPriority(emotion) > getPriority(existing)) {
-                            shouldReplace = true;
-                            break;
-                        }
-                    }
-                    
-                    if (shouldReplace) {
-                        // Remove contradictory lower-priority emotions
-                        removeContradictory(emotion, resolved);
-                        resolved.put(emotion, intensity);
-                        changed = true;
-                    }
+                long conflicts = CONTRADICTION_MASKS[ordinal] & resolved;
+                if (conflicts == 0L) {
+                    resolved |= bit;
+                } else if (outranksAny(ordinal, conflicts)) {
+                    // Remove contradictory emotions and keep this one
+                    resolved = (resolved & ~CONTRADICTION_MASKS[ordinal]) | bit;
+                    changed = true;
                 }
             }
         } while (changed && iterations < MAX_RESOLUTION_ITERATIONS);
         
-        return resolved;
-    }
-    
-    /**
-     * Checks if an emotion contradicts any emotions in the given set
-     */
-    private static boolean hasContradiction(PetComponent.Emotion emotion, Set<PetComponent.Emotion> existing) {
-        Set<PetComponent.Emotion> contradictions = CONTRADICTIONS.get(emotion);
-        if (contradictions == null) {
-            return false;
+        if (out != emotions) {
+            out.copyFrom(emotions);
         }
-        
-        return existing.stream().anyMatch(contradictions::contains);
+        removeAll(out, present & ~resolved);
     }
     
     /**
-     * Checks if two emotions contradict each other
+     * Whether the emotion at {@code ordinal} has higher priority than any emotion in {@code conflicts}
      */
-    private static boolean contradicts(PetComponent.Emotion emotion1, PetComponent.Emotion emotion2) {
-        Set<PetComponent.Emotion> contradictions = CONTRADICTIONS.get(emotion1);
-        if (contradictions == null) {
-            return false;
+    private static boolean outranksAny(int ordinal, long conflicts) {
+        int priority = PRIORITY_BY_ORDINAL[ordinal];
+        while (conflicts != 0L) {
+            int existing = Long.numberOfTrailingZeros(conflicts);
+            conflicts &= conflicts - 1L;
+            if (priority > PRIORITY_BY_ORDINAL[existing]) {
+                return true;
+            }
         }
-        
-        return contradictions.contains(emotion2);
-    }
-    
-    /**
-     * Gets the priority of an emotion
-     */
-    private static int getPriority(PetComponent.Emotion emotion) {
-        return PRIORITIES.getOrDefault(emotion, 0);
+        return false;
     }
     
-    /**
-     * Removes emotions that contradict the given emotion from the resolved map
-     */
-    private static void removeContradictory(PetComponent.Emotion emotion, Map<PetComponent.Emotion, Float> resolved) {
-        Set<PetComponent.Emotion> contradictions = CONTRADICTIONS.get(emotion);
-        if (contradictions == null) {
-            return;
+    private static void removeAll(EmotionVector emotions, long mask) {
+        while (mask != 0L) {
+            emotions.removeAt(Long.numberOfTrailingZeros(mask));
+            mask &= mask - 1L;
         }
-        
-        contradictions.forEach(resolved::remove);
     }
     
     /**
-     * Applies intensity dampening to reduce emotional whiplash
+     * Applies intensity dampening to reduce emotional whiplash.
+     * {@code out} may be {@code newEmotions} itself but not {@code currentEmotions}.
      */
-    public static Map<PetComponent.Emotion, Float> applyIntensityDampening(
-            Map<PetComponent.Emotion, Float> newEmotions,
-            Map<PetComponent.Emotion, Float> currentEmotions,
-            float dampeningFactor) {
-        
-        if (newEmotions == null || newEmotions.isEmpty()) {
-            return newEmotions;
+    public static void applyIntensityDampening(
+            EmotionVector newEmotions,
+            EmotionVector currentEmotions,
+            float dampeningFactor,
+            EmotionVector out) {
+        
+        if (out != newEmotions) {
+            out.copyFrom(newEmotions);
         }
-        
-        // Add null check for currentEmotions
-        if (currentEmotions == null) {
-            currentEmotions = new EnumMap<>(PetComponent.Emotion.class);
+        long current = currentEmotions != null ? currentEmotions.mask() : 0L;
+        if (current == 0L) {
+            // Nothing to contradict - every emotion keeps full intensity
+            return;
         }
         
-        Map<PetComponent.Emotion, Float> dampened = new EnumMap<>(PetComponent.Emotion.class);
-        
-        for (Map.Entry<PetComponent.Emotion, Float> entry : newEmotions.entrySet()) {
-            PetComponent.Emotion emotion = entry.getKey();
-            float newIntensity = entry.getValue();
-            
-            // Check if this emotion contradicts current emotions
-            Float currentIntensity = currentEmotions.get(emotion);
-            if (currentIntensity != null && currentIntensity > 0f) {
+        for (int i = out.next(0); i >= 0; i = out.next(i + 1)) {
+            if ((current & (1L << i)) != 0L && currentEmotions.valueAt(i) > 0f) {
                 // Same emotion family - allow full intensity
-                dampened.put(emotion, newIntensity);
-            } else if (hasContradiction(emotion, currentEmotions.keySet())) {
+                continue;
+            }
+            if ((CONTRADICTION_MASKS[i] & current) != 0L) {
                 // Contradictory emotion - apply dampening
-                float dampenedIntensity = newIntensity * dampeningFactor;
+                float dampenedIntensity = out.valueAt(i) * dampeningFactor;
                 if (dampenedIntensity > 0.05f) { // Minimum threshold
-                    dampened.put(emotion, dampenedIntensity);
+                    out.setAt(i, dampenedIntensity);
+                } else {
+                    out.removeAt(i);
                 }
-            } else {
-                // New emotion family - allow full intensity
-                dampened.put(emotion, newIntensity);
             }
         }
-        
-        return dampened;
     }
     
     /**
-     * Validates that emotions are contextually appropriate
+     * Validates that emotions are contextually appropriate, writing the result to {@code out}
+     * (which may be {@code emotions} itself)
      */
-    public static Map<PetComponent.Emotion, Float> validateContextualAppropriateness(
-            Map<PetComponent.Emotion, Float> emotions,
-            String context) {
+    public static void validateContextualAppropriateness(
+            EmotionVector emotions,
+            String context,
+            EmotionVector out) {
         
-        if (emotions == null || emotions.isEmpty()) {
-            return emotions;
+        if (out != emotions) {
+            out.copyFrom(emotions);
+        }
+        if (context == null || out.isEmpty()) {
+            return;
         }
         
-        Map<PetComponent.Emotion, Float> validated = new EnumMap<>(PetComponent.Emotion.class);
-        
-        for (Map.Entry<PetComponent.Emotion, Float> entry : emotions.entrySet()) {
-            PetComponent.Emotion emotion = entry.getKey();
-            float intensity = entry.getValue();
-            
-            if (isContextuallyAppropriate(emotion, context)) {
-                validated.put(emotion, intensity);
+        String normalized = context.toLowerCase();
+        for (int i = out.next(0); i >= 0; i = out.next(i + 1)) {
+            if (isContextuallyAppropriate(EmotionVector.emotion(i), normalized)) {
+                continue;
+            }
+            // Reduce intensity for inappropriate emotions
+            float reducedIntensity = out.valueAt(i) * 0.3f;
+            if (reducedIntensity > 0.05f) {
+                out.setAt(i, reducedIntensity);
             } else {
-                // Reduce intensity for inappropriate emotions
-                float reducedIntensity = intensity * 0.3f;
-                if (reducedIntensity > 0.05f) {
-                    validated.put(emotion, reducedIntensity);
-                }
+                out.removeAt(i);
             }
         }
-        
-        return validated;
     }
     
     /**
-     * Checks if an emotion is appropriate for the given context
+     * Checks if an emotion is appropriate for the given (lower-cased) context
      */
     private static boolean isContextuallyAppropriate(PetComponent.Emotion emotion, String context) {
-        if (context == null) {
-            return true;
-        }
-        
         // High-priority emotions are always appropriate regardless of context
         if (isHighPriorityEmotion(emotion)) {
             return true;
         }
         
-        return switch (context.toLowerCase()) {
+        return switch (context) {
             case "combat", "danger" -> !isPositiveEmotion(emotion);
             case "social", "affection" -> !isNegativeEmotion(emotion);
             case "discovery", "exploration" -> emotion == PetComponent.Emotion.CURIOUS ||
@@ -522,6 +500,6 @@ public class EmotionContradictionResolver {
      * Checks if an emotion is high priority
      */
     private static boolean isHighPriorityEmotion(PetComponent.Emotion emotion) {
-        return PRIORITIES.getOrDefault(emotion, 0) >= 7;
+        return PRIORITY_BY_ORDINAL[emotion.ordinal()] >= 7;
     }
 }
@@ -6,25 +6,52 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.text.Text;
 import woflo.petsplus.Petsplus;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.emotions.EmotionVector;
 import woflo.petsplus.emotions.RoleEmotionRegistry;
 
-import java.util.EnumMap;
-import java.util.Map;
-
-import java.util.concurrent.locks.ReentrantLock;
-
 /**
  * Emotion processor that provides contextually appropriate emotional responses
  * with proper intensity scaling, personality considerations, and contradiction prevention.
  * Now includes role-based emotion modifiers for immersive role-specific behaviors.
+ *
+ * Each stage of the pipeline writes into its own {@link EmotionVector} from a per-thread
+ * {@link Workspace}, so an event allocates nothing and a failed stage can still fall back to the
+ * previous stage's result. Events for a pet are processed on its server thread, which already
+ * confines the mood state, so no lock is shared between pets.
  */
 public class EmotionProcessor {
     
     private static final float INTENSITY_DAMPENING_FACTOR = 0.6f;
     private static final float MIN_EMOTION_THRESHOLD = 0.05f;
     
-    // Thread safety: Lock for synchronizing access to pet state
-    private static final ReentrantLock petStateLock = new ReentrantLock();
+    private static final ThreadLocal<Workspace> WORKSPACE = ThreadLocal.withInitial(Workspace::new);
+    
+    /**
+     * Reusable vectors, one per pipeline stage
+     */
+    private static final class Workspace {
+        final EmotionVector mapped = new EmotionVector();
+        final EmotionVector modified = new EmotionVector();
+        final EmotionVector current = new EmotionVector();
+        final EmotionVector dampened = new EmotionVector();
+        final EmotionVector resolved = new EmotionVector();
+        final EmotionVector validated = new EmotionVector();
+        boolean inUse;
+    }
+    
+    private static Workspace acquireWorkspace() {
+        Workspace workspace = WORKSPACE.get();
+        if (workspace.inUse) {
+            // Re-entered from an emotion push on this thread; don't clobber the outer event
+            return new Workspace();
+        }
+        workspace.inUse = true;
+        return workspace;
+    }
+    
+    private static void releaseWorkspace(Workspace workspace) {
+        workspace.inUse = false;
+    }
     
     // Custom exceptions for specific error handling
     public static class EmotionProcessingException extends Exception {
@@ -85,24 +112,19 @@ public class EmotionProcessor {
     }
     
     /**
-     * Validates emotional state map for consistency
+     * Validates emotional state for consistency
      */
-    private static void validateEmotionalState(Map<PetComponent.Emotion, Float> emotions) throws InvalidPetStateException {
+    private static void validateEmotionalState(EmotionVector emotions) throws InvalidPetStateException {
         if (emotions == null) {
-            throw new InvalidPetStateException("Emotion map cannot be null");
+            throw new InvalidPetStateException("Emotion vector cannot be null");
         }
         
-        for (Map.Entry<PetComponent.Emotion, Float> entry : emotions.entrySet()) {
-            if (entry.getKey() == null) {
-                throw new InvalidPetStateException("Emotion key cannot be null");
-            }
-            if (entry.getValue() == null) {
-                throw new InvalidPetStateException("Emotion intensity cannot be null");
-            }
-            if (entry.getValue() < 0f || entry.getValue() > 1f) {
+        for (int i = emotions.next(0); i >= 0; i = emotions.next(i + 1)) {
+            float intensity = emotions.valueAt(i);
+            if (intensity < 0f || intensity > 1f) {
                 throw new InvalidPetStateException(
                     String.format("Emotion intensity must be between 0 and 1, got %f for emotion %s",
-                        entry.getValue(), entry.getKey()));
+                        intensity, EmotionVector.emotion(i)));
             }
         }
     }
@@ -110,10 +132,10 @@ public class EmotionProcessor {
     /**
      * Recovers from invalid emotional state by creating a safe default state
      */
-    private static Map<PetComponent.Emotion, Float> recoverEmotionalState() {
-        Map<PetComponent.Emotion, Float> recoveryState = new EnumMap<>(PetComponent.Emotion.class);
+    private static EmotionVector recoverEmotionalState() {
+        EmotionVector recoveryState = new EmotionVector();
         // Set a minimal neutral emotional state
-        recoveryState.put(PetComponent.Emotion.CONTENT, 0.1f);
+        recoveryState.set(PetComponent.Emotion.CONTENT, 0.1f);
         return recoveryState;
     }
     
@@ -146,19 +168,13 @@ public class EmotionProcessor {
     }
     
     /**
-     * Validates return values from EmotionContextMapper methods
+     * Validates values written by EmotionContextMapper methods
      */
-    private static Map<PetComponent.Emotion, Float> validateEmotionMappingResult(
-            Map<PetComponent.Emotion, Float> emotions, String mappingType) throws EmotionMappingException {
-        
-        if (emotions == null) {
-            Petsplus.LOGGER.warn("EmotionContextMapper returned null for mapping type: {}", mappingType);
-            return new EnumMap<>(PetComponent.Emotion.class);
-        }
+    private static void validateEmotionMappingResult(
+            EmotionVector emotions, String mappingType) throws EmotionMappingException {
         
         try {
             validateEmotionalState(emotions);
-            return emotions;
         } catch (InvalidPetStateException e) {
             throw new EmotionMappingException("Invalid emotion mapping result for " + mappingType + ": " + e.getMessage(), e);
         }
@@ -172,6 +188,7 @@ public class EmotionProcessor {
                                          boolean isOwnerAttacker, boolean isPetVictim) {
         
         String petName = getPetNameForLogging(pet);
+        Workspace ws = acquireWorkspace();
         
         try {
             // Input validation
@@ -187,11 +204,11 @@ public class EmotionProcessor {
             validateAndInitializeRegistry();
             
             // Get contextually appropriate emotions with validation
-            Map<PetComponent.Emotion, Float> newEmotions;
+            EmotionVector newEmotions = ws.mapped;
             try {
-                newEmotions = EmotionContextMapper.mapCombatDamage(
-                    pet, petComp, source, amount, isOwnerAttacker, isPetVictim);
-                newEmotions = validateEmotionMappingResult(newEmotions, "combat_damage");
+                EmotionContextMapper.mapCombatDamage(
+                    pet, petComp, source, amount, isOwnerAttacker, isPetVictim, newEmotions);
+                validateEmotionMappingResult(newEmotions, "combat_damage");
             } catch (Exception e) {
                 throw new EmotionMappingException("Failed to map combat damage emotions", e);
             }
@@ -202,63 +219,64 @@ public class EmotionProcessor {
             }
             
             // Apply role-based emotion modifiers with error handling
-            Map<PetComponent.Emotion, Float> roleModifiedEmotions;
+            EmotionVector roleModifiedEmotions = ws.modified;
+            roleModifiedEmotions.copyFrom(newEmotions);
             try {
                 RoleEmotionRegistry registry = RoleEmotionRegistry.getInstance();
-                roleModifiedEmotions = registry.applyCombatModifiers(
-                    pet, petComp, source, amount, isOwnerAttacker, isPetVictim, newEmotions);
+                registry.applyCombatModifiers(
+                    pet, petComp, source, amount, isOwnerAttacker, isPetVictim, roleModifiedEmotions);
                 validateEmotionalState(roleModifiedEmotions);
             } catch (Exception e) {
                 Petsplus.LOGGER.warn("Error applying role combat modifiers for pet {}, using base emotions: {}",
                     petName, e.getMessage());
-                roleModifiedEmotions = newEmotions; // Fallback to base emotions
+                roleModifiedEmotions.copyFrom(newEmotions); // Fallback to base emotions
             }
             
             // Get current emotional state for dampening
-            Map<PetComponent.Emotion, Float> currentEmotions;
+            EmotionVector currentEmotions = ws.current;
             try {
-                currentEmotions = getCurrentEmotionalState(petComp);
+                getCurrentEmotionalState(petComp, currentEmotions);
                 validateEmotionalState(currentEmotions);
             } catch (Exception e) {
                 Petsplus.LOGGER.warn("Error getting current emotional state for pet {}, using empty state: {}",
                     petName, e.getMessage());
-                currentEmotions = new EnumMap<>(PetComponent.Emotion.class);
+                currentEmotions.clear();
             }
             
             // Apply intensity dampening to prevent whiplash
-            Map<PetComponent.Emotion, Float> dampenedEmotions;
+            EmotionVector dampenedEmotions = ws.dampened;
             try {
-                dampenedEmotions = EmotionContradictionResolver
-                    .applyIntensityDampening(roleModifiedEmotions, currentEmotions, INTENSITY_DAMPENING_FACTOR);
+                EmotionContradictionResolver
+                    .applyIntensityDampening(roleModifiedEmotions, currentEmotions, INTENSITY_DAMPENING_FACTOR, dampenedEmotions);
                 validateEmotionalState(dampenedEmotions);
             } catch (Exception e) {
                 Petsplus.LOGGER.warn("Error applying intensity dampening for pet {}, using role-modified emotions: {}",
                     petName, e.getMessage());
-                dampenedEmotions = roleModifiedEmotions;
+                dampenedEmotions.copyFrom(roleModifiedEmotions);
             }
             
             // Resolve contradictions
-            Map<PetComponent.Emotion, Float> resolvedEmotions;
+            EmotionVector resolvedEmotions = ws.resolved;
             try {
-                resolvedEmotions = EmotionContradictionResolver
-                    .resolveContradictions(dampenedEmotions);
+                EmotionContradictionResolver
+                    .resolveContradictions(dampenedEmotions, resolvedEmotions);
                 validateEmotionalState(resolvedEmotions);
             } catch (Exception e) {
                 Petsplus.LOGGER.warn("Error resolving contradictions for pet {}, using dampened emotions: {}",
                     petName, e.getMessage());
-                resolvedEmotions = dampenedEmotions;
+                resolvedEmotions.copyFrom(dampenedEmotions);
             }
             
             // Validate contextual appropriateness
-            Map<PetComponent.Emotion, Float> validatedEmotions;
+            EmotionVector validatedEmotions = ws.validated;
             try {
-                validatedEmotions = EmotionContradictionResolver
-                    .validateContextualAppropriateness(resolvedEmotions, "combat");
+                EmotionContradictionResolver
+                    .validateContextualAppropriateness(resolvedEmotions, "combat", validatedEmotions);
                 validateEmotionalState(validatedEmotions);
             } catch (Exception e) {
                 Petsplus.LOGGER.warn("Error validating contextual appropriateness for pet {}, using resolved emotions: {}",
                     petName, e.getMessage());
-                validatedEmotions = resolvedEmotions;
+                validatedEmotions.copyFrom(resolvedEmotions);
             }
             
             // Apply the processed emotions
@@ -275,7 +293,7 @@ public class EmotionProcessor {
             Petsplus.LOGGER.error("Emotion processing error for pet {}: {}", petName, e.getMessage(), e);
             // Attempt recovery by applying a minimal safe emotional state
             try {
-                Map<PetComponent.Emotion, Float> recoveryEmotions = recoverEmotionalState();
+                EmotionVector recoveryEmotions = recoverEmotionalState();
                 applyEmotions(petComp, recoveryEmotions);
                 Petsplus.LOGGER.info("Applied recovery emotional state for pet {}", petName);
             } catch (Exception recoveryException) {
@@ -283,6 +301,8 @@ public class EmotionProcessor {
             }
         } catch (Exception e) {
             Petsplus.LOGGER.error("Unexpected error processing combat damage emotions for pet {}", petName, e);
+        } finally {
+            releaseWorkspace(ws);
         }
     }
     
@@ -295,6 +315,7 @@ public class EmotionProcessor {
                                               Object context) {
         
         String petName = getPetNameForLogging(pet);
+        Workspace ws = acquireWorkspace();
         
         try {
             // Input validation
@@ -310,11 +331,11 @@ public class EmotionProcessor {
             validateAndInitializeRegistry();
             
             // Get contextually appropriate emotions with validation
-            Map<PetComponent.Emotion, Float> newEmotions;
+            EmotionVector newEmotions = ws.mapped;
             try {
-                newEmotions = EmotionContextMapper.mapSocialInteraction(
-                    pet, petComp, player, type, context);
-                newEmotions = validateEmotionMappingResult(newEmotions, "social_interaction");
+                EmotionContextMapper.mapSocialInteraction(
+                    pet, petComp, player, type, context, newEmotions);
+                validateEmotionMappingResult(newEmotions, "social_interaction");
             } catch (Exception e) {
                 throw new EmotionMappingException("Failed to map social interaction emotions", e);
             }
@@ -325,63 +346,64 @@ public class EmotionProcessor {
             }
             
             // Apply role-based emotion modifiers with error handling
-            Map<PetComponent.Emotion, Float> roleModifiedEmotions;
+            EmotionVector roleModifiedEmotions = ws.modified;
+            roleModifiedEmotions.copyFrom(newEmotions);
             try {
                 RoleEmotionRegistry registry = RoleEmotionRegistry.getInstance();
-                roleModifiedEmotions = registry.applySocialModifiers(
-                    pet, petComp, player, type, context, newEmotions);
+                registry.applySocialModifiers(
+                    pet, petComp, player, type, context, roleModifiedEmotions);
                 validateEmotionalState(roleModifiedEmotions);
             } catch (Exception e) {
                 Petsplus.LOGGER.warn("Error applying role social modifiers for pet {}, using base emotions: {}",
                     petName, e.getMessage());
-                roleModifiedEmotions = newEmotions; // Fallback to base emotions
+                roleModifiedEmotions.copyFrom(newEmotions); // Fallback to base emotions
             }
             
             // Get current emotional state for dampening
-            Map<PetComponent.Emotion, Float> currentEmotions;
+            EmotionVector currentEmotions = ws.current;
             try {
-                currentEmotions = getCurrentEmotionalState(petComp);
+                getCurrentEmotionalState(petComp, currentEmotions);
                 validateEmotionalState(currentEmotions);
             } catch (Exception e) {
                 Petsplus.LOGGER.warn("Error getting current emotional state for pet {}, using empty state: {}",
                     petName, e.getMessage());
-                currentEmotions = new EnumMap<>(PetComponent.Emotion.class);
+                currentEmotions.clear();
             }
             
             // Apply intensity dampening
-            Map<PetComponent.Emotion, Float> dampenedEmotions;
+            EmotionVector dampenedEmotions = ws.dampened;
             try {
-                dampenedEmotions = EmotionContradictionResolver
-                    .applyIntensityDampening(roleModifiedEmotions, currentEmotions, INTENSITY_DAMPENING_FACTOR);
+                EmotionContradictionResolver
+                    .applyIntensityDampening(roleModifiedEmotions, currentEmotions, INTENSITY_DAMPENING_FACTOR, dampenedEmotions);
                 validateEmotionalState(dampenedEmotions);
             } catch (Exception e) {
                 Petsplus.LOGGER.warn("Error applying intensity dampening for pet {}, using role-modified emotions: {}",
                     petName, e.getMessage());
-                dampenedEmotions = roleModifiedEmotions;
+                dampenedEmotions.copyFrom(roleModifiedEmotions);
             }
             
             // Resolve contradictions
-            Map<PetComponent.Emotion, Float> resolvedEmotions;
+            EmotionVector resolvedEmotions = ws.resolved;
             try {
-                resolvedEmotions = EmotionContradictionResolver
-                    .resolveContradictions(dampenedEmotions);
+                EmotionContradictionResolver
+                    .resolveContradictions(dampenedEmotions, resolvedEmotions);
                 validateEmotionalState(resolvedEmotions);
             } catch (Exception e) {
                 Petsplus.LOGGER.warn("Error resolving contradictions for pet {}, using dampened emotions: {}",
                     petName, e.getMessage());
-                resolvedEmotions = dampenedEmotions;
+                resolvedEmotions.copyFrom(dampenedEmotions);
             }
             
             // Validate contextual appropriateness
-            Map<PetComponent.Emotion, Float> validatedEmotions;
+            EmotionVector validatedEmotions = ws.validated;
             try {
-                validatedEmotions = EmotionContradictionResolver
-                    .validateContextualAppropriateness(resolvedEmotions, "social");
+                EmotionContradictionResolver
+                    .validateContextualAppropriateness(resolvedEmotions, "social", validatedEmotions);
                 validateEmotionalState(validatedEmotions);
             } catch (Exception e) {
                 Petsplus.LOGGER.warn("Error validating contextual appropriateness for pet {}, using resolved emotions: {}",
                     petName, e.getMessage());
-                validatedEmotions = resolvedEmotions;
+                validatedEmotions.copyFrom(resolvedEmotions);
             }
             
             // Apply the processed emotions
@@ -398,7 +420,7 @@ public class EmotionProcessor {
             Petsplus.LOGGER.error("Emotion processing error for pet {}: {}", petName, e.getMessage(), e);
             // Attempt recovery by applying a minimal safe emotional state
             try {
-                Map<PetComponent.Emotion, Float> recoveryEmotions = recoverEmotionalState();
+                EmotionVector recoveryEmotions = recoverEmotionalState();
                 applyEmotions(petComp, recoveryEmotions);
                 Petsplus.LOGGER.info("Applied recovery emotional state for pet {}", petName);
             } catch (Exception recoveryException) {
@@ -406,6 +428,8 @@ public class EmotionProcessor {
             }
         } catch (Exception e) {
             Petsplus.LOGGER.error("Unexpected error processing social interaction emotions for pet {}", petName, e);
+        } finally {
+            releaseWorkspace(ws);
         }
     }
     
@@ -417,6 +441,7 @@ public class EmotionProcessor {
                                                Object context) {
         
         String petName = getPetNameForLogging(pet);
+        Workspace ws = acquireWorkspace();
         
         try {
             // Input validation
@@ -429,11 +454,11 @@ public class EmotionProcessor {
             validateAndInitializeRegistry();
             
             // Get contextually appropriate emotions with validation
-            Map<PetComponent.Emotion, Float> newEmotions;
+            EmotionVector newEmotions = ws.mapped;
             try {
-                newEmotions = EmotionContextMapper.mapEnvironmentalEvent(
-                    pet, petComp, type, context);
-                newEmotions = validateEmotionMappingResult(newEmotions, "environmental_event");
+                EmotionContextMapper.mapEnvironmentalEvent(
+                    pet, petComp, type, context, newEmotions);
+                validateEmotionMappingResult(newEmotions, "environmental_event");
             } catch (Exception e) {
                 throw new EmotionMappingException("Failed to map environmental event emotions", e);
             }
@@ -444,63 +469,64 @@ public class EmotionProcessor {
             }
             
             // Apply role-based emotion modifiers with error handling
-            Map<PetComponent.Emotion, Float> roleModifiedEmotions;
+            EmotionVector roleModifiedEmotions = ws.modified;
+            roleModifiedEmotions.copyFrom(newEmotions);
             try {
                 RoleEmotionRegistry registry = RoleEmotionRegistry.getInstance();
-                roleModifiedEmotions = registry.applyEnvironmentalModifiers(
-                    pet, petComp, type.name(), context, newEmotions);
+                registry.applyEnvironmentalModifiers(
+                    pet, petComp, type.name(), context, roleModifiedEmotions);
                 validateEmotionalState(roleModifiedEmotions);
             } catch (Exception e) {
                 Petsplus.LOGGER.warn("Error applying role environmental modifiers for pet {}, using base emotions: {}",
                     petName, e.getMessage());
-                roleModifiedEmotions = newEmotions; // Fallback to base emotions
+                roleModifiedEmotions.copyFrom(newEmotions); // Fallback to base emotions
             }
             
             // Get current emotional state for dampening
-            Map<PetComponent.Emotion, Float> currentEmotions;
+            EmotionVector currentEmotions = ws.current;
             try {
-                currentEmotions = getCurrentEmotionalState(petComp);
+                getCurrentEmotionalState(petComp, currentEmotions);
                 validateEmotionalState(currentEmotions);
             } catch (Exception e) {
                 Petsplus.LOGGER.warn("Error getting current emotional state for pet {}, using empty state: {}",
                     petName, e.getMessage());
-                currentEmotions = new EnumMap<>(PetComponent.Emotion.class);
+                currentEmotions.clear();
             }
             
             // Apply intensity dampening
-            Map<PetComponent.Emotion, Float> dampenedEmotions;
+            EmotionVector dampenedEmotions = ws.dampened;
             try {
-                dampenedEmotions = EmotionContradictionResolver
-                    .applyIntensityDampening(roleModifiedEmotions, currentEmotions, INTENSITY_DAMPENING_FACTOR);
+                EmotionContradictionResolver
+                    .applyIntensityDampening(roleModifiedEmotions, currentEmotions, INTENSITY_DAMPENING_FACTOR, dampenedEmotions);
                 validateEmotionalState(dampenedEmotions);
             } catch (Exception e) {
                 Petsplus.LOGGER.warn("Error applying intensity dampening for pet {}, using role-modified emotions: {}",
                     petName, e.getMessage());
-                dampenedEmotions = roleModifiedEmotions;
+                dampenedEmotions.copyFrom(roleModifiedEmotions);
             }
             
             // Resolve contradictions
-            Map<PetComponent.Emotion, Float> resolvedEmotions;
+            EmotionVector resolvedEmotions = ws.resolved;
             try {
-                resolvedEmotions = EmotionContradictionResolver
-                    .resolveContradictions(dampenedEmotions);
+                EmotionContradictionResolver
+                    .resolveContradictions(dampenedEmotions, resolvedEmotions);
                 validateEmotionalState(resolvedEmotions);
             } catch (Exception e) {
                 Petsplus.LOGGER.warn("Error resolving contradictions for pet {}, using dampened emotions: {}",
                     petName, e.getMessage());
-                resolvedEmotions = dampenedEmotions;
+                resolvedEmotions.copyFrom(dampenedEmotions);
             }
             
             // Validate contextual appropriateness
-            Map<PetComponent.Emotion, Float> validatedEmotions;
+            EmotionVector validatedEmotions = ws.validated;
             try {
-                validatedEmotions = EmotionContradictionResolver
-                    .validateContextualAppropriateness(resolvedEmotions, type.name().toLowerCase());
+                EmotionContradictionResolver
+                    .validateContextualAppropriateness(resolvedEmotions, type.name().toLowerCase(), validatedEmotions);
                 validateEmotionalState(validatedEmotions);
             } catch (Exception e) {
                 Petsplus.LOGGER.warn("Error validating contextual appropriateness for pet {}, using resolved emotions: {}",
                     petName, e.getMessage());
-                validatedEmotions = resolvedEmotions;
+                validatedEmotions.copyFrom(resolvedEmotions);
             }
             
             // Apply the processed emotions
@@ -517,7 +543,7 @@ public class EmotionProcessor {
             Petsplus.LOGGER.error("Emotion processing error for pet {}: {}", petName, e.getMessage(), e);
             // Attempt recovery by applying a minimal safe emotional state
             try {
-                Map<PetComponent.Emotion, Float> recoveryEmotions = recoverEmotionalState();
+                EmotionVector recoveryEmotions = recoverEmotionalState();
                 applyEmotions(petComp, recoveryEmotions);
                 Petsplus.LOGGER.info("Applied recovery emotional state for pet {}", petName);
             } catch (Exception recoveryException) {
@@ -525,6 +551,8 @@ public class EmotionProcessor {
             }
         } catch (Exception e) {
             Petsplus.LOGGER.error("Unexpected error processing environmental event emotions for pet {}", petName, e);
+        } finally {
+            releaseWorkspace(ws);
         }
     }
     
@@ -535,6 +563,7 @@ public class EmotionProcessor {
                                                  String eventType, Object context) {
         
         String petName = getPetNameForLogging(pet);
+        Workspace ws = acquireWorkspace();
         
         try {
             // Input validation
@@ -547,47 +576,48 @@ public class EmotionProcessor {
             float intensityMultiplier = 1.8f;
             
             // Get base emotions for the event type with validation
-            Map<PetComponent.Emotion, Float> baseEmotions;
+            EmotionVector baseEmotions = ws.mapped;
             try {
-                baseEmotions = getHighIntensityEmotions(eventType, context);
+                getHighIntensityEmotions(eventType, context, baseEmotions);
                 validateEmotionalState(baseEmotions);
             } catch (Exception e) {
                 Petsplus.LOGGER.warn("Error getting high-intensity emotions for pet {}, using default emotions: {}",
                     petName, e.getMessage());
-                baseEmotions = new EnumMap<>(PetComponent.Emotion.class);
-                baseEmotions.put(PetComponent.Emotion.VIGILANT, 0.6f);
-                baseEmotions.put(PetComponent.Emotion.CURIOUS, 0.5f);
+                baseEmotions.clear();
+                baseEmotions.set(PetComponent.Emotion.VIGILANT, 0.6f);
+                baseEmotions.set(PetComponent.Emotion.CURIOUS, 0.5f);
             }
             
             // Scale intensities with validation
-            Map<PetComponent.Emotion, Float> scaledEmotions = new EnumMap<>(PetComponent.Emotion.class);
+            EmotionVector scaledEmotions = ws.modified;
+            scaledEmotions.clear();
             try {
-                baseEmotions.forEach((emotion, intensity) -> {
-                    if (emotion != null && intensity != null && intensity >= 0) {
+                for (int i = baseEmotions.next(0); i >= 0; i = baseEmotions.next(i + 1)) {
+                    float intensity = baseEmotions.valueAt(i);
+                    if (intensity >= 0) {
                         float scaledIntensity = Math.min(1.0f, intensity * intensityMultiplier);
                         if (scaledIntensity >= MIN_EMOTION_THRESHOLD) {
-                            scaledEmotions.put(emotion, scaledIntensity);
+                            scaledEmotions.setAt(i, scaledIntensity);
                         }
                     }
-                });
+                }
                 validateEmotionalState(scaledEmotions);
             } catch (Exception e) {
                 Petsplus.LOGGER.warn("Error scaling intensities for pet {}, using base emotions: {}",
                     petName, e.getMessage());
-                scaledEmotions.clear();
-                scaledEmotions.putAll(baseEmotions);
+                scaledEmotions.copyFrom(baseEmotions);
             }
             
             // Resolve contradictions (high priority emotions win)
-            Map<PetComponent.Emotion, Float> resolvedEmotions;
+            EmotionVector resolvedEmotions = ws.resolved;
             try {
-                resolvedEmotions = EmotionContradictionResolver
-                    .resolveContradictions(scaledEmotions);
+                EmotionContradictionResolver
+                    .resolveContradictions(scaledEmotions, resolvedEmotions);
                 validateEmotionalState(resolvedEmotions);
             } catch (Exception e) {
                 Petsplus.LOGGER.warn("Error resolving contradictions for pet {}, using scaled emotions: {}",
                     petName, e.getMessage());
-                resolvedEmotions = scaledEmotions;
+                resolvedEmotions.copyFrom(scaledEmotions);
             }
             
             // Apply the high-intensity emotions
@@ -604,7 +634,7 @@ public class EmotionProcessor {
             Petsplus.LOGGER.error("Emotion processing error for pet {}: {}", petName, e.getMessage(), e);
             // Attempt recovery by applying a minimal safe emotional state
             try {
-                Map<PetComponent.Emotion, Float> recoveryEmotions = recoverEmotionalState();
+                EmotionVector recoveryEmotions = recoverEmotionalState();
                 applyEmotions(petComp, recoveryEmotions);
                 Petsplus.LOGGER.info("Applied recovery emotional state for pet {}", petName);
             } catch (Exception recoveryException) {
@@ -612,91 +642,76 @@ public class EmotionProcessor {
             }
         } catch (Exception e) {
             Petsplus.LOGGER.error("Unexpected error processing high-intensity moment emotions for pet {}", petName, e);
+        } finally {
+            releaseWorkspace(ws);
         }
     }
     
     /**
-     * Applies emotions to the pet component with thread safety
+     * Applies emotions to the pet component. Callers run on the pet's server thread, which
+     * owns its mood state, so no lock is taken.
      */
-    private static void applyEmotions(PetComponent petComp,
-                                            Map<PetComponent.Emotion, Float> emotions) {
-        // Thread safety: Synchronize access to pet state to prevent race conditions
-        petStateLock.lock();
-        try {
-            for (Map.Entry<PetComponent.Emotion, Float> entry : emotions.entrySet()) {
-                PetComponent.Emotion emotion = entry.getKey();
-                float intensity = entry.getValue();
-                
-                // Only apply emotions above minimum threshold
-                if (intensity >= MIN_EMOTION_THRESHOLD) {
-                    petComp.pushEmotion(emotion, intensity);
-                }
-            }
+    private static void applyEmotions(PetComponent petComp, EmotionVector emotions) {
+        for (int i = emotions.next(0); i >= 0; i = emotions.next(i + 1)) {
+            float intensity = emotions.valueAt(i);
             
-            // Update mood after all emotions are applied
-            petComp.updateMood();
-        } finally {
-            petStateLock.unlock();
+            // Only apply emotions above minimum threshold
+            if (intensity >= MIN_EMOTION_THRESHOLD) {
+                petComp.pushEmotion(EmotionVector.emotion(i), intensity);
+            }
         }
+        
+        // Update mood after all emotions are applied
+        petComp.updateMood();
     }
     
     /**
-     * Gets the current emotional state of the pet with thread safety
+     * Writes the current emotional state of the pet into {@code out}
      */
-    private static Map<PetComponent.Emotion, Float> getCurrentEmotionalState(PetComponent petComp) {
-        // Thread safety: Synchronize access to pet state to prevent race conditions
-        petStateLock.lock();
-        try {
-            Map<PetComponent.Emotion, Float> currentEmotions = new EnumMap<>(PetComponent.Emotion.class);
-            
-            // For now, return empty map as we don't have direct access to current emotional state
-            // This could be enhanced in the future to query the mood engine
-            
-            return currentEmotions;
-        } finally {
-            petStateLock.unlock();
-        }
+    private static void getCurrentEmotionalState(PetComponent petComp, EmotionVector out) {
+        out.clear();
+        
+        // For now, leave it empty as we don't have direct access to current emotional state
+        // This could be enhanced in the future to query the mood engine
     }
     
     /**
-     * Gets base emotions for high-intensity moments
+     * Writes base emotions for high-intensity moments into {@code emotions}
      */
-    private static Map<PetComponent.Emotion, Float> getHighIntensityEmotions(String eventType, Object context) {
-        Map<PetComponent.Emotion, Float> emotions = new EnumMap<>(PetComponent.Emotion.class);
+    private static void getHighIntensityEmotions(String eventType, Object context, EmotionVector emotions) {
+        emotions.clear();
         
         switch (eventType.toLowerCase()) {
             case "boss_battle" -> {
-                emotions.put(PetComponent.Emotion.ANGST, 0.7f);
-                emotions.put(PetComponent.Emotion.GUARDIAN_VIGIL, 0.8f);
-                emotions.put(PetComponent.Emotion.STOIC, 0.6f);
-                emotions.put(PetComponent.Emotion.VIGILANT, 0.7f);
+                emotions.set(PetComponent.Emotion.ANGST, 0.7f);
+                emotions.set(PetComponent.Emotion.GUARDIAN_VIGIL, 0.8f);
+                emotions.set(PetComponent.Emotion.STOIC, 0.6f);
+                emotions.set(PetComponent.Emotion.VIGILANT, 0.7f);
             }
             case "rare_discovery" -> {
-                emotions.put(PetComponent.Emotion.CHEERFUL, 0.8f);
-                emotions.put(PetComponent.Emotion.CURIOUS, 0.7f);
-                emotions.put(PetComponent.Emotion.HOPEFUL, 0.6f);
-                emotions.put(PetComponent.Emotion.CHEERFUL, 0.5f);
+                emotions.set(PetComponent.Emotion.CHEERFUL, 0.8f);
+                emotions.set(PetComponent.Emotion.CURIOUS, 0.7f);
+                emotions.set(PetComponent.Emotion.HOPEFUL, 0.6f);
+                emotions.set(PetComponent.Emotion.CHEERFUL, 0.5f);
             }
             case "milestone_achievement" -> {
-                emotions.put(PetComponent.Emotion.PRIDE, 0.8f);
-                emotions.put(PetComponent.Emotion.HANYAUKU, 0.7f);
-                emotions.put(PetComponent.Emotion.CHEERFUL, 0.6f);
-                emotions.put(PetComponent.Emotion.UBUNTU, 0.5f);
+                emotions.set(PetComponent.Emotion.PRIDE, 0.8f);
+                emotions.set(PetComponent.Emotion.HANYAUKU, 0.7f);
+                emotions.set(PetComponent.Emotion.CHEERFUL, 0.6f);
+                emotions.set(PetComponent.Emotion.UBUNTU, 0.5f);
             }
             case "near_death_experience" -> {
-                emotions.put(PetComponent.Emotion.ANGST, 0.9f);
-                emotions.put(PetComponent.Emotion.FOREBODING, 0.8f);
-                emotions.put(PetComponent.Emotion.RELIEF, 0.7f);
-                emotions.put(PetComponent.Emotion.STOIC, 0.6f);
+                emotions.set(PetComponent.Emotion.ANGST, 0.9f);
+                emotions.set(PetComponent.Emotion.FOREBODING, 0.8f);
+                emotions.set(PetComponent.Emotion.RELIEF, 0.7f);
+                emotions.set(PetComponent.Emotion.STOIC, 0.6f);
             }
             default -> {
                 // Default high-intensity emotions
-                emotions.put(PetComponent.Emotion.VIGILANT, 0.6f);
-                emotions.put(PetComponent.Emotion.CURIOUS, 0.5f);
+                emotions.set(PetComponent.Emotion.VIGILANT, 0.6f);
+                emotions.set(PetComponent.Emotion.CURIOUS, 0.5f);
             }
         }
-        
-        return emotions;
     }
     
     /**
@@ -710,8 +725,8 @@ public class EmotionProcessor {
             validateInputParameters(pet, petComp);
             
             // Test basic emotion application
-            Map<PetComponent.Emotion, Float> testEmotions = new EnumMap<>(PetComponent.Emotion.class);
-            testEmotions.put(PetComponent.Emotion.CHEERFUL, 0.5f);
+            EmotionVector testEmotions = new EmotionVector();
+            testEmotions.set(PetComponent.Emotion.CHEERFUL, 0.5f);
             validateEmotionalState(testEmotions);
             
             // Validate and initialize registry
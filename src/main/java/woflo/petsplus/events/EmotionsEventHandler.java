@@ -8,7 +8,6 @@ import net.fabricmc.fabric.api.event.player.PlayerBlockBreakEvents;
 import net.fabricmc.fabric.api.event.player.UseEntityCallback;
 import net.fabricmc.fabric.api.event.player.UseItemCallback;
 import net.fabricmc.fabric.api.event.player.UseBlockCallback;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import net.minecraft.enchantment.Enchantment;
 import net.minecraft.enchantment.EnchantmentHelper;
@@ -86,7 +85,10 @@ import org.jetbrains.annotations.Nullable;
 import woflo.petsplus.Petsplus;
 import woflo.petsplus.api.registry.PetRoleType;
 import woflo.petsplus.api.registry.RegistryJsonHelper;
+import woflo.petsplus.state.environment.ArcaneBlockIndex;
+import woflo.petsplus.state.environment.EnvironmentFeatureIndex;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.modules.PetStateStore;
 import woflo.petsplus.state.emotions.BehaviouralEnergyProfile;
 import woflo.petsplus.config.MoodEngineConfig;
 import woflo.petsplus.mood.EmotionBaselineTracker;
@@ -129,6 +131,7 @@ import woflo.petsplus.behavior.social.SocialBehaviorRoutine;
 import woflo.petsplus.behavior.social.SocialContextSnapshot;
 import woflo.petsplus.behavior.social.WhisperRoutine;
 import woflo.petsplus.events.EmotionCueConfig.EmotionCueDefinition;
+import woflo.petsplus.state.coordination.EntityCensus;
 import woflo.petsplus.state.coordination.PetSwarmIndex;
 import woflo.petsplus.state.tracking.PlayerTickListener;
 import woflo.petsplus.state.StateManager;
@@ -169,18 +172,6 @@ public final class EmotionsEventHandler {
     private static final float ARCANE_POWER_REDUCTION = 0.4f;
     private static final float ARCANE_STREAK_REDUCTION = 0.3f;
     private static final float ARCANE_EB_BONUS = 0.5f;
-    private static final Set<Block> ARCANE_STRUCTURE_DEFAULT_BLOCKS = Set.of(
-        Blocks.ENCHANTING_TABLE,
-        Blocks.AMETHYST_BLOCK,
-        Blocks.RESPAWN_ANCHOR,
-        Blocks.BEACON,
-        Blocks.BREWING_STAND,
-        Blocks.END_PORTAL_FRAME,
-        Blocks.SCULK_CATALYST
-    );
-    private static final Object ARCANE_STRUCTURE_CACHE_LOCK = new Object();
-    private static volatile Set<Identifier> cachedArcaneStructureIds = Set.of();
-    private static volatile int cachedArcaneStructureGeneration = -1;
 
     // Mining Reverie constants (config-backed)
     private static final Object MINING_REVERIE_CONFIG_LOCK = new Object();
@@ -265,29 +256,6 @@ public final class EmotionsEventHandler {
     private static final double OWNER_LOOK_ALIGNMENT_THRESHOLD_SQ = 0.64d;
     private static final double OWNER_LOOK_ALIGNMENT_EPSILON = 1.0E-8d;
 
-    private static final Set<Block> WABI_SABI_BLOCKS = Set.of(
-        Blocks.MOSSY_COBBLESTONE,
-        Blocks.MOSSY_STONE_BRICKS,
-        Blocks.MOSSY_COBBLESTONE_STAIRS,
-        Blocks.MOSSY_COBBLESTONE_SLAB,
-        Blocks.MOSSY_COBBLESTONE_WALL,
-        Blocks.CRACKED_STONE_BRICKS,
-        Blocks.CRACKED_DEEPSLATE_BRICKS,
-        Blocks.CRACKED_DEEPSLATE_TILES,
-        Blocks.WEATHERED_COPPER,
-        Blocks.EXPOSED_COPPER,
-        Blocks.OXIDIZED_COPPER,
-        Blocks.WEATHERED_CUT_COPPER,
-        Blocks.EXPOSED_CUT_COPPER,
-        Blocks.OXIDIZED_CUT_COPPER,
-        Blocks.WEATHERED_CUT_COPPER_STAIRS,
-        Blocks.EXPOSED_CUT_COPPER_STAIRS,
-        Blocks.OXIDIZED_CUT_COPPER_STAIRS,
-        Blocks.WEATHERED_CUT_COPPER_SLAB,
-        Blocks.EXPOSED_CUT_COPPER_SLAB,
-        Blocks.OXIDIZED_CUT_COPPER_SLAB
-    );
-
     private static final Set<Item> GROSS_CONSUMABLES = Set.of(
         Items.ROTTEN_FLESH,
         Items.SPIDER_EYE,
@@ -455,21 +423,7 @@ net.minecraft.block.entity.BlockEntity blockEntity) {
     }
 
     public static boolean isArcaneAmbientContributor(@Nullable BlockState state) {
-        if (state == null) {
-            return false;
-        }
-        Block block = state.getBlock();
-        if (ARCANE_STRUCTURE_DEFAULT_BLOCKS.contains(block)) {
-            return true;
-        }
-
-        Identifier id = Registries.BLOCK.getId(block);
-        if (id == null) {
-            return false;
-        }
-
-        ensureArcaneStructureCache();
-        return cachedArcaneStructureIds.contains(id);
+        return ArcaneBlockIndex.isContributor(state);
     }
 
     public static void invalidateArcaneAmbientForBlockEntity(@Nullable BlockEntity blockEntity) {
@@ -494,47 +448,6 @@ net.minecraft.block.entity.BlockEntity blockEntity) {
         StateManager.invalidateArcaneAmbientAt(serverWorld, pos);
     }
 
-    private static void ensureArcaneStructureCache() {
-        MoodEngineConfig config = MoodEngineConfig.get();
-        int generation = config.getGeneration();
-        if (cachedArcaneStructureGeneration == generation) {
-            return;
-        }
-
-        synchronized (ARCANE_STRUCTURE_CACHE_LOCK) {
-            if (cachedArcaneStructureGeneration == generation) {
-                return;
-            }
-
-            JsonObject moods = config.getMoodsSection();
-            JsonObject arcaneSection = RegistryJsonHelper.getObject(moods, "arcaneOverflow");
-            JsonObject weights = RegistryJsonHelper.getObject(arcaneSection, "structureWeights");
-
-            Set<Identifier> resolved = new HashSet<>();
-            if (weights != null) {
-                for (Map.Entry<String, JsonElement> entry : weights.entrySet()) {
-                    JsonElement value = entry.getValue();
-                    if (value == null || !value.isJsonPrimitive()) {
-                        continue;
-                    }
-                    if (!value.getAsJsonPrimitive().isNumber()) {
-                        continue;
-                    }
-                    if (value.getAsFloat() <= 0f) {
-                        continue;
-                    }
-                    Identifier id = Identifier.tryParse(entry.getKey());
-                    if (id != null) {
-                        resolved.add(id);
-                    }
-                }
-            }
-
-            cachedArcaneStructureIds = resolved.isEmpty() ? Set.of() : Set.copyOf(resolved);
-            cachedArcaneStructureGeneration = generation;
-        }
-    }
-
     private static void ensureMiningReverieConfig() {
         MoodEngineConfig config = MoodEngineConfig.get();
         int generation = config.getGeneration();
@@ -906,6 +819,13 @@ net.minecraft.block.entity.BlockEntity blockEntity) {
         if (world == null || pos == null) {
             return 0f;
         }
+        int radius = MINING_REVERIE_ENVIRONMENT_SCAN_RADIUS;
+        int hazardMask = EnvironmentFeatureIndex.Feature.HAZARD.mask() | EnvironmentFeatureIndex.Feature.WATER.mask();
+        if (!StateManager.forWorld(world).getEnvironmentIndex().anyInBox(
+            pos.getX() - radius, pos.getY() - 1, pos.getZ() - radius,
+            pos.getX() + radius, pos.getY() + 1, pos.getZ() + radius, hazardMask)) {
+            return 0f;
+        }
         Mutable scan = new Mutable();
         float hazard = 0f;
         for (int dx = -MINING_REVERIE_ENVIRONMENT_SCAN_RADIUS; dx <= MINING_REVERIE_ENVIRONMENT_SCAN_RADIUS; dx++) {
@@ -1635,8 +1555,6 @@ private record WeatherState(boolean raining, boolean thundering) {}
         Identifier.of("petsplus", "emotion/ranged_weapons"));
     private static final TagKey<Item> SUPPORT_TOOLS = TagKey.of(RegistryKeys.ITEM,
         Identifier.of("petsplus", "emotion/support_tools"));
-    private static final TagKey<Block> NATURE_PLANTS = TagKey.of(RegistryKeys.BLOCK,
-        Identifier.of("petsplus", "emotion/environment/nature_plants"));
     private static final TagKey<Biome> DESERT_LIKE_BIOMES = TagKey.of(RegistryKeys.BIOME,
         Identifier.of("petsplus", "emotion/biomes/desert_like"));
     private static final TagKey<Biome> OCEANIC_BIOMES = TagKey.of(RegistryKeys.BIOME,
@@ -3337,8 +3255,8 @@ private record WeatherState(boolean raining, boolean thundering) {}
             PetComponent pc = PetComponent.get(pet);
             if (pc == null) continue;
             
-            long lastEnchantTime = pc.getStateData(PetComponent.StateKeys.ARCANE_LAST_ENCHANT_TICK, Long.class, 0L);
-            int enchantStreak = pc.getStateData(PetComponent.StateKeys.ARCANE_ENCHANT_STREAK, Integer.class, 0);
+            long lastEnchantTime = pc.getStateLong(PetStateStore.ARCANE_LAST_ENCHANT_TICK, 0L);
+            int enchantStreak = pc.getStateInt(PetStateStore.ARCANE_ENCHANT_STREAK, 0);
             
             // Reset streak if timeout elapsed
             if (currentTime - lastEnchantTime > ARCANE_STREAK_TIMEOUT) {
@@ -3561,30 +3479,27 @@ private record WeatherState(boolean raining, boolean thundering) {}
         }
 
         BlockPos origin = owner.getBlockPos();
-        BlockPos.Mutable mutable = new BlockPos.Mutable();
         PetNatureSelector.RedstoneNetworkTracker tracker = new PetNatureSelector.RedstoneNetworkTracker();
 
         int minY = Math.max(world.getBottomY(), origin.getY() - 2);
         int maxSurfaceY = world.getTopY(Heightmap.Type.WORLD_SURFACE, origin.getX(), origin.getZ());
         int maxY = Math.min(maxSurfaceY, origin.getY() + 3);
 
-        for (int x = origin.getX() - 6; x <= origin.getX() + 6; x++) {
-            for (int y = minY; y <= maxY; y++) {
-                for (int z = origin.getZ() - 6; z <= origin.getZ() + 6; z++) {
-                    mutable.set(x, y, z);
-                    BlockState blockState = world.getBlockState(mutable);
-                    if (blockState.isAir()) {
-                        continue;
-                    }
+        if (maxY >= minY) {
+            // Only sections that hold redstone are visited, and only their redstone blocks.
+            StateManager.forWorld(world).getEnvironmentIndex().forEachInBox(
+                origin.getX() - 6, minY, origin.getZ() - 6,
+                origin.getX() + 6, maxY, origin.getZ() + 6,
+                EnvironmentFeatureIndex.Feature.REDSTONE.mask(),
+                (mutable, blockState) -> {
                     boolean component = blockState.isIn(PetNatureSelector.NATURE_REDSTONE_COMPONENTS);
                     boolean source = blockState.isIn(PetNatureSelector.NATURE_REDSTONE_POWER_SOURCES);
-                    if (!component && !source) {
-                        continue;
+                    if (component || source) {
+                        boolean powered = isRedstoneBlockPowered(world, mutable, blockState);
+                        tracker.record(component, source, powered);
                     }
-                    boolean powered = isRedstoneBlockPowered(world, mutable, blockState);
-                    tracker.record(component, source, powered);
-                }
-            }
+                    return true;
+                });
         }
 
         boolean active = tracker.isActive();
@@ -4104,7 +4019,8 @@ private record WeatherState(boolean raining, boolean thundering) {}
     private static void addOtherPetHurtTriggers(MobEntity pet, PetComponent pc, ServerPlayerEntity owner, ServerWorld world,
                                                EmotionStimulusBus.SimpleStimulusCollector collector) {
         // Check for other hurt pets nearby
-        List<MobEntity> nearbyPets = world.getEntitiesByClass(
+        List<MobEntity> nearbyPets = EntityCensus.getEntitiesByClass(
+            world,
             MobEntity.class,
             pet.getBoundingBox().expand(16),
             entity -> entity != pet && PetComponent.get(entity) != null && entity.isAlive()
@@ -4520,15 +4436,23 @@ private record WeatherState(boolean raining, boolean thundering) {}
 
         // Flowers and nature
         boolean wabiSabiTriggered = false;
-        for (BlockPos offset : BlockPos.iterate(petPos.add(-2, -1, -2), petPos.add(2, 1, 2))) {
+        int natureMask = EnvironmentFeatureIndex.Feature.NATURE_PLANT.mask()
+            | EnvironmentFeatureIndex.Feature.WEATHERED.mask()
+            | (isNight ? EnvironmentFeatureIndex.Feature.HEARTH.mask() : 0);
+        Iterable<BlockPos> natureSweep = StateManager.forWorld(world).getEnvironmentIndex().anyInBox(
+            petPos.getX() - 2, petPos.getY() - 1, petPos.getZ() - 2,
+            petPos.getX() + 2, petPos.getY() + 1, petPos.getZ() + 2, natureMask)
+            ? BlockPos.iterate(petPos.add(-2, -1, -2), petPos.add(2, 1, 2))
+            : List.of();
+        for (BlockPos offset : natureSweep) {
             BlockState blockState = world.getBlockState(offset);
-            if (blockState.isIn(NATURE_PLANTS)) {
+            if (blockState.isIn(EnvironmentFeatureIndex.NATURE_PLANTS)) {
                 collector.pushEmotion(PetComponent.Emotion.MONO_NO_AWARE, 0.12f); // Beauty of nature
                 EmotionContextCues.sendPetCue(owner, "environment.flower." + pet.getUuidAsString(), pet,
                     "petsplus.emotion_cue.environment.flower", 400, pet.getDisplayName());
                 break;
             }
-            if (!wabiSabiTriggered && WABI_SABI_BLOCKS.contains(blockState.getBlock())) {
+            if (!wabiSabiTriggered && EnvironmentFeatureIndex.has(blockState, EnvironmentFeatureIndex.Feature.WEATHERED)) {
                 collector.pushEmotion(PetComponent.Emotion.WABI_SABI, 0.18f);
                 collector.pushEmotion(PetComponent.Emotion.SOBREMESA, 0.06f);
                 wabiSabiTriggered = true;
@@ -4544,7 +4468,7 @@ private record WeatherState(boolean raining, boolean thundering) {}
 
         boolean lonelySetting = lightLevel <= 3 && inShelter && ownerDistanceSq > 20 * 20;
         if (lonelySetting) {
-            List<MobEntity> nearbyCompanions = world.getEntitiesByClass(MobEntity.class,
+            List<MobEntity> nearbyCompanions = EntityCensus.getEntitiesByClass(world, MobEntity.class,
                 pet.getBoundingBox().expand(6.0),
                 other -> {
                     if (other == pet || !other.isAlive()) {
@@ -4576,7 +4500,7 @@ private record WeatherState(boolean raining, boolean thundering) {}
         }
 
         // Hostile mob proximity (extended awareness) - more nuanced detection with fatigue
-        var nearbyHostiles = world.getEntitiesByClass(net.minecraft.entity.mob.HostileEntity.class,
+        var nearbyHostiles = EntityCensus.getEntitiesByClass(world, net.minecraft.entity.mob.HostileEntity.class,
             pet.getBoundingBox().expand(16), monster -> true);
         if (!nearbyHostiles.isEmpty()) {
             // Scale fear based on count and variety, with clustering penalty
@@ -0,0 +1,86 @@
+package woflo.petsplus.events;
+
+import net.minecraft.util.Identifier;
+import woflo.petsplus.abilities.AbilityManager;
+import woflo.petsplus.state.coordination.PetSwarmIndex;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * Which owner damage interception stages an owner's pets can answer.
+ *
+ * Each owner's stages are compiled from the roles of their tracked pets, as
+ * {@link AbilityManager#roleListensTo} reports them, and kept until the owner's role mix
+ * ({@link PetSwarmIndex#roleSetStamp}) or the ability loadouts change. Damage handling checks a
+ * stage bit before building its payload, so owners whose pets have no interceptors pay nothing
+ * for the stages they cannot use. Only stamps are cached, never the index itself; role-set stamps
+ * are unique across every world's index, so a stamp taken from one world never validates another.
+ */
+final class OwnerDamageInterceptors {
+    static final String OWNER_INCOMING_TRIGGER = "owner_incoming_damage";
+    static final String OWNER_LETHAL_TRIGGER = "owner_lethal_damage";
+    static final String OWNER_OUTGOING_TRIGGER = "owner_outgoing_damage";
+
+    static final int OWNER_INCOMING = 1;
+    static final int OWNER_LETHAL = 1 << 1;
+    static final int OWNER_OUTGOING = 1 << 2;
+
+    private static final Map<UUID, Compiled> COMPILED = new ConcurrentHashMap<>();
+
+    private OwnerDamageInterceptors() {
+    }
+
+    /** True when at least one of {@code ownerId}'s pets can answer one of {@code stages}. */
+    static boolean any(PetSwarmIndex swarms, UUID ownerId, int stages) {
+        return (stages(swarms, ownerId) & stages) != 0;
+    }
+
+    static int stages(PetSwarmIndex swarms, UUID ownerId) {
+        return stages(swarms, ownerId, AbilityManager.loadoutGeneration(), OwnerDamageInterceptors::compileRole);
+    }
+
+    static int stagesForTesting(PetSwarmIndex swarms, UUID ownerId, int generation,
+                                ToIntFunction<Identifier> roleStages) {
+        return stages(swarms, ownerId, generation, roleStages);
+    }
+
+    private static int stages(PetSwarmIndex swarms, UUID ownerId, int generation,
+                              ToIntFunction<Identifier> roleStages) {
+        long stamp = swarms.roleSetStamp(ownerId);
+        if (stamp == 0L) {
+            return 0;
+        }
+        Compiled compiled = COMPILED.get(ownerId);
+        if (compiled != null && compiled.roleSetStamp == stamp && compiled.generation == generation) {
+            return compiled.stages;
+        }
+        int[] stages = {0};
+        swarms.forEachOwnerRole(ownerId, roleId -> stages[0] |= roleStages.applyAsInt(roleId));
+        COMPILED.put(ownerId, new Compiled(stamp, generation, stages[0]));
+        return stages[0];
+    }
+
+    static void forget(UUID ownerId) {
+        COMPILED.remove(ownerId);
+    }
+
+    private static int compileRole(Identifier roleId) {
+        int stages = 0;
+        if (AbilityManager.roleListensTo(roleId, OWNER_INCOMING_TRIGGER)) {
+            stages |= OWNER_INCOMING;
+        }
+        if (AbilityManager.roleListensTo(roleId, OWNER_LETHAL_TRIGGER)) {
+            stages |= OWNER_LETHAL;
+        }
+        if (AbilityManager.roleListensTo(roleId, OWNER_OUTGOING_TRIGGER)) {
+            stages |= OWNER_OUTGOING;
+        }
+        return stages;
+    }
+
+    private record Compiled(long roleSetStamp, int generation, int stages) {
+    }
+}
@@ -19,6 +19,7 @@ import woflo.petsplus.items.ProofOfExistence;
 import woflo.petsplus.mechanics.CursedOneResurrection;
 import woflo.petsplus.roles.enchantmentbound.EnchantmentBoundGearSwapManager;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.tracking.OwnedPetRegistry;
 
 import java.util.Locale;
 import java.util.Set;
@@ -91,6 +92,7 @@ public class PetDeathHandler {
         if (ownerUuid != null) {
             bestFriendDeath = BestFriendTracker.get(world).clearIfBestFriend(ownerUuid, pet.getUuid());
         }
+        OwnedPetRegistry.get(world).forgetPet(pet.getUuid());
 
         if (bestFriendDeath && owner instanceof PlayerEntity playerOwner) {
             HistoryManager.recordOrNot(pet, playerOwner);
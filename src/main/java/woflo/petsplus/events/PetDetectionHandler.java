@@ -1,6 +1,7 @@
 package woflo.petsplus.events;
 
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.entity.passive.FoxEntity;
 import net.minecraft.entity.passive.OcelotEntity;
@@ -23,6 +24,7 @@ import woflo.petsplus.naming.NameParser;
 import woflo.petsplus.state.PetComponent;
 import woflo.petsplus.state.StateManager;
 import woflo.petsplus.state.StateManager;
+import woflo.petsplus.state.tracking.OwnedPetRegistry;
 import woflo.petsplus.stats.nature.PetNatureSelector;
 import woflo.petsplus.stats.PetAttributeManager;
 import woflo.petsplus.stats.nature.astrology.AstrologyRegistry;
@@ -58,6 +60,10 @@ public class PetDetectionHandler {
      */
     private static void onEntityLoad(net.minecraft.entity.Entity entity, net.minecraft.server.world.ServerWorld world) {
         if (entity instanceof MobEntity mob) {
+            PetComponent component = PetComponent.get(mob);
+            if (component != null && component.getOwnerUuid() != null) {
+                OwnedPetRegistry.refresh(mob, component);
+            }
             detectAndRegisterPet(mob);
         }
     }
@@ -67,6 +73,15 @@ public class PetDetectionHandler {
      */
     private static void onEntityUnload(net.minecraft.entity.Entity entity, net.minecraft.server.world.ServerWorld world) {
         if (entity instanceof MobEntity mob) {
+            PetComponent component = PetComponent.get(mob);
+            if (component != null && !StateManager.isServerStopping()) {
+                Entity.RemovalReason reason = mob.getRemovalReason();
+                if (reason != null && reason.shouldDestroy()) {
+                    OwnedPetRegistry.get(world).forgetPet(mob.getUuid());
+                } else {
+                    OwnedPetRegistry.refresh(mob, component);
+                }
+            }
             PetComponent.remove(mob);
             clearPending(mob);
         }
@@ -62,6 +62,12 @@ public final class PlayerStateTracker implements PlayerTickListener {
         return nextTick;
     }
 
+    @Override
+    public int pollIntervalTicks() {
+        // Fall starts are only visible by polling, see nextRunTick
+        return 1;
+    }
+
     @Override
     public void run(ServerPlayerEntity player, long currentTick) {
         if (player == null || player.isRemoved()) {
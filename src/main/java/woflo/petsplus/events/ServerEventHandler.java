@@ -1,17 +1,24 @@
 package woflo.petsplus.events;
 
 import net.fabricmc.fabric.api.entity.event.v1.ServerEntityWorldChangeEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
 import net.fabricmc.fabric.api.networking.v1.PacketSender;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.minecraft.entity.ItemEntity;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayNetworkHandler;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import woflo.petsplus.Petsplus;
+import woflo.petsplus.config.PetsPlusConfig;
 import woflo.petsplus.state.StateManager;
 import woflo.petsplus.state.OwnerCombatState;
+import woflo.petsplus.state.coordination.TickBudgetGovernor;
+import woflo.petsplus.state.environment.EnvironmentFeatureIndex;
 import woflo.petsplus.state.tracking.PlayerTickDispatcher;
 import woflo.petsplus.ui.ActionBarCueManager;
 import woflo.petsplus.ui.BossBarManager;
@@ -33,11 +40,37 @@ public class ServerEventHandler {
         ServerPlayConnectionEvents.JOIN.register(ServerEventHandler::onPlayerJoin);
         ServerPlayConnectionEvents.DISCONNECT.register(ServerEventHandler::onPlayerDisconnect);
         ServerEntityWorldChangeEvents.AFTER_PLAYER_CHANGE_WORLD.register(ServerEventHandler::onPlayerWorldChange);
+        ServerTickEvents.END_SERVER_TICK.register(ServerEventHandler::onServerTickEnd);
+        CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> {
+            if (!client) {
+                EnvironmentFeatureIndex.onTagsReloaded();
+            }
+        });
+        ServerEntityEvents.ENTITY_UNLOAD.register((entity, world) -> {
+            if (entity instanceof ItemEntity item) {
+                StateManager manager = StateManager.getIfLoaded(world);
+                if (manager != null) {
+                    manager.getItemIndex().remove(item);
+                }
+            }
+        });
+    }
+
+    private static void onServerTickEnd(MinecraftServer server) {
+        PlayerTickDispatcher.dispatchOwnerLoop(server);
+        PetsPlusConfig config = PetsPlusConfig.getInstance();
+        if (config.isTickBudgetGovernorEnabled()) {
+            TickBudgetGovernor.global().endServerTick(config.getTickBudgetMillis());
+        } else {
+            TickBudgetGovernor.global().skipServerTick();
+        }
     }
     
     private static void onServerStarting(MinecraftServer server) {
         Petsplus.LOGGER.info("PetsPlus: Server starting - initializing state managers");
         StateManager.onServerStarting();
+        TickBudgetGovernor.global().reset();
+        PlayerTickDispatcher.resetSchedule();
         // State managers will be initialized lazily when worlds are accessed
         // Player tick listeners are registered once during mod init
     }
@@ -73,6 +106,8 @@ public class ServerEventHandler {
 
         // Properly shutdown all state managers to close async coordinators
         StateManager.unloadAll();
+        TickBudgetGovernor.global().reset();
+        PlayerTickDispatcher.resetSchedule();
 
         Petsplus.LOGGER.info("PetsPlus: All pet data persisted successfully");
     }
@@ -199,6 +234,7 @@ public class ServerEventHandler {
         UUID playerId = player.getUuid();
         woflo.petsplus.roles.striker.StrikerExecution.onPlayerDisconnect(playerId);
         woflo.petsplus.roles.eepyeeper.EepyEeperCore.onPlayerDisconnect(playerId);
+        CombatEventHandler.onPlayerDisconnect(playerId);
         
         OwnerCombatState.remove(player);
     }
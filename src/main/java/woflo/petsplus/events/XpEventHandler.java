@@ -60,11 +60,21 @@ public class XpEventHandler {
 
     private static void handlePlayerXpGain(ServerPlayerEntity player, int xpGained) {
         ServerWorld world = (ServerWorld) player.getEntityWorld();
-        StateManager stateManager = StateManager.forWorld(world);
+        // Orbs picked up in the same tick are summed and dispatched once at the end of the tick.
+        StateManager.forWorld(world).queueOwnerXpGain(player, xpGained);
+    }
+
+    /**
+     * Dispatch one owner's summed XP pickups for the tick as a single {@link OwnerEventType#XP_GAIN} frame.
+     */
+    public static void dispatchXpGain(StateManager stateManager, ServerPlayerEntity owner, int xpAmount, int orbCount) {
+        if (stateManager == null || owner == null || xpAmount <= 0) {
+            return;
+        }
         EnumSet<OwnerEventType> eventTypes = EnumSet.of(OwnerEventType.XP_GAIN);
         EnumMap<OwnerEventType, Object> payload = new EnumMap<>(OwnerEventType.class);
-        payload.put(OwnerEventType.XP_GAIN, new XpGainPayload(xpGained));
-        stateManager.dispatchOwnerEvents(player, eventTypes, payload);
+        payload.put(OwnerEventType.XP_GAIN, new XpGainPayload(xpAmount, orbCount));
+        stateManager.dispatchOwnerEvents(owner, eventTypes, payload);
     }
 
     public static void handleOwnerXpGainEvent(OwnerEventFrame frame) {
@@ -222,7 +232,7 @@ public class XpEventHandler {
         }
     }
 
-    private record XpGainPayload(int xpAmount) {}
+    private record XpGainPayload(int xpAmount, int orbCount) {}
 
     private record EligiblePetData(MobEntity pet, PetComponent component) {}
 
@@ -464,6 +464,8 @@ public final class OwnerAbilitySignalTracker implements PlayerTickListener {
         if (player != null && player.getEntityWorld().getServer() != null) {
             if (tick <= player.getEntityWorld().getServer().getTicks()) {
                 PlayerTickDispatcher.requestImmediateRun(player, INSTANCE);
+            } else {
+                PlayerTickDispatcher.reschedule(player, INSTANCE);
             }
         }
     }
@@ -80,6 +80,8 @@ public final class StargazeMechanic implements PlayerTickListener {
         MinecraftServer server = player.getEntityWorld().getServer();
         if (server != null && normalizedTick <= server.getTicks()) {
             PlayerTickDispatcher.requestImmediateRun(player, INSTANCE);
+        } else {
+            PlayerTickDispatcher.reschedule(player, INSTANCE);
         }
     }
 
@@ -2,37 +2,32 @@ package woflo.petsplus.mixin;
 
 import net.minecraft.entity.ItemEntity;
 import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.world.World;
+import net.minecraft.server.world.ServerWorld;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import woflo.petsplus.roles.support.SupportPotionVacuumManager;
+import woflo.petsplus.state.coordination.ItemEntityIndex;
 
 @Mixin(ItemEntity.class)
 public abstract class ItemEntityMixin {
 
     @Inject(method = "tick", at = @At("HEAD"))
-    private void petsplus$trackSupportPotions(CallbackInfo ci) {
+    private void petsplus$trackItem(CallbackInfo ci) {
         ItemEntity self = (ItemEntity) (Object) this;
-        World world = self.getEntityWorld();
-        if (world.isClient()) {
+        if (!(self.getEntityWorld() instanceof ServerWorld world)) {
             return;
         }
-        SupportPotionVacuumManager.getInstance().trackOrUpdate(self);
+        ItemEntityIndex.forWorld(world).update(self);
     }
 
     @Inject(method = "onPlayerCollision", at = @At("TAIL"))
-    private void petsplus$onPotionPicked(PlayerEntity player, CallbackInfo ci) {
+    private void petsplus$onItemPicked(PlayerEntity player, CallbackInfo ci) {
         ItemEntity self = (ItemEntity) (Object) this;
-        World world = self.getEntityWorld();
-        if (world.isClient()) {
+        if (!(self.getEntityWorld() instanceof ServerWorld world)) {
             return;
         }
-        SupportPotionVacuumManager.getInstance().remove(self);
+        ItemEntityIndex.forWorld(world).update(self);
     }
 
 }
-
-
-
@@ -31,7 +31,7 @@ public abstract class LivingEntityHealMixin {
             return;
         }
         
-        PetComponent petComponent = PetComponent.getOrCreate(mob);
+        PetComponent petComponent = PetComponent.getIfPet(mob);
         if (petComponent == null) {
             return;
         }
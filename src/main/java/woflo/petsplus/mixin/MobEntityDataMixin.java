@@ -25,7 +25,14 @@ public class MobEntityDataMixin {
     @Inject(method = "writeCustomData", at = @At("HEAD"))
     private void savePetsPlusData(WriteView view, CallbackInfo ci) {
         MobEntity entity = (MobEntity) (Object) this;
-        PetComponent component = PetComponent.getOrCreateForPersistence(entity);
+        // Untamed vanilla mobs never carry Pets+ data; avoid building a component just to save it
+        PetComponent component = PetComponent.get(entity);
+        if (component == null) {
+            if (!PetComponent.isPromotionCandidate(entity)) {
+                return;
+            }
+            component = PetComponent.getOrCreateForPersistence(entity);
+        }
 
         WriteView petsPlusData = view.get("PetsPlusData");
         if (petsPlusData != null) {
@@ -45,25 +52,34 @@ public class MobEntityDataMixin {
     private void loadPetsPlusData(ReadView view, CallbackInfo ci) {
         MobEntity entity = (MobEntity) (Object) this;
 
+        Identifier storedRole = view.getOptionalReadView("PetsPlusData")
+            .flatMap(data -> data.getOptionalString("role"))
+            .map(Identifier::tryParse)
+            .orElse(null);
+
+        // Only promote to a full component when the saved data or ownership says this is a pet.
+        // The remembered role covers the shoulder perch path, which drops the stored role.
+        Identifier rememberedRole = null;
+        if (storedRole == null) {
+            rememberedRole = woflo.petsplus.state.PetRoleMemory.recall(entity.getUuid());
+            if (rememberedRole == null
+                && PetComponent.get(entity) == null
+                && !PetComponent.isPromotionCandidate(entity)) {
+                return;
+            }
+        }
+
         PetComponent component = PetComponent.getOrCreateForPersistence(entity);
         component.loadFromEntity();
 
-        view.getOptionalReadView("PetsPlusData").ifPresent(data -> {
-            data.getOptionalString("role").ifPresent(roleString -> {
-                Identifier parsed = Identifier.tryParse(roleString);
-                if (parsed != null) {
-                    component.setRoleId(parsed);
-                }
-            });
-        });
+        if (storedRole != null) {
+            component.setRoleId(storedRole);
+        }
 
         // If the component did not carry an assigned role (e.g., due to shoulder
         // perch serialization path), restore the last remembered role for this UUID.
-        if (component.getAssignedRoleId() == null) {
-            var remembered = woflo.petsplus.state.PetRoleMemory.recall(entity.getUuid());
-            if (remembered != null) {
-                component.setRoleId(remembered);
-            }
+        if (component.getAssignedRoleId() == null && rememberedRole != null) {
+            component.setRoleId(rememberedRole);
         }
 
         boolean sittingOffsetApplied = component.getStateData("petsplus:sitting_offset", Boolean.class, false);
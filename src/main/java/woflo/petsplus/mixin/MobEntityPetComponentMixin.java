@@ -0,0 +1,28 @@
+package woflo.petsplus.mixin;
+
+import net.minecraft.entity.mob.MobEntity;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.PetComponentHolder;
+
+/**
+ * Attaches the Pets+ component directly to the mob so per-tick lookups skip hashing and locking.
+ */
+@Mixin(MobEntity.class)
+public abstract class MobEntityPetComponentMixin implements PetComponentHolder {
+
+    @Unique
+    private volatile @Nullable PetComponent petsplus$petComponent;
+
+    @Override
+    public @Nullable PetComponent petsplus$getPetComponent() {
+        return this.petsplus$petComponent;
+    }
+
+    @Override
+    public void petsplus$setPetComponent(@Nullable PetComponent component) {
+        this.petsplus$petComponent = component;
+    }
+}
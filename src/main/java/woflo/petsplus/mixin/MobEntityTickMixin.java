@@ -15,6 +15,7 @@ import woflo.petsplus.ai.SpeedModifierHelper;
 import woflo.petsplus.effects.MagnetizeDropsAndXpEffect;
 import woflo.petsplus.mechanics.CursedOneResurrection;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.coordination.TickBudgetGovernor;
 import woflo.petsplus.state.emotions.PetMoodEngine;
 import woflo.petsplus.ui.AfterimageManager;
 
@@ -56,17 +57,19 @@ public abstract class MobEntityTickMixin {
     private void petsplus(CallbackInfo ci) {
         MobEntity mob = (MobEntity) (Object) this;
         
-        // Vanilla mobs get instant exit (zero overhead)
-        PetComponent petComponent = PetComponent.getOrCreate(mob);
+        // Vanilla mobs get instant exit: untamed mobs never allocate a component here
+        PetComponent petComponent = PetComponent.getIfPet(mob);
         if (petComponent == null) return;
         
         World world = mob.getEntityWorld();
         
         // Server-side special effects
         if (world instanceof ServerWorld serverWorld) {
+            long workStart = System.nanoTime();
             AfterimageManager.handleMobTick(mob, serverWorld);
             CursedOneResurrection.handleMobTick(mob, serverWorld);
             MagnetizeDropsAndXpEffect.handleMobTick(mob, serverWorld);
+            TickBudgetGovernor.global().recordWork(System.nanoTime() - workStart);
         }
 
         // No mood engine = no momentum to update
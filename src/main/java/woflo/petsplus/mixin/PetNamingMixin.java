@@ -15,6 +15,7 @@ import woflo.petsplus.naming.AttributeRegistry;
 import woflo.petsplus.naming.NameParser;
 import woflo.petsplus.naming.NamingAPI;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.tracking.OwnedPetRegistry;
 
 import java.util.List;
 
@@ -79,5 +80,8 @@ public class PetNamingMixin {
             Petsplus.LOGGER.error("Error processing name attributes for pet {}: {}",
                 mob.getUuid(), e.getMessage(), e);
         }
+
+        // Keep the owner's registry entry showing the new name
+        OwnedPetRegistry.refresh(mob, component);
     }
 }
@@ -7,6 +7,7 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import woflo.petsplus.state.StateManager;
+import woflo.petsplus.state.coordination.TickBudgetGovernor;
 
 /**
  * Runs lightweight, player-local upkeep without needing global world tick scans.
@@ -21,7 +22,9 @@ public abstract class ServerPlayerEntityTickMixin {
         if (!StateManager.isCreationAllowed(world)) {
             return;
         }
+        long start = System.nanoTime();
         StateManager.forWorld(world).handleOwnerTick(player);
+        TickBudgetGovernor.global().recordWork(System.nanoTime() - start);
     }
 }
 
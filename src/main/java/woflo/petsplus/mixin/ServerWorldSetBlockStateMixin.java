@@ -9,13 +9,16 @@ import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
-import woflo.petsplus.events.EmotionsEventHandler;
 import woflo.petsplus.state.StateManager;
+import woflo.petsplus.state.environment.ArcaneBlockIndex;
 
 /**
  * Hooks world block mutations so arcane ambient caches invalidate even when
  * blocks change outside the standard player interaction paths (e.g. pistons,
  * explosions, block updates).
+ *
+ * The previous state is only read in chunks that may hold an arcane contributor,
+ * so ordinary block churn costs a chunk summary check and one table lookup.
  */
 @Mixin(World.class)
 public abstract class ServerWorldSetBlockStateMixin {
@@ -29,7 +32,8 @@ public abstract class ServerWorldSetBlockStateMixin {
     )
     private void petsplus$capturePreviousState(BlockPos pos, BlockState state, int flags, int maxUpdateDepth,
                                                CallbackInfoReturnable<Boolean> cir) {
-        if (!((Object) this instanceof ServerWorld serverWorld)) {
+        if (!((Object) this instanceof ServerWorld serverWorld)
+            || !ArcaneBlockIndex.chunkMayContain(serverWorld.getWorldChunk(pos))) {
             PETSPLUS$PREVIOUS_ARCANE_STATE.remove();
             return;
         }
@@ -48,9 +52,8 @@ public abstract class ServerWorldSetBlockStateMixin {
                 return;
             }
 
-            BlockState previous = PETSPLUS$PREVIOUS_ARCANE_STATE.get();
-            if (!EmotionsEventHandler.isArcaneAmbientContributor(previous)
-                && !EmotionsEventHandler.isArcaneAmbientContributor(newState)) {
+            boolean placedContributor = ArcaneBlockIndex.isContributor(newState);
+            if (!placedContributor && !ArcaneBlockIndex.isContributor(PETSPLUS$PREVIOUS_ARCANE_STATE.get())) {
                 return;
             }
 
@@ -58,6 +61,9 @@ public abstract class ServerWorldSetBlockStateMixin {
                 return;
             }
 
+            if (placedContributor) {
+                ArcaneBlockIndex.markContains(serverWorld.getWorldChunk(pos));
+            }
             StateManager.invalidateArcaneAmbientAt(serverWorld, pos);
         } finally {
             PETSPLUS$PREVIOUS_ARCANE_STATE.remove();
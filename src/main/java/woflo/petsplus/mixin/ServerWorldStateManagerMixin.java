@@ -0,0 +1,28 @@
+package woflo.petsplus.mixin;
+
+import net.minecraft.server.world.ServerWorld;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import woflo.petsplus.state.StateManager;
+import woflo.petsplus.state.StateManagerHolder;
+
+/**
+ * Attaches the world's {@link StateManager} to the world itself so lookups avoid the global registry lock.
+ */
+@Mixin(ServerWorld.class)
+public abstract class ServerWorldStateManagerMixin implements StateManagerHolder {
+
+    @Unique
+    private volatile @Nullable StateManager petsplus$stateManager;
+
+    @Override
+    public @Nullable StateManager petsplus$getStateManager() {
+        return this.petsplus$stateManager;
+    }
+
+    @Override
+    public void petsplus$setStateManager(@Nullable StateManager manager) {
+        this.petsplus$stateManager = manager;
+    }
+}
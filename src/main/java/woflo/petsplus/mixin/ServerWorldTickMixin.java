@@ -6,6 +6,7 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import woflo.petsplus.state.StateManager;
+import woflo.petsplus.state.coordination.TickBudgetGovernor;
 import woflo.petsplus.ai.group.GroupTuning;
 import woflo.petsplus.ai.group.GroupCoordinator;
 import woflo.petsplus.state.processing.AsyncProcessingTelemetry;
@@ -40,8 +41,10 @@ public abstract class ServerWorldTickMixin {
         if (manager == null) {
             return;
         }
+        long workStart = System.nanoTime();
         manager.handleWorldPerceptionTick();
         manager.processScheduledPetTasks(world.getTime());
+        TickBudgetGovernor.global().recordWork(System.nanoTime() - workStart);
 
         // Periodic cleanup of group invites; runs once per world (per tick hook) at interval
         if ((world.getTime() % GroupTuning.CLEANUP_PERIOD_TICKS) == 0L) {
@@ -0,0 +1,65 @@
+package woflo.petsplus.mixin;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.WorldChunk;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import woflo.petsplus.state.environment.ArcaneChunkSummary;
+import woflo.petsplus.state.environment.ChunkFeatureCounts;
+import woflo.petsplus.state.environment.EnvironmentChunkFeatures;
+import woflo.petsplus.state.environment.EnvironmentFeatureIndex;
+
+/**
+ * Stores the arcane contributor summary used by the block-change hook and the environment
+ * feature counts on each loaded chunk. Feature counts are kept current as blocks change; the
+ * chunk hands back the replaced state, so no extra block read is needed.
+ */
+@Mixin(WorldChunk.class)
+public abstract class WorldChunkArcaneSummaryMixin implements ArcaneChunkSummary, EnvironmentChunkFeatures {
+
+    @Unique
+    private int petsplus$arcaneSummary;
+
+    @Unique
+    @Nullable
+    private ChunkFeatureCounts petsplus$environmentFeatures;
+
+    @Override
+    public int petsplus$getArcaneSummary() {
+        return petsplus$arcaneSummary;
+    }
+
+    @Override
+    public void petsplus$setArcaneSummary(int summary) {
+        this.petsplus$arcaneSummary = summary;
+    }
+
+    @Override
+    @Nullable
+    public ChunkFeatureCounts petsplus$getEnvironmentFeatures() {
+        return petsplus$environmentFeatures;
+    }
+
+    @Override
+    public void petsplus$setEnvironmentFeatures(ChunkFeatureCounts counts) {
+        this.petsplus$environmentFeatures = counts;
+    }
+
+    @Inject(method = "setBlockState", at = @At("RETURN"))
+    private void petsplus$updateEnvironmentFeatures(BlockPos pos, BlockState state, int flags,
+                                                    CallbackInfoReturnable<BlockState> cir) {
+        if (petsplus$environmentFeatures == null) {
+            return;
+        }
+        BlockState previous = cir.getReturnValue();
+        if (previous == null) {
+            return;
+        }
+        EnvironmentFeatureIndex.onBlockChanged((WorldChunk) (Object) this, pos, previous, state);
+    }
+}
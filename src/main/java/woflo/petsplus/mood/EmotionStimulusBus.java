@@ -14,7 +14,6 @@ import java.util.ArrayList;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
@@ -66,30 +65,27 @@ public final class EmotionStimulusBus {
         return COALESCE_WINDOW_TICKS;
     }
 
-    /** Placeholder hook for coalescing policies. Currently never coalesces. */
-    private static final Object COALESCE_LOCK = new Object();
-    private static final Map<Long, Map<Integer, Integer>> COALESCE_WINDOWS = new HashMap<>();
+    /** Open coalescing windows, keyed by pet id and stimulus key hash. */
+    private static final StimulusCoalescer COALESCE_WINDOWS = new StimulusCoalescer(COALESCE_WINDOW_TICKS);
 
     public static boolean shouldCoalesce(long petId, int stimulusKey, int nowTick) {
         if (COALESCE_WINDOW_TICKS <= 0 || stimulusKey == 0) {
             return false;
         }
-        synchronized (COALESCE_LOCK) {
-            Map<Integer, Integer> window = COALESCE_WINDOWS.computeIfAbsent(petId, ignored -> new HashMap<>());
-            Integer previousTick = window.get(stimulusKey);
-            if (previousTick != null && nowTick - previousTick <= COALESCE_WINDOW_TICKS) {
-                AsyncProcessingTelemetry.STIMULI_COALESCED.incrementAndGet();
-                recordCoalesce(petId, stimulusKey, previousTick, nowTick, 0f);
-                return true;
-            }
-            window.put(stimulusKey, nowTick);
-            int expiryThreshold = COALESCE_WINDOW_TICKS * 2;
-            window.entrySet().removeIf(entry -> nowTick - entry.getValue() > expiryThreshold);
-            if (window.isEmpty()) {
-                COALESCE_WINDOWS.remove(petId);
-            }
+        // Shared counters are only touched while telemetry is on, so the striped table stays contention-free
+        boolean counting = AsyncProcessingTelemetry.isEnabled();
+        if (counting) {
+            AsyncProcessingTelemetry.STIMULI_COALESCE_LOOKUPS.incrementAndGet();
+        }
+        long previousTick = COALESCE_WINDOWS.tryCoalesce(petId, stimulusKey, nowTick);
+        if (previousTick == StimulusCoalescer.MISS) {
             return false;
         }
+        if (counting) {
+            AsyncProcessingTelemetry.STIMULI_COALESCED.incrementAndGet();
+        }
+        recordCoalesce(petId, stimulusKey, (int) previousTick, nowTick, 0f);
+        return true;
     }
 
     private static int keyHash(@Nullable Identifier key) {
@@ -547,9 +543,7 @@ public final class EmotionStimulusBus {
     }
 
     private static void clearCoalesceWindow(long petId) {
-        synchronized (COALESCE_LOCK) {
-            COALESCE_WINDOWS.remove(petId);
-        }
+        COALESCE_WINDOWS.clear(petId);
     }
 
     private void recycleWork(StimulusWork work) {
@@ -0,0 +1,218 @@
+package woflo.petsplus.mood;
+
+import woflo.petsplus.state.processing.AsyncProcessingTelemetry;
+
+/**
+ * Lock-striped, open-addressed table of stimulus coalescing windows.
+ *
+ * Each entry maps a (pet id, stimulus key) pair to the tick its window opened. Pets are spread
+ * across independent stripes so concurrent producers in different worlds rarely meet on the
+ * same monitor, and every stripe stores its entries in parallel primitive arrays with linear
+ * probing, so a lookup boxes nothing. Stale windows are swept as the stripe fills, and a stripe
+ * never grows past {@link #MAX_STRIPE_CAPACITY}; once it is full of live windows the oldest
+ * state is simply dropped, which only costs a missed coalesce.
+ */
+final class StimulusCoalescer {
+    static final int STRIPE_COUNT = 16;
+    static final int INITIAL_STRIPE_CAPACITY = 16;
+    static final int MAX_STRIPE_CAPACITY = 1024;
+
+    /** Returned by {@link #tryCoalesce} when the stimulus opened a new window. */
+    static final long MISS = Long.MIN_VALUE;
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+    private final int windowTicks;
+
+    StimulusCoalescer(int windowTicks) {
+        this.windowTicks = windowTicks;
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Returns the tick the open window started at when {@code stimulusKey} was already seen for
+     * {@code petId} within the last {@code windowTicks}; otherwise opens (or re-opens) the window
+     * at {@code nowTick} and returns {@link #MISS}. {@code stimulusKey} must be non-zero.
+     */
+    long tryCoalesce(long petId, int stimulusKey, int nowTick) {
+        Stripe stripe = stripeFor(petId);
+        synchronized (stripe) {
+            return stripe.tryCoalesce(petId, stimulusKey, nowTick, windowTicks);
+        }
+    }
+
+    /** Forget every window held for {@code petId}. */
+    void clear(long petId) {
+        Stripe stripe = stripeFor(petId);
+        synchronized (stripe) {
+            stripe.removePet(petId);
+        }
+    }
+
+    void clearAll() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.reset();
+            }
+        }
+    }
+
+    int size() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                total += stripe.size;
+            }
+        }
+        return total;
+    }
+
+    private Stripe stripeFor(long petId) {
+        return stripes[(int) (mix(petId) >>> 60) & (STRIPE_COUNT - 1)];
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static int slotHash(long petId, int stimulusKey) {
+        return (int) mix(petId * 31L + stimulusKey);
+    }
+
+    private static final class Stripe {
+        private long[] pets = new long[INITIAL_STRIPE_CAPACITY];
+        // 0 marks an empty slot; the bus never stores stimulus key 0.
+        private int[] keys = new int[INITIAL_STRIPE_CAPACITY];
+        private int[] ticks = new int[INITIAL_STRIPE_CAPACITY];
+        private int size;
+
+        long tryCoalesce(long petId, int stimulusKey, int nowTick, int windowTicks) {
+            int mask = keys.length - 1;
+            int slot = slotHash(petId, stimulusKey) & mask;
+            while (keys[slot] != 0) {
+                if (keys[slot] == stimulusKey && pets[slot] == petId) {
+                    int previous = ticks[slot];
+                    if (nowTick - previous <= windowTicks) {
+                        return previous;
+                    }
+                    ticks[slot] = nowTick;
+                    return MISS;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            if ((size + 1) * 4 > keys.length * 3) {
+                makeRoom(nowTick, windowTicks);
+                mask = keys.length - 1;
+                slot = slotHash(petId, stimulusKey) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+            }
+            pets[slot] = petId;
+            keys[slot] = stimulusKey;
+            ticks[slot] = nowTick;
+            size++;
+            return MISS;
+        }
+
+        private void makeRoom(int nowTick, int windowTicks) {
+            // First drop windows that can no longer coalesce anything.
+            rehash(keys.length, nowTick, windowTicks * 2);
+            if ((size + 1) * 4 <= keys.length * 3) {
+                return;
+            }
+            if (keys.length < MAX_STRIPE_CAPACITY) {
+                rehash(keys.length * 2, nowTick, Integer.MAX_VALUE);
+                return;
+            }
+            // At the memory bound: keep only windows that are still open.
+            rehash(keys.length, nowTick, windowTicks);
+            if ((size + 1) * 4 > keys.length * 3) {
+                AsyncProcessingTelemetry.STIMULI_COALESCE_EVICTIONS.addAndGet(size);
+                reset(keys.length);
+            }
+        }
+
+        private void rehash(int capacity, int nowTick, int maxAge) {
+            long[] oldPets = pets;
+            int[] oldKeys = keys;
+            int[] oldTicks = ticks;
+            pets = new long[capacity];
+            keys = new int[capacity];
+            ticks = new int[capacity];
+            int mask = capacity - 1;
+            int kept = 0;
+            int expired = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                int key = oldKeys[i];
+                if (key == 0) {
+                    continue;
+                }
+                if (maxAge != Integer.MAX_VALUE && nowTick - oldTicks[i] > maxAge) {
+                    expired++;
+                    continue;
+                }
+                int slot = slotHash(oldPets[i], key) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                pets[slot] = oldPets[i];
+                keys[slot] = key;
+                ticks[slot] = oldTicks[i];
+                kept++;
+            }
+            size = kept;
+            if (expired > 0) {
+                AsyncProcessingTelemetry.STIMULI_COALESCE_EVICTIONS.addAndGet(expired);
+            }
+        }
+
+        void removePet(long petId) {
+            if (size == 0) {
+                return;
+            }
+            for (int slot = 0; slot < keys.length; slot++) {
+                while (keys[slot] != 0 && pets[slot] == petId) {
+                    removeAt(slot);
+                }
+            }
+        }
+
+        /** Backward-shift deletion keeps probe chains intact without tombstones. */
+        private void removeAt(int slot) {
+            int mask = keys.length - 1;
+            int hole = slot;
+            int next = (hole + 1) & mask;
+            while (keys[next] != 0) {
+                int ideal = slotHash(pets[next], keys[next]) & mask;
+                if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                    pets[hole] = pets[next];
+                    keys[hole] = keys[next];
+                    ticks[hole] = ticks[next];
+                    hole = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[hole] = 0;
+            size--;
+        }
+
+        void reset() {
+            reset(INITIAL_STRIPE_CAPACITY);
+        }
+
+        private void reset(int capacity) {
+            pets = new long[capacity];
+            keys = new int[capacity];
+            ticks = new int[capacity];
+            size = 0;
+        }
+    }
+}
@@ -13,6 +13,8 @@ import woflo.petsplus.mood.EmotionStimulusBus;
 import woflo.petsplus.mood.MoodService;
 import woflo.petsplus.state.OwnerCombatState;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.modules.PetStateStore;
+import woflo.petsplus.state.coordination.EntityCensus;
 
 /**
  * Threat/Combat provider:
@@ -55,7 +57,7 @@ public class CombatThreatProvider implements EmotionProvider, ReactiveEmotionPro
         float resilience = comp.computeBondResilience(time);
 
         Box box = pet.getBoundingBox().expand(8.0);
-        var hostiles = world.getEntitiesByClass(LivingEntity.class, box, e ->
+        var hostiles = EntityCensus.getEntitiesByClass(world, LivingEntity.class, box, e ->
             e.getType().isIn(EntityTypeTags.RAIDERS)
                 || e.getType().isIn(EntityTypeTags.SKELETONS)
                 || e.getType().isIn(EntityTypeTags.ZOMBIES));
@@ -66,14 +68,14 @@ public class CombatThreatProvider implements EmotionProvider, ReactiveEmotionPro
         // Enhanced threat assessment
         ThreatAssessment threat = assessThreat(hostiles, pet);
 
-        long lastThreatTick = comp.getStateData(PetComponent.StateKeys.THREAT_LAST_TICK, Long.class, Long.MIN_VALUE);
-        int safeStreak = comp.getStateData(PetComponent.StateKeys.THREAT_SAFE_STREAK, Integer.class, 0);
-        int sensitizedStreak = comp.getStateData(PetComponent.StateKeys.THREAT_SENSITIZED_STREAK, Integer.class, 0);
-        long lastDangerTick = comp.getStateData(PetComponent.StateKeys.THREAT_LAST_DANGER, Long.class, Long.MIN_VALUE);
+        long lastThreatTick = comp.getStateLong(PetStateStore.THREAT_LAST_TICK, Long.MIN_VALUE);
+        int safeStreak = comp.getStateInt(PetStateStore.THREAT_SAFE_STREAK, 0);
+        int sensitizedStreak = comp.getStateInt(PetStateStore.THREAT_SENSITIZED_STREAK, 0);
+        long lastDangerTick = comp.getStateLong(PetStateStore.THREAT_LAST_DANGER, Long.MIN_VALUE);
         boolean lastEncounterDanger = lastThreatTick != Long.MIN_VALUE
                 && lastDangerTick != Long.MIN_VALUE
                 && lastDangerTick >= lastThreatTick;
-        long lastRecoveryTick = comp.getStateData(PetComponent.StateKeys.THREAT_LAST_RECOVERY_TICK, Long.class, 0L);
+        long lastRecoveryTick = comp.getStateLong(PetStateStore.THREAT_LAST_RECOVERY_TICK, 0L);
 
         var owner = comp.getOwner();
         OwnerCombatState ocs = owner != null ? OwnerCombatState.get(owner) : null;
@@ -119,11 +121,11 @@ public class CombatThreatProvider implements EmotionProvider, ReactiveEmotionPro
                 api.pushEmotion(pet, PetComponent.Emotion.RELIEF, bleed * 0.6f);
             }
 
-            comp.setStateData(PetComponent.StateKeys.THREAT_SAFE_STREAK, safeStreak);
-            comp.setStateData(PetComponent.StateKeys.THREAT_SENSITIZED_STREAK, sensitizedStreak);
-            comp.setStateData(PetComponent.StateKeys.THREAT_LAST_TICK, time);
+            comp.setStateInt(PetStateStore.THREAT_SAFE_STREAK, safeStreak);
+            comp.setStateInt(PetStateStore.THREAT_SENSITIZED_STREAK, sensitizedStreak);
+            comp.setStateLong(PetStateStore.THREAT_LAST_TICK, time);
             if (danger) {
-                comp.setStateData(PetComponent.StateKeys.THREAT_LAST_DANGER, time);
+                comp.setStateLong(PetStateStore.THREAT_LAST_DANGER, time);
             }
         } else {
             if (lastThreatTick != Long.MIN_VALUE) {
@@ -132,17 +134,17 @@ public class CombatThreatProvider implements EmotionProvider, ReactiveEmotionPro
                     float relief = (0.02f + 0.01f * safeStreak) * resilience;
                     api.pushEmotion(pet, PetComponent.Emotion.RELIEF, relief);
                     api.pushEmotion(pet, PetComponent.Emotion.LAGOM, relief * 0.5f);
-                    comp.setStateData(PetComponent.StateKeys.THREAT_LAST_RECOVERY_TICK, time);
+                    comp.setStateLong(PetStateStore.THREAT_LAST_RECOVERY_TICK, time);
                 }
 
                 if (sinceLast > MEMORY_FADE_TICKS) {
                     if (safeStreak > 0) {
                         safeStreak = Math.max(0, safeStreak - 1);
-                        comp.setStateData(PetComponent.StateKeys.THREAT_SAFE_STREAK, safeStreak);
+                        comp.setStateInt(PetStateStore.THREAT_SAFE_STREAK, safeStreak);
                     }
                     if (sensitizedStreak > 0) {
                         sensitizedStreak = Math.max(0, sensitizedStreak - 1);
-                        comp.setStateData(PetComponent.StateKeys.THREAT_SENSITIZED_STREAK, sensitizedStreak);
+                        comp.setStateInt(PetStateStore.THREAT_SENSITIZED_STREAK, sensitizedStreak);
                     }
                     
                     // CATEGORY 2: Enhanced Combat Recovery - Post-combat emotional recovery phases
@@ -153,8 +155,8 @@ public class CombatThreatProvider implements EmotionProvider, ReactiveEmotionPro
                     }
                     
                     if (sinceLast > MEMORY_FADE_TICKS * 2L) {
-                        comp.setStateData(PetComponent.StateKeys.THREAT_LAST_TICK, Long.MIN_VALUE);
-                        comp.setStateData(PetComponent.StateKeys.THREAT_LAST_DANGER, Long.MIN_VALUE);
+                        comp.setStateLong(PetStateStore.THREAT_LAST_TICK, Long.MIN_VALUE);
+                        comp.setStateLong(PetStateStore.THREAT_LAST_DANGER, Long.MIN_VALUE);
                     }
                 }
             }
@@ -11,6 +11,9 @@ import woflo.petsplus.api.mood.ReactiveEmotionProvider;
 import woflo.petsplus.mood.EmotionStimulusBus;
 import woflo.petsplus.mood.MoodService;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.modules.PetStateStore;
+import woflo.petsplus.state.StateManager;
+import woflo.petsplus.state.environment.EnvironmentFeatureIndex;
 
 /**
  * Lightweight comfort/safety provider:
@@ -83,15 +86,21 @@ public class EnvironmentComfortProvider implements EmotionProvider, ReactiveEmot
 
         // Nearby cozy blocks: campfire, bed
         BlockPos base = pet.getBlockPos();
-        for (BlockPos off : new BlockPos[]{base, base.down(), base.up(), base.north(), base.south(), base.east(), base.west()}) {
-            var state = world.getBlockState(off);
-            if (state.isOf(Blocks.CAMPFIRE) || state.isOf(Blocks.SOUL_CAMPFIRE)) {
-                api.pushEmotion(pet, PetComponent.Emotion.SOBREMESA, 0.04f);
-                break;
-            }
-            if (state.getBlock().asItem() == Items.RED_BED || state.getBlock().asItem() == Items.WHITE_BED) {
-                api.pushEmotion(pet, PetComponent.Emotion.SOBREMESA, 0.03f);
-                break;
+        boolean hearthNearby = StateManager.forWorld(world).getEnvironmentIndex().anyInBox(
+            base.getX() - 1, base.getY() - 1, base.getZ() - 1,
+            base.getX() + 1, base.getY() + 1, base.getZ() + 1,
+            EnvironmentFeatureIndex.Feature.HEARTH.mask());
+        if (hearthNearby) {
+            for (BlockPos off : new BlockPos[]{base, base.down(), base.up(), base.north(), base.south(), base.east(), base.west()}) {
+                var state = world.getBlockState(off);
+                if (state.isOf(Blocks.CAMPFIRE) || state.isOf(Blocks.SOUL_CAMPFIRE)) {
+                    api.pushEmotion(pet, PetComponent.Emotion.SOBREMESA, 0.04f);
+                    break;
+                }
+                if (state.getBlock().asItem() == Items.RED_BED || state.getBlock().asItem() == Items.WHITE_BED) {
+                    api.pushEmotion(pet, PetComponent.Emotion.SOBREMESA, 0.03f);
+                    break;
+                }
             }
         }
 
@@ -113,7 +122,7 @@ public class EnvironmentComfortProvider implements EmotionProvider, ReactiveEmot
             return;
         }
 
-        long lastTick = comp.getStateData(PetComponent.StateKeys.LAST_SOCIAL_BUFFER_TICK, Long.class, 0L);
+        long lastTick = comp.getStateLong(PetStateStore.LAST_SOCIAL_BUFFER_TICK, 0L);
         if (now - lastTick < 60) {
             return; // leave a short window so we do not over-dampen
         }
@@ -128,7 +137,7 @@ public class EnvironmentComfortProvider implements EmotionProvider, ReactiveEmot
         api.pushEmotion(pet, PetComponent.Emotion.RELIEF, reassurance);
         api.pushEmotion(pet, PetComponent.Emotion.UBUNTU, reassurance * 0.6f);
 
-        comp.setStateData(PetComponent.StateKeys.LAST_SOCIAL_BUFFER_TICK, now);
+        comp.setStateLong(PetStateStore.LAST_SOCIAL_BUFFER_TICK, now);
     }
 
     /**
@@ -13,6 +13,7 @@ import woflo.petsplus.mood.EmotionStimulusBus;
 import woflo.petsplus.mood.MoodService;
 import woflo.petsplus.state.OwnerCombatState;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.coordination.EntityCensus;
 
 import java.util.List;
 import java.util.UUID;
@@ -66,7 +67,7 @@ public class PackContagionProvider implements EmotionProvider, ReactiveEmotionPr
         float selfBond = MathHelper.clamp(comp.computeBondResilience(time), 0.25f, 1.0f);
 
         Box scan = pet.getBoundingBox().expand(SCAN_RADIUS);
-        List<MobEntity> neighbours = world.getEntitiesByClass(MobEntity.class, scan,
+        List<MobEntity> neighbours = EntityCensus.getEntitiesByClass(world, MobEntity.class, scan,
                 other -> other != pet && other.isAlive());
 
         for (MobEntity other : neighbours) {
@@ -79,9 +79,6 @@ public class PetOwnershipTransfers {
             StateManager stateManager = StateManager.forWorld((ServerWorld) pet.getEntityWorld());
             if (stateManager != null) {
                 stateManager.getPetComponent(pet);
-                // Note: invalidatePetSwarmCache is a static method in CombatEventHandler
-                woflo.petsplus.events.CombatEventHandler.invalidatePetSwarmCache(initiator.getUuid());
-                woflo.petsplus.events.CombatEventHandler.invalidatePetSwarmCache(recipient.getUuid());
             }
             
             // Apply mood impact if enabled
@@ -2,6 +2,8 @@ package woflo.petsplus.policy;
 
 /**
  * Centralized read-only policy for AI budgets. Keeps numbers consistent across call sites.
+ * Values are per-owner baselines; {@link woflo.petsplus.state.coordination.TickBudgetGovernor}
+ * scales them against measured tick cost.
  */
 public final class AIBudgetPolicy {
     private AIBudgetPolicy() {}
@@ -11,6 +13,11 @@ public final class AIBudgetPolicy {
         return 24;
     }
 
+    public static long playerListenerBudgetNanosPerTick() {
+        // Per-player listener work shares one slice of the tick across all owners
+        return 2_000_000L;
+    }
+
     public static int pathStartsPerOwnerPerTick(boolean ownerIsMoving) {
         return pathStartsPerOwnerPerTick(ownerIsMoving, 1);
     }
@@ -1,10 +1,9 @@
 package woflo.petsplus.roles.cursedone;
 
-import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import woflo.petsplus.api.registry.PetRoleType;
-import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.StateManager;
 
 /**
  * Shared helpers for Cursed One mount-related logic.
@@ -21,17 +20,8 @@ public final class CursedOneMountBehaviors {
             return false;
         }
         double effectiveRadius = Math.max(0.0D, radius);
-        return !world.getEntitiesByClass(
-            MobEntity.class,
-            owner.getBoundingBox().expand(effectiveRadius),
-            entity -> {
-                PetComponent component = PetComponent.get(entity);
-                return component != null
-                    && component.hasRole(PetRoleType.CURSED_ONE)
-                    && component.isOwnedBy(owner)
-                    && entity.isAlive();
-            }
-        ).isEmpty();
+        return StateManager.forWorld(world).getSwarmIndex().anyRoleMemberInRange(
+            owner.getUuid(), PetRoleType.CURSED_ONE.id(), owner.getEntityPos(), effectiveRadius, 0);
     }
 }
 
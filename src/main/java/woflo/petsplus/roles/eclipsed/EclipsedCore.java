@@ -8,8 +8,10 @@ import net.minecraft.server.world.ServerWorld;
 import woflo.petsplus.api.entity.PetsplusTameable;
 import woflo.petsplus.api.registry.PetRoleType;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.StateManager;
 import woflo.petsplus.state.tracking.PlayerTickListener;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -101,7 +103,15 @@ public class EclipsedCore implements PlayerTickListener {
      * Check if player has a nearby Eclipsed pet.
      */
     private static boolean hasNearbyEclipsed(ServerPlayerEntity player) {
-        return !getNearbyEclipsedPets(player, NEARBY_RADIUS).isEmpty();
+        return hasEclipsedWithin(player, NEARBY_RADIUS, 0);
+    }
+
+    private static boolean hasEclipsedWithin(ServerPlayerEntity player, double radius, int minLevel) {
+        if (!(player.getEntityWorld() instanceof ServerWorld world)) {
+            return false;
+        }
+        return StateManager.forWorld(world).getSwarmIndex().anyRoleMemberInRange(
+            player.getUuid(), PetRoleType.ECLIPSED.id(), player.getEntityPos(), radius, minLevel);
     }
 
     private static List<MobEntity> getNearbyEclipsedPets(ServerPlayerEntity player, double radius) {
@@ -109,18 +119,12 @@ public class EclipsedCore implements PlayerTickListener {
             return java.util.Collections.emptyList();
         }
 
-        return world.getEntitiesByClass(
-            MobEntity.class,
-            player.getBoundingBox().expand(radius),
-            entity -> {
-                PetComponent component = PetComponent.get(entity);
-                return component != null &&
-                       component.hasRole(PetRoleType.ECLIPSED) &&
-                       entity.isAlive() &&
-                       component.isOwnedBy(player) &&
-                       entity.squaredDistanceTo(player) <= radius * radius;
-            }
-        );
+        // Collected first: callers run abilities that may move pets and re-file them in the index
+        List<MobEntity> pets = new ArrayList<>();
+        StateManager.forWorld(world).getSwarmIndex().forEachRoleMemberInRange(
+            player.getUuid(), PetRoleType.ECLIPSED.id(), player.getEntityPos(), radius,
+            entry -> pets.add(entry.pet()));
+        return pets;
     }
     
     /**
@@ -142,22 +146,7 @@ public class EclipsedCore implements PlayerTickListener {
      * Check if player has active Eclipse Field (L7+ Eclipsed).
      */
     public static boolean hasActiveEclipseField(ServerPlayerEntity player) {
-        if (!(player.getEntityWorld() instanceof ServerWorld world)) {
-            return false;
-        }
-        
-        return world.getEntitiesByClass(
-            MobEntity.class,
-            player.getBoundingBox().expand(16.0),
-            entity -> {
-                PetComponent component = PetComponent.get(entity);
-                return component != null && 
-                       component.hasRole(PetRoleType.ECLIPSED) &&
-                       component.getLevel() >= 7 && // L7+ for Eclipse Field
-                       entity.isAlive() &&
-                       component.isOwnedBy(player);
-            }
-        ).size() > 0;
+        return hasEclipsedWithin(player, 16.0, 7); // L7+ for Eclipse Field
     }
     
     /**
@@ -211,22 +200,8 @@ public class EclipsedCore implements PlayerTickListener {
             return;
         }
         
-        if (!(player.getEntityWorld() instanceof ServerWorld world)) {
-            return;
-        }
-        
         // Find nearby Eclipsed pets and trigger shadow abilities
-        world.getEntitiesByClass(
-            MobEntity.class,
-            player.getBoundingBox().expand(16.0),
-            entity -> {
-                PetComponent component = PetComponent.get(entity);
-                return component != null && 
-                       component.hasRole(PetRoleType.ECLIPSED) &&
-                       entity.isAlive() &&
-                       component.isOwnedBy(player);
-            }
-        ).forEach(eclipsedPet -> {
+        getNearbyEclipsedPets(player, 16.0).forEach(eclipsedPet -> {
             PetComponent petComp = PetComponent.get(eclipsedPet);
             if (petComp != null && eclipsedPet instanceof PetsplusTameable) {
                 // Trigger void abilities when entering darkness
@@ -256,23 +231,8 @@ public class EclipsedCore implements PlayerTickListener {
         }
         
         // Calculate energy based on highest level Eclipsed pet
-        int maxLevel = world.getEntitiesByClass(
-            MobEntity.class,
-            player.getBoundingBox().expand(16.0),
-            entity -> {
-                PetComponent component = PetComponent.get(entity);
-                return component != null && 
-                       component.hasRole(PetRoleType.ECLIPSED) &&
-                       entity.isAlive() &&
-                       component.isOwnedBy(player);
-            }
-        ).stream()
-        .mapToInt(entity -> {
-            PetComponent component = PetComponent.get(entity);
-            return component != null ? component.getLevel() : 0;
-        })
-        .max()
-        .orElse(0);
+        int maxLevel = StateManager.forWorld(world).getSwarmIndex().maxRoleLevelInRange(
+            player.getUuid(), PetRoleType.ECLIPSED.id(), player.getEntityPos(), 16.0);
         
         // Base energy scaling with level and conditions
         int baseEnergy = maxLevel * 10;
@@ -16,8 +16,10 @@ import net.minecraft.util.math.Vec3d;
 import woflo.petsplus.api.registry.PetRoleType;
 import woflo.petsplus.config.PetsPlusConfig;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.StateManager;
 import woflo.petsplus.util.ChanceValidationUtil;
 import woflo.petsplus.ui.ActionBarUtils;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -161,28 +163,18 @@ public class EepyEeperCore {
 
         }
 
-        return world.getEntitiesByClass(
+        List<MobEntity> eepers = new ArrayList<>();
 
-            MobEntity.class,
+        StateManager.forWorld(world).getSwarmIndex().forEachRoleMemberInRange(
 
-            owner.getBoundingBox().expand(radius),
+            owner.getUuid(), PetRoleType.EEPY_EEPER.id(), owner.getEntityPos(), radius,
 
-            entity -> {
-
-                PetComponent petComp = PetComponent.get(entity);
-
-                return petComp != null &&
-
-                       petComp.hasRole(PetRoleType.EEPY_EEPER) &&
-
-                       petComp.isOwnedBy(owner) &&
-
-                       entity.isAlive();
-
-            }
+            entry -> eepers.add(entry.pet())
 
         );
 
+        return eepers;
+
     }
 
     /**
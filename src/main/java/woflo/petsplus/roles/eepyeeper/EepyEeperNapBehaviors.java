@@ -1,12 +1,11 @@
 package woflo.petsplus.roles.eepyeeper;
 
-import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import woflo.petsplus.api.entity.PetsplusTameable;
 import woflo.petsplus.api.registry.PetRoleType;
 import woflo.petsplus.config.PetsPlusConfig;
-import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.StateManager;
 import woflo.petsplus.util.PetPerchUtil;
 
 /**
@@ -23,27 +22,17 @@ public class EepyEeperNapBehaviors {
         }
         
         // Find sitting or perched Eepy Eeper pets
-        boolean hasNappingEepyEeper = !serverWorld.getEntitiesByClass(
-            MobEntity.class,
-            owner.getBoundingBox().expand(16),
-            entity -> {
-                PetComponent component = PetComponent.get(entity);
-                if (component == null ||
-                    !component.hasRole(PetRoleType.EEPY_EEPER) ||
-                    !component.isOwnedBy(owner) ||
-                    !entity.isAlive()) {
-                    return false;
-                }
-                
+        boolean hasNappingEepyEeper = StateManager.forWorld(serverWorld).getSwarmIndex().anyRoleMemberInRange(
+            owner.getUuid(), PetRoleType.EEPY_EEPER.id(), owner.getEntityPos(), 16,
+            entry -> {
                 // Check if pet is sitting or perched
                 boolean isSitting = false;
-                if (entity instanceof PetsplusTameable tameable) {
+                if (entry.pet() instanceof PetsplusTameable tameable) {
                     isSitting = tameable.petsplus$isSitting();
                 }
                 
-                return isSitting || PetPerchUtil.isPetPerched(component);
-            }
-        ).isEmpty();
+                return isSitting || PetPerchUtil.isPetPerched(entry.component());
+            });
         
         return hasNappingEepyEeper ?
             PetsPlusConfig.getInstance().getRoleDouble(PetRoleType.EEPY_EEPER.id(), "perchNapExtraRadius", 1.0) : 0.0;
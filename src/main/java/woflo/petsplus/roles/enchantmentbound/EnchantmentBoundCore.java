@@ -5,9 +5,9 @@ import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import woflo.petsplus.api.registry.PetRoleType;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.StateManager;
 
 import java.util.List;
-import java.util.Objects;
 
 /**
  * Implements Enchantment-Bound role mechanics: magical enhancement and enchantment synergy.
@@ -34,7 +34,11 @@ public final class EnchantmentBoundCore {
      * Check if player has a nearby Enchantment-Bound pet.
      */
     private static boolean hasNearbyEnchantmentBound(ServerPlayerEntity player) {
-        return !getNearbyEnchantmentBoundPets(player, NEARBY_RADIUS).isEmpty();
+        if (!(player.getEntityWorld() instanceof ServerWorld world)) {
+            return false;
+        }
+        return StateManager.forWorld(world).getSwarmIndex().anyRoleMemberInRange(
+            player.getUuid(), PetRoleType.ENCHANTMENT_BOUND.id(), player.getEntityPos(), NEARBY_RADIUS, 0);
     }
 
     private static List<MobEntity> getNearbyEnchantmentBoundPets(ServerPlayerEntity player, double radius) {
@@ -42,18 +46,11 @@ public final class EnchantmentBoundCore {
             return java.util.Collections.emptyList();
         }
 
-        return world.getEntitiesByClass(
-            MobEntity.class,
-            player.getBoundingBox().expand(radius),
-            entity -> {
-                PetComponent component = PetComponent.get(entity);
-                return component != null &&
-                       component.hasRole(PetRoleType.ENCHANTMENT_BOUND) &&
-                       entity.isAlive() &&
-                       component.isOwnedBy(player) &&
-                       entity.squaredDistanceTo(player) <= radius * radius;
-            }
-        );
+        List<MobEntity> pets = new java.util.ArrayList<>();
+        StateManager.forWorld(world).getSwarmIndex().forEachRoleMemberInRange(
+            player.getUuid(), PetRoleType.ENCHANTMENT_BOUND.id(), player.getEntityPos(), radius,
+            entry -> pets.add(entry.pet()));
+        return pets;
     }
     
     /**
@@ -64,16 +61,12 @@ public final class EnchantmentBoundCore {
             return 0.0f;
         }
         
-        if (!(player.getEntityWorld() instanceof ServerWorld)) {
+        if (!(player.getEntityWorld() instanceof ServerWorld world)) {
             return 0.0f;
         }
 
-        int maxLevel = getNearbyEnchantmentBoundPets(player, NEARBY_RADIUS).stream()
-            .map(PetComponent::get)
-            .filter(Objects::nonNull)
-            .mapToInt(PetComponent::getLevel)
-            .max()
-            .orElse(0);
+        int maxLevel = StateManager.forWorld(world).getSwarmIndex().maxRoleLevelInRange(
+            player.getUuid(), PetRoleType.ENCHANTMENT_BOUND.id(), player.getEntityPos(), NEARBY_RADIUS);
         
         // Base enchantment bonus scaling with level
         return Math.min(maxLevel * 0.5f, 5.0f); // Max +5 damage from enchantment resonance
@@ -83,14 +76,12 @@ public final class EnchantmentBoundCore {
      * Check if player has active Mystic Bond (L7+ Enchantment-Bound).
      */
     public static boolean hasActiveMysticBond(ServerPlayerEntity player) {
-        if (!(player.getEntityWorld() instanceof ServerWorld)) {
+        if (!(player.getEntityWorld() instanceof ServerWorld world)) {
             return false;
         }
 
-        return getNearbyEnchantmentBoundPets(player, NEARBY_RADIUS).stream()
-            .map(PetComponent::get)
-            .filter(Objects::nonNull)
-            .anyMatch(component -> component.getLevel() >= 7);
+        return StateManager.forWorld(world).getSwarmIndex().anyRoleMemberInRange(
+            player.getUuid(), PetRoleType.ENCHANTMENT_BOUND.id(), player.getEntityPos(), NEARBY_RADIUS, 7);
     }
     
     /**
@@ -2,12 +2,11 @@ package woflo.petsplus.roles.enchantmentbound;
 
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
-import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import woflo.petsplus.api.registry.PetRoleType;
 import woflo.petsplus.config.PetsPlusConfig;
-import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.StateManager;
 import woflo.petsplus.util.PetPerchUtil;
 
 /**
@@ -24,18 +23,9 @@ public class EnchantmentBoundEchoes {
         }
         
         // Find perched Enchantment-bound pets
-        boolean hasPerchedEnchantmentBound = !serverWorld.getEntitiesByClass(
-            MobEntity.class,
-            owner.getBoundingBox().expand(16),
-            entity -> {
-                PetComponent component = PetComponent.get(entity);
-                return component != null &&
-                       component.hasRole(PetRoleType.ENCHANTMENT_BOUND) &&
-                       component.isOwnedBy(owner) &&
-                       PetPerchUtil.isPetPerched(component) &&
-                       entity.isAlive();
-            }
-        ).isEmpty();
+        boolean hasPerchedEnchantmentBound = StateManager.forWorld(serverWorld).getSwarmIndex().anyRoleMemberInRange(
+            owner.getUuid(), PetRoleType.ENCHANTMENT_BOUND.id(), owner.getEntityPos(), 16,
+            entry -> PetPerchUtil.isPetPerched(entry.component()));
 
         return hasPerchedEnchantmentBound ?
             PetsPlusConfig.getInstance().getRoleInt(PetRoleType.ENCHANTMENT_BOUND.id(), "perchedHasteBonusTicks", 10) : 0;
@@ -77,17 +67,8 @@ public class EnchantmentBoundEchoes {
         }
         
         // Check if we have Enchantment-bound pets
-        return !serverWorld.getEntitiesByClass(
-            MobEntity.class,
-            owner.getBoundingBox().expand(16),
-            entity -> {
-                PetComponent component = PetComponent.get(entity);
-                return component != null &&
-                       component.hasRole(PetRoleType.ENCHANTMENT_BOUND) &&
-                       component.isOwnedBy(owner) &&
-                       entity.isAlive();
-            }
-        ).isEmpty();
+        return StateManager.forWorld(serverWorld).getSwarmIndex().anyRoleMemberInRange(
+            owner.getUuid(), PetRoleType.ENCHANTMENT_BOUND.id(), owner.getEntityPos(), 16, 0);
     }
     
     /**
@@ -13,9 +13,11 @@ import woflo.petsplus.api.registry.PetRoleType;
 import woflo.petsplus.api.TriggerContext;
 import woflo.petsplus.state.OwnerCombatState;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.StateManager;
 import woflo.petsplus.ui.FeedbackManager;
 import woflo.petsplus.ui.UIFeedbackManager;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -46,26 +48,11 @@ public final class GuardianCore {
      */
     public static List<MobEntity> findNearbyGuardianPets(ServerPlayerEntity owner) {
         ServerWorld world = (ServerWorld) owner.getEntityWorld();
-        return world.getEntitiesByClass(
-            MobEntity.class,
-            owner.getBoundingBox().expand(GUARDIAN_SEARCH_RANGE),
-            pet -> {
-                PetComponent component = PetComponent.get(pet);
-                if (component == null) {
-                    return false;
-                }
-                if (!component.hasRole(PetRoleType.GUARDIAN)) {
-                    return false;
-                }
-                if (!component.isOwnedBy(owner)) {
-                    return false;
-                }
-                if (!pet.isAlive()) {
-                    return false;
-                }
-                return true;
-            }
-        );
+        List<MobEntity> guardians = new ArrayList<>();
+        StateManager.forWorld(world).getSwarmIndex().forEachRoleMemberInRange(
+            owner.getUuid(), PetRoleType.GUARDIAN.id(), owner.getEntityPos(), GUARDIAN_SEARCH_RANGE,
+            entry -> guardians.add(entry.pet()));
+        return guardians;
     }
 
     /**
@@ -13,10 +13,13 @@ import woflo.petsplus.config.PetsPlusConfig;
 import woflo.petsplus.effects.TagTargetEffect;
 import woflo.petsplus.state.OwnerCombatState;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.StateManager;
 import woflo.petsplus.util.TriggerConditions;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
@@ -314,17 +317,12 @@ public class StrikerExecution {
         
         // Search for Striker pets within 16 blocks and pick the nearest valid one
         double searchRadius = 16.0;
-        return serverWorld.getEntitiesByClass(
-                MobEntity.class,
-                owner.getBoundingBox().expand(searchRadius),
-                entity -> {
-                    PetComponent component = PetComponent.get(entity);
-                    return component != null &&
-                           component.hasRole(PetRoleType.STRIKER) &&
-                           entity.isAlive() &&
-                           component.isOwnedBy(owner);
-                }
-        ).stream().max(
+        List<MobEntity> strikers = new ArrayList<>();
+        StateManager.forWorld(serverWorld).getSwarmIndex().forEachRoleMemberInRange(
+                owner.getUuid(), PetRoleType.STRIKER.id(), owner.getEntityPos(), searchRadius,
+                entry -> strikers.add(entry.pet())
+        );
+        return strikers.stream().max(
                 Comparator
                         .comparingInt((MobEntity entity) -> {
                             PetComponent component = PetComponent.get(entity);
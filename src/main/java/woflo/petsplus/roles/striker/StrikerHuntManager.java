@@ -9,6 +9,7 @@ import net.minecraft.util.math.MathHelper;
 import org.jetbrains.annotations.Nullable;
 import woflo.petsplus.api.registry.PetRoleType;
 import woflo.petsplus.effects.TagTargetEffect;
+import woflo.petsplus.state.tracking.PlayerTickDispatcher;
 import woflo.petsplus.state.tracking.PlayerTickListener;
 import woflo.petsplus.ui.FeedbackManager;
 import woflo.petsplus.ui.UIFeedbackManager;
@@ -234,6 +235,7 @@ public final class StrikerHuntManager implements PlayerTickListener {
 
     private void schedule(ServerPlayerEntity owner, long tick) {
         schedules.put(owner.getUuid(), Math.max(tick, world(owner).getTime()));
+        PlayerTickDispatcher.reschedule(owner, this);
     }
 
     private static ServerWorld world(ServerPlayerEntity player) {
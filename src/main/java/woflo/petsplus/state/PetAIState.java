@@ -7,6 +7,7 @@ import woflo.petsplus.ai.director.DirectorDecision;
 import woflo.petsplus.ai.planner.ActionPlan;
 import woflo.petsplus.ai.planner.PlanResolution;
 import woflo.petsplus.ai.suggester.GoalSuggester;
+import woflo.petsplus.config.DebugSettings;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
@@ -36,6 +37,7 @@ public final class PetAIState {
     private float lastSuggestionScore;
     private long lastSuggestionTick = Long.MIN_VALUE;
     private @Nullable String lastSuggestionReason;
+    private @Nullable GoalSuggester.Suggestion lastSuggestion;
     private @Nullable PlanSummary lastPlanSummary;
 
     /**
@@ -54,6 +56,7 @@ public final class PetAIState {
         this.lastSuggestionScore = 0f;
         this.lastSuggestionTick = Long.MIN_VALUE;
         this.lastSuggestionReason = null;
+        this.lastSuggestion = null;
         this.lastPlanSummary = null;
     }
 
@@ -169,10 +172,15 @@ public final class PetAIState {
         this.lastSuggestedGoalId = goalId;
         this.lastSuggestionScore = MathHelper.clamp(suggestion.score(), 0f, 16f);
         this.lastSuggestionTick = tick;
-        this.lastSuggestionReason = suggestion.reason();
+        // Reasons are only read for diagnostics; build them on request rather than per decision.
+        this.lastSuggestion = suggestion;
+        this.lastSuggestionReason = null;
         PlanSummary planSummary = summarizePlan(resolution);
         this.lastPlanSummary = planSummary;
-        pushSuggestionSnapshot(new SuggestionSnapshot(goalId, lastSuggestionScore, tick, lastSuggestionReason, planSummary));
+        String snapshotReason = DebugSettings.isDebugEnabled() || DebugSettings.isTelemetryEnabled()
+            ? getLastSuggestionReason()
+            : null;
+        pushSuggestionSnapshot(new SuggestionSnapshot(goalId, lastSuggestionScore, tick, snapshotReason, planSummary));
     }
 
     public void recordGoalSuggestion(@Nullable Identifier goalId, float score, long tick) {
@@ -184,6 +192,7 @@ public final class PetAIState {
         this.lastSuggestionScore = MathHelper.clamp(score, 0f, 16f);
         this.lastSuggestionTick = tick;
         this.lastSuggestionReason = null;
+        this.lastSuggestion = null;
         this.lastPlanSummary = null;
         pushSuggestionSnapshot(new SuggestionSnapshot(goalId, lastSuggestionScore, tick, null, null));
     }
@@ -196,6 +205,7 @@ public final class PetAIState {
         this.lastSuggestionScore = 0f;
         this.lastSuggestionTick = tick;
         this.lastSuggestionReason = reason;
+        this.lastSuggestion = null;
         this.lastPlanSummary = null;
         pushSuggestionSnapshot(new SuggestionSnapshot(null, 0f, tick, reason, null));
     }
@@ -213,6 +223,9 @@ public final class PetAIState {
     }
 
     public @Nullable String getLastSuggestionReason() {
+        if (lastSuggestionReason == null && lastSuggestion != null) {
+            lastSuggestionReason = lastSuggestion.reason();
+        }
         return lastSuggestionReason;
     }
 
@@ -229,6 +242,7 @@ public final class PetAIState {
         this.lastSuggestionScore = 0f;
         this.lastSuggestionTick = Long.MIN_VALUE;
         this.lastSuggestionReason = null;
+        this.lastSuggestion = null;
         this.lastPlanSummary = null;
     }
 
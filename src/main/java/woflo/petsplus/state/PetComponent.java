@@ -25,6 +25,7 @@ import net.minecraft.server.world.ServerWorld;
 import org.jetbrains.annotations.Nullable;
 import woflo.petsplus.Petsplus;
 import woflo.petsplus.advancement.BestFriendTracker;
+import woflo.petsplus.ai.AdaptiveAIManager;
 import woflo.petsplus.ai.PetAIEnhancements;
 import woflo.petsplus.ai.PetMobInteractionProfile;
 import woflo.petsplus.ai.behavior.MomentumState;
@@ -50,6 +51,7 @@ import woflo.petsplus.ai.context.social.SocialSnapshot;
 import woflo.petsplus.ai.feedback.ExperienceLog;
 import woflo.petsplus.ai.planner.PlanResolution;
 import woflo.petsplus.ai.suggester.GoalSuggester;
+import woflo.petsplus.api.entity.PetsplusTameable;
 import woflo.petsplus.api.registry.PetRoleType;
 import woflo.petsplus.api.registry.PetsPlusRegistries;
 import woflo.petsplus.component.PetsplusComponents;
@@ -64,8 +66,10 @@ import woflo.petsplus.state.emotions.PetMoodEngine;
 import woflo.petsplus.state.gossip.PetGossipLedger;
 import woflo.petsplus.state.gossip.EmotionGossipGenerator;
 import woflo.petsplus.state.gossip.RumorEntry;
+import woflo.petsplus.state.processing.AsyncProcessingTelemetry;
 import woflo.petsplus.state.processing.OwnerFocusBuffer;
 import woflo.petsplus.state.processing.OwnerFocusSnapshot;
+import woflo.petsplus.state.tracking.OwnedPetRegistry;
 import woflo.petsplus.tags.PetsplusEntityTypeTags;
 import woflo.petsplus.naming.AttributeKey;
 import woflo.petsplus.history.HistoryEvent;
@@ -101,6 +105,7 @@ import java.util.stream.Collectors;
  * to modules while managing core pet identity (role, perching) and module orchestration.
  */
 public class PetComponent {
+    /** Only used for mobs that lack the {@link PetComponentHolder} field, such as test doubles. */
     private static final Map<MobEntity, PetComponent> COMPONENTS = new WeakHashMap<>();
     private static final Identifier DEFAULT_ROLE_ID = PetRoleType.GUARDIAN_ID;
     private static final String[] SPECIES_STATE_KEYS = {
@@ -111,6 +116,8 @@ public class PetComponent {
     private static final long CONTEXT_CACHE_IDLE_TICKS = 40L;
     private static final int GOSSIP_OPT_OUT_MIN_DURATION = 120;
     private static final int GOSSIP_OPT_OUT_MAX_DURATION = 220;
+    // NbtCompound accounting for one string-keyed long entry, excluding the key characters
+    private static final long ESTIMATED_COOLDOWN_ENTRY_BYTES = 80L;
 
     // Core pet identity
     private final MobEntity pet;
@@ -146,6 +153,16 @@ public class PetComponent {
     private long deferredComponentSyncTick = Long.MIN_VALUE;
     private boolean componentSyncScheduled;
 
+    // Last encoded module snapshots, reused by toComponentData while their generation is unchanged
+    private final EncodedSlot<ProgressionModule.Data> encodedProgression = new EncodedSlot<>();
+    private final EncodedSlot<HistoryModule.Data> encodedHistory = new EncodedSlot<>();
+    private final EncodedSlot<OwnerModule.Data> encodedOwner = new EncodedSlot<>();
+    private final EncodedSlot<SchedulingModule.Data> encodedScheduling = new EncodedSlot<>();
+    private final EncodedSlot<CharacteristicsModule.Data> encodedCharacteristics = new EncodedSlot<>();
+    private long encodedStateDataGeneration = DataBackedModule.UNTRACKED_GENERATION;
+    @Nullable
+    private NbtCompound encodedStateData;
+
     private final PerceptionBus perceptionBus;
     private final PetContextCache contextCache;
     private final ContextSliceState contextSliceState;
@@ -1435,10 +1452,81 @@ public class PetComponent {
         }
     }
 
+    /**
+     * Allocation tiers for mobs observed by Pets+.
+     * <ul>
+     *   <li>{@link #NONE}: untamed vanilla mob; no Pets+ state exists or is created.</li>
+     *   <li>{@link #ADAPTIVE}: unowned mob driven by the adaptive director; served from
+     *   {@code PetContext.captureVanilla} without a component.</li>
+     *   <li>{@link #FULL}: tamed, owned or previously persisted pet with a full component graph.</li>
+     * </ul>
+     */
+    public enum Tier {
+        NONE,
+        ADAPTIVE,
+        FULL
+    }
+
+    /**
+     * Classifies a mob without allocating. Only {@link Tier#FULL} mobs are promoted by
+     * {@link #getIfPet(MobEntity)}; the other tiers stay component-free.
+     */
+    public static Tier classify(MobEntity mob) {
+        if (mob == null) {
+            return Tier.NONE;
+        }
+        if (get(mob) != null || isPromotionCandidate(mob)) {
+            return Tier.FULL;
+        }
+        return AdaptiveAIManager.isDirected(mob) ? Tier.ADAPTIVE : Tier.NONE;
+    }
+
+    /**
+     * Fast path for per-tick hooks. Returns the existing component, promotes mobs that are
+     * tamed, owned or carry persisted Pets+ data, and returns {@code null} for everything else
+     * without touching the {@link StateManager} or its indices.
+     */
+    @Nullable
+    public static PetComponent getIfPet(MobEntity mob) {
+        Objects.requireNonNull(mob, "pet");
+        PetComponent existing = get(mob);
+        if (existing != null) {
+            return existing;
+        }
+        if (!isPromotionCandidate(mob)) {
+            return null;
+        }
+        return getOrCreate(mob);
+    }
+
+    /**
+     * Cheap ownership probe used to decide whether a mob deserves a full component. Reads only
+     * entity-local state (vanilla taming fields, the tameable bridge and the attached data
+     * component), so calling it for every mob every tick stays allocation-free.
+     */
+    public static boolean isPromotionCandidate(MobEntity mob) {
+        if (mob instanceof PetsplusTameable tameable
+            && (tameable.petsplus$isTamed() || tameable.petsplus$getOwnerUuid() != null)) {
+            return true;
+        }
+        return hasPersistedPetData(mob);
+    }
+
+    private static boolean hasPersistedPetData(MobEntity mob) {
+        if (!(mob instanceof ComponentHolder componentHolder)) {
+            return false;
+        }
+        try {
+            return componentHolder.getOrDefault(PetsplusComponents.PET_DATA, null) != null;
+        } catch (ClassCastException | AssertionError ignored) {
+            return false;
+        }
+    }
+
     public static PetComponent getOrCreate(MobEntity pet) {
         Objects.requireNonNull(pet, "pet");
 
-        PetComponent existing = COMPONENTS.get(pet);
+        PetComponent existing = attached(pet);
         if (existing != null) {
             return existing;
         }
@@ -1464,7 +1552,7 @@ public class PetComponent {
     public static PetComponent getOrCreateForPersistence(MobEntity pet) {
         Objects.requireNonNull(pet, "pet");
 
-        PetComponent existing = COMPONENTS.get(pet);
+        PetComponent existing = attached(pet);
         if (existing != null) {
             return existing;
         }
@@ -1482,6 +1570,10 @@ public class PetComponent {
     @Nullable
     public static PetComponent get(MobEntity pet) {
         Objects.requireNonNull(pet, "pet");
+        if (pet instanceof PetComponentHolder holder) {
+            // Every managed component is attached here via set(), so a miss is final
+            return holder.petsplus$getPetComponent();
+        }
         PetComponent existing = COMPONENTS.get(pet);
         if (existing != null) {
             return existing;
@@ -1499,6 +1591,10 @@ public class PetComponent {
     }
 
     public static void set(MobEntity pet, PetComponent component) {
+        if (pet instanceof PetComponentHolder holder) {
+            holder.petsplus$setPetComponent(component);
+            return;
+        }
         COMPONENTS.put(pet, component);
     }
 
@@ -1512,11 +1608,32 @@ public class PetComponent {
                 manager.removePet(pet);
             }
         }
+        if (pet instanceof PetComponentHolder holder) {
+            holder.petsplus$setPetComponent(null);
+            return;
+        }
         COMPONENTS.remove(pet);
     }
 
     private static PetComponent getOrCreateStandalone(MobEntity pet) {
-        return COMPONENTS.computeIfAbsent(Objects.requireNonNull(pet, "pet"), PetComponent::new);
+        Objects.requireNonNull(pet, "pet");
+        if (pet instanceof PetComponentHolder holder) {
+            PetComponent existing = holder.petsplus$getPetComponent();
+            if (existing == null) {
+                existing = new PetComponent(pet);
+                holder.petsplus$setPetComponent(existing);
+            }
+            return existing;
+        }
+        return COMPONENTS.computeIfAbsent(pet, PetComponent::new);
+    }
+
+    @Nullable
+    private static PetComponent attached(MobEntity pet) {
+        if (pet instanceof PetComponentHolder holder) {
+            return holder.petsplus$getPetComponent();
+        }
+        return COMPONENTS.get(pet);
     }
     
     public MobEntity getPet() {
@@ -1833,6 +1950,11 @@ public class PetComponent {
             resetTickScheduling(serverWorld.getTime());
         }
 
+        if (stateManager != null) {
+            stateManager.getSwarmIndex().refreshRole(this.pet);
+        }
+
+        OwnedPetRegistry.refresh(this.pet, this);
     }
 
     public void setRoleType(@Nullable PetRoleType type) {
@@ -1903,6 +2025,7 @@ public class PetComponent {
         UUID currentOwnerUuid = ownerModule.getOwnerUuid();
         if (!Objects.equals(previousOwnerUuid, currentOwnerUuid)) {
             markEntityDirty();
+            OwnedPetRegistry.refresh(pet, this);
         }
     }
 
@@ -1912,6 +2035,7 @@ public class PetComponent {
         UUID currentOwnerUuid = ownerModule.getOwnerUuid();
         if (!Objects.equals(previousOwnerUuid, currentOwnerUuid)) {
             markEntityDirty();
+            OwnedPetRegistry.refresh(pet, this);
         }
     }
 
@@ -2580,6 +2704,10 @@ public class PetComponent {
             stateData.put(key, value);
         }
 
+        onStateDataWritten(key, invalidateCaches, markDirty);
+    }
+
+    private void onStateDataWritten(String key, boolean invalidateCaches, boolean markDirty) {
         if (markDirty) {
             markEntityDirty();
         }
@@ -2630,6 +2758,59 @@ public class PetComponent {
         return stateData.get(key, type, defaultValue);
     }
 
+    /*
+     * Typed slot accessors. These read and write the store's primitive arrays by index and
+     * behave like getStateData/setStateData for the same key, minus hashing and boxing.
+     */
+
+    public long getStateLong(PetStateStore.LongKey key, long defaultValue) {
+        return stateData.getLong(key, defaultValue);
+    }
+
+    public void setStateLong(PetStateStore.LongKey key, long value) {
+        if (stateData.has(key) && stateData.getLong(key, 0L) == value) {
+            return;
+        }
+        stateData.setLong(key, value);
+        onStateDataWritten(key.name(), true, true);
+    }
+
+    public int getStateInt(PetStateStore.IntKey key, int defaultValue) {
+        return stateData.getInt(key, defaultValue);
+    }
+
+    public void setStateInt(PetStateStore.IntKey key, int value) {
+        if (stateData.has(key) && stateData.getInt(key, 0) == value) {
+            return;
+        }
+        stateData.setInt(key, value);
+        onStateDataWritten(key.name(), true, true);
+    }
+
+    public float getStateFloat(PetStateStore.FloatKey key, float defaultValue) {
+        return stateData.getFloat(key, defaultValue);
+    }
+
+    public void setStateFloat(PetStateStore.FloatKey key, float value) {
+        if (stateData.has(key) && Float.compare(stateData.getFloat(key, 0f), value) == 0) {
+            return;
+        }
+        stateData.setFloat(key, value);
+        onStateDataWritten(key.name(), true, true);
+    }
+
+    public boolean getStateBoolean(PetStateStore.BooleanKey key, boolean defaultValue) {
+        return stateData.getBoolean(key, defaultValue);
+    }
+
+    public void setStateBoolean(PetStateStore.BooleanKey key, boolean value) {
+        if (stateData.has(key) && stateData.getBoolean(key, false) == value) {
+            return;
+        }
+        stateData.setBoolean(key, value);
+        onStateDataWritten(key.name(), true, true);
+    }
+
     /**
      * Returns the currently assigned pet nature, if any.
      */
@@ -2924,7 +3105,11 @@ public class PetComponent {
     }
     
     public void setLevel(int level) {
+        int oldLevel = progressionModule.getLevel();
         progressionModule.setLevel(level);
+        if (progressionModule.getLevel() != oldLevel) {
+            OwnedPetRegistry.refresh(pet, this);
+        }
     }
     
     public int getExperience() {
@@ -3654,6 +3839,9 @@ public class PetComponent {
         if (xpGained > 0 || leveledUp) {
             markEntityDirty();
         }
+        if (leveledUp) {
+            OwnedPetRegistry.refresh(pet, this);
+        }
 
         return leveledUp;
     }
@@ -4217,12 +4405,12 @@ public class PetComponent {
             }
         }
 
-        ProgressionModule.Data progressionData = progressionModule.toData();
+        ProgressionModule.Data progressionData = encodedProgression.resolve(progressionModule);
         if (progressionData != null) {
             data = data.withProgression(progressionData);
         }
 
-        HistoryModule.Data historyData = historyModule.toData();
+        HistoryModule.Data historyData = encodedHistory.resolve(historyModule);
         if (historyData != null) {
             data = data.withHistory(historyData);
         }
@@ -4232,7 +4420,7 @@ public class PetComponent {
             data = data.withInventories(inventoryData);
         }
 
-        OwnerModule.Data ownerData = ownerModule.toData();
+        OwnerModule.Data ownerData = encodedOwner.resolve(ownerModule);
         if (ownerData != null) {
             data = data.withOwner(ownerData);
         }
@@ -4242,12 +4430,12 @@ public class PetComponent {
             data = data.withRelationships(relationshipData);
         }
 
-        SchedulingModule.Data schedulingData = schedulingModule.toData();
+        SchedulingModule.Data schedulingData = encodedScheduling.resolve(schedulingModule);
         if (schedulingData != null) {
             data = data.withScheduling(schedulingData);
         }
 
-        CharacteristicsModule.Data characteristicsData = characteristicsModule.toData();
+        CharacteristicsModule.Data characteristicsData = encodedCharacteristics.resolve(characteristicsModule);
         if (characteristicsData != null && !isCharacteristicsDataEmpty(characteristicsData)) {
             data = data.withCharacteristics(characteristicsData);
         }
@@ -4260,16 +4448,69 @@ public class PetComponent {
         moodEngine.writeToNbt(moodNbt);
         data = data.withMood(moodNbt);
 
-        Optional<NbtCompound> stateDataNbt = serializeStateDataCompound();
-        if (stateDataNbt.isPresent()) {
-            data = data.withStateData(stateDataNbt.get().copy());
+        NbtCompound stateDataNbt = resolveEncodedStateData();
+        if (stateDataNbt != null) {
+            data = data.withStateData(stateDataNbt);
         }
 
         data = data.withSchemaVersion(PetsplusComponents.PetData.CURRENT_SCHEMA_VERSION);
 
+        if (AsyncProcessingTelemetry.isEnabled()) {
+            AsyncProcessingTelemetry.PET_DATA_ENCODES.incrementAndGet();
+        }
         return data;
     }
 
+    /**
+     * State data is re-encoded only when the store changed since the last snapshot. Stores that
+     * hold lists are always re-encoded because a list can be mutated in place. Callers get their
+     * own copy, since the component data may be edited after it leaves the pet.
+     */
+    @Nullable
+    private NbtCompound resolveEncodedStateData() {
+        long generation = stateData.generation();
+        if (generation == encodedStateDataGeneration) {
+            countReusedSnapshot();
+            return encodedStateData != null ? encodedStateData.copy() : null;
+        }
+        NbtCompound encoded = serializeStateDataCompound().orElse(null);
+        boolean cacheable = !stateData.anyMatch((key, value) -> value instanceof List<?>);
+        encodedStateData = encoded;
+        encodedStateDataGeneration = cacheable ? generation : DataBackedModule.UNTRACKED_GENERATION;
+        return encoded != null ? encoded.copy() : null;
+    }
+
+    @Nullable
+    NbtCompound encodeStateDataForTesting() {
+        return resolveEncodedStateData();
+    }
+
+    private static void countReusedSnapshot() {
+        if (AsyncProcessingTelemetry.isEnabled()) {
+            AsyncProcessingTelemetry.PET_DATA_MODULES_REUSED.incrementAndGet();
+        }
+    }
+
+    /** Holds a module's last {@code toData()} result alongside the generation it was taken at. */
+    private static final class EncodedSlot<D> {
+        private long generation = DataBackedModule.UNTRACKED_GENERATION;
+        @Nullable
+        private D data;
+
+        @Nullable
+        D resolve(DataBackedModule<D> module) {
+            long current = module.dataGeneration();
+            if (current != DataBackedModule.UNTRACKED_GENERATION && current == generation && data != null) {
+                countReusedSnapshot();
+                return data;
+            }
+            D fresh = module.toData();
+            generation = current;
+            data = fresh;
+            return fresh;
+        }
+    }
+
     /**
      * Deserialize pet data from component storage after loading.
      */
@@ -4698,7 +4939,13 @@ public class PetComponent {
             return false;
         }
 
+        boolean sampleAutosave = forceWrite && AsyncProcessingTelemetry.isEnabled();
+        long encodeStart = sampleAutosave ? AsyncProcessingTelemetry.startTimer() : 0L;
         PetsplusComponents.PetData data = toComponentData();
+        if (sampleAutosave) {
+            AsyncProcessingTelemetry.stopTimer(AsyncProcessingTelemetry.PET_DATA_AUTOSAVE_TIME, encodeStart);
+            AsyncProcessingTelemetry.PET_DATA_AUTOSAVE_BYTES.addAndGet(estimateEncodedBytes(data));
+        }
         try {
             pet.setComponent(PetsplusComponents.PET_DATA, data);
             needsComponentSync = false;
@@ -4713,6 +4960,25 @@ public class PetComponent {
         return false;
     }
 
+    /**
+     * Cheap size estimate for autosave telemetry, so sampling a save does not encode it twice.
+     * The mood and state-data compounds, the bulk of a typical pet, are measured as NBT; each
+     * cooldown adds one long entry. Module records are left out.
+     */
+    static long estimateEncodedBytes(PetsplusComponents.PetData data) {
+        long bytes = 0L;
+        if (data.mood().isPresent()) {
+            bytes += data.mood().get().getSizeInBytes();
+        }
+        if (data.stateData().isPresent()) {
+            bytes += data.stateData().get().getSizeInBytes();
+        }
+        for (String key : data.cooldowns().keySet()) {
+            bytes += ESTIMATED_COOLDOWN_ENTRY_BYTES + 2L * key.length();
+        }
+        return bytes;
+    }
+
     private void scheduleDeferredComponentSync(ServerWorld serverWorld, long targetTick) {
         StateManager manager = this.stateManager;
         if (manager == null) {
@@ -0,0 +1,14 @@
+package woflo.petsplus.state;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Duck interface mixed into {@link net.minecraft.entity.mob.MobEntity} so a mob carries its own
+ * {@link PetComponent} reference. Lookups become a field read instead of a weak map probe.
+ */
+public interface PetComponentHolder {
+    @Nullable
+    PetComponent petsplus$getPetComponent();
+
+    void petsplus$setPetComponent(@Nullable PetComponent component);
+}
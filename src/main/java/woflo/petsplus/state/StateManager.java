@@ -31,14 +31,20 @@ import woflo.petsplus.events.EmotionContextCues;
 import woflo.petsplus.events.EmotionsEventHandler;
 import woflo.petsplus.config.DebugSettings;
 import woflo.petsplus.config.MoodEngineConfig;
+import woflo.petsplus.config.PetsPlusConfig;
 import woflo.petsplus.roles.support.SupportPotionUtils;
 import woflo.petsplus.roles.support.SupportPotionVacuumManager;
 import woflo.petsplus.mood.MoodService;
 import woflo.petsplus.ai.context.perception.EnvironmentPerceptionBridge;
 import woflo.petsplus.ai.context.perception.OwnerPerceptionBridge;
 import woflo.petsplus.ai.context.perception.SwarmPerceptionBridge;
+import woflo.petsplus.state.coordination.EntityCensus;
+import woflo.petsplus.state.coordination.ItemEntityIndex;
+import woflo.petsplus.state.coordination.PackPathService;
 import woflo.petsplus.state.coordination.PetSwarmIndex;
 import woflo.petsplus.state.coordination.PetWorkScheduler;
+import woflo.petsplus.state.emotions.MoodDecayKernel;
+import woflo.petsplus.state.environment.EnvironmentFeatureIndex;
 import woflo.petsplus.state.emotions.PetMoodEngine;
 import woflo.petsplus.state.nature.NatureHarmonyService;
 import woflo.petsplus.mood.EmotionStimulusBus;
@@ -53,6 +59,7 @@ import woflo.petsplus.state.processing.OwnerBatchSnapshot;
 import woflo.petsplus.state.processing.OwnerEventDispatcher;
 import woflo.petsplus.state.processing.OwnerEventFrame;
 import woflo.petsplus.state.processing.OwnerEventType;
+import woflo.petsplus.state.processing.OwnerXpAccumulator;
 import woflo.petsplus.state.processing.OwnerBatchPlan;
 import woflo.petsplus.state.processing.OwnerBatchPlanner;
 import woflo.petsplus.state.processing.OwnerProcessingManager;
@@ -125,8 +132,14 @@ public class StateManager {
     private final Map<PetComponent, Long> deferredComponentSyncs = new IdentityHashMap<>();
 
     private final PetSwarmIndex swarmIndex = new PetSwarmIndex();
+    private final EntityCensus entityCensus;
+    private final EnvironmentFeatureIndex environmentIndex;
+    private final ItemEntityIndex itemIndex = new ItemEntityIndex();
+    private final PackPathService packPathService = new PackPathService();
+    private final OwnerXpAccumulator ownerXpAccumulator = new OwnerXpAccumulator();
     private final NatureHarmonyService harmonyService = new NatureHarmonyService(swarmIndex);
     private final ArcaneAmbientCache arcaneAmbientCache = new ArcaneAmbientCache();
+    private final MoodDecayKernel moodDecayKernel = new MoodDecayKernel();
 
     private static final Object ARCANE_INVALIDATION_LOCK = new Object();
     private static int cachedArcaneInvalidationRadius = 4;
@@ -154,6 +167,8 @@ public class StateManager {
 
     private StateManager(ServerWorld world) {
         this.world = world;
+        this.entityCensus = new EntityCensus(world);
+        this.environmentIndex = new EnvironmentFeatureIndex(world);
         MinecraftServer server = world.getServer();
         if (server == null) {
             throw new IllegalStateException("Server world is missing server reference");
@@ -171,18 +186,36 @@ public class StateManager {
     }
 
     public static StateManager forWorld(ServerWorld world) {
+        if (world instanceof StateManagerHolder holder) {
+            StateManager attached = holder.petsplus$getStateManager();
+            if (attached != null) {
+                return attached;
+            }
+        }
         synchronized (WORLD_MANAGERS) {
-            return WORLD_MANAGERS.computeIfAbsent(world, StateManager::new);
+            StateManager manager = WORLD_MANAGERS.computeIfAbsent(world, StateManager::new);
+            attach(world, manager);
+            return manager;
         }
     }
 
     @Nullable
     public static StateManager getIfLoaded(ServerWorld world) {
+        if (world instanceof StateManagerHolder holder) {
+            // forWorld attaches every manager it registers, so a miss is final
+            return holder.petsplus$getStateManager();
+        }
         synchronized (WORLD_MANAGERS) {
             return WORLD_MANAGERS.get(world);
         }
     }
 
+    private static void attach(ServerWorld world, @Nullable StateManager manager) {
+        if (world instanceof StateManagerHolder holder) {
+            holder.petsplus$setStateManager(manager);
+        }
+    }
+
     public static void onServerStarting() {
         SERVER_STOPPING.set(false);
         TOMBSTONED_WORLDS.clear();
@@ -241,6 +274,7 @@ public class StateManager {
         StateManager manager;
         synchronized (WORLD_MANAGERS) {
             manager = WORLD_MANAGERS.remove(world);
+            attach(world, null);
         }
         if (manager != null) {
             manager.shutdown();
@@ -251,6 +285,9 @@ public class StateManager {
         java.util.List<StateManager> managers;
         synchronized (WORLD_MANAGERS) {
             managers = new java.util.ArrayList<>(WORLD_MANAGERS.values());
+            for (StateManager manager : managers) {
+                attach(manager.world, null);
+            }
             WORLD_MANAGERS.clear();
         }
 
@@ -473,6 +510,7 @@ public class StateManager {
         ownerStates.remove(owner);
         UUID ownerId = owner.getUuid();
         swarmIndex.removeOwner(ownerId);
+        packPathService.forgetOwner(ownerId);
         auraTargetResolver.handleOwnerRemoval(ownerId);
         ownerProcessingManager.removeOwner(ownerId);
     }
@@ -613,16 +651,22 @@ public class StateManager {
     }
 
     public void processScheduledPetTasks(long currentTick) {
+        swarmIndex.flushChanges(currentTick, PetsPlusConfig.getInstance().getSwarmUpdateWindowTicks());
+        flushOwnerXpGains();
+
         // Early exit if no pets exist - skip all processing
         if (petComponents.isEmpty() && deferredComponentSyncs.isEmpty()) {
             adaptiveTickScaler.recordTick();
             asyncWorkCoordinator.drainMainThreadTasks();
+            asyncWorkCoordinator.retryDeferredSubmissions(currentTick);
+            flushMoodDecayKernel();
             return;
         }
         
         AsyncMigrationProgressTracker.markComplete(AsyncMigrationProgressTracker.Phase.PET_STATE);
         AsyncMigrationProgressTracker.markComplete(AsyncMigrationProgressTracker.Phase.ADVANCED_SYSTEMS);
         asyncWorkCoordinator.drainMainThreadTasks();
+        asyncWorkCoordinator.retryDeferredSubmissions(currentTick);
         adaptiveTickScaler.recordTick();
 
         List<PetComponent> dueComponentSyncs = null;
@@ -681,9 +725,22 @@ public class StateManager {
         ownerProcessingManager.flushBatches((ownerId, batch) ->
             ownerBatchProcessor.processBatch(batch, currentTick)
         , currentTick, budget, moodBudget);
+        flushMoodDecayKernel();
         maybeLogAsyncTelemetry(currentTick);
     }
 
+    private void flushMoodDecayKernel() {
+        if (moodDecayKernel.isEmpty()) {
+            return;
+        }
+        try {
+            moodDecayKernel.flush();
+        } catch (Exception ex) {
+            // Pets queued by completions stay pending for the next flush
+            Petsplus.LOGGER.error("Batched mood decay pass failed for world {}", world.getRegistryKey().getValue(), ex);
+        }
+    }
+
     public long scaleInterval(long baseTicks) {
         if (baseTicks == Long.MAX_VALUE) {
             return Long.MAX_VALUE;
@@ -1605,6 +1662,19 @@ public class StateManager {
         }
     }
 
+    /** Queue an XP pickup; all of an owner's pickups this tick are dispatched as one XP_GAIN frame. */
+    public void queueOwnerXpGain(ServerPlayerEntity owner, int xpAmount) {
+        ownerXpAccumulator.add(owner, xpAmount);
+    }
+
+    private void flushOwnerXpGains() {
+        if (ownerXpAccumulator.isEmpty()) {
+            return;
+        }
+        ownerXpAccumulator.flush((owner, xpAmount, orbCount) ->
+            XpEventHandler.dispatchXpGain(this, owner, xpAmount, orbCount));
+    }
+
     public void fireAbilityTrigger(ServerPlayerEntity owner,
                                    String triggerId,
                                    @Nullable Map<String, Object> eventData) {
@@ -2653,6 +2723,9 @@ public class StateManager {
 
             try {
                 swarmIndex.clear();
+                ownerXpAccumulator.clear();
+                itemIndex.clear();
+                packPathService.clear();
                 harmonyService.clear();
                 pendingSpatialResults.clear();
                 spatialJobStates.clear();
@@ -2661,6 +2734,7 @@ public class StateManager {
                 }
                 petComponents.clear();
                 ownerStates.clear();
+                moodDecayKernel.clear();
             } catch (Exception e) {
                 if (suppressedException == null) suppressedException = e;
                 Petsplus.LOGGER.error("Failed to clear state collections during shutdown", e);
@@ -2711,6 +2785,26 @@ public class StateManager {
         return swarmIndex;
     }
 
+    public EntityCensus getEntityCensus() {
+        return entityCensus;
+    }
+
+    public EnvironmentFeatureIndex getEnvironmentIndex() {
+        return environmentIndex;
+    }
+
+    public ItemEntityIndex getItemIndex() {
+        return itemIndex;
+    }
+
+    public PackPathService getPackPathService() {
+        return packPathService;
+    }
+
+    public MoodDecayKernel getMoodDecayKernel() {
+        return moodDecayKernel;
+    }
+
     public ArcaneAmbientCache getArcaneAmbientCache() {
         return arcaneAmbientCache;
     }
@@ -2727,13 +2821,7 @@ public class StateManager {
         if (world == null || pos == null) {
             return;
         }
-        StateManager manager;
-        synchronized (WORLD_MANAGERS) {
-            manager = WORLD_MANAGERS.get(world);
-        }
-        if (manager == null) {
-            manager = forWorld(world);
-        }
+        StateManager manager = forWorld(world);
         manager.invalidateArcaneAmbient(pos);
     }
 
@@ -0,0 +1,14 @@
+package woflo.petsplus.state;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Duck interface mixed into {@link net.minecraft.server.world.ServerWorld} so a world carries its
+ * loaded {@link StateManager}. Set and cleared by {@link StateManager} alongside its world registry.
+ */
+public interface StateManagerHolder {
+    @Nullable
+    StateManager petsplus$getStateManager();
+
+    void petsplus$setStateManager(@Nullable StateManager manager);
+}
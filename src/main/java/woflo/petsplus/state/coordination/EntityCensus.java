@@ -0,0 +1,283 @@
+package woflo.petsplus.state.coordination;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.entity.Entity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import org.jetbrains.annotations.Nullable;
+import woflo.petsplus.state.StateManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Per-world entity census bucketed by chunk section. The first query in a tick that touches stale
+ * sections issues one box query covering them and buckets the results by section; every later
+ * query in that tick is answered from the buckets. When many pets share a base they all read the
+ * same buckets instead of issuing their own {@code getEntitiesByClass} box queries.
+ *
+ * <p>Entities are bucketed by the section containing their block position. Queries enumerate
+ * sections overlapping the query box padded by {@link #SECTION_PADDING} so large hitboxes that
+ * straddle a boundary are still found, then filter by exact bounding box intersection.
+ *
+ * <p>Main-thread only; off-thread callers fall through to a direct world query.
+ */
+public final class EntityCensus {
+    private static final double SECTION_PADDING = 2.0D;
+    private static final long EVICTION_INTERVAL_TICKS = 100L;
+    private static final long BUCKET_IDLE_TICKS = 40L;
+
+    private final ServerWorld world;
+    private final Long2ObjectMap<Bucket> buckets = new Long2ObjectOpenHashMap<>();
+    private long lastEvictionTick = Long.MIN_VALUE;
+
+    public EntityCensus(ServerWorld world) {
+        this.world = world;
+    }
+
+    /**
+     * Routes a typed box query through the world's census when one is available.
+     */
+    public static <T extends Entity> List<T> getEntitiesByClass(ServerWorld world, Class<T> type, Box box,
+                                                                 Predicate<? super T> predicate) {
+        EntityCensus census = resolve(world);
+        if (census == null) {
+            return world.getEntitiesByClass(type, box, predicate);
+        }
+        List<T> result = new ArrayList<>();
+        census.forEachInBox(type, box, predicate, result::add);
+        return result;
+    }
+
+    /**
+     * Census equivalent of {@code world.getOtherEntities(origin, origin.getBoundingBox().expand(range), e -> true)}.
+     */
+    public static List<Entity> collectNearby(ServerWorld world, Entity origin, double range) {
+        Box box = origin.getBoundingBox().expand(range);
+        EntityCensus census = resolve(world);
+        if (census == null) {
+            return world.getOtherEntities(origin, box, e -> true);
+        }
+        List<Entity> result = new ArrayList<>();
+        census.forEachInBox(Entity.class, box, e -> e != origin, result::add);
+        return result;
+    }
+
+    /**
+     * Counts matching entities without materialising a result list.
+     */
+    public static <T extends Entity> int count(ServerWorld world, Class<T> type, Box box,
+                                               Predicate<? super T> predicate) {
+        EntityCensus census = resolve(world);
+        if (census == null) {
+            return world.getEntitiesByClass(type, box, predicate).size();
+        }
+        return census.countInBox(type, box, predicate);
+    }
+
+    /**
+     * Returns the matching entity closest to {@code center}, or {@code null} when none match.
+     */
+    @Nullable
+    public static <T extends Entity> T nearest(ServerWorld world, Class<T> type, Box box, Vec3d center,
+                                               Predicate<? super T> predicate) {
+        EntityCensus census = resolve(world);
+        if (census != null) {
+            return census.nearestInBox(type, box, center, predicate);
+        }
+        Tally<T> tally = new Tally<>(center);
+        for (T entity : world.getEntitiesByClass(type, box, predicate)) {
+            tally.accept(entity);
+        }
+        return tally.nearest;
+    }
+
+    @Nullable
+    private static EntityCensus resolve(ServerWorld world) {
+        MinecraftServer server = world.getServer();
+        if (server == null || !server.isOnThread()) {
+            return null;
+        }
+        StateManager manager = StateManager.getIfLoaded(world);
+        return manager != null ? manager.getEntityCensus() : null;
+    }
+
+    /**
+     * Visits every entity of {@code type} whose bounding box intersects {@code box}.
+     */
+    public <T extends Entity> void forEachInBox(Class<T> type, Box box, Predicate<? super T> predicate,
+                                                Consumer<? super T> consumer) {
+        long now = world.getTime();
+        maybeEvict(now);
+
+        int minX = ChunkSectionPos.getSectionCoord(MathHelper.floor(box.minX - SECTION_PADDING));
+        int minY = ChunkSectionPos.getSectionCoord(MathHelper.floor(box.minY - SECTION_PADDING));
+        int minZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(box.minZ - SECTION_PADDING));
+        int maxX = ChunkSectionPos.getSectionCoord(MathHelper.floor(box.maxX + SECTION_PADDING));
+        int maxY = ChunkSectionPos.getSectionCoord(MathHelper.floor(box.maxY + SECTION_PADDING));
+        int maxZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(box.maxZ + SECTION_PADDING));
+        refreshStale(minX, minY, minZ, maxX, maxY, maxZ, now);
+
+        for (int sx = minX; sx <= maxX; sx++) {
+            for (int sz = minZ; sz <= maxZ; sz++) {
+                for (int sy = minY; sy <= maxY; sy++) {
+                    Bucket bucket = buckets.get(ChunkSectionPos.asLong(sx, sy, sz));
+                    bucket.lastAccessTick = now;
+                    for (int i = 0; i < bucket.size; i++) {
+                        Entity entity = bucket.entities[i];
+                        if (!type.isInstance(entity) || entity.isRemoved()) {
+                            continue;
+                        }
+                        if (!entity.getBoundingBox().intersects(box)) {
+                            continue;
+                        }
+                        T typed = type.cast(entity);
+                        if (predicate.test(typed)) {
+                            consumer.accept(typed);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of entities {@link #forEachInBox} would visit.
+     */
+    public <T extends Entity> int countInBox(Class<T> type, Box box, Predicate<? super T> predicate) {
+        Tally<T> tally = new Tally<>(null);
+        forEachInBox(type, box, predicate, tally);
+        return tally.count;
+    }
+
+    /**
+     * The entity {@link #forEachInBox} would visit that is closest to {@code center}.
+     */
+    @Nullable
+    public <T extends Entity> T nearestInBox(Class<T> type, Box box, Vec3d center, Predicate<? super T> predicate) {
+        Tally<T> tally = new Tally<>(center);
+        forEachInBox(type, box, predicate, tally);
+        return tally.nearest;
+    }
+
+    /**
+     * Rescans every section in the range that has not been scanned this tick with a single box
+     * query over the range, distributing the results into their section buckets.
+     */
+    private void refreshStale(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, long now) {
+        boolean stale = false;
+        for (int sx = minX; sx <= maxX; sx++) {
+            for (int sz = minZ; sz <= maxZ; sz++) {
+                for (int sy = minY; sy <= maxY; sy++) {
+                    long key = ChunkSectionPos.asLong(sx, sy, sz);
+                    Bucket bucket = buckets.get(key);
+                    if (bucket == null) {
+                        bucket = new Bucket();
+                        buckets.put(key, bucket);
+                    } else if (bucket.tick == now) {
+                        continue;
+                    }
+                    bucket.clear();
+                    bucket.tick = now;
+                    bucket.filling = true;
+                    stale = true;
+                }
+            }
+        }
+        if (!stale) {
+            return;
+        }
+
+        Box range = new Box(
+            ChunkSectionPos.getBlockCoord(minX), ChunkSectionPos.getBlockCoord(minY),
+            ChunkSectionPos.getBlockCoord(minZ), ChunkSectionPos.getBlockCoord(maxX + 1),
+            ChunkSectionPos.getBlockCoord(maxY + 1), ChunkSectionPos.getBlockCoord(maxZ + 1));
+        // Sections already scanned this tick, and sections outside the range that a large
+        // hitbox pokes into, are not filling and keep their own contents.
+        for (Entity entity : world.getOtherEntities((Entity) null, range, candidate -> true)) {
+            Bucket bucket = buckets.get(ChunkSectionPos.toLong(entity.getBlockPos()));
+            if (bucket != null && bucket.filling) {
+                bucket.add(entity);
+            }
+        }
+
+        for (int sx = minX; sx <= maxX; sx++) {
+            for (int sz = minZ; sz <= maxZ; sz++) {
+                for (int sy = minY; sy <= maxY; sy++) {
+                    buckets.get(ChunkSectionPos.asLong(sx, sy, sz)).filling = false;
+                }
+            }
+        }
+    }
+
+    private void maybeEvict(long now) {
+        if (lastEvictionTick != Long.MIN_VALUE && now - lastEvictionTick < EVICTION_INTERVAL_TICKS) {
+            return;
+        }
+        lastEvictionTick = now;
+        ObjectIterator<Long2ObjectMap.Entry<Bucket>> iterator = buckets.long2ObjectEntrySet().iterator();
+        while (iterator.hasNext()) {
+            if (now - iterator.next().getValue().lastAccessTick > BUCKET_IDLE_TICKS) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Running count and, when a center is given, the closest entity seen so far.
+     */
+    private static final class Tally<T extends Entity> implements Consumer<T> {
+        @Nullable
+        private final Vec3d center;
+        private int count;
+        @Nullable
+        private T nearest;
+        private double nearestDistanceSq = Double.MAX_VALUE;
+
+        private Tally(@Nullable Vec3d center) {
+            this.center = center;
+        }
+
+        @Override
+        public void accept(T entity) {
+            count++;
+            if (center == null) {
+                return;
+            }
+            double distanceSq = entity.squaredDistanceTo(center);
+            if (distanceSq < nearestDistanceSq) {
+                nearestDistanceSq = distanceSq;
+                nearest = entity;
+            }
+        }
+    }
+
+    private static final class Bucket {
+        private Entity[] entities = new Entity[8];
+        private int size;
+        private long tick = Long.MIN_VALUE;
+        private long lastAccessTick = Long.MIN_VALUE;
+        private boolean filling;
+
+        private void add(Entity entity) {
+            if (size == entities.length) {
+                entities = Arrays.copyOf(entities, size << 1);
+            }
+            entities[size++] = entity;
+        }
+
+        private void clear() {
+            Arrays.fill(entities, 0, size, null);
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package woflo.petsplus.state.coordination;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.entity.ItemEntity;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import org.jetbrains.annotations.Nullable;
+import woflo.petsplus.roles.support.SupportPotionUtils;
+import woflo.petsplus.state.StateManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Per-world index of dropped {@link ItemEntity}s bucketed by chunk section.
+ *
+ * <p>Items report themselves from their own tick, so the index follows spawns and moves without
+ * any world scan, and drop out when the entity unloads or is removed. Magnet, support vacuum,
+ * loot and gift lookups all read the same buckets instead of issuing their own
+ * {@code getEntitiesByClass} box queries, and visit matches directly without building
+ * intermediate lists.
+ *
+ * <p>Each item also carries a small kind mask computed when its item type changes, so queries
+ * for a kind such as {@link #KIND_POTION} skip other stacks before any predicate runs. Kinds
+ * come from a table of item predicates. Loot and gift searches accept any item type, so they
+ * have no kind; they filter on entity state with {@link #LOOSE_LOOT} and {@link #GIFTABLE}.
+ *
+ * <p>Main-thread only. Items removed while a query is running are unlinked once it finishes.
+ */
+public final class ItemEntityIndex {
+    /** Matches every tracked item. */
+    public static final int KIND_ANY = 0;
+    /** Potions the support role can vacuum up. */
+    public static final int KIND_POTION = 1;
+
+    /** Items a scout can scurry toward. */
+    public static final Predicate<ItemEntity> LOOSE_LOOT = item -> item.isAlive() && !item.getStack().isEmpty();
+    /** Items a pet may carry off as a gift: loose loot past its pickup delay. */
+    public static final Predicate<ItemEntity> GIFTABLE = item -> LOOSE_LOOT.test(item) && !item.cannotPickup();
+
+    private static final List<KindRule> DEFAULT_KINDS = List.of(
+        new KindRule(KIND_POTION, SupportPotionUtils::isPotionItem));
+
+    private static final double SECTION_PADDING = 2.0D;
+
+    private final List<KindRule> kinds;
+    private final Reference2ObjectOpenHashMap<ItemEntity, Entry> entries = new Reference2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<Cell> cells = new Long2ObjectOpenHashMap<>();
+    private final ObjectArrayList<Entry> deferredRemovals = new ObjectArrayList<>();
+    private int iterationDepth;
+
+    public ItemEntityIndex() {
+        this(DEFAULT_KINDS);
+    }
+
+    ItemEntityIndex(List<KindRule> kinds) {
+        this.kinds = List.copyOf(kinds);
+    }
+
+    /** The index for {@code world}. */
+    public static ItemEntityIndex forWorld(ServerWorld world) {
+        return StateManager.forWorld(world).getItemIndex();
+    }
+
+    /**
+     * Track {@code entity} or move it to its current section. Called from the item's tick.
+     */
+    public void update(ItemEntity entity) {
+        if (entity == null) {
+            return;
+        }
+        ItemStack stack = entity.getStack();
+        if (entity.isRemoved() || stack.isEmpty()) {
+            remove(entity);
+            return;
+        }
+        long sectionKey = ChunkSectionPos.asLong(
+            ChunkSectionPos.getSectionCoord(entity.getBlockX()),
+            ChunkSectionPos.getSectionCoord(entity.getBlockY()),
+            ChunkSectionPos.getSectionCoord(entity.getBlockZ()));
+
+        Entry entry = entries.get(entity);
+        if (entry == null) {
+            entry = new Entry(entity);
+            entries.put(entity, entry);
+            classify(entry, stack.getItem());
+            link(entry, sectionKey);
+            return;
+        }
+        if (entry.item != stack.getItem()) {
+            classify(entry, stack.getItem());
+        }
+        if (entry.sectionKey != sectionKey && iterationDepth == 0) {
+            unlink(entry);
+            link(entry, sectionKey);
+        }
+    }
+
+    public void remove(ItemEntity entity) {
+        if (entity == null) {
+            return;
+        }
+        Entry entry = entries.remove(entity);
+        if (entry == null) {
+            return;
+        }
+        entry.removed = true;
+        if (iterationDepth > 0) {
+            deferredRemovals.add(entry);
+        } else {
+            unlink(entry);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+        cells.clear();
+        deferredRemovals.clear();
+    }
+
+    /**
+     * Visit every tracked item of {@code kindMask} within {@code radius} of the point that
+     * passes {@code filter}.
+     */
+    public void forEachInRange(Vec3d center, double radius, int kindMask,
+                               Predicate<? super ItemEntity> filter, Consumer<? super ItemEntity> action) {
+        if (center == null || radius <= 0.0D || entries.isEmpty()) {
+            return;
+        }
+        double x = center.x;
+        double y = center.y;
+        double z = center.z;
+        double radiusSq = radius * radius;
+        iterationDepth++;
+        try {
+            if (sectionSpan(x, y, z, radius) > cells.size()) {
+                for (Cell cell : cells.values()) {
+                    visitCell(cell, x, y, z, radiusSq, kindMask, filter, action);
+                }
+                return;
+            }
+            int minX = ChunkSectionPos.getSectionCoord(MathHelper.floor(x - radius - SECTION_PADDING));
+            int minY = ChunkSectionPos.getSectionCoord(MathHelper.floor(y - radius - SECTION_PADDING));
+            int minZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(z - radius - SECTION_PADDING));
+            int maxX = ChunkSectionPos.getSectionCoord(MathHelper.floor(x + radius + SECTION_PADDING));
+            int maxY = ChunkSectionPos.getSectionCoord(MathHelper.floor(y + radius + SECTION_PADDING));
+            int maxZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(z + radius + SECTION_PADDING));
+            for (int sx = minX; sx <= maxX; sx++) {
+                for (int sz = minZ; sz <= maxZ; sz++) {
+                    for (int sy = minY; sy <= maxY; sy++) {
+                        Cell cell = cells.get(ChunkSectionPos.asLong(sx, sy, sz));
+                        if (cell != null) {
+                            visitCell(cell, x, y, z, radiusSq, kindMask, filter, action);
+                        }
+                    }
+                }
+            }
+        } finally {
+            finishIteration();
+        }
+    }
+
+    /**
+     * Closest tracked item of {@code kindMask} within {@code radius} of the point that passes
+     * {@code filter}, or {@code null}.
+     */
+    @Nullable
+    public ItemEntity findNearest(Vec3d center, double radius, int kindMask, Predicate<? super ItemEntity> filter) {
+        Nearest nearest = new Nearest(center);
+        forEachInRange(center, radius, kindMask, filter, nearest);
+        return nearest.best;
+    }
+
+    private void visitCell(Cell cell, double x, double y, double z, double radiusSq, int kindMask,
+                           Predicate<? super ItemEntity> filter, Consumer<? super ItemEntity> action) {
+        for (int i = 0; i < cell.size; i++) {
+            Entry entry = cell.entries[i];
+            if (entry.removed || (kindMask != KIND_ANY && (entry.kinds & kindMask) == 0)) {
+                continue;
+            }
+            ItemEntity entity = entry.entity;
+            if (entity.isRemoved()) {
+                continue;
+            }
+            double dx = entity.getX() - x;
+            double dy = entity.getY() - y;
+            double dz = entity.getZ() - z;
+            if ((dx * dx) + (dy * dy) + (dz * dz) > radiusSq) {
+                continue;
+            }
+            if (filter == null || filter.test(entity)) {
+                action.accept(entity);
+            }
+        }
+    }
+
+    private void finishIteration() {
+        iterationDepth--;
+        if (iterationDepth > 0 || deferredRemovals.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < deferredRemovals.size(); i++) {
+            unlink(deferredRemovals.get(i));
+        }
+        deferredRemovals.clear();
+    }
+
+    private long sectionSpan(double x, double y, double z, double radius) {
+        double reach = radius + SECTION_PADDING;
+        long spanX = (ChunkSectionPos.getSectionCoord(MathHelper.floor(x + reach))
+            - ChunkSectionPos.getSectionCoord(MathHelper.floor(x - reach))) + 1L;
+        long spanY = (ChunkSectionPos.getSectionCoord(MathHelper.floor(y + reach))
+            - ChunkSectionPos.getSectionCoord(MathHelper.floor(y - reach))) + 1L;
+        long spanZ = (ChunkSectionPos.getSectionCoord(MathHelper.floor(z + reach))
+            - ChunkSectionPos.getSectionCoord(MathHelper.floor(z - reach))) + 1L;
+        return spanX * spanY * spanZ;
+    }
+
+    private void classify(Entry entry, Item item) {
+        int mask = 0;
+        for (int i = 0; i < kinds.size(); i++) {
+            KindRule rule = kinds.get(i);
+            if (rule.test().test(item)) {
+                mask |= rule.kind();
+            }
+        }
+        entry.item = item;
+        entry.kinds = mask;
+    }
+
+    private void link(Entry entry, long sectionKey) {
+        Cell cell = cells.get(sectionKey);
+        if (cell == null) {
+            cell = new Cell();
+            cells.put(sectionKey, cell);
+        }
+        entry.sectionKey = sectionKey;
+        entry.cell = cell;
+        entry.slot = cell.add(entry);
+    }
+
+    private void unlink(Entry entry) {
+        Cell cell = entry.cell;
+        if (cell == null) {
+            return;
+        }
+        cell.removeAt(entry.slot);
+        entry.cell = null;
+        entry.slot = -1;
+        if (cell.size == 0) {
+            cells.remove(entry.sectionKey);
+        }
+    }
+
+    private static final class Entry {
+        final ItemEntity entity;
+        @Nullable Item item;
+        int kinds;
+        long sectionKey;
+        @Nullable Cell cell;
+        int slot = -1;
+        boolean removed;
+
+        Entry(ItemEntity entity) {
+            this.entity = entity;
+        }
+    }
+
+    /** Assigns the {@code kind} bit to every item type {@code test} accepts. */
+    record KindRule(int kind, Predicate<Item> test) {
+    }
+
+    private static final class Cell {
+        Entry[] entries = new Entry[4];
+        int size;
+
+        int add(Entry entry) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size] = entry;
+            return size++;
+        }
+
+        void removeAt(int slot) {
+            int last = --size;
+            if (slot != last) {
+                Entry moved = entries[last];
+                entries[slot] = moved;
+                moved.slot = slot;
+            }
+            entries[last] = null;
+        }
+    }
+
+    private static final class Nearest implements Consumer<ItemEntity> {
+        final Vec3d center;
+        @Nullable ItemEntity best;
+        double bestDistanceSq = Double.MAX_VALUE;
+
+        Nearest(Vec3d center) {
+            this.center = center;
+        }
+
+        @Override
+        public void accept(ItemEntity entity) {
+            double distanceSq = entity.squaredDistanceTo(center);
+            if (distanceSq < bestDistanceSq) {
+                bestDistanceSq = distanceSq;
+                best = entity;
+            }
+        }
+    }
+}
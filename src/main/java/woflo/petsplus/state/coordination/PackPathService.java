@@ -0,0 +1,202 @@
+package woflo.petsplus.state.coordination;
+
+import net.minecraft.entity.ai.pathing.EntityNavigation;
+import net.minecraft.entity.ai.pathing.Path;
+import net.minecraft.entity.ai.pathing.PathNode;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import org.jetbrains.annotations.Nullable;
+import woflo.petsplus.state.processing.AsyncProcessingTelemetry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-world store of owner "trails": the most recent path one follower computed toward its owner.
+ *
+ * When a pack follows the same owner, the first pet that is allowed to pathfind publishes its
+ * path here. Packmates that are standing on or next to that trail splice into it at the nearest
+ * node and append their own offset target, so one A* search serves the whole pack. A pet that
+ * is off-trail, or whose body or navigation type differs from the trail's author, falls back to
+ * its own search.
+ *
+ * Trails expire after {@link #TRAIL_TTL_TICKS} or once the owner has moved away from where the
+ * trail was aimed. Main-thread only.
+ *
+ * While telemetry is enabled, published and spliced paths and their node counts are added to
+ * {@link AsyncProcessingTelemetry}, so searched versus shared path work can be compared on a
+ * live pack.
+ */
+public final class PackPathService {
+    private static final long TRAIL_TTL_TICKS = 40L;
+    private static final double SPLICE_HORIZONTAL_REACH_SQ = 2.5d * 2.5d;
+    private static final int SPLICE_VERTICAL_REACH = 1;
+    private static final double APPEND_HORIZONTAL_REACH_SQ = 4.0d * 4.0d;
+    private static final int APPEND_VERTICAL_REACH = 1;
+    /** An owner who drifted this far is still covered by appending the follower's own target. */
+    private static final double OWNER_DRIFT_LIMIT_SQ = APPEND_HORIZONTAL_REACH_SQ;
+    private static final long SWEEP_INTERVAL_TICKS = 200L;
+
+    private final Map<UUID, List<Trail>> trailsByOwner = new HashMap<>();
+    private long lastSweepTick = Long.MIN_VALUE;
+
+    /**
+     * Build a path for {@code follower} from a packmate's trail toward the same owner, or return
+     * {@code null} when the follower should run its own search.
+     *
+     * @param ownerPos owner's current position, used to reject trails aimed at a stale spot
+     * @param moveTarget the follower's own target after offsets, appended when it is close to the trail end
+     */
+    @Nullable
+    public Path trySplice(MobEntity follower, UUID ownerId, Vec3d ownerPos, Vec3d moveTarget, long now) {
+        List<Trail> trails = trailsByOwner.get(ownerId);
+        if (trails == null || trails.isEmpty()) {
+            return null;
+        }
+        Class<?> navigationType = follower.getNavigation().getClass();
+        int widthClass = widthClass(follower);
+        int followerX = follower.getBlockX();
+        int followerY = follower.getBlockY();
+        int followerZ = follower.getBlockZ();
+
+        for (Iterator<Trail> iterator = trails.iterator(); iterator.hasNext(); ) {
+            Trail trail = iterator.next();
+            if (isStale(trail, ownerPos, now)) {
+                iterator.remove();
+                continue;
+            }
+            if (trail.navigationType != navigationType || trail.widthClass != widthClass) {
+                continue;
+            }
+            int start = nearestNode(trail.nodes, followerX, followerY, followerZ);
+            if (start < 0 || start + 1 >= trail.nodes.size()) {
+                continue;
+            }
+
+            List<PathNode> nodes = new ArrayList<>(trail.nodes.size() - start + 1);
+            for (int i = start + 1; i < trail.nodes.size(); i++) {
+                nodes.add(trail.nodes.get(i));
+            }
+            BlockPos target = trail.target;
+            boolean reachesTarget = trail.reachesTarget;
+            PathNode last = nodes.get(nodes.size() - 1);
+            int targetX = MathHelper.floor(moveTarget.x);
+            int targetY = MathHelper.floor(moveTarget.y);
+            int targetZ = MathHelper.floor(moveTarget.z);
+            if (withinReach(last, targetX, targetY, targetZ, APPEND_HORIZONTAL_REACH_SQ, APPEND_VERTICAL_REACH)) {
+                if (last.x != targetX || last.y != targetY || last.z != targetZ) {
+                    nodes.add(new PathNode(targetX, targetY, targetZ));
+                }
+                target = new BlockPos(targetX, targetY, targetZ);
+            }
+
+            if (AsyncProcessingTelemetry.isEnabled()) {
+                AsyncProcessingTelemetry.PACK_PATHS_SPLICED.incrementAndGet();
+                AsyncProcessingTelemetry.PACK_PATH_NODES_SPLICED.addAndGet(nodes.size());
+            }
+            return new Path(nodes, target, reachesTarget);
+        }
+        if (trails.isEmpty()) {
+            trailsByOwner.remove(ownerId);
+        }
+        return null;
+    }
+
+    /**
+     * Offer a freshly computed path so packmates can reuse it. Call before handing the path to
+     * navigation, since navigation may trim it.
+     */
+    public void publish(MobEntity author, UUID ownerId, Vec3d ownerPos, @Nullable Path path, long now) {
+        if (path == null || path.getLength() < 2) {
+            return;
+        }
+        List<PathNode> nodes = new ArrayList<>(path.getLength());
+        for (int i = 0; i < path.getLength(); i++) {
+            nodes.add(path.getNode(i));
+        }
+        Trail trail = new Trail(author.getNavigation().getClass(), widthClass(author), List.copyOf(nodes),
+            path.getTarget(), path.reachesTarget(), ownerPos, now);
+
+        List<Trail> trails = trailsByOwner.computeIfAbsent(ownerId, id -> new ArrayList<>(2));
+        trails.removeIf(existing -> existing.navigationType == trail.navigationType
+            && existing.widthClass == trail.widthClass);
+        trails.add(trail);
+        if (AsyncProcessingTelemetry.isEnabled()) {
+            AsyncProcessingTelemetry.PACK_PATHS_PUBLISHED.incrementAndGet();
+            AsyncProcessingTelemetry.PACK_PATH_NODES_PUBLISHED.addAndGet(nodes.size());
+        }
+        sweep(now);
+    }
+
+    /** Drops an owner's trails, e.g. when the owner leaves the world. */
+    public void forgetOwner(UUID ownerId) {
+        trailsByOwner.remove(ownerId);
+    }
+
+    public void clear() {
+        trailsByOwner.clear();
+    }
+
+    private void sweep(long now) {
+        if (lastSweepTick != Long.MIN_VALUE && now - lastSweepTick < SWEEP_INTERVAL_TICKS) {
+            return;
+        }
+        lastSweepTick = now;
+        trailsByOwner.values().removeIf(trails -> {
+            trails.removeIf(trail -> now - trail.createdTick > TRAIL_TTL_TICKS);
+            return trails.isEmpty();
+        });
+    }
+
+    private static boolean isStale(Trail trail, Vec3d ownerPos, long now) {
+        return now - trail.createdTick > TRAIL_TTL_TICKS
+            || trail.ownerPos.squaredDistanceTo(ownerPos) > OWNER_DRIFT_LIMIT_SQ;
+    }
+
+    private static int nearestNode(List<PathNode> nodes, int x, int y, int z) {
+        int best = -1;
+        double bestDistanceSq = Double.MAX_VALUE;
+        for (int i = 0; i < nodes.size(); i++) {
+            PathNode node = nodes.get(i);
+            if (Math.abs(node.y - y) > SPLICE_VERTICAL_REACH) {
+                continue;
+            }
+            double dx = node.x - x;
+            double dz = node.z - z;
+            double distanceSq = (dx * dx) + (dz * dz);
+            if (distanceSq <= SPLICE_HORIZONTAL_REACH_SQ && distanceSq < bestDistanceSq) {
+                bestDistanceSq = distanceSq;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private static boolean withinReach(PathNode node, int x, int y, int z, double horizontalSq, int vertical) {
+        if (Math.abs(node.y - y) > vertical) {
+            return false;
+        }
+        double dx = node.x - x;
+        double dz = node.z - z;
+        return (dx * dx) + (dz * dz) <= horizontalSq;
+    }
+
+    private static int widthClass(MobEntity mob) {
+        return MathHelper.ceil(mob.getWidth());
+    }
+
+    private record Trail(Class<? extends EntityNavigation> navigationType,
+                         int widthClass,
+                         List<PathNode> nodes,
+                         BlockPos target,
+                         boolean reachesTarget,
+                         Vec3d ownerPos,
+                         long createdTick) {
+    }
+}
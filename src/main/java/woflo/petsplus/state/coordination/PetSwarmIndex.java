@@ -1,16 +1,19 @@
 package woflo.petsplus.state.coordination;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.longs.Long2ReferenceOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 
 import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
 import net.minecraft.util.math.ChunkSectionPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 import woflo.petsplus.state.PetComponent;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -19,19 +22,43 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Maintains an owner-scoped spatial index of tracked pets so that group
  * interactions can query nearby allies without scanning the entire world.
+ *
+ * Alongside the per-owner clusters every tracked pet is also filed in a
+ * world-level chunk-section hash, so owner-agnostic radius and nearest-pet
+ * queries only touch the sections that overlap the search volume. Each
+ * tracked pet additionally holds a dense integer slot, which lets
+ * {@link #findNearest} hand results back in caller-owned primitive arrays.
+ *
+ * Each owner's pets are also filed by role, so questions such as "the
+ * highest-level Eclipsed pet within 16 blocks of its owner" walk only that
+ * role's members instead of querying the world for entities. Role buckets
+ * follow entry updates and {@link #refreshRole} when a pet changes role.
+ *
+ * Listeners are not told about every movement. Changes are collected per
+ * owner and handed out as one {@link SwarmDelta} when {@link #flushChanges}
+ * runs at the end of the world tick.
  */
 public final class PetSwarmIndex {
+    private static final double SECTION_SIZE = 16.0D;
+    // Shared by every world's index so a stamp identifies both the owner's role mix and the index
+    private static final AtomicLong ROLE_SET_STAMPS = new AtomicLong();
 
     private final Map<UUID, OwnerSwarm> swarmsByOwner = new HashMap<>();
     private final Map<MobEntity, OwnerSwarm> swarmByPet = new IdentityHashMap<>();
+    private final Long2ReferenceOpenHashMap<WorldCell> worldCells = new Long2ReferenceOpenHashMap<>();
+    private final ObjectArrayList<TrackedEntry> slotTable = new ObjectArrayList<>();
+    private final IntArrayList freeSlots = new IntArrayList();
     private final CopyOnWriteArrayList<SwarmListener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<UUID, PendingChanges> pendingChanges = new HashMap<>();
 
     public void trackPet(MobEntity pet, PetComponent component) {
         updatePet(pet, component);
@@ -55,14 +82,10 @@ public final class PetSwarmIndex {
             if (current.isEmpty()) {
                 swarmsByOwner.remove(current.ownerId(), current);
             }
-            notifyOwnerCleared(current.ownerId());
         }
 
         swarmByPet.put(pet, swarm);
         swarm.updateEntry(pet, component);
-        if (hasListeners()) {
-            notifyOwnerUpdated(ownerId, swarm.snapshot());
-        }
     }
 
     public void untrackPet(MobEntity pet) {
@@ -72,9 +95,14 @@ public final class PetSwarmIndex {
             if (swarm.isEmpty()) {
                 swarmsByOwner.remove(swarm.ownerId(), swarm);
             }
-            if (hasListeners()) {
-                notifyOwnerUpdated(swarm.ownerId(), swarm.snapshot());
-            }
+        }
+    }
+
+    /** Re-file a tracked pet under its current role. Untracked pets are ignored. */
+    public void refreshRole(MobEntity pet) {
+        OwnerSwarm swarm = swarmByPet.get(pet);
+        if (swarm != null) {
+            swarm.refreshRole(pet);
         }
     }
 
@@ -83,18 +111,67 @@ public final class PetSwarmIndex {
         if (swarm != null) {
             swarm.clear();
         }
-        notifyOwnerCleared(ownerId);
     }
 
+    /** Drop every tracked pet and any undelivered changes without notifying listeners. */
     public void clear() {
         for (OwnerSwarm swarm : swarmsByOwner.values()) {
             swarm.clear();
         }
         swarmsByOwner.clear();
         swarmByPet.clear();
-        if (!listeners.isEmpty()) {
+        worldCells.clear();
+        slotTable.clear();
+        freeSlots.clear();
+        pendingChanges.clear();
+    }
+
+    /**
+     * Deliver the changes collected since the last flush, one {@link SwarmDelta} per owner.
+     * Owners whose pets were added or removed are always delivered; owners that only saw
+     * movement wait until their changes are {@code windowTicks} old.
+     */
+    public void flushChanges(long currentTick, int windowTicks) {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        if (listeners.isEmpty()) {
+            pendingChanges.clear();
+            return;
+        }
+
+        // Detach due owners first: listeners may read snapshots, which can record new removals.
+        List<PendingChanges> due = null;
+        var iterator = pendingChanges.values().iterator();
+        while (iterator.hasNext()) {
+            PendingChanges changes = iterator.next();
+            if (changes.isEmpty()) {
+                iterator.remove();
+                continue;
+            }
+            if (changes.firstFlushTick == Long.MIN_VALUE) {
+                changes.firstFlushTick = currentTick;
+            }
+            if (!changes.membershipChanged() && currentTick - changes.firstFlushTick + 1L < windowTicks) {
+                continue;
+            }
+            iterator.remove();
+            if (due == null) {
+                due = new ArrayList<>();
+            }
+            due.add(changes);
+        }
+        if (due == null) {
+            return;
+        }
+
+        for (PendingChanges changes : due) {
+            SwarmDelta delta = changes.toDelta(this);
             for (SwarmListener listener : listeners) {
-                listener.onSwarmUpdated(null, List.of());
+                if (listener.membershipOnly() && !delta.membershipChanged()) {
+                    continue;
+                }
+                listener.onSwarmChanged(delta);
             }
         }
     }
@@ -127,12 +204,91 @@ public final class PetSwarmIndex {
             return;
         }
         double clampedRadius = Math.max(0.0D, radius);
-        if (swarmsByOwner.isEmpty()) {
+        if (worldCells.isEmpty()) {
             return;
         }
-        for (OwnerSwarm swarm : swarmsByOwner.values()) {
-            swarm.forEachInRange(center, clampedRadius, consumer);
+        final double x = center.x;
+        final double y = center.y;
+        final double z = center.z;
+        final double radiusSq = clampedRadius * clampedRadius;
+        forEachWorldCellIntersectingSphere(x, y, z, clampedRadius, cell -> {
+            for (int i = 0; i < cell.size; i++) {
+                TrackedEntry entry = cell.members[i];
+                if (!entry.isValid()) {
+                    continue;
+                }
+                double dx = entry.x - x;
+                double dy = entry.y - y;
+                double dz = entry.z - z;
+                if ((dx * dx) + (dy * dy) + (dz * dz) <= radiusSq) {
+                    consumer.accept(entry);
+                }
+            }
+        });
+    }
+
+    /**
+     * Find the tracked pets closest to a point, across every owner.
+     *
+     * Results are written nearest-first into the caller's arrays; at most
+     * {@code min(slotsOut.length, distancesSqOut.length)} pets are returned.
+     * Each result is a slot id that {@link #entryForSlot(int)} resolves. Slots
+     * stay valid until the pet is untracked, after which they may be reused.
+     *
+     * @param exclude pet to skip, typically the one asking
+     * @return how many entries were written
+     */
+    public int findNearest(double x, double y, double z, double radius, @Nullable MobEntity exclude,
+                           int[] slotsOut, double[] distancesSqOut) {
+        int k = Math.min(slotsOut.length, distancesSqOut.length);
+        if (k == 0 || worldCells.isEmpty() || !(radius >= 0.0D)) {
+            return 0;
         }
+        double radiusSq = radius * radius;
+        int centerX = ChunkSectionPos.getSectionCoord(MathHelper.floor(x));
+        int centerY = ChunkSectionPos.getSectionCoord(MathHelper.floor(y));
+        int centerZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(z));
+        int maxRing = MathHelper.ceil(radius / SECTION_SIZE);
+        long span = (2L * maxRing) + 1L;
+
+        int count = 0;
+        if (span * span * span > worldCells.size()) {
+            // Sparse world: scanning the occupied sections beats probing empty ones.
+            for (WorldCell cell : worldCells.values()) {
+                count = collectNearest(cell, x, y, z, radiusSq, exclude, count, k, slotsOut, distancesSqOut);
+            }
+            return count;
+        }
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int dx = -ring; dx <= ring; dx++) {
+                for (int dy = -ring; dy <= ring; dy++) {
+                    boolean onShell = dx == -ring || dx == ring || dy == -ring || dy == ring;
+                    int step = onShell ? 1 : Math.max(1, ring * 2);
+                    for (int dz = -ring; dz <= ring; dz += step) {
+                        WorldCell cell = worldCells.get(ChunkSectionPos.asLong(centerX + dx, centerY + dy, centerZ + dz));
+                        if (cell != null) {
+                            count = collectNearest(cell, x, y, z, radiusSq, exclude, count, k, slotsOut, distancesSqOut);
+                        }
+                    }
+                }
+            }
+            // Every section beyond this ring is at least ring * 16 blocks away.
+            double shell = ring * SECTION_SIZE;
+            if (count == k && distancesSqOut[k - 1] <= shell * shell) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    /** Resolve a slot returned by {@link #findNearest}, or {@code null} if it is no longer tracked. */
+    @Nullable
+    public SwarmEntry entryForSlot(int slot) {
+        if (slot < 0 || slot >= slotTable.size()) {
+            return null;
+        }
+        return slotTable.get(slot);
     }
 
     public void forEachNeighbor(MobEntity pet, PetComponent component, double radius,
@@ -198,29 +354,359 @@ public final class PetSwarmIndex {
         return entry.snapshot();
     }
 
+    /**
+     * Changes whenever the set of roles held by {@code ownerId}'s tracked pets changes, and is 0
+     * when the owner has no tracked pets. Stamps are unique across all indexes, so anything derived
+     * from an owner's role mix can be revalidated by comparing one long, even when the owner has
+     * pets in several worlds.
+     */
+    public long roleSetStamp(@Nullable UUID ownerId) {
+        if (ownerId == null) {
+            return 0L;
+        }
+        OwnerSwarm swarm = swarmsByOwner.get(ownerId);
+        return swarm != null ? swarm.roleSetStamp : 0L;
+    }
+
+    /** Visit each distinct role held by {@code ownerId}'s tracked pets. */
+    public void forEachOwnerRole(@Nullable UUID ownerId, Consumer<Identifier> consumer) {
+        if (ownerId == null) {
+            return;
+        }
+        OwnerSwarm swarm = swarmsByOwner.get(ownerId);
+        if (swarm != null) {
+            swarm.roleBuckets.keySet().forEach(consumer);
+        }
+    }
+
+    /** How many of {@code ownerId}'s tracked pets hold {@code roleId}. */
+    public int roleCount(@Nullable UUID ownerId, @Nullable Identifier roleId) {
+        RoleBucket bucket = roleBucket(ownerId, roleId);
+        return bucket != null ? bucket.members.size() : 0;
+    }
+
+    /**
+     * Visit {@code ownerId}'s living pets that hold {@code roleId} and stand within
+     * {@code radius} of {@code center}. Costs one pass over that role's members. The
+     * consumer must not track, untrack or re-role pets while it runs.
+     */
+    public void forEachRoleMemberInRange(@Nullable UUID ownerId, @Nullable Identifier roleId, Vec3d center,
+                                         double radius, Consumer<SwarmEntry> consumer) {
+        RoleBucket bucket = roleBucket(ownerId, roleId);
+        if (bucket == null || center == null || consumer == null) {
+            return;
+        }
+        double radiusSq = radius * radius;
+        ObjectArrayList<TrackedEntry> members = bucket.members;
+        for (int i = 0; i < members.size(); i++) {
+            TrackedEntry entry = members.get(i);
+            if (entry.isAliveWithin(center.x, center.y, center.z, radiusSq)) {
+                consumer.accept(entry);
+            }
+        }
+    }
+
+    /** Whether any living {@code roleId} pet of {@code ownerId} within range passes {@code filter}. */
+    public boolean anyRoleMemberInRange(@Nullable UUID ownerId, @Nullable Identifier roleId, Vec3d center,
+                                        double radius, @Nullable Predicate<SwarmEntry> filter) {
+        RoleBucket bucket = roleBucket(ownerId, roleId);
+        if (bucket == null || center == null) {
+            return false;
+        }
+        double radiusSq = radius * radius;
+        ObjectArrayList<TrackedEntry> members = bucket.members;
+        for (int i = 0; i < members.size(); i++) {
+            TrackedEntry entry = members.get(i);
+            if (entry.isAliveWithin(center.x, center.y, center.z, radiusSq)
+                && (filter == null || filter.test(entry))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean anyRoleMemberInRange(@Nullable UUID ownerId, @Nullable Identifier roleId, Vec3d center,
+                                        double radius, int minLevel) {
+        return anyRoleMemberInRange(ownerId, roleId, center, radius,
+            minLevel <= 0 ? null : entry -> entry.component().getLevel() >= minLevel);
+    }
+
+    /** Highest level among living {@code roleId} pets of {@code ownerId} within range, or 0 when there are none. */
+    public int maxRoleLevelInRange(@Nullable UUID ownerId, @Nullable Identifier roleId, Vec3d center, double radius) {
+        RoleBucket bucket = roleBucket(ownerId, roleId);
+        if (bucket == null || center == null) {
+            return 0;
+        }
+        double radiusSq = radius * radius;
+        int maxLevel = 0;
+        ObjectArrayList<TrackedEntry> members = bucket.members;
+        for (int i = 0; i < members.size(); i++) {
+            TrackedEntry entry = members.get(i);
+            if (entry.isAliveWithin(center.x, center.y, center.z, radiusSq)) {
+                maxLevel = Math.max(maxLevel, entry.component().getLevel());
+            }
+        }
+        return maxLevel;
+    }
+
+    @Nullable
+    private RoleBucket roleBucket(@Nullable UUID ownerId, @Nullable Identifier roleId) {
+        if (ownerId == null || roleId == null) {
+            return null;
+        }
+        OwnerSwarm swarm = swarmsByOwner.get(ownerId);
+        return swarm != null ? swarm.roleBucket(roleId) : null;
+    }
+
     public interface NeighborVisitor {
         void accept(SwarmEntry entry, double squaredDistance);
     }
 
     public interface SwarmListener {
-        void onSwarmUpdated(@Nullable UUID ownerId, List<SwarmEntry> entries);
+        void onSwarmChanged(SwarmDelta delta);
+
+        /** Skip deltas in which pets only moved. */
+        default boolean membershipOnly() {
+            return false;
+        }
+    }
+
+    /**
+     * Everything that happened to one owner's swarm since it was last delivered. A pet appears
+     * in at most one of the three lists; a pet added and removed again within the window is
+     * not reported at all.
+     */
+    public static final class SwarmDelta {
+        private final UUID ownerId;
+        private final List<SwarmEntry> added;
+        private final List<SwarmEntry> moved;
+        private final List<SwarmEntry> removed;
+        private final PetSwarmIndex index;
+
+        private SwarmDelta(UUID ownerId, List<SwarmEntry> added, List<SwarmEntry> moved,
+                           List<SwarmEntry> removed, PetSwarmIndex index) {
+            this.ownerId = ownerId;
+            this.added = added;
+            this.moved = moved;
+            this.removed = removed;
+            this.index = index;
+        }
+
+        public UUID ownerId() {
+            return ownerId;
+        }
+
+        public List<SwarmEntry> added() {
+            return added;
+        }
+
+        public List<SwarmEntry> moved() {
+            return moved;
+        }
+
+        /** Last known positions of pets that left the owner's swarm. */
+        public List<SwarmEntry> removed() {
+            return removed;
+        }
+
+        public boolean membershipChanged() {
+            return !added.isEmpty() || !removed.isEmpty();
+        }
+
+        /** The owner's full swarm as it stands now. */
+        public List<SwarmEntry> entries() {
+            return index.snapshotOwner(ownerId);
+        }
+    }
+
+    private PendingChanges pendingFor(UUID ownerId) {
+        return pendingChanges.computeIfAbsent(ownerId, PendingChanges::new);
+    }
+
+    private void recordAdded(UUID ownerId, TrackedEntry entry) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        PendingChanges changes = pendingFor(ownerId);
+        MobEntity pet = entry.pet();
+        if (changes.removed.remove(pet) != null) {
+            // Left and came back within the window: membership is unchanged.
+            changes.moved.put(pet, entry);
+        } else {
+            changes.added.put(pet, entry);
+        }
     }
 
-    private boolean hasListeners() {
-        return !listeners.isEmpty();
+    private void recordMoved(UUID ownerId, TrackedEntry entry) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        PendingChanges changes = pendingFor(ownerId);
+        MobEntity pet = entry.pet();
+        if (!changes.added.containsKey(pet)) {
+            changes.moved.put(pet, entry);
+        }
     }
 
-    private void notifyOwnerUpdated(@Nullable UUID ownerId, List<SwarmEntry> snapshot) {
+    private void recordRemoved(UUID ownerId, SwarmEntry lastKnown) {
         if (listeners.isEmpty()) {
             return;
         }
-        for (SwarmListener listener : listeners) {
-            listener.onSwarmUpdated(ownerId, snapshot);
+        PendingChanges changes = pendingFor(ownerId);
+        MobEntity pet = lastKnown.pet();
+        if (changes.added.remove(pet) != null) {
+            return;
+        }
+        changes.moved.remove(pet);
+        changes.removed.put(pet, lastKnown);
+    }
+
+    private static final class PendingChanges {
+        private final UUID ownerId;
+        private final Map<MobEntity, TrackedEntry> added = new IdentityHashMap<>();
+        private final Map<MobEntity, TrackedEntry> moved = new IdentityHashMap<>();
+        private final Map<MobEntity, SwarmEntry> removed = new IdentityHashMap<>();
+        private long firstFlushTick = Long.MIN_VALUE;
+
+        private PendingChanges(UUID ownerId) {
+            this.ownerId = ownerId;
+        }
+
+        boolean isEmpty() {
+            return added.isEmpty() && moved.isEmpty() && removed.isEmpty();
+        }
+
+        boolean membershipChanged() {
+            return !added.isEmpty() || !removed.isEmpty();
+        }
+
+        SwarmDelta toDelta(PetSwarmIndex index) {
+            return new SwarmDelta(ownerId, views(added), views(moved),
+                removed.isEmpty() ? List.of() : List.copyOf(removed.values()), index);
+        }
+
+        private static List<SwarmEntry> views(Map<MobEntity, TrackedEntry> entries) {
+            if (entries.isEmpty()) {
+                return List.of();
+            }
+            List<SwarmEntry> views = new ArrayList<>(entries.size());
+            for (TrackedEntry entry : entries.values()) {
+                views.add(entry.snapshot());
+            }
+            return Collections.unmodifiableList(views);
+        }
+    }
+
+    private void placeInWorldGrid(TrackedEntry entry, long key) {
+        WorldCell current = entry.worldCell;
+        if (current != null) {
+            if (current.key == key) {
+                return;
+            }
+            current.remove(entry);
+            if (current.isEmpty()) {
+                worldCells.remove(current.key);
+            }
+        }
+        WorldCell cell = worldCells.get(key);
+        if (cell == null) {
+            cell = new WorldCell(key);
+            worldCells.put(key, cell);
+        }
+        cell.add(entry);
+        if (entry.slot < 0) {
+            if (freeSlots.isEmpty()) {
+                entry.slot = slotTable.size();
+                slotTable.add(entry);
+            } else {
+                entry.slot = freeSlots.popInt();
+                slotTable.set(entry.slot, entry);
+            }
+        }
+    }
+
+    private void removeFromWorldGrid(TrackedEntry entry) {
+        WorldCell cell = entry.worldCell;
+        if (cell != null) {
+            cell.remove(entry);
+            if (cell.isEmpty()) {
+                worldCells.remove(cell.key);
+            }
+        }
+        int slot = entry.slot;
+        if (slot >= 0 && slot < slotTable.size() && slotTable.get(slot) == entry) {
+            slotTable.set(slot, null);
+            freeSlots.add(slot);
+        }
+        entry.slot = -1;
+    }
+
+    private void forEachWorldCellIntersectingSphere(double centerX, double centerY, double centerZ,
+                                                    double radius, Consumer<WorldCell> consumer) {
+        int minSectionX = ChunkSectionPos.getSectionCoord(MathHelper.floor(centerX - radius));
+        int maxSectionX = ChunkSectionPos.getSectionCoord(MathHelper.floor(centerX + radius));
+        int minSectionY = ChunkSectionPos.getSectionCoord(MathHelper.floor(centerY - radius));
+        int maxSectionY = ChunkSectionPos.getSectionCoord(MathHelper.floor(centerY + radius));
+        int minSectionZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(centerZ - radius));
+        int maxSectionZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(centerZ + radius));
+        double radiusSq = radius * radius;
+
+        long span = ((long) maxSectionX - minSectionX + 1L)
+            * ((long) maxSectionY - minSectionY + 1L)
+            * ((long) maxSectionZ - minSectionZ + 1L);
+        if (span > worldCells.size()) {
+            for (WorldCell cell : worldCells.values()) {
+                if (cell.distanceSqTo(centerX, centerY, centerZ) <= radiusSq) {
+                    consumer.accept(cell);
+                }
+            }
+            return;
+        }
+
+        for (int sectionX = minSectionX; sectionX <= maxSectionX; sectionX++) {
+            for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                for (int sectionZ = minSectionZ; sectionZ <= maxSectionZ; sectionZ++) {
+                    WorldCell cell = worldCells.get(ChunkSectionPos.asLong(sectionX, sectionY, sectionZ));
+                    if (cell != null && cell.distanceSqTo(centerX, centerY, centerZ) <= radiusSq) {
+                        consumer.accept(cell);
+                    }
+                }
+            }
         }
     }
 
-    private void notifyOwnerCleared(@Nullable UUID ownerId) {
-        notifyOwnerUpdated(ownerId, List.of());
+    private static int collectNearest(WorldCell cell, double x, double y, double z, double radiusSq,
+                                      @Nullable MobEntity exclude, int count, int k,
+                                      int[] slotsOut, double[] distancesSqOut) {
+        double bound = count == k ? Math.min(radiusSq, distancesSqOut[k - 1]) : radiusSq;
+        if (cell.distanceSqTo(x, y, z) > bound) {
+            return count;
+        }
+        for (int i = 0; i < cell.size; i++) {
+            TrackedEntry entry = cell.members[i];
+            if (entry.pet() == exclude || !entry.isValid()) {
+                continue;
+            }
+            double dx = entry.x - x;
+            double dy = entry.y - y;
+            double dz = entry.z - z;
+            double distSq = (dx * dx) + (dy * dy) + (dz * dz);
+            if (distSq > radiusSq || (count == k && distSq >= distancesSqOut[k - 1])) {
+                continue;
+            }
+            int index = count < k ? count : k - 1;
+            while (index > 0 && distancesSqOut[index - 1] > distSq) {
+                slotsOut[index] = slotsOut[index - 1];
+                distancesSqOut[index] = distancesSqOut[index - 1];
+                index--;
+            }
+            slotsOut[index] = entry.slot;
+            distancesSqOut[index] = distSq;
+            if (count < k) {
+                count++;
+            }
+        }
+        return count;
     }
 
     public static class SwarmEntry {
@@ -268,13 +754,16 @@ public final class PetSwarmIndex {
         private final Map<UUID, TrackedEntry> entriesByUuid = new HashMap<>();
         private final Long2ReferenceOpenHashMap<OwnerCell> cells = new Long2ReferenceOpenHashMap<>();
         private final Long2ReferenceOpenHashMap<OwnerCluster> clusters = new Long2ReferenceOpenHashMap<>();
+        private final Map<Identifier, RoleBucket> roleBuckets = new HashMap<>();
 
         private List<SwarmEntry> snapshotView = List.of();
         private boolean snapshotDirty = true;
         private int structureVersion = 0;
+        private long roleSetStamp;
 
         private OwnerSwarm(UUID ownerId) {
             this.ownerId = ownerId;
+            this.roleSetStamp = ROLE_SET_STAMPS.incrementAndGet();
         }
 
         UUID ownerId() {
@@ -295,6 +784,8 @@ public final class PetSwarmIndex {
             }
             entries.clear();
             cells.clear();
+            roleBuckets.clear();
+            roleSetStamp = ROLE_SET_STAMPS.incrementAndGet();
             snapshotView = List.of();
             markDirty();
         }
@@ -306,6 +797,7 @@ public final class PetSwarmIndex {
             }
 
             TrackedEntry entry = entries.get(pet);
+            boolean created = entry == null;
             boolean changed = false;
             if (entry == null) {
                 entry = createEntry(pet, component);
@@ -319,6 +811,7 @@ public final class PetSwarmIndex {
                     changed = true;
                 }
             }
+            syncRole(entry);
 
             double x = pet.getX();
             double y = pet.getY();
@@ -339,6 +832,11 @@ public final class PetSwarmIndex {
 
             if (changed) {
                 markDirty();
+                if (created) {
+                    recordAdded(ownerId, entry);
+                } else {
+                    recordMoved(ownerId, entry);
+                }
             }
         }
 
@@ -350,6 +848,53 @@ public final class PetSwarmIndex {
             }
         }
 
+        void refreshRole(MobEntity pet) {
+            TrackedEntry entry = entries.get(pet);
+            if (entry != null) {
+                syncRole(entry);
+            }
+        }
+
+        @Nullable
+        RoleBucket roleBucket(Identifier roleId) {
+            return roleBuckets.get(roleId);
+        }
+
+        private void syncRole(TrackedEntry entry) {
+            PetComponent component = entry.component();
+            Identifier roleId = component != null ? component.getRoleId() : null;
+            if (roleId != null && roleId.equals(entry.roleId)) {
+                return;
+            }
+            leaveRole(entry);
+            if (roleId != null) {
+                RoleBucket bucket = roleBuckets.get(roleId);
+                if (bucket == null) {
+                    bucket = new RoleBucket();
+                    roleBuckets.put(roleId, bucket);
+                    roleSetStamp = ROLE_SET_STAMPS.incrementAndGet();
+                }
+                bucket.add(entry);
+                entry.roleId = roleId;
+            }
+        }
+
+        private void leaveRole(TrackedEntry entry) {
+            Identifier roleId = entry.roleId;
+            if (roleId == null) {
+                return;
+            }
+            RoleBucket bucket = roleBuckets.get(roleId);
+            if (bucket != null) {
+                bucket.remove(entry);
+                if (bucket.members.isEmpty()) {
+                    roleBuckets.remove(roleId);
+                    roleSetStamp = ROLE_SET_STAMPS.incrementAndGet();
+                }
+            }
+            entry.roleId = null;
+        }
+
         private TrackedEntry createEntry(MobEntity pet, PetComponent component) {
             double x = pet.getX();
             double y = pet.getY();
@@ -366,6 +911,7 @@ public final class PetSwarmIndex {
             cell.add(entry);
             entry.cell = cell;
             entry.cellKey = key;
+            placeInWorldGrid(entry, key);
         }
 
         private void moveEntry(TrackedEntry entry, long newKey) {
@@ -389,8 +935,11 @@ public final class PetSwarmIndex {
                     detachCellFromCluster(cell);
                 }
             }
+            removeFromWorldGrid(entry);
+            leaveRole(entry);
             swarmByPet.remove(entry.pet());
             entriesByUuid.remove(entry.pet().getUuid());
+            recordRemoved(ownerId, entry.snapshot());
             entry.snapshot = null;
             entry.invalidateCache();
             markDirty();
@@ -775,9 +1324,89 @@ public final class PetSwarmIndex {
         }
     }
 
+    /** One owner's pets that hold the same role; order is not kept. */
+    private static final class RoleBucket {
+        private final ObjectArrayList<TrackedEntry> members = new ObjectArrayList<>();
+
+        void add(TrackedEntry entry) {
+            entry.roleIndex = members.size();
+            members.add(entry);
+        }
+
+        void remove(TrackedEntry entry) {
+            int index = entry.roleIndex;
+            if (index < 0 || index >= members.size() || members.get(index) != entry) {
+                return;
+            }
+            int lastIndex = members.size() - 1;
+            TrackedEntry last = members.get(lastIndex);
+            members.set(index, last);
+            last.roleIndex = index;
+            members.remove(lastIndex);
+            entry.roleIndex = -1;
+        }
+    }
+
+    /** One chunk section of the world-level grid, holding pets of every owner. */
+    private static final class WorldCell {
+        private final long key;
+        private TrackedEntry[] members = new TrackedEntry[4];
+        private int size;
+
+        private WorldCell(long key) {
+            this.key = key;
+        }
+
+        void add(TrackedEntry entry) {
+            if (size == members.length) {
+                members = Arrays.copyOf(members, size * 2);
+            }
+            entry.worldCell = this;
+            entry.worldIndex = size;
+            members[size++] = entry;
+        }
+
+        void remove(TrackedEntry entry) {
+            int index = entry.worldIndex;
+            if (index < 0 || index >= size || members[index] != entry) {
+                return;
+            }
+            int last = --size;
+            if (index != last) {
+                TrackedEntry moved = members[last];
+                members[index] = moved;
+                moved.worldIndex = index;
+            }
+            members[last] = null;
+            entry.worldCell = null;
+            entry.worldIndex = -1;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        /** Squared distance from a point to the nearest edge of this section, 0 if inside. */
+        double distanceSqTo(double x, double y, double z) {
+            double minX = ChunkSectionPos.getBlockCoord(ChunkSectionPos.unpackX(key));
+            double minY = ChunkSectionPos.getBlockCoord(ChunkSectionPos.unpackY(key));
+            double minZ = ChunkSectionPos.getBlockCoord(ChunkSectionPos.unpackZ(key));
+            double dx = x < minX ? minX - x : Math.max(0.0D, x - (minX + SECTION_SIZE));
+            double dy = y < minY ? minY - y : Math.max(0.0D, y - (minY + SECTION_SIZE));
+            double dz = z < minZ ? minZ - z : Math.max(0.0D, z - (minZ + SECTION_SIZE));
+            return (dx * dx) + (dy * dy) + (dz * dz);
+        }
+    }
+
     private static final class TrackedEntry extends SwarmEntry {
         private long cellKey;
         private OwnerCell cell;
+        private WorldCell worldCell;
+        private int worldIndex = -1;
+        private int slot = -1;
+        @Nullable
+        private Identifier roleId;
+        private int roleIndex = -1;
         private SwarmEntry snapshot;
         private NeighborCache neighborCache;
 
@@ -795,6 +1424,16 @@ public final class PetSwarmIndex {
             return ownerId != null;
         }
 
+        boolean isAliveWithin(double x, double y, double z, double radiusSq) {
+            if (!isValid() || !pet().isAlive()) {
+                return false;
+            }
+            double dx = this.x - x;
+            double dy = this.y - y;
+            double dz = this.z - z;
+            return (dx * dx) + (dy * dy) + (dz * dz) <= radiusSq;
+        }
+
         SwarmEntry snapshot() {
             SwarmEntry view = snapshot;
             if (view == null) {
@@ -0,0 +1,245 @@
+package woflo.petsplus.state.coordination;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-wide, closed-loop budget for PetsPlus work.
+ *
+ * Hooks report how many nanoseconds they spent on pet work via {@link #recordWork(long)}. At the
+ * end of every server tick the governor compares a smoothed average against the configured
+ * millisecond target and nudges a single scale factor up or down. That factor sizes the token
+ * pools for each {@link Lane} (path starts, aura applications, mood recomputes, async
+ * submissions) for the next tick.
+ *
+ * Each pool is shared across every world and split fairly between the owners that drew from it
+ * on the previous tick. An owner's share is also capped by the caller's per-owner baseline times
+ * the scale factor, so a lone owner cannot drain the whole pool. Until the first server tick has
+ * been closed the governor only enforces the per-owner baselines.
+ *
+ * While the governor is disabled in config ({@link #skipServerTick()}) it meters nothing, except
+ * that path starts and aura applications keep the fixed per-owner limits they had before the
+ * governor existed.
+ */
+public final class TickBudgetGovernor {
+    private static final TickBudgetGovernor GLOBAL = new TickBudgetGovernor();
+
+    private static final double MIN_SCALE = 0.1D;
+    private static final double MAX_SCALE = 4.0D;
+    private static final double SMOOTHING = 0.2D;
+    private static final double GAIN = 0.35D;
+    private static final long BUCKET_SWEEP_INTERVAL = 1200L;
+
+    /** Kinds of work the governor meters. */
+    public enum Lane {
+        PATH_START(96, true),
+        AURA_APPLICATION(768, true),
+        MOOD_RECOMPUTE(256, false),
+        ASYNC_SUBMISSION(64, false);
+
+        private final int basePool;
+        private final boolean fixedOwnerCap;
+
+        Lane(int basePool, boolean fixedOwnerCap) {
+            this.basePool = basePool;
+            this.fixedOwnerCap = fixedOwnerCap;
+        }
+
+        /** Server-wide tokens per tick at a scale factor of 1. */
+        public int basePool() {
+            return basePool;
+        }
+    }
+
+    private final AtomicLong pendingWorkNanos = new AtomicLong();
+    private final Map<Lane, LaneState> lanes = new EnumMap<>(Lane.class);
+
+    private volatile boolean enabled = true;
+    private volatile boolean armed;
+    private volatile long tick;
+    private volatile double scale = 1.0D;
+    private volatile double smoothedWorkNanos;
+    private volatile long targetNanos = 4_000_000L;
+
+    TickBudgetGovernor() {
+        for (Lane lane : Lane.values()) {
+            lanes.put(lane, new LaneState(lane.basePool));
+        }
+    }
+
+    public static TickBudgetGovernor global() {
+        return GLOBAL;
+    }
+
+    /** Add time spent on PetsPlus work during the current server tick. */
+    public void recordWork(long nanos) {
+        if (nanos > 0L) {
+            pendingWorkNanos.addAndGet(nanos);
+        }
+    }
+
+    /**
+     * Try to take one token from {@code lane}.
+     *
+     * @param ownerId owner the work is for, or {@code null} for work that only draws on the pool
+     * @param ownerBaseline tokens an owner may take per tick at a scale factor of 1
+     * @return true if the caller may do the work now
+     */
+    public boolean tryAcquire(Lane lane, @Nullable UUID ownerId, int ownerBaseline) {
+        if (lane == null || ownerBaseline <= 0) {
+            return false;
+        }
+        if (!enabled && !lane.fixedOwnerCap) {
+            return true;
+        }
+        LaneState state = lanes.get(lane);
+        long currentTick = tick;
+        boolean enforcePool = armed;
+
+        if (ownerId != null) {
+            int ownerLimit = ownerBaseline;
+            if (enforcePool) {
+                ownerLimit = Math.max(1, (int) Math.round(ownerBaseline * scale));
+                ownerLimit = Math.min(ownerLimit, state.fairShare);
+            }
+            OwnerBucket bucket = state.owners.computeIfAbsent(ownerId, id -> new OwnerBucket());
+            synchronized (bucket) {
+                if (bucket.tick != currentTick) {
+                    bucket.tick = currentTick;
+                    bucket.used = 0;
+                    state.activeOwners.incrementAndGet();
+                }
+                if (bucket.used >= ownerLimit) {
+                    state.denied.incrementAndGet();
+                    return false;
+                }
+                if (enforcePool && state.remaining.getAndDecrement() <= 0) {
+                    state.remaining.incrementAndGet();
+                    state.denied.incrementAndGet();
+                    return false;
+                }
+                bucket.used++;
+            }
+            return true;
+        }
+
+        if (enforcePool && state.remaining.getAndDecrement() <= 0) {
+            state.remaining.incrementAndGet();
+            state.denied.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Close the loop for the tick that just finished and refill every lane for the next one.
+     * Must be called once per server tick from the server thread.
+     *
+     * @param targetMillis configured budget for PetsPlus work per tick
+     */
+    public void endServerTick(double targetMillis) {
+        long spent = pendingWorkNanos.getAndSet(0L);
+        long target = Math.max(100_000L, Math.round(targetMillis * 1_000_000.0D));
+        targetNanos = target;
+
+        double smoothed = armed
+            ? (SMOOTHING * spent) + ((1.0D - SMOOTHING) * smoothedWorkNanos)
+            : spent;
+        smoothedWorkNanos = smoothed;
+
+        double ratio = target / Math.max(1.0D, smoothed);
+        double nextScale = scale * Math.pow(ratio, GAIN);
+        if (Double.isNaN(nextScale)) {
+            nextScale = 1.0D;
+        }
+        scale = Math.max(MIN_SCALE, Math.min(MAX_SCALE, nextScale));
+
+        long nextTick = tick + 1L;
+        for (Lane lane : Lane.values()) {
+            lanes.get(lane).refill(lane, scale, nextTick);
+        }
+        tick = nextTick;
+        armed = true;
+        enabled = true;
+    }
+
+    /**
+     * Advance to the next tick without metering: only the fixed per-owner path and aura limits
+     * stay in force. Used while the governor is disabled in config.
+     */
+    public void skipServerTick() {
+        pendingWorkNanos.set(0L);
+        armed = false;
+        enabled = false;
+        tick = tick + 1L;
+    }
+
+    /** Forget all measurements and owner buckets, e.g. when the server stops. */
+    public void reset() {
+        armed = false;
+        enabled = true;
+        pendingWorkNanos.set(0L);
+        smoothedWorkNanos = 0.0D;
+        scale = 1.0D;
+        for (Lane lane : Lane.values()) {
+            LaneState state = lanes.get(lane);
+            state.owners.clear();
+            state.activeOwners.set(0);
+            state.denied.set(0L);
+            state.fairShare = lane.basePool;
+            state.remaining.set(lane.basePool);
+        }
+    }
+
+    public double scale() {
+        return scale;
+    }
+
+    public double smoothedWorkMillis() {
+        return smoothedWorkNanos / 1_000_000.0D;
+    }
+
+    public double targetMillis() {
+        return targetNanos / 1_000_000.0D;
+    }
+
+    /** Tokens refused on {@code lane} since the last reset. */
+    public long deniedCount(Lane lane) {
+        return lanes.get(lane).denied.get();
+    }
+
+    private static final class LaneState {
+        final Map<UUID, OwnerBucket> owners = new ConcurrentHashMap<>();
+        final AtomicInteger remaining;
+        final AtomicInteger activeOwners = new AtomicInteger();
+        final AtomicLong denied = new AtomicLong();
+        volatile int fairShare;
+
+        LaneState(int basePool) {
+            this.remaining = new AtomicInteger(basePool);
+            this.fairShare = basePool;
+        }
+
+        void refill(Lane lane, double scale, long nextTick) {
+            int pool = Math.max(1, (int) Math.round(lane.basePool * scale));
+            int owners = Math.max(1, activeOwners.getAndSet(0));
+            fairShare = Math.max(1, (pool + owners - 1) / owners);
+            remaining.set(pool);
+            if (nextTick % BUCKET_SWEEP_INTERVAL == 0L && !this.owners.isEmpty()) {
+                long cutoff = nextTick - BUCKET_SWEEP_INTERVAL;
+                this.owners.values().removeIf(bucket -> bucket.tick < cutoff);
+            }
+        }
+    }
+
+    private static final class OwnerBucket {
+        long tick = Long.MIN_VALUE;
+        int used;
+    }
+}
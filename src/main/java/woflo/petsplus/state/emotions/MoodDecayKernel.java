@@ -0,0 +1,417 @@
+package woflo.petsplus.state.emotions;
+
+import net.minecraft.util.math.MathHelper;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * World-level, structure-of-arrays decay pass for pet emotion records.
+ *
+ * Each {@link PetMoodEngine} that refreshes during a tick submits one row per active emotion
+ * instead of decaying its {@code EmotionRecord} objects in place. Rows live in primitive
+ * columns (intensity, impact budget, cadence EMA, homeostasis bias, contagion share, last update
+ * tick) and {@link #flush()} decays every row in a single tight loop, split
+ * across the common fork-join pool once the batch is large enough. Completions then run on the
+ * calling thread in submission order so each engine blends its mood from the decayed row.
+ *
+ * Rows are copies: {@link #addRow} writes a pet's clamped record fields into the columns so the
+ * pass can stream them, and completions read the decayed values back in place through the
+ * column accessors instead of receiving new record objects. {@link #decayFactor},
+ * {@link #relaxHomeostasis} and {@link #decayContagion} hold the per-row arithmetic, and
+ * {@code PetMoodEngine}'s scalar refresh calls the same helpers, so batched and scalar refreshes
+ * produce identical moods.
+ */
+public final class MoodDecayKernel {
+    /** Below this many rows the pass runs on the calling thread. */
+    static final int PARALLEL_THRESHOLD = 4096;
+    private static final int PARALLEL_SLICE = 1024;
+    private static final double LN_2 = Math.log(2);
+
+    /** Called once the rows a pet submitted have been decayed. */
+    @FunctionalInterface
+    public interface Completion {
+        void complete(MoodDecayKernel kernel, int firstRow, int rowCount);
+    }
+
+    // Row columns
+    private float[] intensity = new float[64];
+    private float[] impactBudget = new float[64];
+    private float[] cadenceEMA = new float[64];
+    private float[] homeostasisBias = new float[64];
+    private float[] contagionShare = new float[64];
+    private float[] emotionMultiplier = new float[64];
+    private long[] lastUpdate = new long[64];
+    private byte[] flags = new byte[64];
+    private int[] rowPet = new int[64];
+
+    // Pet columns
+    private long[] petNow = new long[16];
+    private float[] habituationBase = new float[16];
+    private float[] halfLifeMultiplier = new float[16];
+    private float[] minHalfLife = new float[16];
+    private float[] maxHalfLife = new float[16];
+    private float[] negativePersistence = new float[16];
+    private float[] conditionPresentMultiplier = new float[16];
+    private float[] homeostasisRecoveryHalf = new float[16];
+    private int[] petFirstRow = new int[16];
+    private Completion[] completions = new Completion[16];
+
+    private static final byte FLAG_NEGATIVE = 1;
+    private static final byte FLAG_ONGOING = 1 << 1;
+    private static final byte FLAG_DECAYED = 1 << 2;
+
+    private int rowCount;
+    private int petCount;
+    private boolean flushing;
+
+    private long batches;
+    private long rowsProcessed;
+
+    /**
+     * Open a pet in the current batch. Rows added with {@link #addRow} until the next call
+     * belong to this pet and are decayed against {@code now} with the supplied tuning. Pets
+     * opened from a completion while the kernel is flushing are queued for the next flush.
+     *
+     * @return the pet index to pass to {@link #addRow}
+     */
+    public int beginPet(long now,
+                        float habituationBase,
+                        float halfLifeMultiplier,
+                        float minHalfLife,
+                        float maxHalfLife,
+                        float negativePersistence,
+                        float conditionPresentMultiplier,
+                        float homeostasisRecoveryHalf,
+                        Completion completion) {
+        ensurePetCapacity(petCount + 1);
+        int pet = petCount++;
+        this.petNow[pet] = now;
+        this.habituationBase[pet] = habituationBase;
+        this.halfLifeMultiplier[pet] = halfLifeMultiplier;
+        this.minHalfLife[pet] = minHalfLife;
+        this.maxHalfLife[pet] = maxHalfLife;
+        this.negativePersistence[pet] = negativePersistence;
+        this.conditionPresentMultiplier[pet] = conditionPresentMultiplier;
+        this.homeostasisRecoveryHalf[pet] = homeostasisRecoveryHalf;
+        this.petFirstRow[pet] = rowCount;
+        this.completions[pet] = completion;
+        return pet;
+    }
+
+    /**
+     * Append one emotion row for {@code pet}.
+     *
+     * @return the row index, readable through the column accessors after {@link #flush()}
+     */
+    public int addRow(int pet,
+                      float intensity,
+                      float impactBudget,
+                      float cadenceEMA,
+                      float homeostasisBias,
+                      float contagionShare,
+                      long lastUpdateTime,
+                      float emotionMultiplier,
+                      boolean negative,
+                      boolean ongoingCondition) {
+        if (pet != petCount - 1) {
+            throw new IllegalArgumentException("Rows must be added to the most recently opened pet");
+        }
+        ensureRowCapacity(rowCount + 1);
+        int row = rowCount++;
+        this.intensity[row] = intensity;
+        this.impactBudget[row] = impactBudget;
+        this.cadenceEMA[row] = cadenceEMA;
+        this.homeostasisBias[row] = homeostasisBias;
+        this.contagionShare[row] = contagionShare;
+        this.lastUpdate[row] = lastUpdateTime;
+        this.emotionMultiplier[row] = emotionMultiplier;
+        byte rowFlags = 0;
+        if (negative) {
+            rowFlags |= FLAG_NEGATIVE;
+        }
+        if (ongoingCondition) {
+            rowFlags |= FLAG_ONGOING;
+        }
+        this.flags[row] = rowFlags;
+        this.rowPet[row] = pet;
+        return row;
+    }
+
+    public boolean isEmpty() {
+        return petCount == 0;
+    }
+
+    public int pendingPets() {
+        return petCount;
+    }
+
+    public int pendingRows() {
+        return rowCount;
+    }
+
+    public long batchesFlushed() {
+        return batches;
+    }
+
+    public long rowsProcessed() {
+        return rowsProcessed;
+    }
+
+    /**
+     * Decay every submitted row, then run the per-pet completions in submission order.
+     * Every completion runs even if an earlier one throws; the first failure is rethrown once
+     * the batch is drained. Completions may submit new pets; they are appended behind the batch
+     * being drained and carried over to the next flush.
+     */
+    public void flush() {
+        if (petCount == 0 || flushing) {
+            return;
+        }
+        flushing = true;
+        int pets = petCount;
+        int rows = rowCount;
+        Completion[] pending = Arrays.copyOf(completions, pets);
+        int[] firstRows = Arrays.copyOf(petFirstRow, pets);
+        try {
+            decayAll(rows);
+            batches++;
+            rowsProcessed += rows;
+            RuntimeException failure = null;
+            for (int pet = 0; pet < pets; pet++) {
+                int end = pet + 1 < pets ? firstRows[pet + 1] : rows;
+                Completion completion = pending[pet];
+                if (completion == null) {
+                    continue;
+                }
+                // One failing pet must not leave the rest of the batch waiting on a result forever
+                try {
+                    completion.complete(this, firstRows[pet], end - firstRows[pet]);
+                } catch (RuntimeException ex) {
+                    if (failure == null) {
+                        failure = ex;
+                    } else {
+                        failure.addSuppressed(ex);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            carryOver(pets, rows);
+            flushing = false;
+        }
+    }
+
+    /** Move pets and rows submitted during a flush to the front of the columns. */
+    private void carryOver(int drainedPets, int drainedRows) {
+        int pets = petCount - drainedPets;
+        int rows = rowCount - drainedRows;
+        if (rows > 0) {
+            System.arraycopy(intensity, drainedRows, intensity, 0, rows);
+            System.arraycopy(impactBudget, drainedRows, impactBudget, 0, rows);
+            System.arraycopy(cadenceEMA, drainedRows, cadenceEMA, 0, rows);
+            System.arraycopy(homeostasisBias, drainedRows, homeostasisBias, 0, rows);
+            System.arraycopy(contagionShare, drainedRows, contagionShare, 0, rows);
+            System.arraycopy(emotionMultiplier, drainedRows, emotionMultiplier, 0, rows);
+            System.arraycopy(lastUpdate, drainedRows, lastUpdate, 0, rows);
+            System.arraycopy(flags, drainedRows, flags, 0, rows);
+            System.arraycopy(rowPet, drainedRows, rowPet, 0, rows);
+            for (int row = 0; row < rows; row++) {
+                rowPet[row] -= drainedPets;
+            }
+        }
+        if (pets > 0) {
+            System.arraycopy(petNow, drainedPets, petNow, 0, pets);
+            System.arraycopy(habituationBase, drainedPets, habituationBase, 0, pets);
+            System.arraycopy(halfLifeMultiplier, drainedPets, halfLifeMultiplier, 0, pets);
+            System.arraycopy(minHalfLife, drainedPets, minHalfLife, 0, pets);
+            System.arraycopy(maxHalfLife, drainedPets, maxHalfLife, 0, pets);
+            System.arraycopy(negativePersistence, drainedPets, negativePersistence, 0, pets);
+            System.arraycopy(conditionPresentMultiplier, drainedPets, conditionPresentMultiplier, 0, pets);
+            System.arraycopy(homeostasisRecoveryHalf, drainedPets, homeostasisRecoveryHalf, 0, pets);
+            System.arraycopy(petFirstRow, drainedPets, petFirstRow, 0, pets);
+            System.arraycopy(completions, drainedPets, completions, 0, pets);
+            for (int pet = 0; pet < pets; pet++) {
+                petFirstRow[pet] -= drainedRows;
+            }
+        }
+        Arrays.fill(completions, pets, petCount, null);
+        petCount = pets;
+        rowCount = rows;
+    }
+
+    /** Drop all pending rows without running their completions. */
+    public void clear() {
+        if (flushing) {
+            throw new IllegalStateException("Cannot clear the mood kernel while it is flushing");
+        }
+        Arrays.fill(completions, 0, petCount, null);
+        petCount = 0;
+        rowCount = 0;
+    }
+
+    void decayAll(int rows) {
+        if (rows >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ForkJoinPool.commonPool().invoke(new DecaySlice(this, 0, rows));
+        } else {
+            decayRange(0, rows);
+        }
+    }
+
+    private void decayRange(int from, int to) {
+        float[] intensity = this.intensity;
+        float[] impactBudget = this.impactBudget;
+        float[] cadenceEMA = this.cadenceEMA;
+        float[] homeostasisBias = this.homeostasisBias;
+        float[] contagionShare = this.contagionShare;
+        float[] emotionMultiplier = this.emotionMultiplier;
+        long[] lastUpdate = this.lastUpdate;
+        byte[] flags = this.flags;
+        int[] rowPet = this.rowPet;
+
+        for (int row = from; row < to; row++) {
+            int pet = rowPet[row];
+            long now = petNow[pet];
+            long delta = Math.max(0L, now - lastUpdate[row]);
+            if (delta <= 0L) {
+                continue;
+            }
+            byte rowFlags = flags[row];
+            float decay = decayFactor(delta, cadenceEMA[row], emotionMultiplier[row],
+                    (rowFlags & FLAG_NEGATIVE) != 0, (rowFlags & FLAG_ONGOING) != 0,
+                    habituationBase[pet], halfLifeMultiplier[pet], minHalfLife[pet], maxHalfLife[pet],
+                    negativePersistence[pet], conditionPresentMultiplier[pet]);
+            intensity[row] *= decay;
+            impactBudget[row] *= decay;
+            homeostasisBias[row] = relaxHomeostasis(homeostasisBias[row], delta, homeostasisRecoveryHalf[pet]);
+            contagionShare[row] = decayContagion(contagionShare[row], delta);
+            lastUpdate[row] = now;
+            flags[row] = (byte) (rowFlags | FLAG_DECAYED);
+        }
+    }
+
+    /**
+     * Multiplier applied to intensity and impact budget after {@code delta} ticks, from the
+     * emotion's adaptive half-life.
+     */
+    static float decayFactor(long delta,
+                             float cadenceEMA,
+                             float emotionMultiplier,
+                             boolean negative,
+                             boolean ongoingCondition,
+                             float habituationBase,
+                             float halfLifeMultiplier,
+                             float minHalfLife,
+                             float maxHalfLife,
+                             float negativePersistence,
+                             float conditionPresentMultiplier) {
+        float cadence = cadenceEMA > 0f ? cadenceEMA : habituationBase;
+        float adaptiveHalf = MathHelper.clamp(cadence * halfLifeMultiplier, minHalfLife, maxHalfLife);
+        adaptiveHalf *= emotionMultiplier;
+        if (negative) {
+            adaptiveHalf *= negativePersistence;
+        }
+        if (ongoingCondition) {
+            adaptiveHalf *= conditionPresentMultiplier;
+        }
+        float decayRate = (float) (LN_2 / adaptiveHalf);
+        return (float) Math.exp(-decayRate * delta);
+    }
+
+    /** Homeostasis bias eased back toward its 1.1 resting point over {@code delta} ticks. */
+    static float relaxHomeostasis(float homeostasisBias, long delta, float homeostasisRecoveryHalf) {
+        return MathHelper.lerp((float) Math.exp(-delta / homeostasisRecoveryHalf), homeostasisBias, 1.1f);
+    }
+
+    /** Contagion share after {@code delta} ticks of its fixed 400-tick decay. */
+    static float decayContagion(float contagionShare, long delta) {
+        return (float) (contagionShare * Math.exp(-delta / 400f));
+    }
+
+    public float intensity(int row) {
+        return intensity[row];
+    }
+
+    public float impactBudget(int row) {
+        return impactBudget[row];
+    }
+
+    public float cadenceEMA(int row) {
+        return cadenceEMA[row];
+    }
+
+    public float homeostasisBias(int row) {
+        return homeostasisBias[row];
+    }
+
+    public float contagionShare(int row) {
+        return contagionShare[row];
+    }
+
+    public long lastUpdateTime(int row) {
+        return lastUpdate[row];
+    }
+
+    /** Whether the flush advanced this row (it was older than its pet's {@code now}). */
+    public boolean decayed(int row) {
+        return (flags[row] & FLAG_DECAYED) != 0;
+    }
+
+    private void ensureRowCapacity(int required) {
+        if (required <= intensity.length) {
+            return;
+        }
+        int size = Math.max(required, intensity.length * 2);
+        intensity = Arrays.copyOf(intensity, size);
+        impactBudget = Arrays.copyOf(impactBudget, size);
+        cadenceEMA = Arrays.copyOf(cadenceEMA, size);
+        homeostasisBias = Arrays.copyOf(homeostasisBias, size);
+        contagionShare = Arrays.copyOf(contagionShare, size);
+        emotionMultiplier = Arrays.copyOf(emotionMultiplier, size);
+        lastUpdate = Arrays.copyOf(lastUpdate, size);
+        flags = Arrays.copyOf(flags, size);
+        rowPet = Arrays.copyOf(rowPet, size);
+    }
+
+    private void ensurePetCapacity(int required) {
+        if (required <= petNow.length) {
+            return;
+        }
+        int size = Math.max(required, petNow.length * 2);
+        petNow = Arrays.copyOf(petNow, size);
+        habituationBase = Arrays.copyOf(habituationBase, size);
+        halfLifeMultiplier = Arrays.copyOf(halfLifeMultiplier, size);
+        minHalfLife = Arrays.copyOf(minHalfLife, size);
+        maxHalfLife = Arrays.copyOf(maxHalfLife, size);
+        negativePersistence = Arrays.copyOf(negativePersistence, size);
+        conditionPresentMultiplier = Arrays.copyOf(conditionPresentMultiplier, size);
+        homeostasisRecoveryHalf = Arrays.copyOf(homeostasisRecoveryHalf, size);
+        petFirstRow = Arrays.copyOf(petFirstRow, size);
+        completions = Arrays.copyOf(completions, size);
+    }
+
+    private static final class DecaySlice extends RecursiveAction {
+        private final MoodDecayKernel kernel;
+        private final int from;
+        private final int to;
+
+        DecaySlice(MoodDecayKernel kernel, int from, int to) {
+            this.kernel = kernel;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_SLICE) {
+                kernel.decayRange(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new DecaySlice(kernel, from, mid), new DecaySlice(kernel, mid, to));
+        }
+    }
+}
@@ -50,8 +50,10 @@ import woflo.petsplus.config.MoodEngineConfig;
 import woflo.petsplus.config.PetsPlusConfig;
 import woflo.petsplus.state.OwnerCombatState;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.modules.PetStateStore;
 import woflo.petsplus.state.StateManager;
 import woflo.petsplus.state.coordination.PetSwarmIndex;
+import woflo.petsplus.state.coordination.TickBudgetGovernor;
 import woflo.petsplus.state.processing.AsyncWorkCoordinator;
 import woflo.petsplus.ui.UIStyle;
 
@@ -149,6 +151,7 @@ public final class PetMoodEngine {
     private static final int MOMENTUM_HISTORY_SIZE = 10;
     private static final float OPPONENT_TRANSFER_MAX = 0.20f; // Phase 2 tuning
     private static final float REBOUND_GAIN = 0.12f; // Phase 2 tuning
+    private static final int MOOD_RECOMPUTES_PER_OWNER_PER_TICK = 16;
     
     // Emotion snapshot capture for gossip generation
     private static final int EMOTION_SNAPSHOT_BUFFER_SIZE = 20;
@@ -464,8 +467,13 @@ public final class PetMoodEngine {
         if (!dirty && now - lastMoodUpdate < 20) {
             return;
         }
+        // Periodic refreshes with no new stimulus wait for a governor token; they retry next call
+        if (!dirty && lastMoodUpdate > 0L && !TickBudgetGovernor.global().tryAcquire(
+                TickBudgetGovernor.Lane.MOOD_RECOMPUTE, parent.getOwnerUuid(), MOOD_RECOMPUTES_PER_OWNER_PER_TICK)) {
+            return;
+        }
 
-        if (!isAsyncPipelineEnabled()) {
+        if (!isDeferredPipelineEnabled()) {
             if (asyncComputationInFlight) {
                 discardNextAsyncResult = true;
                 asyncComputationInFlight = false;
@@ -484,7 +492,10 @@ public final class PetMoodEngine {
             return;
         }
 
-        if (scheduleAsyncComputation(now)) {
+        boolean scheduled = isBatchedKernelEnabled()
+                ? scheduleBatchedComputation(now)
+                : scheduleAsyncComputation(now);
+        if (scheduled) {
             lastMoodUpdate = now;
             dirty = false;
             return;
@@ -1093,6 +1104,93 @@ public final class PetMoodEngine {
         return PetsPlusConfig.getInstance().isAsyncMoodPipelineEnabled() || DebugSettings.isPipelineEnabled();
     }
 
+    private boolean isBatchedKernelEnabled() {
+        return PetsPlusConfig.getInstance().isBatchedMoodKernelEnabled();
+    }
+
+    /** Either deferred path (worker pool or end-of-tick batch) leaves a result in flight. */
+    private boolean isDeferredPipelineEnabled() {
+        return isAsyncPipelineEnabled() || isBatchedKernelEnabled();
+    }
+
+    /**
+     * Submit this pet's active emotions to the world's {@link MoodDecayKernel}. The snapshot is
+     * captured now; decay and blending run when the kernel flushes at the end of the world tick,
+     * using the same in-flight bookkeeping as the async pipeline.
+     */
+    private boolean scheduleBatchedComputation(long now) {
+        StateManager manager = parent.getStateManager();
+        if (manager == null) {
+            return false;
+        }
+        ServerWorld world = manager.world();
+        if (world == null || world.getServer() == null || !world.getServer().isOnThread()) {
+            return false;
+        }
+        MoodDecayKernel kernel = manager.getMoodDecayKernel();
+
+        ComputationSnapshot snapshot = computeSnapshot(now);
+        if (snapshot.activeRecords().isEmpty()) {
+            asyncComputationInFlight = false;
+            asyncRecomputeRequested = false;
+            asyncRecomputeTimestamp = -1L;
+            discardNextAsyncResult = false;
+            applyResult(snapshot, computeResult(snapshot));
+            return true;
+        }
+
+        asyncComputationInFlight = true;
+        asyncRecomputeRequested = false;
+        asyncRecomputeTimestamp = -1L;
+        discardNextAsyncResult = false;
+
+        int pet = kernel.beginPet(
+                snapshot.timestamp(),
+                snapshot.habituationBase(),
+                snapshot.halfLifeMultiplier(),
+                snapshot.minHalfLife(),
+                snapshot.maxHalfLife(),
+                snapshot.negativePersistence(),
+                snapshot.conditionPresentMultiplier(),
+                snapshot.homeostasisRecoveryHalf(),
+                (batch, firstRow, rowCount) -> completeBatchedComputation(snapshot, batch, firstRow, rowCount));
+        for (SnapshotEmotionRecord record : snapshot.activeRecords()) {
+            String emotionKey = record.emotion().name().toLowerCase(Locale.ROOT);
+            kernel.addRow(pet,
+                    MathHelper.clamp(record.intensity(), 0f, 1f),
+                    Math.max(0f, record.impactBudget()),
+                    Math.max(0f, record.cadenceEMA()),
+                    MathHelper.clamp(record.homeostasisBias(), 0.5f, 1.5f),
+                    MathHelper.clamp(record.contagionShare(), -DEFAULT_IMPACT_CAP, DEFAULT_IMPACT_CAP),
+                    record.lastUpdateTime(),
+                    snapshot.emotionDecayMultipliers().getOrDefault(emotionKey, 1.0f),
+                    snapshot.negativeEmotions().contains(emotionKey),
+                    record.hasOngoingCondition());
+        }
+        return true;
+    }
+
+    private void completeBatchedComputation(ComputationSnapshot snapshot,
+                                            MoodDecayKernel kernel,
+                                            int firstRow,
+                                            int rowCount) {
+        // Decayed rows are read straight from the kernel's columns, so processEmotionRecord skips its own decay step.
+        ComputationResult result;
+        try {
+            result = computeResult(snapshot, kernel, firstRow);
+        } catch (RuntimeException ex) {
+            asyncComputationInFlight = false;
+            asyncRecomputeRequested = false;
+            asyncRecomputeTimestamp = -1L;
+            discardNextAsyncResult = false;
+            Petsplus.LOGGER.error("Batched mood computation failed for pet {}; falling back to synchronous update",
+                    parent.getPet().getUuidAsString(), ex);
+            runSynchronousFallback(resolveWorldTime(snapshot.timestamp()));
+            return;
+        }
+        applyAsyncResult(snapshot, result);
+    }
+
     private boolean scheduleAsyncComputation(long now) {
         StateManager manager = parent.getStateManager();
         if (manager == null) {
@@ -1165,7 +1263,7 @@ public final class PetMoodEngine {
             return;
         }
 
-        if (isAsyncPipelineEnabled()) {
+        if (isDeferredPipelineEnabled()) {
             ensureFresh(followUpNow);
         } else {
             runSynchronousFallback(followUpNow);
@@ -1361,11 +1459,11 @@ public final class PetMoodEngine {
             ownerDistanceSq = owner.squaredDistanceTo(petEntity);
         }
 
-        long lastSocialTick = parent.getStateData(PetComponent.StateKeys.LAST_SOCIAL_BUFFER_TICK, Long.class, 0L);
-        long lastPackTick = parent.getStateData(PetComponent.StateKeys.PACK_LAST_NEARBY_TICK, Long.class, 0L);
-        float lastPackStrength = parent.getStateData(PetComponent.StateKeys.PACK_LAST_NEARBY_STRENGTH, Float.class, 0f);
-        float lastPackWeighted = parent.getStateData(PetComponent.StateKeys.PACK_LAST_NEARBY_WEIGHTED_STRENGTH, Float.class, 0f);
-        int lastPackAllies = parent.getStateData(PetComponent.StateKeys.PACK_LAST_NEARBY_ALLIES, Integer.class, 0);
+        long lastSocialTick = parent.getStateLong(PetStateStore.LAST_SOCIAL_BUFFER_TICK, 0L);
+        long lastPackTick = parent.getStateLong(PetStateStore.PACK_LAST_NEARBY_TICK, 0L);
+        float lastPackStrength = parent.getStateFloat(PetStateStore.PACK_LAST_NEARBY_STRENGTH, 0f);
+        float lastPackWeighted = parent.getStateFloat(PetStateStore.PACK_LAST_NEARBY_WEIGHTED_STRENGTH, 0f);
+        int lastPackAllies = parent.getStateInt(PetStateStore.PACK_LAST_NEARBY_ALLIES, 0);
 
         EnumMap<PetComponent.Mood, Float> moodSnapshot = new EnumMap<>(PetComponent.Mood.class);
         moodSnapshot.putAll(baselineBlend);
@@ -1424,8 +1522,18 @@ public final class PetMoodEngine {
     }
 
     private ComputationResult computeResult(ComputationSnapshot snapshot) {
+        return computeResult(snapshot, null, 0);
+    }
+
+    /**
+     * @param decayedRows when non-null, the kernel batch holding this snapshot's active records
+     *                    from {@code firstRow} on, already decayed to the snapshot tick
+     */
+    private ComputationResult computeResult(ComputationSnapshot snapshot,
+                                            @Nullable MoodDecayKernel decayedRows,
+                                            int firstRow) {
         BehaviorResult behaviorResult = computeBehaviorResult(snapshot);
-        ProcessedEmotionResult processed = processEmotionRecords(snapshot);
+        ProcessedEmotionResult processed = processEmotionRecords(snapshot, decayedRows, firstRow);
         List<ProcessedEmotionRecord> records = processed.records();
 
         if (records.isEmpty()) {
@@ -1769,15 +1877,19 @@ public final class PetMoodEngine {
         );
     }
 
-    private ProcessedEmotionResult processEmotionRecords(ComputationSnapshot snapshot) {
+    private ProcessedEmotionResult processEmotionRecords(ComputationSnapshot snapshot,
+                                                         @Nullable MoodDecayKernel decayedRows,
+                                                         int firstRow) {
         List<SnapshotEmotionRecord> snapshots = snapshot.activeRecords();
         EnumMap<PetComponent.Emotion, EmotionRecordUpdate> updates = new EnumMap<>(PetComponent.Emotion.class);
         List<ProcessedEmotionRecord> processed = new ArrayList<>(snapshots.size());
         Set<PetComponent.Emotion> removals = EnumSet.noneOf(PetComponent.Emotion.class);
 
         Map<PetComponent.Emotion, Float> harmonyBiases = snapshot.harmonyBiases();
-        for (SnapshotEmotionRecord record : snapshots) {
-            ProcessedEmotionRecord processedRecord = processEmotionRecord(snapshot, record, harmonyBiases);
+        for (int i = 0, size = snapshots.size(); i < size; i++) {
+            SnapshotEmotionRecord record = snapshots.get(i);
+            ProcessedEmotionRecord processedRecord = processEmotionRecord(snapshot, record, harmonyBiases,
+                    decayedRows, firstRow + i);
 
             EmotionRecordUpdate update = new EmotionRecordUpdate(
                     processedRecord.emotion(),
@@ -1814,7 +1926,9 @@ public final class PetMoodEngine {
 
     private ProcessedEmotionRecord processEmotionRecord(ComputationSnapshot snapshot,
                                                         SnapshotEmotionRecord record,
-                                                        Map<PetComponent.Emotion, Float> harmonyBiases) {
+                                                        Map<PetComponent.Emotion, Float> harmonyBiases,
+                                                        @Nullable MoodDecayKernel decayedRows,
+                                                        int row) {
         long now = snapshot.timestamp();
 
         float intensity = MathHelper.clamp(record.intensity(), 0f, 1f);
@@ -1832,27 +1946,30 @@ public final class PetMoodEngine {
         long lastEventTime = record.lastEventTime();
         long lastUpdateTime = record.lastUpdateTime();
 
-        long delta = Math.max(0L, now - lastUpdateTime);
-        if (delta > 0L) {
-            float cadence = cadenceEMA > 0f ? cadenceEMA : snapshot.habituationBase();
-            float adaptiveHalf = MathHelper.clamp(cadence * snapshot.halfLifeMultiplier(),
-                    snapshot.minHalfLife(), snapshot.maxHalfLife());
+        if (decayedRows != null && decayedRows.decayed(row)) {
+            intensity = decayedRows.intensity(row);
+            impactBudget = decayedRows.impactBudget(row);
+            homeostasisBias = decayedRows.homeostasisBias(row);
+            contagionShare = decayedRows.contagionShare(row);
+            lastUpdateTime = decayedRows.lastUpdateTime(row);
+        } else if (now > lastUpdateTime) {
             String emotionKey = record.emotion().name().toLowerCase(Locale.ROOT);
-            float emotionMultiplier = snapshot.emotionDecayMultipliers().getOrDefault(emotionKey, 1.0f);
-            adaptiveHalf *= emotionMultiplier;
-            if (snapshot.negativeEmotions().contains(emotionKey)) {
-                adaptiveHalf *= snapshot.negativePersistence();
-            }
-            if (record.hasOngoingCondition()) {
-                adaptiveHalf *= snapshot.conditionPresentMultiplier();
-            }
-            float decayRate = (float) (Math.log(2) / adaptiveHalf);
-            float decay = (float) Math.exp(-decayRate * delta);
+            long delta = now - lastUpdateTime;
+            float decay = MoodDecayKernel.decayFactor(delta, cadenceEMA,
+                    snapshot.emotionDecayMultipliers().getOrDefault(emotionKey, 1.0f),
+                    snapshot.negativeEmotions().contains(emotionKey),
+                    record.hasOngoingCondition(),
+                    snapshot.habituationBase(),
+                    snapshot.halfLifeMultiplier(),
+                    snapshot.minHalfLife(),
+                    snapshot.maxHalfLife(),
+                    snapshot.negativePersistence(),
+                    snapshot.conditionPresentMultiplier());
             intensity *= decay;
             impactBudget *= decay;
-            homeostasisBias = MathHelper.lerp((float) Math.exp(-delta / snapshot.homeostasisRecoveryHalf()),
-                    homeostasisBias, 1.1f);
-            contagionShare *= Math.exp(-delta / 400f);
+            homeostasisBias = MoodDecayKernel.relaxHomeostasis(homeostasisBias, delta,
+                    snapshot.homeostasisRecoveryHalf());
+            contagionShare = MoodDecayKernel.decayContagion(contagionShare, delta);
             lastUpdateTime = now;
         }
 
@@ -2203,7 +2320,7 @@ public final class PetMoodEngine {
     }
 
     public boolean shouldDeferStimulusDrain() {
-        return isAsyncPipelineEnabled() && asyncComputationInFlight;
+        return isDeferredPipelineEnabled() && asyncComputationInFlight;
     }
 
     private void runPostApplyCallbacks() {
@@ -2749,8 +2866,8 @@ public final class PetMoodEngine {
             record.relationshipGuard <= 0f ? RELATIONSHIP_BASE : record.relationshipGuard,
             tunedRelationship);
 
-        long lastDangerTick = parent.getStateData(PetComponent.StateKeys.THREAT_LAST_DANGER, Long.class, Long.MIN_VALUE);
-        int dangerStreak = parent.getStateData(PetComponent.StateKeys.THREAT_SENSITIZED_STREAK, Integer.class, 0);
+        long lastDangerTick = parent.getStateLong(PetStateStore.THREAT_LAST_DANGER, Long.MIN_VALUE);
+        int dangerStreak = parent.getStateInt(PetStateStore.THREAT_SENSITIZED_STREAK, 0);
         float dangerMultiplier = 1.0f;
         if (lastDangerTick > Long.MIN_VALUE && lastDangerTick <= now) {
             float dangerAge = Math.max(0f, now - lastDangerTick);
@@ -2978,7 +3095,7 @@ public final class PetMoodEngine {
             case STARTLE:
             case ANGST:
                 // Danger: check if danger occurred recently
-                long lastDanger = parent.getStateData(PetComponent.StateKeys.THREAT_LAST_DANGER, Long.class, Long.MIN_VALUE);
+                long lastDanger = parent.getStateLong(PetStateStore.THREAT_LAST_DANGER, Long.MIN_VALUE);
                 if (lastDanger == Long.MIN_VALUE) return false;
                 return (now - lastDanger) < DANGER_HALF_LIFE; // Within danger window
 
@@ -2993,7 +3110,7 @@ public final class PetMoodEngine {
             case ECHOED_RESONANCE:
                 // Echoed Resonance persists when both bond AND danger are present
                 long bondStrength = parent.getBondStrength();
-                long lastDangerEchoed = parent.getStateData(PetComponent.StateKeys.THREAT_LAST_DANGER, Long.class, Long.MIN_VALUE);
+                long lastDangerEchoed = parent.getStateLong(PetStateStore.THREAT_LAST_DANGER, Long.MIN_VALUE);
                 return bondStrength > 3000 && (lastDangerEchoed != Long.MIN_VALUE && (now - lastDangerEchoed) < DANGER_HALF_LIFE * 1.5f);
 
             case PACK_SPIRIT:
@@ -3012,12 +3129,11 @@ public final class PetMoodEngine {
     }
 
     private boolean checkOwnerDanger(long now) {
-        long lastHurtTick = parent.getStateData(PetComponent.StateKeys.OWNER_LAST_HURT_TICK, Long.class, 0L);
-        float storedSeverity = parent.getStateData(PetComponent.StateKeys.OWNER_LAST_HURT_SEVERITY, Float.class, 0f);
-        long lastLowHealthTick = parent.getStateData(PetComponent.StateKeys.OWNER_LAST_LOW_HEALTH_TICK, Long.class, 0L);
-        long lastHazardTick = parent.getStateData(PetComponent.StateKeys.OWNER_LAST_STATUS_HAZARD_TICK, Long.class, 0L);
-        float lastHazardSeverity = parent.getStateData(PetComponent.StateKeys.OWNER_LAST_STATUS_HAZARD_SEVERITY,
-            Float.class, 0f);
+        long lastHurtTick = parent.getStateLong(PetStateStore.OWNER_LAST_HURT_TICK, 0L);
+        float storedSeverity = parent.getStateFloat(PetStateStore.OWNER_LAST_HURT_SEVERITY, 0f);
+        long lastLowHealthTick = parent.getStateLong(PetStateStore.OWNER_LAST_LOW_HEALTH_TICK, 0L);
+        long lastHazardTick = parent.getStateLong(PetStateStore.OWNER_LAST_STATUS_HAZARD_TICK, 0L);
+        float lastHazardSeverity = parent.getStateFloat(PetStateStore.OWNER_LAST_STATUS_HAZARD_SEVERITY, 0f);
 
         if (lastHurtTick > 0L) {
             long elapsed = now - lastHurtTick;
@@ -3039,8 +3155,8 @@ public final class PetMoodEngine {
         if (owner != null) {
             float hazardSeverity = computeStatusHazardSeverity(owner);
             if (hazardSeverity > 0f) {
-                parent.setStateData(PetComponent.StateKeys.OWNER_LAST_STATUS_HAZARD_TICK, now);
-                parent.setStateData(PetComponent.StateKeys.OWNER_LAST_STATUS_HAZARD_SEVERITY, hazardSeverity);
+                parent.setStateLong(PetStateStore.OWNER_LAST_STATUS_HAZARD_TICK, now);
+                parent.setStateFloat(PetStateStore.OWNER_LAST_STATUS_HAZARD_SEVERITY, hazardSeverity);
                 lastHazardTick = now;
                 lastHazardSeverity = hazardSeverity;
             } else if (lastHazardTick > 0L && (now - lastHazardTick) > cachedOwnerStatusHazardGraceTicks) {
@@ -3074,24 +3190,24 @@ public final class PetMoodEngine {
         boolean inCombat = combatState != null && combatState.isInCombat();
 
         if (ownerHealthRatio <= cachedOwnerCriticalHealthThreshold) {
-            parent.setStateData(PetComponent.StateKeys.OWNER_LAST_LOW_HEALTH_TICK, now);
-            parent.setStateData(PetComponent.StateKeys.OWNER_LAST_HEALTH_RATIO, ownerHealthRatio);
+            parent.setStateLong(PetStateStore.OWNER_LAST_LOW_HEALTH_TICK, now);
+            parent.setStateFloat(PetStateStore.OWNER_LAST_HEALTH_RATIO, ownerHealthRatio);
             if (recentlyDamaged) {
                 float severity = MathHelper.clamp(1f - ownerHealthRatio, 0f, 1f);
-                parent.setStateData(PetComponent.StateKeys.OWNER_LAST_HURT_TICK, now);
-                parent.setStateData(PetComponent.StateKeys.OWNER_LAST_HURT_SEVERITY,
+                parent.setStateLong(PetStateStore.OWNER_LAST_HURT_TICK, now);
+                parent.setStateFloat(PetStateStore.OWNER_LAST_HURT_SEVERITY,
                     Math.max(storedSeverity, severity));
             }
             return true;
         }
 
         if (ownerHealthRatio <= cachedOwnerLowHealthThreshold && (recentlyDamaged || inCombat)) {
-            parent.setStateData(PetComponent.StateKeys.OWNER_LAST_LOW_HEALTH_TICK, now);
-            parent.setStateData(PetComponent.StateKeys.OWNER_LAST_HEALTH_RATIO, ownerHealthRatio);
+            parent.setStateLong(PetStateStore.OWNER_LAST_LOW_HEALTH_TICK, now);
+            parent.setStateFloat(PetStateStore.OWNER_LAST_HEALTH_RATIO, ownerHealthRatio);
             if (recentlyDamaged) {
                 float severity = MathHelper.clamp(1f - ownerHealthRatio, 0f, 1f);
-                parent.setStateData(PetComponent.StateKeys.OWNER_LAST_HURT_TICK, now);
-                parent.setStateData(PetComponent.StateKeys.OWNER_LAST_HURT_SEVERITY,
+                parent.setStateLong(PetStateStore.OWNER_LAST_HURT_TICK, now);
+                parent.setStateFloat(PetStateStore.OWNER_LAST_HURT_SEVERITY,
                     Math.max(storedSeverity, severity));
             }
             return true;
@@ -3099,10 +3215,10 @@ public final class PetMoodEngine {
 
         if (recentlyDamaged) {
             float severity = MathHelper.clamp(1f - ownerHealthRatio, 0f, 1f);
-            parent.setStateData(PetComponent.StateKeys.OWNER_LAST_HURT_TICK, now);
-            parent.setStateData(PetComponent.StateKeys.OWNER_LAST_HURT_SEVERITY,
+            parent.setStateLong(PetStateStore.OWNER_LAST_HURT_TICK, now);
+            parent.setStateFloat(PetStateStore.OWNER_LAST_HURT_SEVERITY,
                 Math.max(storedSeverity, severity));
-            parent.setStateData(PetComponent.StateKeys.OWNER_LAST_HEALTH_RATIO, ownerHealthRatio);
+            parent.setStateFloat(PetStateStore.OWNER_LAST_HEALTH_RATIO, ownerHealthRatio);
             return true;
         }
 
@@ -3114,16 +3230,15 @@ public final class PetMoodEngine {
     }
 
     private boolean checkLoneliness(PetComponent.Emotion emotion, long now) {
-        long lastNearTick = parent.getStateData(PetComponent.StateKeys.OWNER_LAST_NEARBY_TICK, Long.class, 0L);
-        long lastSeenTick = parent.getStateData(PetComponent.StateKeys.OWNER_LAST_SEEN_TICK, Long.class, 0L);
-        float lastSeenDistance = parent.getStateData(PetComponent.StateKeys.OWNER_LAST_SEEN_DISTANCE, Float.class,
-            Float.MAX_VALUE);
+        long lastNearTick = parent.getStateLong(PetStateStore.OWNER_LAST_NEARBY_TICK, 0L);
+        long lastSeenTick = parent.getStateLong(PetStateStore.OWNER_LAST_SEEN_TICK, 0L);
+        float lastSeenDistance = parent.getStateFloat(PetStateStore.OWNER_LAST_SEEN_DISTANCE, Float.MAX_VALUE);
         String lastSeenDimension = parent.getStateData(PetComponent.StateKeys.OWNER_LAST_SEEN_DIMENSION, String.class, null);
-        long lastSocialTick = parent.getStateData(PetComponent.StateKeys.LAST_SOCIAL_BUFFER_TICK, Long.class, 0L);
-        long lastPackTick = parent.getStateData(PetComponent.StateKeys.PACK_LAST_NEARBY_TICK, Long.class, 0L);
-        float lastPackStrength = parent.getStateData(PetComponent.StateKeys.PACK_LAST_NEARBY_STRENGTH, Float.class, 0f);
-        float lastPackWeighted = parent.getStateData(PetComponent.StateKeys.PACK_LAST_NEARBY_WEIGHTED_STRENGTH, Float.class, 0f);
-        int lastPackAllies = parent.getStateData(PetComponent.StateKeys.PACK_LAST_NEARBY_ALLIES, Integer.class, 0);
+        long lastSocialTick = parent.getStateLong(PetStateStore.LAST_SOCIAL_BUFFER_TICK, 0L);
+        long lastPackTick = parent.getStateLong(PetStateStore.PACK_LAST_NEARBY_TICK, 0L);
+        float lastPackStrength = parent.getStateFloat(PetStateStore.PACK_LAST_NEARBY_STRENGTH, 0f);
+        float lastPackWeighted = parent.getStateFloat(PetStateStore.PACK_LAST_NEARBY_WEIGHTED_STRENGTH, 0f);
+        int lastPackAllies = parent.getStateInt(PetStateStore.PACK_LAST_NEARBY_ALLIES, 0);
 
         if (hasRecentSocialComfort(lastSocialTick, now)) {
             return false;
@@ -3137,7 +3252,7 @@ public final class PetMoodEngine {
         if (!packComfort && petWorld != null && owner != null && owner.isAlive()) {
             packComfort = refreshPackCompanionship(petWorld, petEntity, owner, now);
             if (packComfort) {
-                lastPackTick = parent.getStateData(PetComponent.StateKeys.PACK_LAST_NEARBY_TICK, Long.class, lastPackTick);
+                lastPackTick = parent.getStateLong(PetStateStore.PACK_LAST_NEARBY_TICK, lastPackTick);
             }
         }
 
@@ -3157,14 +3272,14 @@ public final class PetMoodEngine {
             double distanceSq = owner.squaredDistanceTo(petEntity);
             double distance = Math.sqrt(distanceSq);
 
-            parent.setStateData(PetComponent.StateKeys.OWNER_LAST_SEEN_TICK, now);
-            parent.setStateData(PetComponent.StateKeys.OWNER_LAST_SEEN_DISTANCE, (float) distance);
+            parent.setStateLong(PetStateStore.OWNER_LAST_SEEN_TICK, now);
+            parent.setStateFloat(PetStateStore.OWNER_LAST_SEEN_DISTANCE, (float) distance);
             parent.setStateData(PetComponent.StateKeys.OWNER_LAST_SEEN_DIMENSION,
                 petWorld != null ? petWorld.getRegistryKey().getValue().toString() : null);
 
             if (distanceSq <= cachedLonelyComfortRadiusSquared) {
-                parent.setStateData(PetComponent.StateKeys.OWNER_LAST_NEARBY_TICK, now);
-                parent.setStateData(PetComponent.StateKeys.OWNER_LAST_NEARBY_DISTANCE, (float) distance);
+                parent.setStateLong(PetStateStore.OWNER_LAST_NEARBY_TICK, now);
+                parent.setStateFloat(PetStateStore.OWNER_LAST_NEARBY_DISTANCE, (float) distance);
                 return false;
             }
 
@@ -3218,12 +3333,12 @@ public final class PetMoodEngine {
     }
 
     private boolean hasPositiveComfort(PetComponent.Emotion emotion, long now) {
-        long lastPet = parent.getStateData(PetComponent.StateKeys.LAST_PET_TIME, Long.class, 0L);
-        long lastCrouch = parent.getStateData(PetComponent.StateKeys.LAST_CROUCH_CUDDLE_TICK, Long.class, 0L);
-        long lastSocial = parent.getStateData(PetComponent.StateKeys.LAST_SOCIAL_BUFFER_TICK, Long.class, 0L);
-        long lastPlay = parent.getStateData(PetComponent.StateKeys.LAST_PLAY_INTERACTION_TICK, Long.class, 0L);
-        long lastFeed = parent.getStateData(PetComponent.StateKeys.LAST_FEED_TICK, Long.class, 0L);
-        long lastGift = parent.getStateData(PetComponent.StateKeys.LAST_GIFT_TICK, Long.class, 0L);
+        long lastPet = parent.getStateLong(PetStateStore.LAST_PET_TIME, 0L);
+        long lastCrouch = parent.getStateLong(PetStateStore.LAST_CROUCH_CUDDLE_TICK, 0L);
+        long lastSocial = parent.getStateLong(PetStateStore.LAST_SOCIAL_BUFFER_TICK, 0L);
+        long lastPlay = parent.getStateLong(PetStateStore.LAST_PLAY_INTERACTION_TICK, 0L);
+        long lastFeed = parent.getStateLong(PetStateStore.LAST_FEED_TICK, 0L);
+        long lastGift = parent.getStateLong(PetStateStore.LAST_GIFT_TICK, 0L);
 
         boolean petting = hasRecentCue(lastPet, cachedPositivePetGraceTicks, now);
         boolean cuddle = hasRecentCue(lastCrouch, cachedPositiveCrouchGraceTicks, now);
@@ -3342,21 +3457,21 @@ public final class PetMoodEngine {
         float diversityScore = MathHelper.clamp(diversity.size()
             / (float) PetRoleType.RoleArchetype.values().length, 0f, 1f);
 
-        parent.setStateData(PetComponent.StateKeys.PACK_LAST_NEARBY_TICK, now);
-        parent.setStateData(PetComponent.StateKeys.PACK_LAST_NEARBY_STRENGTH, strength);
-        parent.setStateData(PetComponent.StateKeys.PACK_LAST_NEARBY_WEIGHTED_STRENGTH, weighted);
-        parent.setStateData(PetComponent.StateKeys.PACK_LAST_NEARBY_ALLIES, allies);
-        parent.setStateData(PetComponent.StateKeys.PACK_LAST_ROLE_DIVERSITY, diversityScore);
+        parent.setStateLong(PetStateStore.PACK_LAST_NEARBY_TICK, now);
+        parent.setStateFloat(PetStateStore.PACK_LAST_NEARBY_STRENGTH, strength);
+        parent.setStateFloat(PetStateStore.PACK_LAST_NEARBY_WEIGHTED_STRENGTH, weighted);
+        parent.setStateInt(PetStateStore.PACK_LAST_NEARBY_ALLIES, allies);
+        parent.setStateFloat(PetStateStore.PACK_LAST_ROLE_DIVERSITY, diversityScore);
 
         return strength >= cachedLonelyPackStrengthThreshold
             || weighted >= cachedLonelyPackStrengthThreshold;
     }
 
     private boolean checkPackSpiritProximity(long now) {
-        long lastPackTick = parent.getStateData(PetComponent.StateKeys.PACK_LAST_NEARBY_TICK, Long.class, 0L);
-        float lastStrength = parent.getStateData(PetComponent.StateKeys.PACK_LAST_NEARBY_STRENGTH, Float.class, 0f);
-        float lastWeighted = parent.getStateData(PetComponent.StateKeys.PACK_LAST_NEARBY_WEIGHTED_STRENGTH, Float.class, 0f);
-        int lastAllies = parent.getStateData(PetComponent.StateKeys.PACK_LAST_NEARBY_ALLIES, Integer.class, 0);
+        long lastPackTick = parent.getStateLong(PetStateStore.PACK_LAST_NEARBY_TICK, 0L);
+        float lastStrength = parent.getStateFloat(PetStateStore.PACK_LAST_NEARBY_STRENGTH, 0f);
+        float lastWeighted = parent.getStateFloat(PetStateStore.PACK_LAST_NEARBY_WEIGHTED_STRENGTH, 0f);
+        int lastAllies = parent.getStateInt(PetStateStore.PACK_LAST_NEARBY_ALLIES, 0);
 
         MobEntity petEntity = parent.getPetEntity();
         if (petEntity == null || petEntity.getEntityWorld() == null) {
@@ -3420,12 +3535,12 @@ public final class PetMoodEngine {
             float finalStrength = MathHelper.clamp(averageEngagement + (cachedPackSpiritDiversityBonus * diversity) + bondBonus,
                 0f, 1f);
 
-            parent.setStateData(PetComponent.StateKeys.PACK_LAST_NEARBY_TICK, now);
-            parent.setStateData(PetComponent.StateKeys.PACK_LAST_NEARBY_STRENGTH, finalStrength);
-            parent.setStateData(PetComponent.StateKeys.PACK_LAST_NEARBY_WEIGHTED_STRENGTH,
+            parent.setStateLong(PetStateStore.PACK_LAST_NEARBY_TICK, now);
+            parent.setStateFloat(PetStateStore.PACK_LAST_NEARBY_STRENGTH, finalStrength);
+            parent.setStateFloat(PetStateStore.PACK_LAST_NEARBY_WEIGHTED_STRENGTH,
                 MathHelper.clamp(engagementSum, 0f, cachedPackSpiritEngagementMax));
-            parent.setStateData(PetComponent.StateKeys.PACK_LAST_NEARBY_ALLIES, allies);
-            parent.setStateData(PetComponent.StateKeys.PACK_LAST_ROLE_DIVERSITY,
+            parent.setStateInt(PetStateStore.PACK_LAST_NEARBY_ALLIES, allies);
+            parent.setStateFloat(PetStateStore.PACK_LAST_ROLE_DIVERSITY,
                 MathHelper.clamp(diversity, 0f, 1f));
             return true;
         }
@@ -3464,10 +3579,10 @@ public final class PetMoodEngine {
     }
 
     private boolean hasArcaneMomentum(long now) {
-        long lastEnchantTick = parent.getStateData(PetComponent.StateKeys.ARCANE_LAST_ENCHANT_TICK, Long.class, 0L);
-        int enchantStreak = parent.getStateData(PetComponent.StateKeys.ARCANE_ENCHANT_STREAK, Integer.class, 0);
-        long lastSurgeTick = parent.getStateData(PetComponent.StateKeys.ARCANE_LAST_SURGE_TICK, Long.class, 0L);
-        float surgeStrength = parent.getStateData(PetComponent.StateKeys.ARCANE_SURGE_STRENGTH, Float.class, 0f);
+        long lastEnchantTick = parent.getStateLong(PetStateStore.ARCANE_LAST_ENCHANT_TICK, 0L);
+        int enchantStreak = parent.getStateInt(PetStateStore.ARCANE_ENCHANT_STREAK, 0);
+        long lastSurgeTick = parent.getStateLong(PetStateStore.ARCANE_LAST_SURGE_TICK, 0L);
+        float surgeStrength = parent.getStateFloat(PetStateStore.ARCANE_SURGE_STRENGTH, 0f);
 
         if (lastSurgeTick > 0L && (now - lastSurgeTick) <= cachedArcaneOverflowLingerTicks) {
             if (surgeStrength >= cachedArcaneOverflowMinimumEnergy) {
@@ -3519,8 +3634,8 @@ public final class PetMoodEngine {
         float ambientEnergy = 0f;
         if (serverWorld != null) {
             BlockPos currentPos = livingPet.getBlockPos();
-            long lastScanTick = parent.getStateData(PetComponent.StateKeys.ARCANE_LAST_SCAN_TICK, Long.class, 0L);
-            float cachedAmbient = parent.getStateData(PetComponent.StateKeys.ARCANE_CACHED_AMBIENT_ENERGY, Float.class, 0f);
+            long lastScanTick = parent.getStateLong(PetStateStore.ARCANE_LAST_SCAN_TICK, 0L);
+            float cachedAmbient = parent.getStateFloat(PetStateStore.ARCANE_CACHED_AMBIENT_ENERGY, 0f);
             BlockPos lastScanPos = parent.getStateData(PetComponent.StateKeys.ARCANE_LAST_SCAN_POS, BlockPos.class);
 
             boolean usedCache = false;
@@ -3570,7 +3685,7 @@ public final class PetMoodEngine {
         }
 
         if (energy >= cachedArcaneOverflowMinimumEnergy) {
-            parent.setStateData(PetComponent.StateKeys.ARCANE_LAST_SURGE_TICK, now);
+            parent.setStateLong(PetStateStore.ARCANE_LAST_SURGE_TICK, now);
             return true;
         }
 
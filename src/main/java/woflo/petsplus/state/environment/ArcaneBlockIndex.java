@@ -0,0 +1,193 @@
+package woflo.petsplus.state.environment;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+import org.jetbrains.annotations.Nullable;
+import woflo.petsplus.api.registry.RegistryJsonHelper;
+import woflo.petsplus.config.MoodEngineConfig;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Precomputed lookup of which block states feed the arcane ambient scan.
+ *
+ * Every registered {@link BlockState} gets one bit in a table indexed by its raw state id, so the
+ * block-change hook answers "is this an arcane contributor" with an array read instead of a
+ * registry id lookup and identifier set probe. The table is rebuilt whenever the mood engine
+ * configuration reloads (the configured {@code arcaneOverflow.structureWeights} decide which
+ * blocks count).
+ *
+ * Each loaded chunk additionally carries a summary of whether any of its sections holds a
+ * contributor, computed lazily from the section palettes. Block changes in chunks without
+ * contributors can skip the previous-state read entirely; placing a contributor marks the chunk.
+ * Removals never clear the flag, so the summary only ever over-reports until the next rebuild.
+ */
+public final class ArcaneBlockIndex {
+    private static final Set<Block> DEFAULT_CONTRIBUTORS = Set.of(
+        Blocks.ENCHANTING_TABLE,
+        Blocks.AMETHYST_BLOCK,
+        Blocks.RESPAWN_ANCHOR,
+        Blocks.BEACON,
+        Blocks.BREWING_STAND,
+        Blocks.END_PORTAL_FRAME,
+        Blocks.SCULK_CATALYST
+    );
+
+    private static final int SUMMARY_CONTAINS = 1;
+
+    private static final Object REBUILD_LOCK = new Object();
+    private static volatile Table table;
+
+    private ArcaneBlockIndex() {
+    }
+
+    /** Whether {@code state} contributes to the arcane ambient scan. */
+    public static boolean isContributor(@Nullable BlockState state) {
+        if (state == null) {
+            return false;
+        }
+        Table current = currentTable();
+        int rawId = Block.getRawIdFromState(state);
+        if (rawId < 0 || rawId >= current.size) {
+            return classify(state.getBlock(), current.configuredIds);
+        }
+        return (current.bits[rawId >>> 6] & (1L << rawId)) != 0L;
+    }
+
+    /**
+     * Whether {@code chunk} may hold an arcane contributor. Computes the summary from the section
+     * palettes the first time a chunk is asked about after load or a table rebuild.
+     */
+    public static boolean chunkMayContain(@Nullable WorldChunk chunk) {
+        if (!(chunk instanceof ArcaneChunkSummary summary)) {
+            return true;
+        }
+        Table current = currentTable();
+        int stored = summary.petsplus$getArcaneSummary();
+        if ((stored >>> 1) == current.generation) {
+            return (stored & SUMMARY_CONTAINS) != 0;
+        }
+        if (!current.any) {
+            summary.petsplus$setArcaneSummary(current.generation << 1);
+            return false;
+        }
+
+        boolean contains = false;
+        for (ChunkSection section : chunk.getSectionArray()) {
+            if (section != null && !section.isEmpty() && section.hasAny(ArcaneBlockIndex::isContributor)) {
+                contains = true;
+                break;
+            }
+        }
+        summary.petsplus$setArcaneSummary((current.generation << 1) | (contains ? SUMMARY_CONTAINS : 0));
+        return contains;
+    }
+
+    /** Record that a contributor was just placed in {@code chunk}. */
+    public static void markContains(@Nullable WorldChunk chunk) {
+        if (chunk instanceof ArcaneChunkSummary summary) {
+            summary.petsplus$setArcaneSummary((currentTable().generation << 1) | SUMMARY_CONTAINS);
+        }
+    }
+
+    private static Table currentTable() {
+        int generation = MoodEngineConfig.get().getGeneration();
+        Table current = table;
+        if (current != null && current.generation == generation) {
+            return current;
+        }
+        synchronized (REBUILD_LOCK) {
+            current = table;
+            if (current == null || current.generation != generation) {
+                current = build(generation);
+                table = current;
+            }
+            return current;
+        }
+    }
+
+    private static Table build(int generation) {
+        Set<Identifier> configuredIds = resolveConfiguredIds();
+        int size = Block.STATE_IDS.size();
+        long[] bits = new long[(size + 63) >>> 6];
+        boolean any = false;
+        for (BlockState state : Block.STATE_IDS) {
+            if (!classify(state.getBlock(), configuredIds)) {
+                continue;
+            }
+            int rawId = Block.getRawIdFromState(state);
+            if (rawId >= 0 && rawId < size) {
+                bits[rawId >>> 6] |= 1L << rawId;
+                any = true;
+            }
+        }
+        return new Table(generation, size, bits, any, configuredIds);
+    }
+
+    private static boolean classify(Block block, Set<Identifier> configuredIds) {
+        if (block == null) {
+            return false;
+        }
+        if (DEFAULT_CONTRIBUTORS.contains(block)) {
+            return true;
+        }
+        if (configuredIds.isEmpty()) {
+            return false;
+        }
+        Identifier id = Registries.BLOCK.getId(block);
+        return id != null && configuredIds.contains(id);
+    }
+
+    private static Set<Identifier> resolveConfiguredIds() {
+        JsonObject moods = MoodEngineConfig.get().getMoodsSection();
+        JsonObject arcaneSection = RegistryJsonHelper.getObject(moods, "arcaneOverflow");
+        JsonObject weights = RegistryJsonHelper.getObject(arcaneSection, "structureWeights");
+        if (weights == null) {
+            return Set.of();
+        }
+
+        Set<Identifier> resolved = new HashSet<>();
+        for (Map.Entry<String, JsonElement> entry : weights.entrySet()) {
+            JsonElement value = entry.getValue();
+            if (value == null || !value.isJsonPrimitive()) {
+                continue;
+            }
+            if (!value.getAsJsonPrimitive().isNumber()) {
+                continue;
+            }
+            if (value.getAsFloat() <= 0f) {
+                continue;
+            }
+            Identifier id = Identifier.tryParse(entry.getKey());
+            if (id != null) {
+                resolved.add(id);
+            }
+        }
+        return resolved.isEmpty() ? Set.of() : Set.copyOf(resolved);
+    }
+
+    private static final class Table {
+        final int generation;
+        final int size;
+        final long[] bits;
+        final boolean any;
+        final Set<Identifier> configuredIds;
+
+        Table(int generation, int size, long[] bits, boolean any, Set<Identifier> configuredIds) {
+            this.generation = generation;
+            this.size = size;
+            this.bits = bits;
+            this.any = any;
+            this.configuredIds = configuredIds;
+        }
+    }
+}
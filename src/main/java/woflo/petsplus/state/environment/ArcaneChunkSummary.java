@@ -0,0 +1,14 @@
+package woflo.petsplus.state.environment;
+
+/**
+ * Duck interface mixed into {@code WorldChunk} so {@link ArcaneBlockIndex} can keep its
+ * per-chunk "may contain arcane contributors" summary on the chunk itself. The summary is
+ * dropped together with the chunk when it unloads.
+ */
+public interface ArcaneChunkSummary {
+
+    /** Encoded summary, or {@code 0} when it has never been computed. */
+    int petsplus$getArcaneSummary();
+
+    void petsplus$setArcaneSummary(int summary);
+}
@@ -0,0 +1,94 @@
+package woflo.petsplus.state.environment;
+
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+
+/**
+ * Per-section feature counts for one chunk, owned by {@link EnvironmentFeatureIndex}.
+ *
+ * A section is counted from its block palette the first time it is queried and then adjusted
+ * block by block. Sections counted against an older classification table are recounted on
+ * their next query.
+ */
+public final class ChunkFeatureCounts {
+    private static final int FEATURES = EnvironmentFeatureIndex.Feature.values().length;
+
+    private final int[] generations;
+    private final short[] counts;
+    private final byte[] masks;
+
+    ChunkFeatureCounts(int sections) {
+        this.generations = new int[sections];
+        this.counts = new short[sections * FEATURES];
+        this.masks = new byte[sections];
+    }
+
+    int sectionCount() {
+        return generations.length;
+    }
+
+    synchronized int mask(WorldChunk chunk, int index, EnvironmentFeatureIndex.Table table) {
+        ensureCounted(chunk, index, table);
+        return masks[index] & 0xFF;
+    }
+
+    synchronized int count(WorldChunk chunk, int index, EnvironmentFeatureIndex.Feature feature,
+                           EnvironmentFeatureIndex.Table table) {
+        ensureCounted(chunk, index, table);
+        return counts[index * FEATURES + feature.ordinal()];
+    }
+
+    synchronized void apply(int index, int before, int after, EnvironmentFeatureIndex.Table table) {
+        if (before == after || index < 0 || index >= generations.length || generations[index] != table.generation) {
+            return;
+        }
+        int base = index * FEATURES;
+        int changed = before ^ after;
+        for (int feature = 0; feature < FEATURES; feature++) {
+            int bit = 1 << feature;
+            if ((changed & bit) == 0) {
+                continue;
+            }
+            int value = counts[base + feature] + ((after & bit) != 0 ? 1 : -1);
+            counts[base + feature] = (short) Math.max(0, value);
+        }
+        masks[index] = (byte) maskFromCounts(base);
+    }
+
+    private void ensureCounted(WorldChunk chunk, int index, EnvironmentFeatureIndex.Table table) {
+        if (generations[index] == table.generation) {
+            return;
+        }
+        int base = index * FEATURES;
+        for (int feature = 0; feature < FEATURES; feature++) {
+            counts[base + feature] = 0;
+        }
+        ChunkSection[] sections = chunk.getSectionArray();
+        ChunkSection section = index < sections.length ? sections[index] : null;
+        if (section != null && !section.isEmpty()) {
+            section.getBlockStateContainer().count((state, amount) -> {
+                int mask = EnvironmentFeatureIndex.maskOf(state, table);
+                if (mask == 0) {
+                    return;
+                }
+                for (int feature = 0; feature < FEATURES; feature++) {
+                    if ((mask & (1 << feature)) != 0) {
+                        counts[base + feature] += amount;
+                    }
+                }
+            });
+        }
+        masks[index] = (byte) maskFromCounts(base);
+        generations[index] = table.generation;
+    }
+
+    private int maskFromCounts(int base) {
+        int mask = 0;
+        for (int feature = 0; feature < FEATURES; feature++) {
+            if (counts[base + feature] > 0) {
+                mask |= 1 << feature;
+            }
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,17 @@
+package woflo.petsplus.state.environment;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Duck interface mixed into {@code WorldChunk} so {@link EnvironmentFeatureIndex} can keep its
+ * per-section feature counts on the chunk itself. The counts are dropped together with the
+ * chunk when it unloads.
+ */
+public interface EnvironmentChunkFeatures {
+
+    /** Counts for this chunk, or {@code null} when no query has touched it yet. */
+    @Nullable
+    ChunkFeatureCounts petsplus$getEnvironmentFeatures();
+
+    void petsplus$setEnvironmentFeatures(ChunkFeatureCounts counts);
+}
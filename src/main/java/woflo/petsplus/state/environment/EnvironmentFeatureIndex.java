@@ -0,0 +1,337 @@
+package woflo.petsplus.state.environment;
+
+import net.minecraft.block.BedBlock;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.tag.BlockTags;
+import net.minecraft.registry.tag.FluidTags;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+import org.jetbrains.annotations.Nullable;
+import woflo.petsplus.config.MoodEngineConfig;
+import woflo.petsplus.stats.nature.PetNatureSelector;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-world index of which environment features each chunk section holds.
+ *
+ * Emotion, comfort and nature checks used to sweep cubes of blocks with
+ * {@code world.getBlockState}. Every block state is instead classified once into a small
+ * {@link Feature} bitmask, and each chunk section keeps a count per feature. The counts are
+ * built lazily from the section palette the first time a query touches the section and are
+ * kept current by the chunk block-change hook, so a sweep only visits sections that can
+ * actually contain what it is looking for.
+ *
+ * Counts live on the {@link WorldChunk} itself (see {@link EnvironmentChunkFeatures}) and
+ * unload with it. Unloaded chunks read as empty. The classification table is rebuilt after a
+ * tag reload or a mood config reload; sections then recount on their next query. Arcane
+ * contributors are not a feature here; {@link ArcaneBlockIndex} already tracks them per chunk.
+ */
+public final class EnvironmentFeatureIndex {
+
+    /** Block features the environment sweeps ask about. */
+    public enum Feature {
+        /** Blocks in {@code #petsplus:emotion/environment/nature_plants}. */
+        NATURE_PLANT,
+        /** Redstone components and power sources from the nature tags. */
+        REDSTONE,
+        /** Lava, magma, fire and campfires. */
+        HAZARD,
+        /** Any block holding water, including waterlogged blocks. */
+        WATER,
+        /** Campfires and beds. */
+        HEARTH,
+        /** Mossy, cracked and oxidised blocks that read as weathered. */
+        WEATHERED;
+
+        private final int mask = 1 << ordinal();
+
+        public int mask() {
+            return mask;
+        }
+    }
+
+    public static final TagKey<Block> NATURE_PLANTS = TagKey.of(RegistryKeys.BLOCK,
+        Identifier.of("petsplus", "emotion/environment/nature_plants"));
+
+    private static final Set<Block> WEATHERED_BLOCKS = Set.of(
+        Blocks.MOSSY_COBBLESTONE,
+        Blocks.MOSSY_STONE_BRICKS,
+        Blocks.MOSSY_COBBLESTONE_STAIRS,
+        Blocks.MOSSY_COBBLESTONE_SLAB,
+        Blocks.MOSSY_COBBLESTONE_WALL,
+        Blocks.CRACKED_STONE_BRICKS,
+        Blocks.CRACKED_DEEPSLATE_BRICKS,
+        Blocks.CRACKED_DEEPSLATE_TILES,
+        Blocks.WEATHERED_COPPER,
+        Blocks.EXPOSED_COPPER,
+        Blocks.OXIDIZED_COPPER,
+        Blocks.WEATHERED_CUT_COPPER,
+        Blocks.EXPOSED_CUT_COPPER,
+        Blocks.OXIDIZED_CUT_COPPER,
+        Blocks.WEATHERED_CUT_COPPER_STAIRS,
+        Blocks.EXPOSED_CUT_COPPER_STAIRS,
+        Blocks.OXIDIZED_CUT_COPPER_STAIRS,
+        Blocks.WEATHERED_CUT_COPPER_SLAB,
+        Blocks.EXPOSED_CUT_COPPER_SLAB,
+        Blocks.OXIDIZED_CUT_COPPER_SLAB
+    );
+
+    private static final AtomicInteger TAG_GENERATION = new AtomicInteger();
+    private static final AtomicInteger TABLE_GENERATION = new AtomicInteger();
+    private static final Object REBUILD_LOCK = new Object();
+    private static volatile Table table;
+
+    private final ServerWorld world;
+
+    public EnvironmentFeatureIndex(ServerWorld world) {
+        this.world = world;
+    }
+
+    /** Call after block tags are (re)loaded so the classification table is rebuilt. */
+    public static void onTagsReloaded() {
+        TAG_GENERATION.incrementAndGet();
+    }
+
+    /** Feature bitmask of a single block state. */
+    public static int featuresOf(@Nullable BlockState state) {
+        if (state == null) {
+            return 0;
+        }
+        Table current = currentTable();
+        int rawId = Block.getRawIdFromState(state);
+        if (rawId < 0 || rawId >= current.masks.length) {
+            return classify(state);
+        }
+        return current.masks[rawId] & 0xFF;
+    }
+
+    public static boolean has(@Nullable BlockState state, Feature feature) {
+        return (featuresOf(state) & feature.mask()) != 0;
+    }
+
+    /**
+     * Whether any section overlapping the block box may hold a block with one of the features
+     * in {@code featureMask}. Answers at section granularity, so {@code true} only means a
+     * sweep of the box is worth doing.
+     */
+    public boolean anyInBox(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int featureMask) {
+        Table current = currentTable();
+        for (int sectionX = minX >> 4; sectionX <= maxX >> 4; sectionX++) {
+            for (int sectionZ = minZ >> 4; sectionZ <= maxZ >> 4; sectionZ++) {
+                WorldChunk chunk = world.getChunkManager().getWorldChunk(sectionX, sectionZ);
+                if (chunk == null) {
+                    continue;
+                }
+                ChunkFeatureCounts counts = countsFor(chunk);
+                for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++) {
+                    int index = chunk.sectionCoordToIndex(sectionY);
+                    if (index < 0 || index >= counts.sectionCount()) {
+                        continue;
+                    }
+                    if ((counts.mask(chunk, index, current) & featureMask) != 0) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Number of blocks with {@code feature} in one chunk section, or {@code -1} when the
+     * section's chunk is not loaded.
+     */
+    public int sectionCount(int sectionX, int sectionY, int sectionZ, Feature feature) {
+        WorldChunk chunk = world.getChunkManager().getWorldChunk(sectionX, sectionZ);
+        if (chunk == null) {
+            return -1;
+        }
+        ChunkFeatureCounts counts = countsFor(chunk);
+        int index = chunk.sectionCoordToIndex(sectionY);
+        if (index < 0 || index >= counts.sectionCount()) {
+            return 0;
+        }
+        return counts.count(chunk, index, feature, currentTable());
+    }
+
+    /**
+     * Visit every block in the box whose state has one of the features in {@code featureMask}.
+     * Sections without such blocks are skipped entirely. Blocks are visited section by section
+     * rather than in plain x/y/z order; the visitor returns {@code false} to stop early.
+     */
+    public void forEachInBox(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int featureMask,
+                             BlockVisitor visitor) {
+        Table current = currentTable();
+        BlockPos.Mutable mutable = new BlockPos.Mutable();
+        for (int sectionX = minX >> 4; sectionX <= maxX >> 4; sectionX++) {
+            for (int sectionZ = minZ >> 4; sectionZ <= maxZ >> 4; sectionZ++) {
+                WorldChunk chunk = world.getChunkManager().getWorldChunk(sectionX, sectionZ);
+                if (chunk == null) {
+                    continue;
+                }
+                ChunkFeatureCounts counts = countsFor(chunk);
+                ChunkSection[] sections = chunk.getSectionArray();
+                for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++) {
+                    int index = chunk.sectionCoordToIndex(sectionY);
+                    if (index < 0 || index >= sections.length
+                        || (counts.mask(chunk, index, current) & featureMask) == 0) {
+                        continue;
+                    }
+                    ChunkSection section = sections[index];
+                    int x0 = Math.max(minX, ChunkSectionPos.getBlockCoord(sectionX));
+                    int x1 = Math.min(maxX, ChunkSectionPos.getBlockCoord(sectionX) + 15);
+                    int y0 = Math.max(minY, ChunkSectionPos.getBlockCoord(sectionY));
+                    int y1 = Math.min(maxY, ChunkSectionPos.getBlockCoord(sectionY) + 15);
+                    int z0 = Math.max(minZ, ChunkSectionPos.getBlockCoord(sectionZ));
+                    int z1 = Math.min(maxZ, ChunkSectionPos.getBlockCoord(sectionZ) + 15);
+                    for (int x = x0; x <= x1; x++) {
+                        for (int y = y0; y <= y1; y++) {
+                            for (int z = z0; z <= z1; z++) {
+                                BlockState state = section.getBlockState(x & 15, y & 15, z & 15);
+                                if ((maskOf(state, current) & featureMask) == 0) {
+                                    continue;
+                                }
+                                if (!visitor.visit(mutable.set(x, y, z), state)) {
+                                    return;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface BlockVisitor {
+        /** @return {@code false} to stop the sweep */
+        boolean visit(BlockPos.Mutable pos, BlockState state);
+    }
+
+    /**
+     * Keep counts current after {@code chunk} replaced {@code previous} with {@code next} at
+     * {@code pos}. Sections that were never counted are left alone.
+     */
+    public static void onBlockChanged(WorldChunk chunk, BlockPos pos, @Nullable BlockState previous,
+                                      BlockState next) {
+        if (!(chunk instanceof EnvironmentChunkFeatures holder)) {
+            return;
+        }
+        ChunkFeatureCounts counts = holder.petsplus$getEnvironmentFeatures();
+        if (counts == null) {
+            return;
+        }
+        Table current = table;
+        if (current == null) {
+            return;
+        }
+        int index = chunk.sectionCoordToIndex(ChunkSectionPos.getSectionCoord(pos.getY()));
+        counts.apply(index, maskOf(previous, current), maskOf(next, current), current);
+    }
+
+    private static ChunkFeatureCounts countsFor(WorldChunk chunk) {
+        if (!(chunk instanceof EnvironmentChunkFeatures holder)) {
+            return new ChunkFeatureCounts(chunk.getSectionArray().length);
+        }
+        ChunkFeatureCounts counts = holder.petsplus$getEnvironmentFeatures();
+        if (counts == null || counts.sectionCount() != chunk.getSectionArray().length) {
+            counts = new ChunkFeatureCounts(chunk.getSectionArray().length);
+            holder.petsplus$setEnvironmentFeatures(counts);
+        }
+        return counts;
+    }
+
+    static int maskOf(@Nullable BlockState state, Table current) {
+        if (state == null) {
+            return 0;
+        }
+        int rawId = Block.getRawIdFromState(state);
+        if (rawId < 0 || rawId >= current.masks.length) {
+            return classify(state);
+        }
+        return current.masks[rawId] & 0xFF;
+    }
+
+    private static Table currentTable() {
+        int tagGeneration = TAG_GENERATION.get();
+        int moodGeneration = MoodEngineConfig.get().getGeneration();
+        Table current = table;
+        if (current != null && current.tagGeneration == tagGeneration && current.moodGeneration == moodGeneration) {
+            return current;
+        }
+        synchronized (REBUILD_LOCK) {
+            current = table;
+            if (current == null || current.tagGeneration != tagGeneration || current.moodGeneration != moodGeneration) {
+                current = build(tagGeneration, moodGeneration);
+                table = current;
+            }
+            return current;
+        }
+    }
+
+    private static Table build(int tagGeneration, int moodGeneration) {
+        byte[] masks = new byte[Block.STATE_IDS.size()];
+        for (BlockState state : Block.STATE_IDS) {
+            int rawId = Block.getRawIdFromState(state);
+            if (rawId >= 0 && rawId < masks.length) {
+                masks[rawId] = (byte) classify(state);
+            }
+        }
+        return new Table(TABLE_GENERATION.incrementAndGet(), tagGeneration, moodGeneration, masks);
+    }
+
+    private static int classify(BlockState state) {
+        if (state.isAir()) {
+            return 0;
+        }
+        int mask = 0;
+        Block block = state.getBlock();
+        if (state.isIn(NATURE_PLANTS)) {
+            mask |= Feature.NATURE_PLANT.mask();
+        }
+        if (state.isIn(PetNatureSelector.NATURE_REDSTONE_COMPONENTS)
+            || state.isIn(PetNatureSelector.NATURE_REDSTONE_POWER_SOURCES)) {
+            mask |= Feature.REDSTONE.mask();
+        }
+        FluidState fluid = state.getFluidState();
+        if (block == Blocks.LAVA || fluid.isIn(FluidTags.LAVA) || block == Blocks.MAGMA_BLOCK
+            || block == Blocks.FIRE || block == Blocks.SOUL_FIRE || state.isIn(BlockTags.CAMPFIRES)) {
+            mask |= Feature.HAZARD.mask();
+        }
+        if (fluid.isIn(FluidTags.WATER)) {
+            mask |= Feature.WATER.mask();
+        }
+        if (state.isIn(BlockTags.CAMPFIRES) || block instanceof BedBlock) {
+            mask |= Feature.HEARTH.mask();
+        }
+        if (WEATHERED_BLOCKS.contains(block)) {
+            mask |= Feature.WEATHERED.mask();
+        }
+        return mask;
+    }
+
+    static final class Table {
+        final int generation;
+        final int tagGeneration;
+        final int moodGeneration;
+        final byte[] masks;
+
+        Table(int generation, int tagGeneration, int moodGeneration, byte[] masks) {
+            this.generation = generation;
+            this.tagGeneration = tagGeneration;
+            this.moodGeneration = moodGeneration;
+            this.masks = masks;
+        }
+    }
+}
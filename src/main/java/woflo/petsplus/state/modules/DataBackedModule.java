@@ -1,6 +1,18 @@
 package woflo.petsplus.state.modules;
 
 public interface DataBackedModule<D> extends PetModule {
+    /** Generation reported by modules that cannot tell when their data changes. */
+    long UNTRACKED_GENERATION = -1L;
+
     D toData();
     void fromData(D data);
+
+    /**
+     * Counter that advances whenever {@link #toData()} would produce a different snapshot, so
+     * callers can reuse the previous one while it is unchanged. Modules that hand out mutable
+     * state keep the default, {@link #UNTRACKED_GENERATION}, and are always re-encoded.
+     */
+    default long dataGeneration() {
+        return UNTRACKED_GENERATION;
+    }
 }
@@ -21,6 +21,12 @@ import java.util.function.BiPredicate;
  * Dense, typed storage for per-pet dynamic state. Known keys are mapped onto
  * primitive arrays so hot-path lookups avoid boxing while still providing a
  * Map-like API for legacy callers.
+ *
+ * <p>Primitive slots are also exposed as typed handles ({@link LongKey},
+ * {@link IntKey}, {@link FloatKey}, {@link BooleanKey}) that carry their array
+ * index, so {@link #getLong(LongKey, long)} and friends skip the string lookup
+ * and boxing entirely. The string API remains the path for object slots and
+ * datapack-defined keys.</p>
  */
 public final class PetStateStore {
 
@@ -35,6 +41,66 @@ public final class PetStateStore {
     private static final String[] BOOLEAN_KEYS = new String[BooleanSlot.values().length];
     private static final String[] OBJECT_KEYS = new String[ObjectSlot.values().length];
 
+    /** Typed handle for a known long slot. */
+    public static final class LongKey {
+        private final int index;
+        private final String name;
+
+        private LongKey(int index, String name) {
+            this.index = index;
+            this.name = name;
+        }
+
+        public String name() {
+            return name;
+        }
+    }
+
+    /** Typed handle for a known int slot. */
+    public static final class IntKey {
+        private final int index;
+        private final String name;
+
+        private IntKey(int index, String name) {
+            this.index = index;
+            this.name = name;
+        }
+
+        public String name() {
+            return name;
+        }
+    }
+
+    /** Typed handle for a known float slot. */
+    public static final class FloatKey {
+        private final int index;
+        private final String name;
+
+        private FloatKey(int index, String name) {
+            this.index = index;
+            this.name = name;
+        }
+
+        public String name() {
+            return name;
+        }
+    }
+
+    /** Typed handle for a known boolean slot. */
+    public static final class BooleanKey {
+        private final int index;
+        private final String name;
+
+        private BooleanKey(int index, String name) {
+            this.index = index;
+            this.name = name;
+        }
+
+        public String name() {
+            return name;
+        }
+    }
+
     private enum LongSlot {
         TAMED_TICK,
         LAST_PET_TIME,
@@ -123,75 +189,76 @@ public final class PetStateStore {
         ASTROLOGY_SIGN
     }
 
+    public static final LongKey TAMED_TICK = registerLong(LongSlot.TAMED_TICK, PetComponent.StateKeys.TAMED_TICK);
+    public static final LongKey LAST_PET_TIME = registerLong(LongSlot.LAST_PET_TIME, PetComponent.StateKeys.LAST_PET_TIME);
+    public static final IntKey PET_COUNT = registerInt(IntSlot.PET_COUNT, PetComponent.StateKeys.PET_COUNT);
+    public static final LongKey LAST_SOCIAL_BUFFER_TICK = registerLong(LongSlot.LAST_SOCIAL_BUFFER_TICK, PetComponent.StateKeys.LAST_SOCIAL_BUFFER_TICK);
+    public static final LongKey LAST_CROUCH_CUDDLE_TICK = registerLong(LongSlot.LAST_CROUCH_CUDDLE_TICK, PetComponent.StateKeys.LAST_CROUCH_CUDDLE_TICK);
+    public static final LongKey SNUGGLE_LAST_START_TICK = registerLong(LongSlot.SNUGGLE_LAST_START_TICK, PetComponent.StateKeys.SNUGGLE_LAST_START_TICK);
+    public static final LongKey SNUGGLE_COOLDOWN_UNTIL_TICK = registerLong(LongSlot.SNUGGLE_COOLDOWN_UNTIL_TICK, PetComponent.StateKeys.SNUGGLE_COOLDOWN_UNTIL_TICK);
+    public static final IntKey SOCIAL_JITTER_SEED = registerInt(IntSlot.SOCIAL_JITTER_SEED, PetComponent.StateKeys.SOCIAL_JITTER_SEED);
+    public static final LongKey GOSSIP_OPT_OUT_UNTIL = registerLong(LongSlot.GOSSIP_OPT_OUT_UNTIL, PetComponent.StateKeys.GOSSIP_OPT_OUT_UNTIL);
+    public static final IntKey GOSSIP_CLUSTER_CURSOR = registerInt(IntSlot.GOSSIP_CLUSTER_CURSOR, PetComponent.StateKeys.GOSSIP_CLUSTER_CURSOR);
+    public static final IntKey GOSSIP_STALL_COUNT = registerInt(IntSlot.GOSSIP_STALL_COUNT, PetComponent.StateKeys.GOSSIP_STALL_COUNT);
+    public static final LongKey THREAT_LAST_TICK = registerLong(LongSlot.THREAT_LAST_TICK, PetComponent.StateKeys.THREAT_LAST_TICK);
+    public static final IntKey THREAT_SAFE_STREAK = registerInt(IntSlot.THREAT_SAFE_STREAK, PetComponent.StateKeys.THREAT_SAFE_STREAK);
+    public static final IntKey THREAT_SENSITIZED_STREAK = registerInt(IntSlot.THREAT_SENSITIZED_STREAK, PetComponent.StateKeys.THREAT_SENSITIZED_STREAK);
+    public static final LongKey THREAT_LAST_DANGER = registerLong(LongSlot.THREAT_LAST_DANGER, PetComponent.StateKeys.THREAT_LAST_DANGER);
+    public static final LongKey THREAT_LAST_RECOVERY_TICK = registerLong(LongSlot.THREAT_LAST_RECOVERY_TICK, PetComponent.StateKeys.THREAT_LAST_RECOVERY_TICK);
+    public static final LongKey OWNER_LAST_HURT_TICK = registerLong(LongSlot.OWNER_LAST_HURT_TICK, PetComponent.StateKeys.OWNER_LAST_HURT_TICK);
+    public static final FloatKey OWNER_LAST_HURT_SEVERITY = registerFloat(FloatSlot.OWNER_LAST_HURT_SEVERITY, PetComponent.StateKeys.OWNER_LAST_HURT_SEVERITY);
+    public static final FloatKey OWNER_LAST_HEALTH_RATIO = registerFloat(FloatSlot.OWNER_LAST_HEALTH_RATIO, PetComponent.StateKeys.OWNER_LAST_HEALTH_RATIO);
+    public static final LongKey OWNER_LAST_LOW_HEALTH_TICK = registerLong(LongSlot.OWNER_LAST_LOW_HEALTH_TICK, PetComponent.StateKeys.OWNER_LAST_LOW_HEALTH_TICK);
+    public static final LongKey OWNER_LAST_STATUS_HAZARD_TICK = registerLong(LongSlot.OWNER_LAST_STATUS_HAZARD_TICK, PetComponent.StateKeys.OWNER_LAST_STATUS_HAZARD_TICK);
+    public static final FloatKey OWNER_LAST_STATUS_HAZARD_SEVERITY = registerFloat(FloatSlot.OWNER_LAST_STATUS_HAZARD_SEVERITY, PetComponent.StateKeys.OWNER_LAST_STATUS_HAZARD_SEVERITY);
+    public static final LongKey OWNER_LAST_NEARBY_TICK = registerLong(LongSlot.OWNER_LAST_NEARBY_TICK, PetComponent.StateKeys.OWNER_LAST_NEARBY_TICK);
+    public static final FloatKey OWNER_LAST_NEARBY_DISTANCE = registerFloat(FloatSlot.OWNER_LAST_NEARBY_DISTANCE, PetComponent.StateKeys.OWNER_LAST_NEARBY_DISTANCE);
+    public static final LongKey OWNER_LAST_SEEN_TICK = registerLong(LongSlot.OWNER_LAST_SEEN_TICK, PetComponent.StateKeys.OWNER_LAST_SEEN_TICK);
+    public static final FloatKey OWNER_LAST_SEEN_DISTANCE = registerFloat(FloatSlot.OWNER_LAST_SEEN_DISTANCE, PetComponent.StateKeys.OWNER_LAST_SEEN_DISTANCE);
+    public static final LongKey GOSSIP_LAST_WANDER_TICK = registerLong(LongSlot.GOSSIP_LAST_WANDER_TICK, PetComponent.StateKeys.GOSSIP_LAST_WANDER_TICK);
+    public static final LongKey SURVEY_LAST_TARGET_TICK = registerLong(LongSlot.SURVEY_LAST_TARGET_TICK, PetComponent.StateKeys.SURVEY_LAST_TARGET_TICK);
+    public static final LongKey SURVEY_LAST_SEARCH_TICK = registerLong(LongSlot.SURVEY_LAST_SEARCH_TICK, PetComponent.StateKeys.SURVEY_LAST_SEARCH_TICK);
+    public static final LongKey HEALTH_LAST_LOW_TICK = registerLong(LongSlot.HEALTH_LAST_LOW_TICK, PetComponent.StateKeys.HEALTH_LAST_LOW_TICK);
+    public static final LongKey HEALTH_RECOVERY_COOLDOWN = registerLong(LongSlot.HEALTH_RECOVERY_COOLDOWN, PetComponent.StateKeys.HEALTH_RECOVERY_COOLDOWN);
+    public static final LongKey PACK_LAST_NEARBY_TICK = registerLong(LongSlot.PACK_LAST_NEARBY_TICK, PetComponent.StateKeys.PACK_LAST_NEARBY_TICK);
+    public static final FloatKey PACK_LAST_NEARBY_STRENGTH = registerFloat(FloatSlot.PACK_LAST_NEARBY_STRENGTH, PetComponent.StateKeys.PACK_LAST_NEARBY_STRENGTH);
+    public static final FloatKey PACK_LAST_NEARBY_WEIGHTED_STRENGTH = registerFloat(FloatSlot.PACK_LAST_NEARBY_WEIGHTED_STRENGTH, PetComponent.StateKeys.PACK_LAST_NEARBY_WEIGHTED_STRENGTH);
+    public static final IntKey PACK_LAST_NEARBY_ALLIES = registerInt(IntSlot.PACK_LAST_NEARBY_ALLIES, PetComponent.StateKeys.PACK_LAST_NEARBY_ALLIES);
+    public static final FloatKey PACK_LAST_ROLE_DIVERSITY = registerFloat(FloatSlot.PACK_LAST_ROLE_DIVERSITY, PetComponent.StateKeys.PACK_LAST_ROLE_DIVERSITY);
+    public static final LongKey ARCANE_LAST_ENCHANT_TICK = registerLong(LongSlot.ARCANE_LAST_ENCHANT_TICK, PetComponent.StateKeys.ARCANE_LAST_ENCHANT_TICK);
+    public static final IntKey ARCANE_ENCHANT_STREAK = registerInt(IntSlot.ARCANE_ENCHANT_STREAK, PetComponent.StateKeys.ARCANE_ENCHANT_STREAK);
+    public static final LongKey ARCANE_LAST_SURGE_TICK = registerLong(LongSlot.ARCANE_LAST_SURGE_TICK, PetComponent.StateKeys.ARCANE_LAST_SURGE_TICK);
+    public static final FloatKey ARCANE_SURGE_STRENGTH = registerFloat(FloatSlot.ARCANE_SURGE_STRENGTH, PetComponent.StateKeys.ARCANE_SURGE_STRENGTH);
+    public static final LongKey ARCANE_LAST_SCAN_TICK = registerLong(LongSlot.ARCANE_LAST_SCAN_TICK, PetComponent.StateKeys.ARCANE_LAST_SCAN_TICK);
+    public static final FloatKey ARCANE_CACHED_AMBIENT_ENERGY = registerFloat(FloatSlot.ARCANE_CACHED_AMBIENT_ENERGY, PetComponent.StateKeys.ARCANE_CACHED_AMBIENT_ENERGY);
+    public static final LongKey LAST_PLAY_INTERACTION_TICK = registerLong(LongSlot.LAST_PLAY_INTERACTION_TICK, PetComponent.StateKeys.LAST_PLAY_INTERACTION_TICK);
+    public static final LongKey LAST_FEED_TICK = registerLong(LongSlot.LAST_FEED_TICK, PetComponent.StateKeys.LAST_FEED_TICK);
+    public static final LongKey LAST_GIFT_TICK = registerLong(LongSlot.LAST_GIFT_TICK, PetComponent.StateKeys.LAST_GIFT_TICK);
+    public static final LongKey BREEDING_BIRTH_TICK = registerLong(LongSlot.BREEDING_BIRTH_TICK, PetComponent.StateKeys.BREEDING_BIRTH_TICK);
+    public static final BooleanKey BREEDING_INHERITED_STATS = registerBoolean(BooleanSlot.BREEDING_INHERITED_STATS, PetComponent.StateKeys.BREEDING_INHERITED_STATS);
+    public static final LongKey BREEDING_BIRTH_TIME_OF_DAY = registerLong(LongSlot.BREEDING_BIRTH_TIME_OF_DAY, PetComponent.StateKeys.BREEDING_BIRTH_TIME_OF_DAY);
+    public static final BooleanKey BREEDING_BIRTH_IS_DAYTIME = registerBoolean(BooleanSlot.BREEDING_BIRTH_IS_DAYTIME, PetComponent.StateKeys.BREEDING_BIRTH_IS_DAYTIME);
+    public static final BooleanKey BREEDING_BIRTH_IS_INDOORS = registerBoolean(BooleanSlot.BREEDING_BIRTH_IS_INDOORS, PetComponent.StateKeys.BREEDING_BIRTH_IS_INDOORS);
+    public static final BooleanKey BREEDING_BIRTH_IS_RAINING = registerBoolean(BooleanSlot.BREEDING_BIRTH_IS_RAINING, PetComponent.StateKeys.BREEDING_BIRTH_IS_RAINING);
+    public static final BooleanKey BREEDING_BIRTH_IS_THUNDERING = registerBoolean(BooleanSlot.BREEDING_BIRTH_IS_THUNDERING, PetComponent.StateKeys.BREEDING_BIRTH_IS_THUNDERING);
+    public static final IntKey BREEDING_BIRTH_NEARBY_PLAYER_COUNT = registerInt(IntSlot.BREEDING_BIRTH_NEARBY_PLAYER_COUNT, PetComponent.StateKeys.BREEDING_BIRTH_NEARBY_PLAYER_COUNT);
+    public static final IntKey BREEDING_BIRTH_NEARBY_PET_COUNT = registerInt(IntSlot.BREEDING_BIRTH_NEARBY_PET_COUNT, PetComponent.StateKeys.BREEDING_BIRTH_NEARBY_PET_COUNT);
+
     static {
-        registerLong(LongSlot.TAMED_TICK, PetComponent.StateKeys.TAMED_TICK);
-        registerLong(LongSlot.LAST_PET_TIME, PetComponent.StateKeys.LAST_PET_TIME);
-        registerInt(IntSlot.PET_COUNT, PetComponent.StateKeys.PET_COUNT);
-        registerLong(LongSlot.LAST_SOCIAL_BUFFER_TICK, PetComponent.StateKeys.LAST_SOCIAL_BUFFER_TICK);
-        registerLong(LongSlot.LAST_CROUCH_CUDDLE_TICK, PetComponent.StateKeys.LAST_CROUCH_CUDDLE_TICK);
-        registerLong(LongSlot.SNUGGLE_LAST_START_TICK, PetComponent.StateKeys.SNUGGLE_LAST_START_TICK);
-        registerLong(LongSlot.SNUGGLE_COOLDOWN_UNTIL_TICK, PetComponent.StateKeys.SNUGGLE_COOLDOWN_UNTIL_TICK);
-        registerInt(IntSlot.SOCIAL_JITTER_SEED, PetComponent.StateKeys.SOCIAL_JITTER_SEED);
-        registerLong(LongSlot.GOSSIP_OPT_OUT_UNTIL, PetComponent.StateKeys.GOSSIP_OPT_OUT_UNTIL);
-        registerInt(IntSlot.GOSSIP_CLUSTER_CURSOR, PetComponent.StateKeys.GOSSIP_CLUSTER_CURSOR);
-        registerInt(IntSlot.GOSSIP_STALL_COUNT, PetComponent.StateKeys.GOSSIP_STALL_COUNT);
-        registerLong(LongSlot.THREAT_LAST_TICK, PetComponent.StateKeys.THREAT_LAST_TICK);
-        registerInt(IntSlot.THREAT_SAFE_STREAK, PetComponent.StateKeys.THREAT_SAFE_STREAK);
-        registerInt(IntSlot.THREAT_SENSITIZED_STREAK, PetComponent.StateKeys.THREAT_SENSITIZED_STREAK);
-        registerLong(LongSlot.THREAT_LAST_DANGER, PetComponent.StateKeys.THREAT_LAST_DANGER);
-        registerLong(LongSlot.THREAT_LAST_RECOVERY_TICK, PetComponent.StateKeys.THREAT_LAST_RECOVERY_TICK);
         registerObject(ObjectSlot.LAST_SAFE_WATER_POS, PetComponent.StateKeys.LAST_SAFE_WATER_POS);
-        registerLong(LongSlot.OWNER_LAST_HURT_TICK, PetComponent.StateKeys.OWNER_LAST_HURT_TICK);
-        registerFloat(FloatSlot.OWNER_LAST_HURT_SEVERITY, PetComponent.StateKeys.OWNER_LAST_HURT_SEVERITY);
-        registerFloat(FloatSlot.OWNER_LAST_HEALTH_RATIO, PetComponent.StateKeys.OWNER_LAST_HEALTH_RATIO);
-        registerLong(LongSlot.OWNER_LAST_LOW_HEALTH_TICK, PetComponent.StateKeys.OWNER_LAST_LOW_HEALTH_TICK);
-        registerLong(LongSlot.OWNER_LAST_STATUS_HAZARD_TICK, PetComponent.StateKeys.OWNER_LAST_STATUS_HAZARD_TICK);
-        registerFloat(FloatSlot.OWNER_LAST_STATUS_HAZARD_SEVERITY, PetComponent.StateKeys.OWNER_LAST_STATUS_HAZARD_SEVERITY);
-        registerLong(LongSlot.OWNER_LAST_NEARBY_TICK, PetComponent.StateKeys.OWNER_LAST_NEARBY_TICK);
-        registerFloat(FloatSlot.OWNER_LAST_NEARBY_DISTANCE, PetComponent.StateKeys.OWNER_LAST_NEARBY_DISTANCE);
-        registerLong(LongSlot.OWNER_LAST_SEEN_TICK, PetComponent.StateKeys.OWNER_LAST_SEEN_TICK);
-        registerFloat(FloatSlot.OWNER_LAST_SEEN_DISTANCE, PetComponent.StateKeys.OWNER_LAST_SEEN_DISTANCE);
         registerObject(ObjectSlot.OWNER_LAST_SEEN_DIMENSION, PetComponent.StateKeys.OWNER_LAST_SEEN_DIMENSION);
-        registerLong(LongSlot.GOSSIP_LAST_WANDER_TICK, PetComponent.StateKeys.GOSSIP_LAST_WANDER_TICK);
         registerObject(ObjectSlot.SURVEY_LAST_TARGET_POS, PetComponent.StateKeys.SURVEY_LAST_TARGET_POS);
         registerObject(ObjectSlot.SURVEY_LAST_TARGET_ID, PetComponent.StateKeys.SURVEY_LAST_TARGET_ID);
         registerObject(ObjectSlot.SURVEY_LAST_TARGET_KIND, PetComponent.StateKeys.SURVEY_LAST_TARGET_KIND);
         registerObject(ObjectSlot.SURVEY_LAST_TARGET_DIMENSION, PetComponent.StateKeys.SURVEY_LAST_TARGET_DIMENSION);
-        registerLong(LongSlot.SURVEY_LAST_TARGET_TICK, PetComponent.StateKeys.SURVEY_LAST_TARGET_TICK);
-        registerLong(LongSlot.SURVEY_LAST_SEARCH_TICK, PetComponent.StateKeys.SURVEY_LAST_SEARCH_TICK);
-        registerLong(LongSlot.HEALTH_LAST_LOW_TICK, PetComponent.StateKeys.HEALTH_LAST_LOW_TICK);
-        registerLong(LongSlot.HEALTH_RECOVERY_COOLDOWN, PetComponent.StateKeys.HEALTH_RECOVERY_COOLDOWN);
-        registerLong(LongSlot.PACK_LAST_NEARBY_TICK, PetComponent.StateKeys.PACK_LAST_NEARBY_TICK);
-        registerFloat(FloatSlot.PACK_LAST_NEARBY_STRENGTH, PetComponent.StateKeys.PACK_LAST_NEARBY_STRENGTH);
-        registerFloat(FloatSlot.PACK_LAST_NEARBY_WEIGHTED_STRENGTH, PetComponent.StateKeys.PACK_LAST_NEARBY_WEIGHTED_STRENGTH);
-        registerInt(IntSlot.PACK_LAST_NEARBY_ALLIES, PetComponent.StateKeys.PACK_LAST_NEARBY_ALLIES);
-        registerFloat(FloatSlot.PACK_LAST_ROLE_DIVERSITY, PetComponent.StateKeys.PACK_LAST_ROLE_DIVERSITY);
-        registerLong(LongSlot.ARCANE_LAST_ENCHANT_TICK, PetComponent.StateKeys.ARCANE_LAST_ENCHANT_TICK);
-        registerInt(IntSlot.ARCANE_ENCHANT_STREAK, PetComponent.StateKeys.ARCANE_ENCHANT_STREAK);
-        registerLong(LongSlot.ARCANE_LAST_SURGE_TICK, PetComponent.StateKeys.ARCANE_LAST_SURGE_TICK);
-        registerFloat(FloatSlot.ARCANE_SURGE_STRENGTH, PetComponent.StateKeys.ARCANE_SURGE_STRENGTH);
-        registerLong(LongSlot.ARCANE_LAST_SCAN_TICK, PetComponent.StateKeys.ARCANE_LAST_SCAN_TICK);
-        registerFloat(FloatSlot.ARCANE_CACHED_AMBIENT_ENERGY, PetComponent.StateKeys.ARCANE_CACHED_AMBIENT_ENERGY);
         registerObject(ObjectSlot.ARCANE_LAST_SCAN_POS, PetComponent.StateKeys.ARCANE_LAST_SCAN_POS);
-        registerLong(LongSlot.LAST_PLAY_INTERACTION_TICK, PetComponent.StateKeys.LAST_PLAY_INTERACTION_TICK);
-        registerLong(LongSlot.LAST_FEED_TICK, PetComponent.StateKeys.LAST_FEED_TICK);
-        registerLong(LongSlot.LAST_GIFT_TICK, PetComponent.StateKeys.LAST_GIFT_TICK);
-        registerLong(LongSlot.BREEDING_BIRTH_TICK, PetComponent.StateKeys.BREEDING_BIRTH_TICK);
         registerObject(ObjectSlot.BREEDING_PARENT_A_UUID, PetComponent.StateKeys.BREEDING_PARENT_A_UUID);
         registerObject(ObjectSlot.BREEDING_PARENT_B_UUID, PetComponent.StateKeys.BREEDING_PARENT_B_UUID);
         registerObject(ObjectSlot.BREEDING_OWNER_UUID, PetComponent.StateKeys.BREEDING_OWNER_UUID);
         registerObject(ObjectSlot.BREEDING_PRIMARY_ROLE, PetComponent.StateKeys.BREEDING_PRIMARY_ROLE);
         registerObject(ObjectSlot.BREEDING_PARTNER_ROLE, PetComponent.StateKeys.BREEDING_PARTNER_ROLE);
         registerObject(ObjectSlot.BREEDING_INHERITED_ROLE, PetComponent.StateKeys.BREEDING_INHERITED_ROLE);
-        registerBoolean(BooleanSlot.BREEDING_INHERITED_STATS, PetComponent.StateKeys.BREEDING_INHERITED_STATS);
         registerObject(ObjectSlot.BREEDING_SOURCE, PetComponent.StateKeys.BREEDING_SOURCE);
-        registerLong(LongSlot.BREEDING_BIRTH_TIME_OF_DAY, PetComponent.StateKeys.BREEDING_BIRTH_TIME_OF_DAY);
-        registerBoolean(BooleanSlot.BREEDING_BIRTH_IS_DAYTIME, PetComponent.StateKeys.BREEDING_BIRTH_IS_DAYTIME);
-        registerBoolean(BooleanSlot.BREEDING_BIRTH_IS_INDOORS, PetComponent.StateKeys.BREEDING_BIRTH_IS_INDOORS);
-        registerBoolean(BooleanSlot.BREEDING_BIRTH_IS_RAINING, PetComponent.StateKeys.BREEDING_BIRTH_IS_RAINING);
-        registerBoolean(BooleanSlot.BREEDING_BIRTH_IS_THUNDERING, PetComponent.StateKeys.BREEDING_BIRTH_IS_THUNDERING);
-        registerInt(IntSlot.BREEDING_BIRTH_NEARBY_PLAYER_COUNT, PetComponent.StateKeys.BREEDING_BIRTH_NEARBY_PLAYER_COUNT);
-        registerInt(IntSlot.BREEDING_BIRTH_NEARBY_PET_COUNT, PetComponent.StateKeys.BREEDING_BIRTH_NEARBY_PET_COUNT);
         registerObject(ObjectSlot.BREEDING_BIRTH_DIMENSION, PetComponent.StateKeys.BREEDING_BIRTH_DIMENSION);
         registerObject(ObjectSlot.BREEDING_ASSIGNED_NATURE, PetComponent.StateKeys.BREEDING_ASSIGNED_NATURE);
         registerObject(ObjectSlot.ASSIGNED_NATURE, PetComponent.StateKeys.ASSIGNED_NATURE);
@@ -216,6 +283,16 @@ public final class PetStateStore {
 
     private final Object2ObjectOpenHashMap<String, Object> dynamic = new Object2ObjectOpenHashMap<>();
 
+    private long generation;
+
+    /**
+     * Counter bumped by every put, remove and clear. Values that are themselves mutable
+     * (lists) can still change in place without advancing it.
+     */
+    public long generation() {
+        return generation;
+    }
+
     public boolean isEmpty() {
         return !hasAny(longPresent) && !hasAny(intPresent) && !hasAny(floatPresent)
             && !hasAny(booleanPresent) && !hasAny(objectPresent) && dynamic.isEmpty();
@@ -276,16 +353,17 @@ public final class PetStateStore {
         if (value == null) {
             return remove(key);
         }
+        generation++;
         Slot slot = LOOKUP.get(key);
         if (slot == null) {
             return dynamic.put(key, value);
         }
         return switch (slot.type) {
-            case LONG -> setLong(slot.index, value);
-            case INT -> setInt(slot.index, value);
-            case FLOAT -> setFloat(slot.index, value);
-            case BOOLEAN -> setBoolean(slot.index, value);
-            case OBJECT -> setObject(slot.index, value);
+            case LONG -> storeLong(slot.index, value);
+            case INT -> storeInt(slot.index, value);
+            case FLOAT -> storeFloat(slot.index, value);
+            case BOOLEAN -> storeBoolean(slot.index, value);
+            case OBJECT -> storeObject(slot.index, value);
         };
     }
 
@@ -294,6 +372,7 @@ public final class PetStateStore {
         if (key == null) {
             return null;
         }
+        generation++;
         Slot slot = LOOKUP.get(key);
         if (slot == null) {
             return dynamic.remove(key);
@@ -308,6 +387,7 @@ public final class PetStateStore {
     }
 
     public void clear() {
+        generation++;
         clearPresence(longPresent);
         clearPresence(intPresent);
         clearPresence(floatPresent);
@@ -351,7 +431,63 @@ public final class PetStateStore {
         return keys;
     }
 
-    private Object setLong(int index, Object value) {
+    public boolean has(LongKey key) {
+        return longPresent[key.index];
+    }
+
+    public long getLong(LongKey key, long defaultValue) {
+        return longPresent[key.index] ? longValues[key.index] : defaultValue;
+    }
+
+    public void setLong(LongKey key, long value) {
+        generation++;
+        longValues[key.index] = value;
+        longPresent[key.index] = true;
+    }
+
+    public boolean has(IntKey key) {
+        return intPresent[key.index];
+    }
+
+    public int getInt(IntKey key, int defaultValue) {
+        return intPresent[key.index] ? intValues[key.index] : defaultValue;
+    }
+
+    public void setInt(IntKey key, int value) {
+        generation++;
+        intValues[key.index] = value;
+        intPresent[key.index] = true;
+    }
+
+    public boolean has(FloatKey key) {
+        return floatPresent[key.index];
+    }
+
+    public float getFloat(FloatKey key, float defaultValue) {
+        return floatPresent[key.index] ? floatValues[key.index] : defaultValue;
+    }
+
+    public void setFloat(FloatKey key, float value) {
+        generation++;
+        floatValues[key.index] = value;
+        floatPresent[key.index] = true;
+    }
+
+    public boolean has(BooleanKey key) {
+        return booleanPresent[key.index];
+    }
+
+    public boolean getBoolean(BooleanKey key, boolean defaultValue) {
+        return booleanPresent[key.index] ? booleanValues[key.index] : defaultValue;
+    }
+
+    public void setBoolean(BooleanKey key, boolean value) {
+        generation++;
+        booleanValues[key.index] = value;
+        booleanPresent[key.index] = true;
+    }
+
+    private Object storeLong(int index, Object value) {
         long previous = longPresent[index] ? longValues[index] : 0L;
         boolean hadPrevious = longPresent[index];
         longValues[index] = asLong(value);
@@ -359,7 +495,7 @@ public final class PetStateStore {
         return hadPrevious ? Long.valueOf(previous) : null;
     }
 
-    private Object setInt(int index, Object value) {
+    private Object storeInt(int index, Object value) {
         int previous = intPresent[index] ? intValues[index] : 0;
         boolean hadPrevious = intPresent[index];
         intValues[index] = asInt(value);
@@ -367,7 +503,7 @@ public final class PetStateStore {
         return hadPrevious ? Integer.valueOf(previous) : null;
     }
 
-    private Object setFloat(int index, Object value) {
+    private Object storeFloat(int index, Object value) {
         float previous = floatPresent[index] ? floatValues[index] : 0f;
         boolean hadPrevious = floatPresent[index];
         floatValues[index] = asFloat(value);
@@ -375,7 +511,7 @@ public final class PetStateStore {
         return hadPrevious ? Float.valueOf(previous) : null;
     }
 
-    private Object setBoolean(int index, Object value) {
+    private Object storeBoolean(int index, Object value) {
         boolean previous = booleanPresent[index] && booleanValues[index];
         boolean hadPrevious = booleanPresent[index];
         booleanValues[index] = asBoolean(value);
@@ -383,7 +519,7 @@ public final class PetStateStore {
         return hadPrevious ? Boolean.valueOf(previous) : null;
     }
 
-    private Object setObject(int index, Object value) {
+    private Object storeObject(int index, Object value) {
         Object previous = objectPresent[index] ? objectValues[index] : null;
         objectValues[index] = value;
         objectPresent[index] = true;
@@ -551,24 +687,28 @@ public final class PetStateStore {
         return false;
     }
 
-    private static void registerLong(LongSlot slot, String key) {
+    private static LongKey registerLong(LongSlot slot, String key) {
         LOOKUP.put(key, new Slot(SlotType.LONG, slot.ordinal(), key));
         LONG_KEYS[slot.ordinal()] = key;
+        return new LongKey(slot.ordinal(), key);
     }
 
-    private static void registerInt(IntSlot slot, String key) {
+    private static IntKey registerInt(IntSlot slot, String key) {
         LOOKUP.put(key, new Slot(SlotType.INT, slot.ordinal(), key));
         INT_KEYS[slot.ordinal()] = key;
+        return new IntKey(slot.ordinal(), key);
     }
 
-    private static void registerFloat(FloatSlot slot, String key) {
+    private static FloatKey registerFloat(FloatSlot slot, String key) {
         LOOKUP.put(key, new Slot(SlotType.FLOAT, slot.ordinal(), key));
         FLOAT_KEYS[slot.ordinal()] = key;
+        return new FloatKey(slot.ordinal(), key);
     }
 
-    private static void registerBoolean(BooleanSlot slot, String key) {
+    private static BooleanKey registerBoolean(BooleanSlot slot, String key) {
         LOOKUP.put(key, new Slot(SlotType.BOOLEAN, slot.ordinal(), key));
         BOOLEAN_KEYS[slot.ordinal()] = key;
+        return new BooleanKey(slot.ordinal(), key);
     }
 
     private static void registerObject(ObjectSlot slot, String key) {
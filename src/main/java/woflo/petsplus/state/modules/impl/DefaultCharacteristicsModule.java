@@ -48,6 +48,7 @@ public final class DefaultCharacteristicsModule implements CharacteristicsModule
     private NatureEmotionProfile natureEmotionProfile = NatureEmotionProfile.EMPTY;
     private List<AttributeKey> nameAttributes = new ArrayList<>();
     private Map<Identifier, float[]> roleAffinityBonuses = new HashMap<>();
+    private long dataGeneration;
 
     @Override
     public void onAttach(PetComponent parent) {
@@ -64,6 +65,7 @@ public final class DefaultCharacteristicsModule implements CharacteristicsModule
         natureResilienceMultiplier = 1.0f;
         natureContagionModifier = 1.0f;
         natureGuardModifier = 1.0f;
+        dataGeneration++;
     }
 
     @Override
@@ -77,6 +79,7 @@ public final class DefaultCharacteristicsModule implements CharacteristicsModule
             return false;
         }
         this.imprint = imprint;
+        dataGeneration++;
         return true;
     }
 
@@ -95,6 +98,7 @@ public final class DefaultCharacteristicsModule implements CharacteristicsModule
             return false;
         }
         this.natureEmotionProfile = sanitized;
+        dataGeneration++;
         return true;
     }
 
@@ -136,6 +140,7 @@ public final class DefaultCharacteristicsModule implements CharacteristicsModule
         natureResilienceMultiplier = clampedResilience;
         natureContagionModifier = clampedContagion;
         natureGuardModifier = clampedGuard;
+        dataGeneration++;
         return true;
     }
 
@@ -151,6 +156,7 @@ public final class DefaultCharacteristicsModule implements CharacteristicsModule
         } else {
             nameAttributes = new ArrayList<>(attributes);
         }
+        dataGeneration++;
     }
 
     @Override
@@ -162,17 +168,21 @@ public final class DefaultCharacteristicsModule implements CharacteristicsModule
             return;
         }
         nameAttributes.add(attribute);
+        dataGeneration++;
     }
 
     @Override
     public void removeNameAttribute(AttributeKey attribute) {
-        nameAttributes.remove(attribute);
+        if (nameAttributes.remove(attribute)) {
+            dataGeneration++;
+        }
     }
 
     @Override
     public void resetRoleAffinityBonuses() {
         if (!roleAffinityBonuses.isEmpty()) {
             roleAffinityBonuses.clear();
+            dataGeneration++;
             syncCharacteristicAffinityLookup();
         }
     }
@@ -205,6 +215,7 @@ public final class DefaultCharacteristicsModule implements CharacteristicsModule
             roleAffinityBonuses.remove(roleId, vector);
         }
 
+        dataGeneration++;
         syncCharacteristicAffinityLookup();
     }
 
@@ -266,10 +277,16 @@ public final class DefaultCharacteristicsModule implements CharacteristicsModule
         // Deep copy roleAffinityBonuses
         roleAffinityBonuses.clear();
         data.roleAffinityBonuses().forEach((id, arr) -> roleAffinityBonuses.put(id, arr.clone()));
+        dataGeneration++;
         
         syncCharacteristicAffinityLookup();
     }
 
+    @Override
+    public long dataGeneration() {
+        return dataGeneration;
+    }
+
     private NatureEmotionProfile sanitizeNatureProfile(@Nullable NatureEmotionProfile profile) {
         if (profile == null) {
             return NatureEmotionProfile.EMPTY;
@@ -15,6 +15,7 @@ public final class DefaultHistoryModule implements HistoryModule {
 
     private final List<HistoryEvent> events = new ArrayList<>();
     private PetComponent parent;
+    private long dataGeneration;
 
     @Override
     public void onAttach(PetComponent parent) {
@@ -24,6 +25,7 @@ public final class DefaultHistoryModule implements HistoryModule {
     @Override
     public void onDetach() {
         events.clear();
+        dataGeneration++;
         parent = null;
     }
 
@@ -36,6 +38,7 @@ public final class DefaultHistoryModule implements HistoryModule {
         if (events.size() > MAX_HISTORY_SIZE) {
             events.remove(0);
         }
+        dataGeneration++;
     }
 
     @Override
@@ -72,6 +75,7 @@ public final class DefaultHistoryModule implements HistoryModule {
     @Override
     public void fromData(Data data) {
         events.clear();
+        dataGeneration++;
         if (data == null || data.events() == null || data.events().isEmpty()) {
             return;
         }
@@ -82,6 +86,11 @@ public final class DefaultHistoryModule implements HistoryModule {
         }
     }
 
+    @Override
+    public long dataGeneration() {
+        return dataGeneration;
+    }
+
     public PetComponent parent() {
         return parent;
     }
@@ -19,6 +19,7 @@ public class DefaultOwnerModule implements OwnerModule {
     private UUID ownerUuid;
     private UUID crouchCuddleOwnerId;
     private long crouchCuddleExpiryTick;
+    private long dataGeneration;
 
     @Override
     public void onAttach(PetComponent parent) {
@@ -72,6 +73,7 @@ public class DefaultOwnerModule implements OwnerModule {
         // Clear cache if owner changed
         if (ownerChanged) {
             this.ownerCache = null;
+            dataGeneration++;
         }
 
         // Notify parent about owner change (for scheduling invalidation, etc.)
@@ -92,6 +94,7 @@ public class DefaultOwnerModule implements OwnerModule {
     public void recordCrouchCuddle(UUID ownerUuid, long expiryTick) {
         this.crouchCuddleOwnerId = ownerUuid;
         this.crouchCuddleExpiryTick = expiryTick;
+        dataGeneration++;
     }
 
     @Override
@@ -115,11 +118,15 @@ public class DefaultOwnerModule implements OwnerModule {
         if (crouchCuddleOwnerId != null && crouchCuddleOwnerId.equals(ownerId)) {
             this.crouchCuddleOwnerId = null;
             this.crouchCuddleExpiryTick = 0;
+            dataGeneration++;
         }
     }
 
     @Override
     public void clearCrouchCuddle() {
+        if (crouchCuddleOwnerId != null || crouchCuddleExpiryTick != 0) {
+            dataGeneration++;
+        }
         this.crouchCuddleOwnerId = null;
         this.crouchCuddleExpiryTick = 0;
     }
@@ -139,5 +146,11 @@ public class DefaultOwnerModule implements OwnerModule {
         this.ownerCache = null; // Will be resolved on first getOwner() call
         this.crouchCuddleOwnerId = data.crouchCuddleOwnerId();
         this.crouchCuddleExpiryTick = data.crouchCuddleExpiryTick();
+        dataGeneration++;
+    }
+
+    @Override
+    public long dataGeneration() {
+        return dataGeneration;
     }
 }
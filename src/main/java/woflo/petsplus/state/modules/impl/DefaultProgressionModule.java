@@ -22,6 +22,7 @@ public class DefaultProgressionModule implements ProgressionModule {
     private final Map<String, Float> permanentStatBoosts = new HashMap<>();
     private final Map<Integer, Identifier> tributeMilestones = new HashMap<>();
     private final List<Consumer<LevelUpEvent>> levelUpListeners = new ArrayList<>();
+    private long dataGeneration;
 
     @Override
     public void onAttach(PetComponent parent) {
@@ -36,6 +37,7 @@ public class DefaultProgressionModule implements ProgressionModule {
     @Override
     public void setLevel(int level) {
         this.level = Math.max(1, Math.min(level, getMaxConfiguredLevel()));
+        dataGeneration++;
     }
 
     @Override
@@ -52,6 +54,7 @@ public class DefaultProgressionModule implements ProgressionModule {
         } else {
             this.experience = Math.min(sanitized, xpForNext);
         }
+        dataGeneration++;
     }
 
     @Override
@@ -59,6 +62,7 @@ public class DefaultProgressionModule implements ProgressionModule {
         if (amount < 0) return;
 
         this.experience = Math.max(0, this.experience + amount);
+        dataGeneration++;
         
         // Check for level ups
         int oldLevel = this.level;
@@ -106,7 +110,9 @@ public class DefaultProgressionModule implements ProgressionModule {
 
     @Override
     public void unlockMilestone(int id) {
-        unlockedMilestones.put(id, true);
+        if (!Boolean.TRUE.equals(unlockedMilestones.put(id, true))) {
+            dataGeneration++;
+        }
     }
 
     @Override
@@ -121,7 +127,9 @@ public class DefaultProgressionModule implements ProgressionModule {
 
     @Override
     public void unlockAbility(Identifier abilityId) {
-        unlockedAbilities.put(abilityId, true);
+        if (!Boolean.TRUE.equals(unlockedAbilities.put(abilityId, true))) {
+            dataGeneration++;
+        }
     }
 
     @Override
@@ -137,6 +145,7 @@ public class DefaultProgressionModule implements ProgressionModule {
     @Override
     public void addPermanentStatBoost(String statName, float amount) {
         permanentStatBoosts.merge(statName, amount, Float::sum);
+        dataGeneration++;
     }
 
     @Override
@@ -150,11 +159,13 @@ public class DefaultProgressionModule implements ProgressionModule {
         unlockedAbilities.clear();
         permanentStatBoosts.clear();
         tributeMilestones.clear();
+        dataGeneration++;
     }
 
     @Override
     public void setTributeMilestone(int level, Identifier itemId) {
         tributeMilestones.put(level, itemId);
+        dataGeneration++;
     }
 
     @Override
@@ -170,6 +181,7 @@ public class DefaultProgressionModule implements ProgressionModule {
 
     public void addStatBoost(String statKey, float amount) {
         permanentStatBoosts.merge(statKey, amount, Float::sum);
+        dataGeneration++;
     }
 
     public void setStatBoost(String statKey, float value) {
@@ -178,6 +190,7 @@ public class DefaultProgressionModule implements ProgressionModule {
         } else {
             permanentStatBoosts.put(statKey, value);
         }
+        dataGeneration++;
     }
 
     @Override
@@ -213,6 +226,12 @@ public class DefaultProgressionModule implements ProgressionModule {
         
         this.tributeMilestones.clear();
         this.tributeMilestones.putAll(data.tributeMilestones());
+        dataGeneration++;
+    }
+
+    @Override
+    public long dataGeneration() {
+        return dataGeneration;
     }
 
     private int getMaxConfiguredLevel() {
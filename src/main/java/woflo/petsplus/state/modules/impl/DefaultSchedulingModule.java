@@ -20,6 +20,7 @@ public class DefaultSchedulingModule implements SchedulingModule {
     private long earliestTick = Long.MAX_VALUE;
     private boolean initialized = false;
     private final Map<String, Long> cooldowns = new HashMap<>();
+    private long dataGeneration;
 
     @Override
     public void onAttach(PetComponent parent) {
@@ -101,12 +102,17 @@ public class DefaultSchedulingModule implements SchedulingModule {
 
     @Override
     public void setCooldown(String key, long endTime) {
-        cooldowns.put(key, endTime);
+        Long previous = cooldowns.put(key, endTime);
+        if (previous == null || previous != endTime) {
+            dataGeneration++;
+        }
     }
 
     @Override
     public void clearCooldown(String key) {
-        cooldowns.remove(key);
+        if (cooldowns.remove(key) != null) {
+            dataGeneration++;
+        }
     }
 
     @Override
@@ -156,5 +162,16 @@ public class DefaultSchedulingModule implements SchedulingModule {
         
         // Scheduling is transient - do not restore tasks
         // The system will reschedule as needed
+        dataGeneration++;
+    }
+
+    /**
+     * Advances only when cooldowns change. Scheduled ticks are never restored by
+     * {@link #fromData}, so a snapshot carrying older ticks saves the same pet; bumping on every
+     * reschedule would defeat snapshot reuse, since pets reschedule work almost every tick.
+     */
+    @Override
+    public long dataGeneration() {
+        return dataGeneration;
     }
 }
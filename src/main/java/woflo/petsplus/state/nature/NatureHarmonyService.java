@@ -26,6 +26,7 @@ import java.util.UUID;
 
 /**
  * Resolves active harmony/disharmony sets for pets using the owner-scoped swarm snapshots.
+ * Recomputed once per owner whenever the swarm index flushes a batch of changes.
  */
 public final class NatureHarmonyService implements PetSwarmIndex.SwarmListener {
 
@@ -69,7 +70,11 @@ public final class NatureHarmonyService implements PetSwarmIndex.SwarmListener {
     }
 
     @Override
-    public void onSwarmUpdated(@Nullable UUID ownerId, List<PetSwarmIndex.SwarmEntry> entries) {
+    public void onSwarmChanged(PetSwarmIndex.SwarmDelta delta) {
+        refreshOwner(delta.ownerId(), delta.entries());
+    }
+
+    private void refreshOwner(@Nullable UUID ownerId, List<PetSwarmIndex.SwarmEntry> entries) {
         if (entries == null) {
             return;
         }
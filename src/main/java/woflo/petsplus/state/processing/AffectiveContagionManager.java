@@ -19,12 +19,14 @@ import java.util.WeakHashMap;
 
 /**
  * Unified swarm-backed affective contagion propagation. All contagion writes funnel through
- * PetComponent.addContagionShare(), using neighbor data obtained from the owner-scoped PetSwarmIndex.
+ * PetComponent.addContagionShare(), using nearest-pet queries on the world-level PetSwarmIndex grid.
  *
  * Goals:
  * - No world scans. Always use swarm neighbor sets.
  * - Balanced default influence that is noticeable but not overpowering.
- * - Cross-owner contagion allowed at a reduced multiplier.
+ * - Cross-owner contagion allowed at a reduced multiplier. Neighbors used to come from the pet's
+ *   own owner swarm only, which left that multiplier unused; the nearest pets of any owner now
+ *   count, and they share the {@code max_neighbors} cap with same-owner pets.
  * - Species-aware weighting and bond/distance falloff.
  * - Optional micro gossip nudges for subtle ambience.
  * - Lightweight telemetry with EWMA clamp to prevent "too much" feel.
@@ -43,6 +45,7 @@ public final class AffectiveContagionManager {
     private static final float TELEMETRY_ALPHA = 0.25f;        // EWMA smoothing for "recent" average
 
     private static final WeakHashMap<PetComponent, Telemetry> TELEMETRY = new WeakHashMap<>();
+    private static final ThreadLocal<NeighborScratch> SCRATCH = ThreadLocal.withInitial(NeighborScratch::new);
 
     private AffectiveContagionManager() {}
 
@@ -64,17 +67,20 @@ public final class AffectiveContagionManager {
         }
         component.setStateData("contagion_last_run", now);
 
-        // Get owner-scoped swarm neighbors for this pet
+        // Nearest tracked pets of any owner; cross-owner pairs are damped by crossOwnerMultiplier below
         PetSwarmIndex swarm = manager.getSwarmIndex();
         if (swarm == null) return;
 
         // Collect candidate neighbors (limited by cfg.maxNeighbors)
-        final List<NeighborSample> candidates = new ArrayList<>(cfg.maxNeighbors);
-        swarm.forEachNeighbor(pet, component, cfg.radius, cfg.maxNeighbors, (entry, distSq) -> {
-            if (entry == null || entry.component() == null) return;
-            if (entry.pet() == pet) return;
-            candidates.add(new NeighborSample(entry, distSq));
-        });
+        NeighborScratch scratch = SCRATCH.get().sized(Math.max(0, cfg.maxNeighbors));
+        int found = swarm.findNearest(pet.getX(), pet.getY(), pet.getZ(), cfg.radius, pet,
+            scratch.slots, scratch.distancesSq);
+        final List<NeighborSample> candidates = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            PetSwarmIndex.SwarmEntry entry = swarm.entryForSlot(scratch.slots[i]);
+            if (entry == null || entry.component() == null) continue;
+            candidates.add(new NeighborSample(entry, scratch.distancesSq[i]));
+        }
 
         if (candidates.isEmpty()) {
             // Apply only a tiny gossip ambient nudge to avoid "flat" rooms
@@ -267,6 +273,23 @@ public final class AffectiveContagionManager {
         }
     }
 
+    /**
+     * Result arrays for {@link PetSwarmIndex#findNearest}. Their length is the query limit, so
+     * they are only reallocated when {@code max_neighbors} changes.
+     */
+    private static final class NeighborScratch {
+        int[] slots = new int[0];
+        double[] distancesSq = new double[0];
+
+        NeighborScratch sized(int limit) {
+            if (slots.length != limit) {
+                slots = new int[limit];
+                distancesSq = new double[limit];
+            }
+            return this;
+        }
+    }
+
     private static final class Telemetry {
         float recentAvg = 0f;
 
@@ -39,9 +39,47 @@ public final class AsyncProcessingTelemetry {
     /** Number of tasks dropped due to capacity or policy. */
     public static final AtomicLong TASKS_DROPPED = new AtomicLong();
 
-    /** Number of stimuli coalesced (merged) to reduce work. */
+    /** Number of stimuli coalesced (merged) to reduce work, while telemetry is enabled. */
     public static final AtomicLong STIMULI_COALESCED = new AtomicLong();
 
+    /** Number of keyed stimuli checked against a coalescing window (hits included), while telemetry is enabled. */
+    public static final AtomicLong STIMULI_COALESCE_LOOKUPS = new AtomicLong();
+
+    /** Number of coalescing windows dropped by expiry sweeps or the table's memory bound. */
+    public static final AtomicLong STIMULI_COALESCE_EVICTIONS = new AtomicLong();
+
+    /** Number of PetData snapshots built from live pet state. */
+    public static final AtomicLong PET_DATA_ENCODES = new AtomicLong();
+
+    /** Number of module or state-data snapshots reused because nothing changed since the last encode. */
+    public static final AtomicLong PET_DATA_MODULES_REUSED = new AtomicLong();
+
+    /** Estimated NBT size of autosaved PetData, summed; only sampled while telemetry is enabled. */
+    public static final AtomicLong PET_DATA_AUTOSAVE_BYTES = new AtomicLong();
+
+    /** Follower paths found by a real search and shared as pack trails, while telemetry is enabled. */
+    public static final AtomicLong PACK_PATHS_PUBLISHED = new AtomicLong();
+
+    /** Nodes across published pack trails, a proxy for the search work that was done. */
+    public static final AtomicLong PACK_PATH_NODES_PUBLISHED = new AtomicLong();
+
+    /** Follower paths spliced from a packmate's trail instead of searched, while telemetry is enabled. */
+    public static final AtomicLong PACK_PATHS_SPLICED = new AtomicLong();
+
+    /** Nodes across spliced paths, a proxy for the search work that was saved. */
+    public static final AtomicLong PACK_PATH_NODES_SPLICED = new AtomicLong();
+
+    /**
+     * Fraction of keyed stimuli that landed in an open coalescing window, or 0 before any lookup.
+     */
+    public static double stimulusCoalesceHitRate() {
+        long lookups = STIMULI_COALESCE_LOOKUPS.get();
+        if (lookups <= 0L) {
+            return 0.0;
+        }
+        return (double) STIMULI_COALESCED.get() / (double) lookups;
+    }
+
     // ============ ENABLEMENT & SAMPLING ============
 
     /**
@@ -109,6 +147,9 @@ public final class AsyncProcessingTelemetry {
     /** Time spent committing or finalizing results/state. */
     public static final TimerMetric COMMIT_TIME = new TimerMetric();
 
+    /** Time spent building PetData for forced (save-time) component writes. */
+    public static final TimerMetric PET_DATA_AUTOSAVE_TIME = new TimerMetric();
+
     /**
      * Start a timer and return the nanoTime snapshot.
      */
@@ -2,6 +2,7 @@ package woflo.petsplus.state.processing;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
@@ -17,6 +18,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
 
 import net.minecraft.server.MinecraftServer;
 
@@ -24,6 +26,7 @@ import org.jetbrains.annotations.Nullable;
 
 import woflo.petsplus.Petsplus;
 import woflo.petsplus.state.StateManager;
+import woflo.petsplus.state.coordination.TickBudgetGovernor;
 import woflo.petsplus.state.processing.AsyncProcessingTelemetry;
 
 /**
@@ -32,6 +35,10 @@ import woflo.petsplus.state.processing.AsyncProcessingTelemetry;
  */
 public final class AsyncWorkCoordinator implements AutoCloseable {
     private static final int MAX_IDLE_SECONDS = 30;
+    private static final int ASYNC_SUBMISSIONS_PER_OWNER_PER_TICK = 4;
+    static final int MAX_DEFERRED_SUBMISSIONS = 256;
+    static final long MAX_DEFERRED_SNAPSHOT_AGE_TICKS = 20L;
+    private static final long NO_SNAPSHOT_TICK = Long.MIN_VALUE;
     private static final AtomicLong TASK_SEQUENCE = new AtomicLong();
     private static final Thread.UncaughtExceptionHandler ASYNC_EXCEPTION_HANDLER = (thread, throwable) ->
         Petsplus.LOGGER.error("Uncaught exception in async work thread {}", thread.getName(), throwable);
@@ -48,6 +55,8 @@ public final class AsyncWorkCoordinator implements AutoCloseable {
     private final int baseThreadCount;
     private final AsyncProcessingTelemetry telemetry = new AsyncProcessingTelemetry();
     private final AsyncWorkerBudget.Registration budgetRegistration;
+    private final ConcurrentLinkedQueue<DeferredSubmission> deferredSubmissions = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger deferredCount = new AtomicInteger();
 
     public AsyncWorkCoordinator(MinecraftServer server,
                                 DoubleSupplier loadFactorSupplier) {
@@ -132,6 +141,9 @@ public final class AsyncWorkCoordinator implements AutoCloseable {
             if (allowedThreads <= 0) {
                 return rejectThrottled("Server TPS is too low for async work");
             }
+            if (!acquireSubmissionToken(snapshot.ownerId(), effectivePriority)) {
+                return defer(snapshot.snapshotTick(), () -> submitOwnerBatch(snapshot, job, applier, effectivePriority));
+            }
 
             int maxJobs = computeMaxJobs(allowedThreads);
             SlotReservation reservation = tryAcquireSlot(maxJobs);
@@ -192,6 +204,9 @@ public final class AsyncWorkCoordinator implements AutoCloseable {
         if (allowedThreads <= 0) {
             return rejectThrottled("Standalone async task '" + descriptor + "' rejected: Server TPS is too low for async work");
         }
+        if (!acquireSubmissionToken(null, effectivePriority)) {
+            return defer(NO_SNAPSHOT_TICK, () -> submitStandalone(descriptor, job, applier, effectivePriority));
+        }
 
         int maxJobs = computeMaxJobs(allowedThreads);
         SlotReservation reservation = tryAcquireSlot(maxJobs);
@@ -451,6 +466,84 @@ public final class AsyncWorkCoordinator implements AutoCloseable {
         }
     }
 
+    /**
+     * Critical work is never metered; everything else draws a token from the shared tick budget.
+     */
+    private static boolean acquireSubmissionToken(@Nullable UUID ownerId, AsyncJobPriority priority) {
+        if (priority == AsyncJobPriority.CRITICAL) {
+            return true;
+        }
+        return TickBudgetGovernor.global().tryAcquire(TickBudgetGovernor.Lane.ASYNC_SUBMISSION,
+            ownerId, ASYNC_SUBMISSIONS_PER_OWNER_PER_TICK);
+    }
+
+    /**
+     * Hold a submission the tick budget refused until {@link #retryDeferredSubmissions(long)} runs
+     * on a later tick. The returned future follows the resubmitted job, so callers wait instead of
+     * falling back to doing the work synchronously. Once {@link #MAX_DEFERRED_SUBMISSIONS} are
+     * parked, further refusals are rejected outright.
+     *
+     * @param snapshotTick tick the owner snapshot was captured on, or {@link #NO_SNAPSHOT_TICK}
+     */
+    private <T> CompletableFuture<T> defer(long snapshotTick, Supplier<CompletableFuture<T>> resubmit) {
+        if (deferredCount.incrementAndGet() > MAX_DEFERRED_SUBMISSIONS) {
+            deferredCount.decrementAndGet();
+            return rejectThrottled("Deferred async queue is full");
+        }
+        CompletableFuture<T> completion = new CompletableFuture<>();
+        telemetry.recordThrottledSubmission();
+        deferredSubmissions.add(new DeferredSubmission(() -> resubmit.get().whenComplete((result, failure) -> {
+            if (failure != null) {
+                completion.completeExceptionally(failure);
+            } else {
+                completion.complete(result);
+            }
+        }), completion, snapshotTick));
+        return completion;
+    }
+
+    /**
+     * Resubmit work the tick budget deferred on earlier ticks. Call once per server tick, after
+     * the budget has been refilled; submissions refused again wait for the next call. Owner
+     * batches whose snapshot is more than {@link #MAX_DEFERRED_SNAPSHOT_AGE_TICKS} old are
+     * rejected instead, so callers rebuild from live state rather than plan against it.
+     *
+     * @param currentTick the world tick, on the same clock as {@link OwnerBatchSnapshot#snapshotTick()}
+     * @return number of deferred submissions retried
+     */
+    public int retryDeferredSubmissions(long currentTick) {
+        int pending = deferredCount.get();
+        int retried = 0;
+        for (int polled = 0; polled < pending; polled++) {
+            DeferredSubmission deferred = deferredSubmissions.poll();
+            if (deferred == null) {
+                break;
+            }
+            deferredCount.decrementAndGet();
+            if (deferred.snapshotTick() != NO_SNAPSHOT_TICK
+                && currentTick - deferred.snapshotTick() > MAX_DEFERRED_SNAPSHOT_AGE_TICKS) {
+                AsyncProcessingTelemetry.TASKS_DROPPED.incrementAndGet();
+                deferred.completion().completeExceptionally(
+                    new RejectedExecutionException("Deferred owner snapshot expired"));
+                continue;
+            }
+            try {
+                deferred.resubmit().run();
+            } catch (Throwable throwable) {
+                deferred.completion().completeExceptionally(throwable);
+            }
+            retried++;
+        }
+        return retried;
+    }
+
+    /**
+     * Number of submissions currently parked for a later tick.
+     */
+    public int deferredSubmissionCount() {
+        return deferredCount.get();
+    }
+
     private <T> CompletableFuture<T> rejectThrottled(String message) {
         AsyncProcessingTelemetry.TASKS_DROPPED.incrementAndGet();
         telemetry.recordThrottledSubmission();
@@ -472,6 +565,12 @@ public final class AsyncWorkCoordinator implements AutoCloseable {
 
     @Override
     public void close() {
+        DeferredSubmission deferred;
+        while ((deferred = deferredSubmissions.poll()) != null) {
+            deferredCount.decrementAndGet();
+            deferred.completion().completeExceptionally(
+                new RejectedExecutionException("Async coordinator closed before deferred task start"));
+        }
         // Initiate graceful shutdown
         executor.shutdown();
         try {
@@ -531,6 +630,9 @@ public final class AsyncWorkCoordinator implements AutoCloseable {
         }
     }
 
+    private record DeferredSubmission(Runnable resubmit, CompletableFuture<?> completion, long snapshotTick) {
+    }
+
     @FunctionalInterface
     public interface OwnerBatchJob<T> {
         T run(OwnerBatchSnapshot snapshot) throws Exception;
@@ -0,0 +1,97 @@
+package woflo.petsplus.state.processing;
+
+import it.unimi.dsi.fastutil.objects.Object2ReferenceOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.util.UUID;
+
+/**
+ * Sums owner XP pickups until the next flush so the owner event pipeline sees
+ * one {@link OwnerEventType#XP_GAIN} frame per owner per tick instead of one per
+ * orb. Each owner keeps a reusable slot holding the summed amount and the number
+ * of pickups; slots of owners that have left the world are dropped on flush.
+ */
+public final class OwnerXpAccumulator {
+
+    /** Receives one owner's summed XP on flush. */
+    @FunctionalInterface
+    public interface Sink {
+        void accept(ServerPlayerEntity owner, int xpAmount, int orbCount);
+    }
+
+    private final Object2ReferenceOpenHashMap<UUID, Slot> slots = new Object2ReferenceOpenHashMap<>();
+    private final ObjectArrayList<Slot> dirty = new ObjectArrayList<>();
+    private final ObjectArrayList<Slot> draining = new ObjectArrayList<>();
+
+    /** Record {@code xpAmount} gained by {@code owner} in a single pickup. */
+    public void add(ServerPlayerEntity owner, int xpAmount) {
+        if (owner == null || xpAmount <= 0) {
+            return;
+        }
+        UUID ownerId = owner.getUuid();
+        Slot slot = slots.get(ownerId);
+        if (slot == null) {
+            slot = new Slot(ownerId);
+            slots.put(ownerId, slot);
+        }
+        slot.owner = owner;
+        if (slot.orbCount == 0) {
+            dirty.add(slot);
+        }
+        long summed = (long) slot.xpAmount + xpAmount;
+        slot.xpAmount = (int) Math.min(Integer.MAX_VALUE, summed);
+        slot.orbCount++;
+    }
+
+    public boolean isEmpty() {
+        return dirty.isEmpty();
+    }
+
+    /**
+     * Hand every owner's pending total to {@code sink} in first-pickup order and
+     * reset the totals. Pickups recorded while the sink runs are kept for the
+     * next flush.
+     */
+    public void flush(Sink sink) {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        draining.addAll(dirty);
+        dirty.clear();
+        try {
+            for (int i = 0; i < draining.size(); i++) {
+                Slot slot = draining.get(i);
+                ServerPlayerEntity owner = slot.owner;
+                int xpAmount = slot.xpAmount;
+                int orbCount = slot.orbCount;
+                slot.xpAmount = 0;
+                slot.orbCount = 0;
+                if (owner == null || owner.isRemoved()) {
+                    slots.remove(slot.ownerId);
+                    continue;
+                }
+                sink.accept(owner, xpAmount, orbCount);
+            }
+        } finally {
+            draining.clear();
+        }
+    }
+
+    public void clear() {
+        slots.clear();
+        dirty.clear();
+        draining.clear();
+    }
+
+    private static final class Slot {
+        final UUID ownerId;
+        ServerPlayerEntity owner;
+        int xpAmount;
+        int orbCount;
+
+        Slot(UUID ownerId) {
+            this.ownerId = ownerId;
+        }
+    }
+}
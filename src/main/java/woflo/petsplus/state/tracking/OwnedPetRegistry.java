@@ -0,0 +1,192 @@
+package woflo.petsplus.state.tracking;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.PersistentState;
+import net.minecraft.world.PersistentStateManager;
+import net.minecraft.world.PersistentStateType;
+import org.jetbrains.annotations.Nullable;
+import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.StateManager;
+import woflo.petsplus.util.PetValidationUtil;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Server-wide record of which pets each player owns and where they were last seen.
+ *
+ * Maps owner UUID to pet UUID to a small {@link PetRecord} (dimension, last chunk, display name,
+ * role and level), so commands and menus can list an owner's pets without scanning any world.
+ * Entries are written when a pet loads, unloads, changes owner, role or level, or is renamed, and
+ * are dropped when the pet is killed or discarded. The snapshot fields are also refreshed whenever a
+ * loaded pet is looked up.
+ */
+public class OwnedPetRegistry extends PersistentState {
+    private static final String STORAGE_KEY = "petsplus_owned_pet_registry";
+
+    private static final Codec<UUID> UUID_CODEC = Codec.STRING.xmap(UUID::fromString, UUID::toString);
+    private static final Codec<Map<UUID, Map<UUID, PetRecord>>> OWNERS_CODEC =
+        Codec.unboundedMap(UUID_CODEC, Codec.unboundedMap(UUID_CODEC, PetRecord.CODEC));
+    static final Codec<OwnedPetRegistry> CODEC = OWNERS_CODEC
+        .xmap(OwnedPetRegistry::fromMap, OwnedPetRegistry::toMap);
+    private static final PersistentStateType<OwnedPetRegistry> TYPE = new PersistentStateType<>(
+        STORAGE_KEY,
+        OwnedPetRegistry::new,
+        CODEC,
+        null
+    );
+
+    /**
+     * Last known facts about one pet.
+     *
+     * @param chunkPos packed {@link ChunkPos} of the chunk the pet was last seen in
+     */
+    public record PetRecord(Identifier dimension, long chunkPos, String name, @Nullable Identifier roleId, int level) {
+        static final Codec<PetRecord> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Identifier.CODEC.fieldOf("dimension").forGetter(PetRecord::dimension),
+            Codec.LONG.fieldOf("chunk").forGetter(PetRecord::chunkPos),
+            Codec.STRING.fieldOf("name").forGetter(PetRecord::name),
+            Identifier.CODEC.optionalFieldOf("role").forGetter(record -> Optional.ofNullable(record.roleId())),
+            Codec.INT.fieldOf("level").forGetter(PetRecord::level)
+        ).apply(instance, (dimension, chunk, name, role, level) ->
+            new PetRecord(dimension, chunk, name, role.orElse(null), level)));
+    }
+
+    private final Map<UUID, Map<UUID, PetRecord>> petsByOwner = new HashMap<>();
+    private final Map<UUID, UUID> ownerByPet = new HashMap<>();
+
+    OwnedPetRegistry() {
+    }
+
+    public static OwnedPetRegistry get(ServerWorld world) {
+        if (world == null) {
+            throw new IllegalArgumentException("ServerWorld cannot be null when accessing OwnedPetRegistry");
+        }
+
+        MinecraftServer server = world.getServer();
+        if (server == null) {
+            throw new IllegalStateException("Cannot access OwnedPetRegistry before the server is ready");
+        }
+
+        ServerWorld storageWorld = server.getOverworld();
+        PersistentStateManager manager = storageWorld.getPersistentStateManager();
+        return manager.getOrCreate(TYPE);
+    }
+
+    /**
+     * Records {@code pet} under its current owner, or forgets it when it has none. Safe to call
+     * from any code path: does nothing off the server thread or before the server is ready.
+     */
+    public static void refresh(@Nullable MobEntity pet, @Nullable PetComponent component) {
+        if (pet == null || component == null || !(pet.getEntityWorld() instanceof ServerWorld world)) {
+            return;
+        }
+        MinecraftServer server = world.getServer();
+        if (server == null || !server.isOnThread() || server.getOverworld() == null || StateManager.isServerStopping()) {
+            return;
+        }
+        get(world).recordPet(world, pet, component);
+    }
+
+    private static OwnedPetRegistry fromMap(Map<UUID, Map<UUID, PetRecord>> map) {
+        OwnedPetRegistry registry = new OwnedPetRegistry();
+        for (Map.Entry<UUID, Map<UUID, PetRecord>> owner : map.entrySet()) {
+            Map<UUID, PetRecord> pets = new LinkedHashMap<>(owner.getValue());
+            registry.petsByOwner.put(owner.getKey(), pets);
+            for (UUID petUuid : pets.keySet()) {
+                registry.ownerByPet.put(petUuid, owner.getKey());
+            }
+        }
+        return registry;
+    }
+
+    private Map<UUID, Map<UUID, PetRecord>> toMap() {
+        Map<UUID, Map<UUID, PetRecord>> copy = new HashMap<>();
+        petsByOwner.forEach((owner, pets) -> copy.put(owner, new HashMap<>(pets)));
+        return copy;
+    }
+
+    /**
+     * Stores a fresh snapshot of {@code pet}, moving it between owners if it was transferred.
+     */
+    public void recordPet(ServerWorld world, MobEntity pet, PetComponent component) {
+        UUID petUuid = pet.getUuid();
+        UUID ownerUuid = component.getOwnerUuid();
+        if (ownerUuid == null) {
+            forgetPet(petUuid);
+            return;
+        }
+
+        UUID previousOwner = ownerByPet.get(petUuid);
+        if (previousOwner != null && !previousOwner.equals(ownerUuid)) {
+            forgetPet(petUuid);
+        }
+
+        PetRecord record = new PetRecord(
+            world.getRegistryKey().getValue(),
+            pet.getChunkPos().toLong(),
+            PetValidationUtil.getDisplayName(pet),
+            component.getAssignedRoleId(),
+            component.getLevel()
+        );
+        Map<UUID, PetRecord> pets = petsByOwner.computeIfAbsent(ownerUuid, id -> new LinkedHashMap<>());
+        PetRecord previous = pets.put(petUuid, record);
+        ownerByPet.put(petUuid, ownerUuid);
+        if (!record.equals(previous)) {
+            markDirty();
+        }
+    }
+
+    /** Drops {@code petUuid} from whichever owner it is listed under. */
+    public void forgetPet(@Nullable UUID petUuid) {
+        if (petUuid == null) {
+            return;
+        }
+        UUID ownerUuid = ownerByPet.remove(petUuid);
+        if (ownerUuid == null) {
+            return;
+        }
+        Map<UUID, PetRecord> pets = petsByOwner.get(ownerUuid);
+        if (pets != null) {
+            pets.remove(petUuid);
+            if (pets.isEmpty()) {
+                petsByOwner.remove(ownerUuid);
+            }
+        }
+        markDirty();
+    }
+
+    /** Pets listed for {@code ownerUuid}, keyed by pet UUID in first-recorded order. */
+    public Map<UUID, PetRecord> petsOf(@Nullable UUID ownerUuid) {
+        if (ownerUuid == null) {
+            return Map.of();
+        }
+        Map<UUID, PetRecord> pets = petsByOwner.get(ownerUuid);
+        return pets == null ? Map.of() : Collections.unmodifiableMap(pets);
+    }
+
+    @Nullable
+    public UUID ownerOf(@Nullable UUID petUuid) {
+        return petUuid == null ? null : ownerByPet.get(petUuid);
+    }
+
+    @Nullable
+    public PetRecord find(@Nullable UUID petUuid) {
+        UUID ownerUuid = ownerOf(petUuid);
+        if (ownerUuid == null) {
+            return null;
+        }
+        Map<UUID, PetRecord> pets = petsByOwner.get(ownerUuid);
+        return pets == null ? null : pets.get(petUuid);
+    }
+}
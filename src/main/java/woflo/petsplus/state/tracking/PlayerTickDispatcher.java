@@ -1,71 +1,136 @@
 package woflo.petsplus.state.tracking;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
 
 import woflo.petsplus.Petsplus;
+import woflo.petsplus.policy.AIBudgetPolicy;
+import woflo.petsplus.policy.AIPerfPolicy;
+import woflo.petsplus.state.StateManager;
+import woflo.petsplus.state.coordination.TickWheelScheduler;
 
 /**
- * Dispatcher shell for the future owner-centric ticking pipeline.
+ * Owner-centric dispatcher for {@link PlayerTickListener}s.
  *
- * Design intent:
- * - Enforce per-owner O(1) fairness across active owners
- * - Apply LOD gating based on documented policy cadences and distances
- * - Keep this layer free of direct Minecraft type references
+ * Each (listener, player) pair is a subscription parked in a {@link TickWheelScheduler} at the
+ * tick its listener asked for, so idle listeners cost nothing per tick. When a wake-up comes due
+ * the listener's {@link PlayerTickListener#nextRunTick} is re-read: it runs if still due and is
+ * re-parked either way. Listeners that move their schedule from outside {@code run} report it via
+ * {@link #requestImmediateRun} or {@link #reschedule}.
  *
- * This is scaffolding and intentionally has no runtime behavior yet.
+ * Due work is grouped per owner and drained once per server tick by {@link #dispatchOwnerLoop}:
+ * - Owners are served round-robin, all of one owner's due listeners together
+ * - The loop stops at a per-tick time budget; owners not reached carry over to the front of the
+ *   next tick, and overspend is paid back from the next tick's budget
+ * - While work is carrying over, owners far from their pets only run on their
+ *   {@link AIPerfPolicy} cadence slot
+ *
+ * Main-thread only.
  */
 
 public final class PlayerTickDispatcher {
 
+    private static final long UNSCHEDULED = Long.MAX_VALUE;
+    private static final long MAX_BUDGET_DEBT_MULTIPLIER = 4L;
+    private static final long STALE_PLAYER_TICKS = 200L;
+
     private static final CopyOnWriteArrayList<PlayerTickListener> LISTENERS = new CopyOnWriteArrayList<>();
+    private static final Map<UUID, PlayerSlot> PLAYERS = new ConcurrentHashMap<>();
+    private static final TickWheelScheduler<Subscription> WHEEL = new TickWheelScheduler<>();
+    private static final ArrayDeque<PlayerSlot> READY = new ArrayDeque<>();
+
+    private static long budgetDebtNanos;
+    private static boolean carriedOver;
+    private static long nextStaleSweepTick;
 
     private PlayerTickDispatcher() {
         // Non-instantiable utility class
     }
 
     /**
-     * Entry point for dispatching the owner-centric tick loop.
-     * No-op placeholder; implementation pending.
+     * Runs every listener wake-up that is due this tick, owner by owner, within the per-tick
+     * budget. Called once per server tick.
      */
-    public static void dispatchOwnerLoop() {
-        // no-op placeholder
+    public static void dispatchOwnerLoop(MinecraftServer server) {
+        if (server == null) {
+            return;
+        }
+        long currentTick = server.getTicks();
+        WHEEL.drainTo(currentTick, subscription -> enqueueDue(subscription, currentTick));
+        if (currentTick >= nextStaleSweepTick) {
+            nextStaleSweepTick = currentTick + STALE_PLAYER_TICKS;
+            sweepStalePlayers(currentTick);
+        }
+
+        long budget = AIBudgetPolicy.playerListenerBudgetNanosPerTick();
+        if (READY.isEmpty()) {
+            budgetDebtNanos = Math.max(0L, budgetDebtNanos - budget);
+            carriedOver = false;
+            return;
+        }
+
+        boolean underPressure = carriedOver;
+        long allowance = Math.max(budget / 4L, budget - budgetDebtNanos);
+        long start = System.nanoTime();
+        int visits = READY.size();
+        int served = 0;
+        while (visits-- > 0 && !READY.isEmpty()) {
+            if (served > 0 && System.nanoTime() - start >= allowance) {
+                break;
+            }
+            PlayerSlot slot = READY.pollFirst();
+            slot.queued = false;
+            if (slot.released) {
+                slot.due.clear();
+                continue;
+            }
+            if (underPressure && !slot.lodAllows(currentTick)) {
+                slot.queued = true;
+                READY.addLast(slot);
+                continue;
+            }
+            runOwner(slot, currentTick);
+            served++;
+        }
+
+        long spent = System.nanoTime() - start;
+        budgetDebtNanos = Math.min(budget * MAX_BUDGET_DEBT_MULTIPLIER,
+            Math.max(0L, budgetDebtNanos + spent - budget));
+        carriedOver = !READY.isEmpty();
     }
 
-    // ---------------------------------------------------------------------
-    // Placeholder static API stubs (no behavior)
-    // ---------------------------------------------------------------------
     public static void register(PlayerTickListener listener) {
         if (listener != null) {
             LISTENERS.addIfAbsent(listener);
         }
     }
 
+    /**
+     * Marks {@code player} as online this tick. New players, and listeners registered since the
+     * player was last seen, get a wake-up so their schedule is read once.
+     */
     public static void dispatch(ServerPlayerEntity player, long currentTick) {
         if (player == null || player.isRemoved()) {
             return;
         }
 
-        for (PlayerTickListener listener : LISTENERS) {
-            if (listener == null) {
-                continue;
-            }
-
-            try {
-                if (listener.nextRunTick(player) <= currentTick) {
-                    listener.run(player, currentTick);
-                }
-            } catch (Exception ex) {
-                Petsplus.LOGGER.error(
-                    "Player tick listener {} failed for player {}",
-                    listener.getClass().getName(),
-                    player.getName().getString(),
-                    ex
-                );
-            }
+        PlayerSlot slot = PLAYERS.get(player.getUuid());
+        if (slot == null) {
+            slot = new PlayerSlot(player.getUuid());
+            PLAYERS.put(player.getUuid(), slot);
         }
+        slot.player = player;
+        slot.lastSeenTick = currentTick;
+        slot.ensureSubscriptions(currentTick);
     }
 
     public static void requestImmediateRun(ServerPlayerEntity player, PlayerTickListener listener) {
@@ -89,11 +154,13 @@ public final class PlayerTickDispatcher {
                 }
 
                 long currentTick = server.getTicks();
+                Subscription subscription = subscription(player, listener, currentTick);
                 try {
                     if (listener.nextRunTick(player) <= currentTick) {
                         listener.run(player, currentTick);
-                    } else {
-                        dispatch(player, currentTick);
+                    }
+                    if (subscription != null) {
+                        scheduleNext(subscription, player, currentTick);
                     }
                 } catch (Exception ex) {
                     Petsplus.LOGGER.error(
@@ -102,6 +169,9 @@ public final class PlayerTickDispatcher {
                         player.getName().getString(),
                         ex
                     );
+                    if (subscription != null) {
+                        schedule(subscription, currentTick + 1L);
+                    }
                 }
             });
         } catch (java.util.concurrent.RejectedExecutionException ex) {
@@ -114,11 +184,52 @@ public final class PlayerTickDispatcher {
         }
     }
 
+    /**
+     * Re-reads {@code listener}'s schedule for {@code player} after it changed outside of
+     * {@link PlayerTickListener#run}. Cheap enough to call on every schedule change.
+     */
+    public static void reschedule(ServerPlayerEntity player, PlayerTickListener listener) {
+        if (player == null || listener == null || player.isRemoved()) {
+            return;
+        }
+        MinecraftServer server = player.getEntityWorld().getServer();
+        if (server == null) {
+            return;
+        }
+        if (!server.isOnThread()) {
+            server.execute(() -> reschedule(player, listener));
+            return;
+        }
+        long currentTick = server.getTicks();
+        Subscription subscription = subscription(player, listener, currentTick);
+        if (subscription == null || subscription.due) {
+            return;
+        }
+        try {
+            long next = listener.nextRunTick(player);
+            if (next != UNSCHEDULED) {
+                schedule(subscription, Math.max(next, currentTick));
+            }
+        } catch (Exception ex) {
+            Petsplus.LOGGER.error(
+                "Player tick listener {} failed for player {}",
+                listener.getClass().getName(),
+                player.getName().getString(),
+                ex
+            );
+        }
+    }
+
     public static void clearPlayer(ServerPlayerEntity player) {
         if (player == null) {
             return;
         }
 
+        PlayerSlot slot = PLAYERS.remove(player.getUuid());
+        if (slot != null) {
+            slot.released = true;
+        }
+
         for (PlayerTickListener listener : LISTENERS) {
             if (listener != null) {
                 listener.onPlayerRemoved(player);
@@ -126,7 +237,181 @@ public final class PlayerTickDispatcher {
         }
     }
 
+    /**
+     * Drops every pending wake-up. Called when a server starts or stops so tick numbers from a
+     * previous server never leak into the next one.
+     */
+    public static void resetSchedule() {
+        for (PlayerSlot slot : PLAYERS.values()) {
+            slot.released = true;
+        }
+        PLAYERS.clear();
+        READY.clear();
+        WHEEL.clear();
+        budgetDebtNanos = 0L;
+        carriedOver = false;
+        nextStaleSweepTick = 0L;
+    }
+
     public static void clearAll() {
+        resetSchedule();
         LISTENERS.clear();
     }
+
+    private static Subscription subscription(ServerPlayerEntity player, PlayerTickListener listener, long currentTick) {
+        dispatch(player, currentTick);
+        PlayerSlot slot = PLAYERS.get(player.getUuid());
+        if (slot == null) {
+            return null;
+        }
+        for (int i = 0; i < slot.subscriptions.size(); i++) {
+            Subscription subscription = slot.subscriptions.get(i);
+            if (subscription.listener == listener) {
+                return subscription;
+            }
+        }
+        return null;
+    }
+
+    private static void enqueueDue(Subscription subscription, long currentTick) {
+        PlayerSlot slot = subscription.slot;
+        if (slot.released || subscription.due || subscription.wakeTick > currentTick) {
+            // Released player, or a stale entry superseded by an earlier or later wake-up
+            return;
+        }
+        subscription.wakeTick = UNSCHEDULED;
+        subscription.due = true;
+        slot.due.add(subscription);
+        if (!slot.queued) {
+            slot.queued = true;
+            READY.addLast(slot);
+        }
+    }
+
+    private static void runOwner(PlayerSlot slot, long currentTick) {
+        ServerPlayerEntity player = slot.player;
+        List<Subscription> due = slot.due;
+        for (int i = 0; i < due.size(); i++) {
+            Subscription subscription = due.get(i);
+            subscription.due = false;
+            if (player == null || player.isRemoved()) {
+                // Respawn swaps the entity; try again once the new one has ticked
+                schedule(subscription, currentTick + 1L);
+                continue;
+            }
+            PlayerTickListener listener = subscription.listener;
+            try {
+                if (listener.nextRunTick(player) <= currentTick) {
+                    listener.run(player, currentTick);
+                }
+                scheduleNext(subscription, player, currentTick);
+            } catch (Exception ex) {
+                Petsplus.LOGGER.error(
+                    "Player tick listener {} failed for player {}",
+                    listener.getClass().getName(),
+                    player.getName().getString(),
+                    ex
+                );
+                schedule(subscription, currentTick + 1L);
+            }
+        }
+        due.clear();
+    }
+
+    private static void scheduleNext(Subscription subscription, ServerPlayerEntity player, long currentTick) {
+        PlayerTickListener listener = subscription.listener;
+        long wake = listener.nextRunTick(player);
+        int pollInterval = listener.pollIntervalTicks();
+        if (pollInterval < Integer.MAX_VALUE) {
+            wake = Math.min(wake, currentTick + Math.max(1, pollInterval));
+        }
+        if (wake == UNSCHEDULED) {
+            return;
+        }
+        schedule(subscription, Math.max(wake, currentTick + 1L));
+    }
+
+    private static void schedule(Subscription subscription, long tick) {
+        if (subscription.slot.released || subscription.due || subscription.wakeTick <= tick) {
+            // Already queued, or an earlier wake-up will re-read the schedule anyway
+            return;
+        }
+        subscription.wakeTick = tick;
+        WHEEL.schedule(tick, subscription);
+    }
+
+    private static void sweepStalePlayers(long currentTick) {
+        PLAYERS.values().removeIf(slot -> {
+            ServerPlayerEntity player = slot.player;
+            boolean stale = (player == null || player.isRemoved())
+                && currentTick - slot.lastSeenTick > STALE_PLAYER_TICKS;
+            if (stale) {
+                slot.released = true;
+            }
+            return stale;
+        });
+    }
+
+    private static final class PlayerSlot {
+        final UUID playerId;
+        final int cadencePhase;
+        final List<Subscription> subscriptions = new ArrayList<>();
+        final List<Subscription> due = new ArrayList<>();
+        ServerPlayerEntity player;
+        long lastSeenTick;
+        boolean queued;
+        boolean released;
+
+        PlayerSlot(UUID playerId) {
+            this.playerId = playerId;
+            this.cadencePhase = playerId.hashCode() & Integer.MAX_VALUE;
+        }
+
+        void ensureSubscriptions(long currentTick) {
+            int registered = LISTENERS.size();
+            while (subscriptions.size() < registered) {
+                Subscription subscription = new Subscription(this, LISTENERS.get(subscriptions.size()));
+                subscriptions.add(subscription);
+                schedule(subscription, currentTick);
+            }
+        }
+
+        /** True when this owner may run now while the dispatcher is behind. */
+        boolean lodAllows(long currentTick) {
+            int modulus = lodTickModulus(player);
+            return modulus <= 1 || (currentTick + cadencePhase) % modulus == 0L;
+        }
+    }
+
+    private static final class Subscription {
+        final PlayerSlot slot;
+        final PlayerTickListener listener;
+        long wakeTick = UNSCHEDULED;
+        boolean due;
+
+        Subscription(PlayerSlot slot, PlayerTickListener listener) {
+            this.slot = slot;
+            this.listener = listener;
+        }
+    }
+
+    /** Tick divisor from the distance between an owner and their nearest tracked pet. */
+    private static int lodTickModulus(ServerPlayerEntity player) {
+        if (player == null || !(player.getEntityWorld() instanceof ServerWorld world)) {
+            return 1;
+        }
+        StateManager manager = StateManager.getIfLoaded(world);
+        if (manager == null) {
+            return 1;
+        }
+        boolean[] found = new boolean[1];
+        manager.getSwarmIndex().forEachPetInRange(player, player.getEntityPos(), AIPerfPolicy.NEAR_DIST,
+            entry -> found[0] = true);
+        if (found[0]) {
+            return 1;
+        }
+        manager.getSwarmIndex().forEachPetInRange(player, player.getEntityPos(), AIPerfPolicy.MID_DIST,
+            entry -> found[0] = true);
+        return found[0] ? AIPerfPolicy.MID_TICK_MOD : AIPerfPolicy.FAR_TICK_MOD;
+    }
 }
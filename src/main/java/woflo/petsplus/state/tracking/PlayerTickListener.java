@@ -32,5 +32,16 @@ public interface PlayerTickListener {
      */
     default void onPlayerRemoved(ServerPlayerEntity player) {
     }
+
+    /**
+     * Longest the dispatcher may wait before re-reading {@link #nextRunTick}
+     * for a player. Listeners whose schedule only changes inside {@link #run}
+     * or through {@link PlayerTickDispatcher#requestImmediateRun} keep the
+     * default and are woken only when due; listeners that discover work by
+     * polling player state from {@code nextRunTick} return a short interval.
+     */
+    default int pollIntervalTicks() {
+        return Integer.MAX_VALUE;
+    }
 }
 
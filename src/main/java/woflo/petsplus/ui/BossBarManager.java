@@ -43,6 +43,8 @@ public final class BossBarManager implements PlayerTickListener {
         info.scheduleAt(tick);
         if (immediate) {
             PlayerTickDispatcher.requestImmediateRun(player, INSTANCE);
+        } else {
+            PlayerTickDispatcher.reschedule(player, INSTANCE);
         }
     }
 
@@ -8,7 +8,6 @@ import net.minecraft.text.Text;
 import net.minecraft.text.MutableText;
 import net.minecraft.text.Style;
 import net.minecraft.text.TextColor;
-import net.minecraft.util.math.Vec3d;
 import woflo.petsplus.state.PetComponent;
 import net.minecraft.entity.boss.BossBar;
 import net.minecraft.util.Formatting;
@@ -52,6 +51,7 @@ public final class PetInspectionManager {
             return;
         }
         inspecting.remove(player.getUuid());
+        PetLookTargetResolver.forget(player);
         BossBarManager.removeBossBar(player);
         ActionBarCueManager.onPlayerDisconnect(player);
         clearEmotionScoreboard(player);
@@ -363,25 +363,10 @@ public final class PetInspectionManager {
 
     // Helper methods...
     private static MobEntity findLookedAtPet(ServerPlayerEntity player) {
-        Vec3d start = player.getCameraPosVec(1f);
-        Vec3d look = player.getRotationVec(1f);
-
         // Hysteresis: stricter threshold for gaining focus, looser for maintaining
         boolean currentlyHasFocus = inspecting.containsKey(player.getUuid());
-        double bestDot = currentlyHasFocus ? 0.94 : 0.96; // Looser when maintaining focus
-        MobEntity best = null;
-        for (Entity e : player.getEntityWorld().getOtherEntities(player, player.getBoundingBox().expand(VIEW_DIST))) {
-            if (!(e instanceof MobEntity mob)) continue;
-            if (!player.canSee(mob)) continue;
-            if (mob.isInvisibleTo(player)) continue;
-            Vec3d to = e.getEntityPos().add(0, e.getStandingEyeHeight() * 0.5, 0).subtract(start).normalize();
-            double dot = to.dotProduct(look);
-            if (dot > bestDot && player.squaredDistanceTo(e) <= VIEW_DIST * VIEW_DIST) {
-                bestDot = dot;
-                best = mob;
-            }
-        }
-        return best;
+        double minDot = currentlyHasFocus ? 0.94 : 0.96; // Looser when maintaining focus
+        return PetLookTargetResolver.resolve(player, VIEW_DIST, minDot);
     }
 
     // Data classes
@@ -596,6 +581,7 @@ public final class PetInspectionManager {
      */
     public static void shutdown() {
         inspecting.clear();
+        PetLookTargetResolver.clear();
         PLAYER_TICKER.clearAll();
     }
 
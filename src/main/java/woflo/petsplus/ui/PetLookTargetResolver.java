@@ -0,0 +1,159 @@
+package woflo.petsplus.ui;
+
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Vec3d;
+import org.jetbrains.annotations.Nullable;
+import woflo.petsplus.state.StateManager;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves which pet a player is looking at, once per player per server tick.
+ *
+ * Candidates come from the world's {@link woflo.petsplus.state.coordination.PetSwarmIndex}
+ * instead of a generic entity box query, so only tracked pets are considered. Each candidate
+ * is rejected by the view-cone dot product before anything expensive runs; the block raycast
+ * ({@link ServerPlayerEntity#canSee}) only runs for the best-aligned candidate, falling back to
+ * the next one only when that one is occluded. The answer is cached for the tick, so inspection and
+ * the action-bar cues it feeds share one lookup however often they ask.
+ */
+public final class PetLookTargetResolver {
+    private static final int MAX_CANDIDATES = 8;
+
+    private static final Map<UUID, Focus> FOCUS = new ConcurrentHashMap<>();
+
+    private PetLookTargetResolver() {}
+
+    /**
+     * The pet {@code player} is looking at this tick, or {@code null}.
+     *
+     * @param maxDistance how far from the player a pet may be
+     * @param minDot minimum cosine between the look vector and the direction to the pet
+     */
+    @Nullable
+    public static MobEntity resolve(ServerPlayerEntity player, double maxDistance, double minDot) {
+        if (player == null || !(player.getEntityWorld() instanceof ServerWorld world)) {
+            return null;
+        }
+        MinecraftServer server = world.getServer();
+        long tick = server != null ? server.getTicks() : world.getTime();
+
+        Focus focus = FOCUS.computeIfAbsent(player.getUuid(), id -> new Focus());
+        if (focus.tick == tick && focus.world == world
+            && focus.maxDistance == maxDistance && focus.minDot == minDot) {
+            MobEntity cached = focus.pet;
+            return cached != null && cached.isAlive() ? cached : null;
+        }
+
+        focus.tick = tick;
+        focus.world = world;
+        focus.maxDistance = maxDistance;
+        focus.minDot = minDot;
+        focus.pet = compute(player, world, focus, maxDistance, minDot);
+        return focus.pet;
+    }
+
+    public static void forget(ServerPlayerEntity player) {
+        if (player != null) {
+            FOCUS.remove(player.getUuid());
+        }
+    }
+
+    public static void clear() {
+        FOCUS.clear();
+    }
+
+    @Nullable
+    private static MobEntity compute(ServerPlayerEntity player, ServerWorld world, Focus focus,
+                                     double maxDistance, double minDot) {
+        StateManager manager = StateManager.getIfLoaded(world);
+        if (manager == null) {
+            return null;
+        }
+        Vec3d eye = player.getCameraPosVec(1f);
+        Vec3d look = player.getRotationVec(1f);
+        double eyeX = eye.x;
+        double eyeY = eye.y;
+        double eyeZ = eye.z;
+        double minDotSq = minDot * minDot;
+
+        focus.candidateCount = 0;
+        manager.getSwarmIndex().forEachPetInRange(player.getEntityPos(), maxDistance, entry -> {
+            MobEntity mob = entry.pet();
+            if (mob == null || mob == player || mob.isRemoved() || mob.getEntityWorld() != world) {
+                return;
+            }
+            // Cone test first: cheap arithmetic rejects everything outside the view before any raycast
+            double dx = mob.getX() - eyeX;
+            double dy = mob.getY() + (mob.getStandingEyeHeight() * 0.5) - eyeY;
+            double dz = mob.getZ() - eyeZ;
+            double lengthSq = (dx * dx) + (dy * dy) + (dz * dz);
+            if (lengthSq < 1.0e-6) {
+                return;
+            }
+            double dot = (dx * look.x) + (dy * look.y) + (dz * look.z);
+            if (dot <= 0.0 || dot * dot <= minDotSq * lengthSq) {
+                return;
+            }
+            if (mob.isInvisibleTo(player)) {
+                return;
+            }
+            focus.offer(mob, dot / Math.sqrt(lengthSq));
+        });
+
+        // Raycast best-aligned first; later candidates only matter when the leader is occluded
+        for (int i = 0; i < focus.candidateCount; i++) {
+            MobEntity candidate = focus.candidates[i];
+            if (player.canSee(candidate)) {
+                focus.clearCandidates();
+                return candidate;
+            }
+        }
+        focus.clearCandidates();
+        return null;
+    }
+
+    private static final class Focus {
+        long tick = Long.MIN_VALUE;
+        @Nullable ServerWorld world;
+        double maxDistance;
+        double minDot;
+        @Nullable MobEntity pet;
+
+        final MobEntity[] candidates = new MobEntity[MAX_CANDIDATES];
+        final double[] alignments = new double[MAX_CANDIDATES];
+        int candidateCount;
+
+        /** Insert keeping candidates sorted by alignment, best first; drops the worst when full. */
+        void offer(MobEntity mob, double alignment) {
+            int index = candidateCount;
+            if (index == MAX_CANDIDATES) {
+                if (alignment <= alignments[MAX_CANDIDATES - 1]) {
+                    return;
+                }
+                index = MAX_CANDIDATES - 1;
+            } else {
+                candidateCount++;
+            }
+            while (index > 0 && alignments[index - 1] < alignment) {
+                candidates[index] = candidates[index - 1];
+                alignments[index] = alignments[index - 1];
+                index--;
+            }
+            candidates[index] = mob;
+            alignments[index] = alignment;
+        }
+
+        void clearCandidates() {
+            for (int i = 0; i < candidateCount; i++) {
+                candidates[i] = null;
+            }
+            candidateCount = 0;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.Vec3d;
 import org.jetbrains.annotations.Nullable;
+import woflo.petsplus.state.coordination.EntityCensus;
 import woflo.petsplus.state.coordination.PetSwarmIndex;
 import woflo.petsplus.state.StateManager;
 
@@ -144,13 +145,9 @@ public final class PetTargetingUtil {
      */
     @Nullable
     private static MobEntity findNearestPet(ServerPlayerEntity player, ServerWorld world) {
-        return world.getEntitiesByClass(MobEntity.class,
-            player.getBoundingBox().expand(PROXIMITY_FALLBACK_DISTANCE),
-            entity -> PetValidationUtil.isOwnedBy(entity, player) && entity.isAlive()).stream()
-            .min((a, b) -> Double.compare(
-                player.squaredDistanceTo(a),
-                player.squaredDistanceTo(b)))
-            .orElse(null);
+        return EntityCensus.nearest(world, MobEntity.class,
+            player.getBoundingBox().expand(PROXIMITY_FALLBACK_DISTANCE), player.getEntityPos(),
+            entity -> PetValidationUtil.isOwnedBy(entity, player) && entity.isAlive());
     }
     
     /**
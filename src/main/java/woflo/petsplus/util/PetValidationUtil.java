@@ -4,11 +4,16 @@ import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
 import net.minecraft.util.math.Box;
 import org.jetbrains.annotations.Nullable;
 import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.tracking.OwnedPetRegistry;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * Common helpers for validating pets, ownership checks, and nearby lookups.
@@ -53,15 +58,39 @@ public final class PetValidationUtil {
     }
 
     /**
-     * Finds all owned pets within a custom radius around the owner.
+     * Finds all owned pets within a custom radius around the owner. Candidates come from the
+     * owner's entries in {@link OwnedPetRegistry} and are resolved by UUID, so no entity box
+     * query is issued.
      */
     public static List<MobEntity> findOwnedPets(ServerPlayerEntity owner, double radius) {
         ServerWorld world = owner.getCommandSource().getWorld();
+        OwnedPetRegistry registry = OwnedPetRegistry.get(world);
+        Map<UUID, OwnedPetRegistry.PetRecord> records = registry.petsOf(owner.getUuid());
+        List<MobEntity> result = new ArrayList<>();
+        if (records.isEmpty()) {
+            return result;
+        }
+
+        Identifier dimension = world.getRegistryKey().getValue();
         Box searchArea = owner.getBoundingBox().expand(radius);
-        return world.getEntitiesByClass(MobEntity.class, searchArea, entity -> {
-            PetComponent component = PetComponent.getOrCreate(entity);
-            return component != null && component.isOwnedBy(owner) && entity.isAlive();
-        });
+        for (Map.Entry<UUID, OwnedPetRegistry.PetRecord> entry : List.copyOf(records.entrySet())) {
+            if (!dimension.equals(entry.getValue().dimension())) {
+                continue;
+            }
+            if (!(world.getEntity(entry.getKey()) instanceof MobEntity pet) || !pet.isAlive()) {
+                continue;
+            }
+            PetComponent component = PetComponent.get(pet);
+            if (component == null || !component.isOwnedBy(owner)) {
+                continue;
+            }
+            if (!pet.getBoundingBox().intersects(searchArea)) {
+                continue;
+            }
+            registry.recordPet(world, pet, component);
+            result.add(pet);
+        }
+        return result;
     }
 
     @Nullable
@@ -16,6 +16,7 @@ import org.jetbrains.annotations.Nullable;
 import woflo.petsplus.Petsplus;
 import woflo.petsplus.state.OwnerCombatState;
 import woflo.petsplus.state.StateManager;
+import woflo.petsplus.state.coordination.EntityCensus;
 
 import java.util.Set;
 import java.util.HashSet;
@@ -270,11 +271,8 @@ public class TriggerConditions {
         }
         
         Box searchBox = Box.of(player.getEntityPos(), radius * 2, radius * 2, radius * 2);
-        return world.getEntitiesByClass(HostileEntity.class, searchBox, entity -> 
-            entity.isAlive() && entity.squaredDistanceTo(player) <= radius * radius
-        ).stream().min((a, b) -> 
-            Double.compare(a.squaredDistanceTo(player), b.squaredDistanceTo(player))
-        ).orElse(null);
+        return EntityCensus.nearest(world, HostileEntity.class, searchBox, player.getEntityPos(), entity ->
+            entity.isAlive() && entity.squaredDistanceTo(player) <= radius * radius);
     }
     
     /**
@@ -326,10 +324,13 @@ public class TriggerConditions {
      * Get the number of boss entities near a location.
      */
     public static int countNearbyBosses(LivingEntity center, double radius) {
-        return (int) center.getEntityWorld().getOtherEntities(center, 
-            center.getBoundingBox().expand(radius), 
-            entity -> entity instanceof LivingEntity living && isBossEntity(living))
-            .size();
+        Box box = center.getBoundingBox().expand(radius);
+        if (center.getEntityWorld() instanceof ServerWorld world) {
+            return EntityCensus.count(world, LivingEntity.class, box,
+                living -> living != center && isBossEntity(living));
+        }
+        return center.getEntityWorld().getOtherEntities(center, box,
+            entity -> entity instanceof LivingEntity living && isBossEntity(living)).size();
     }
     
     /**
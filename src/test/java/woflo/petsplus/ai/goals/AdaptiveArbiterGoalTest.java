@@ -0,0 +1,203 @@
+package woflo.petsplus.ai.goals;
+
+import net.minecraft.entity.ai.goal.Goal;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import org.junit.jupiter.api.*;
+import woflo.petsplus.Petsplus;
+import woflo.petsplus.TestFixtures;
+import woflo.petsplus.ai.capability.MobCapabilities;
+import woflo.petsplus.state.PetComponent;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the arbiter that hosts director-driven adaptive goals behind one selector entry:
+ * - Reflex goals (baseline actors and urgent priorities) are left to their own selector entries
+ * - The arbiter registers at its least urgent hosted priority and its controls never change
+ * - A fresh cached director suggestion is the only goal that may start, and only it is instantiated
+ * - Without a fresh suggestion the most urgent hosted goal that can start wins
+ * - Suggestions are re-evaluated on a fixed cadence rather than every selector pass
+ */
+@DisplayName("AdaptiveArbiterGoal")
+class AdaptiveArbiterGoalTest {
+
+    private static final long NOW = 1000L;
+    private static final Identifier SOCIAL = Petsplus.id("test_social");
+    private static final Identifier WANDER = Petsplus.id("test_wander");
+    private static final Identifier QUIRK = Petsplus.id("test_quirk");
+
+    private ServerWorld world;
+    private MobEntity mob;
+    private final Map<Identifier, StubGoal> goals = new HashMap<>();
+    private final List<Identifier> created = new ArrayList<>();
+    private AdaptiveArbiterGoal arbiter;
+
+    @BeforeEach
+    void setup() {
+        world = TestFixtures.mockWorld(NOW);
+        mob = TestFixtures.mockPet(world);
+        arbiter = new AdaptiveArbiterGoal(mob, List.of(
+            definition(QUIRK, GoalDefinition.Category.IDLE_QUIRK, 28),
+            definition(SOCIAL, GoalDefinition.Category.SOCIAL, 15),
+            definition(WANDER, GoalDefinition.Category.WANDER, 20)));
+    }
+
+    @AfterEach
+    void cleanup() {
+        PetComponent.remove(mob);
+    }
+
+    @Test
+    @DisplayName("reflex goals keep their own selector entries")
+    void hosts_excludesReflexGoals() {
+        assertThat(AdaptiveArbiterGoal.hosts(GoalRegistry.require(GoalIds.FOLLOW_OWNER))).isFalse();
+        assertThat(AdaptiveArbiterGoal.hosts(GoalRegistry.require(GoalIds.SELF_PRESERVATION))).isFalse();
+        assertThat(AdaptiveArbiterGoal.hosts(GoalRegistry.require(GoalIds.CASUAL_WANDER))).isTrue();
+    }
+
+    @Test
+    @DisplayName("priority is the least urgent hosted priority and controls are fixed")
+    void priorityAndControls_areFixed() {
+        EnumSet<Goal.Control> controls = EnumSet.of(Goal.Control.MOVE, Goal.Control.LOOK, Goal.Control.JUMP);
+        assertThat(arbiter.priority()).isEqualTo(28);
+        assertThat(arbiter.getControls()).isEqualTo(controls);
+
+        assertThat(arbiter.canStart()).isTrue();
+        arbiter.start();
+        assertThat(arbiter.getControls()).isEqualTo(controls);
+        arbiter.stop();
+        assertThat(arbiter.getControls()).isEqualTo(controls);
+    }
+
+    @Test
+    @DisplayName("a fresh cached suggestion is the only goal armed")
+    void freshSuggestion_armsSuggestedGoal() {
+        suggest(WANDER, NOW - 20L);
+
+        assertThat(arbiter.canStart()).isTrue();
+        arbiter.start();
+
+        assertThat(arbiter.activeGoalId()).isEqualTo(WANDER);
+        assertThat(goals.get(WANDER).started).isTrue();
+        assertThat(created).containsExactly(WANDER);
+    }
+
+    @Test
+    @DisplayName("a fresh suggestion the arbiter does not host blocks hosted goals")
+    void foreignSuggestion_blocksHostedGoals() {
+        suggest(GoalIds.FOLLOW_OWNER, NOW);
+
+        assertThat(arbiter.canStart()).isFalse();
+        assertThat(created).isEmpty();
+    }
+
+    @Test
+    @DisplayName("without a suggestion the most urgent startable goal wins")
+    void noSuggestion_letsAnyGoalStart() {
+        assertThat(arbiter.canStart()).isTrue();
+        arbiter.start();
+        assertThat(arbiter.activeGoalId()).isEqualTo(SOCIAL);
+        arbiter.stop();
+
+        goals.get(SOCIAL).startable = false;
+        // A stale suggestion counts as none
+        suggest(QUIRK, NOW - 500L);
+
+        assertThat(arbiter.canStart()).isTrue();
+        arbiter.start();
+        assertThat(arbiter.activeGoalId()).isEqualTo(WANDER);
+    }
+
+    @Test
+    @DisplayName("suggestions are re-evaluated on a fixed cadence")
+    void reevaluation_isThrottled() {
+        suggest(WANDER, NOW);
+        assertThat(arbiter.canStart()).isTrue();
+
+        // Wander can still start, but the arbiter does not look again within the same window
+        assertThat(arbiter.canStart()).isFalse();
+
+        when(world.getTime()).thenReturn(NOW + 10L);
+        assertThat(arbiter.canStart()).isTrue();
+    }
+
+    private void suggest(Identifier goalId, long tick) {
+        PetComponent component = PetComponent.get(mob);
+        if (component == null) {
+            component = new PetComponent(mob);
+            PetComponent.set(mob, component);
+        }
+        component.recordGoalSuggestion(goalId, 0.8f, tick);
+    }
+
+    private GoalDefinition definition(Identifier id, GoalDefinition.Category category, int priority) {
+        GoalDefinition[] self = new GoalDefinition[1];
+        self[0] = new GoalDefinition(id, category, priority, 0, 0,
+            MobCapabilities.CapabilityRequirement.any(), null, null, false, false,
+            target -> {
+                created.add(id);
+                return goals.computeIfAbsent(id, ignored -> new StubGoal(target, self[0]));
+            });
+        return self[0];
+    }
+
+    private static final class StubGoal extends AdaptiveGoal {
+        boolean startable = true;
+        boolean started;
+
+        StubGoal(MobEntity mob, GoalDefinition definition) {
+            super(mob, definition, EnumSet.of(Control.MOVE));
+        }
+
+        @Override
+        public boolean canStart() {
+            return startable;
+        }
+
+        @Override
+        public void start() {
+            started = true;
+        }
+
+        @Override
+        public void stop() {
+            started = false;
+        }
+
+        @Override
+        protected boolean canStartGoal() {
+            return startable;
+        }
+
+        @Override
+        protected boolean shouldContinueGoal() {
+            return true;
+        }
+
+        @Override
+        protected void onStartGoal() {
+        }
+
+        @Override
+        protected void onStopGoal() {
+        }
+
+        @Override
+        protected void onTickGoal() {
+        }
+
+        @Override
+        protected float calculateEngagement() {
+            return 0.5f;
+        }
+    }
+}
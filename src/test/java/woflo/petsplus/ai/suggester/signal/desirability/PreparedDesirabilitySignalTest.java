@@ -0,0 +1,134 @@
+package woflo.petsplus.ai.suggester.signal.desirability;
+
+import org.junit.jupiter.api.*;
+import woflo.petsplus.ai.context.NearbyMobAgeProfile;
+import woflo.petsplus.ai.context.PetContext;
+import woflo.petsplus.ai.goals.GoalDefinition;
+import woflo.petsplus.ai.goals.GoalRegistry;
+import woflo.petsplus.ai.suggester.signal.DesirabilitySignal;
+import woflo.petsplus.ai.suggester.signal.GoalScorer;
+import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.PetComponent.Emotion;
+import woflo.petsplus.state.PetComponent.Mood;
+import woflo.petsplus.state.emotions.BehaviouralEnergyProfile;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Differential tests for desirability signals prepared once per suggester pass:
+ * - Every prepared scorer returns exactly the applied value evaluate() reports, for every registered goal
+ * - Goals ranked by the product of prepared scores come out in the same order as with evaluate()
+ * - Contexts without a PetsPlus component score as identity on both paths
+ */
+@DisplayName("Prepared desirability signals")
+class PreparedDesirabilitySignalTest {
+
+    private static final List<DesirabilitySignal> SIGNALS = List.of(
+        new EnergyDesirabilitySignal(),
+        new AgeDesirabilitySignal(),
+        new BondDesirabilitySignal(),
+        new NatureDesirabilitySignal(),
+        new MemoryDesirabilitySignal(),
+        new MoodBlendDesirabilitySignal());
+
+    @Test
+    @DisplayName("prepared scorers match evaluate() goal for goal")
+    void preparedScores_matchEvaluate() {
+        Random random = new Random(29L);
+        List<GoalDefinition> goals = List.copyOf(GoalRegistry.all());
+        for (int probe = 0; probe < 40; probe++) {
+            PetContext ctx = randomContext(random, probe % 10 != 0);
+            for (DesirabilitySignal signal : SIGNALS) {
+                GoalScorer scorer = signal.prepare(ctx);
+                for (GoalDefinition goal : goals) {
+                    float expected = signal.evaluate(goal, ctx).appliedValue();
+                    assertThat(Float.floatToIntBits(scorer.score(goal)))
+                        .as("probe %d, %s, %s", probe, signal.id(), goal.id())
+                        .isEqualTo(Float.floatToIntBits(expected));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("goal ranking is unchanged")
+    void ranking_isUnchanged() {
+        Random random = new Random(31L);
+        List<GoalDefinition> goals = List.copyOf(GoalRegistry.all());
+        for (int probe = 0; probe < 20; probe++) {
+            PetContext ctx = randomContext(random, true);
+            List<GoalScorer> scorers = new ArrayList<>(SIGNALS.size());
+            for (DesirabilitySignal signal : SIGNALS) {
+                scorers.add(signal.prepare(ctx));
+            }
+
+            List<GoalDefinition> evaluated = new ArrayList<>(goals);
+            evaluated.sort(Comparator.comparingDouble((GoalDefinition goal) -> {
+                float product = 1.0f;
+                for (DesirabilitySignal signal : SIGNALS) {
+                    product *= signal.evaluate(goal, ctx).appliedValue();
+                }
+                return product;
+            }).reversed().thenComparing(goal -> goal.id().toString()));
+            List<GoalDefinition> prepared = new ArrayList<>(goals);
+            prepared.sort(Comparator.comparingDouble((GoalDefinition goal) -> {
+                float product = 1.0f;
+                for (GoalScorer scorer : scorers) {
+                    product *= scorer.score(goal);
+                }
+                return product;
+            }).reversed().thenComparing(goal -> goal.id().toString()));
+
+            assertThat(prepared).as("probe %d", probe).containsExactlyElementsOf(evaluated);
+        }
+    }
+
+    private static PetContext randomContext(Random random, boolean withComponent) {
+        PetContext ctx = mock(PetContext.class);
+        when(ctx.hasPetsPlusComponent()).thenReturn(withComponent);
+        PetContext.AgeCategory[] ages = PetContext.AgeCategory.values();
+        when(ctx.getAgeCategory()).thenReturn(ages[random.nextInt(ages.length)]);
+        when(ctx.bondStrength()).thenReturn(random.nextFloat());
+        when(ctx.nearbyMobAgeProfile()).thenReturn(new NearbyMobAgeProfile(
+            random.nextInt(3), random.nextInt(3), random.nextInt(3),
+            random.nextDouble() * 16.0D, random.nextDouble() * 16.0D,
+            random.nextDouble() * 16.0D, random.nextDouble() * 16.0D, null));
+        when(ctx.behaviouralEnergyProfile()).thenReturn(new BehaviouralEnergyProfile(
+            random.nextFloat(), random.nextFloat(), random.nextFloat(), random.nextFloat(),
+            random.nextFloat(), random.nextFloat(), random.nextFloat(),
+            random.nextFloat(), random.nextFloat(), random.nextFloat()));
+        when(ctx.natureProfile()).thenReturn(new PetComponent.NatureEmotionProfile(
+            randomEmotion(random), random.nextFloat(), randomEmotion(random), random.nextFloat(),
+            randomEmotion(random), random.nextFloat()));
+
+        Map<Mood, Float> blend = new EnumMap<>(Mood.class);
+        for (Mood mood : Mood.values()) {
+            blend.put(mood, random.nextFloat() * random.nextFloat());
+        }
+        Map<Emotion, Float> emotions = new EnumMap<>(Emotion.class);
+        for (Emotion emotion : Emotion.values()) {
+            emotions.put(emotion, random.nextInt(3) == 0 ? random.nextFloat() : 0f);
+        }
+        when(ctx.hasMoodInBlend(any(), anyFloat())).thenAnswer(invocation ->
+            blend.get(invocation.<Mood>getArgument(0)) >= invocation.<Float>getArgument(1));
+        when(ctx.hasEmotionAbove(any(), anyFloat())).thenAnswer(invocation ->
+            emotions.get(invocation.<Emotion>getArgument(0)) >= invocation.<Float>getArgument(1));
+        return ctx;
+    }
+
+    private static Emotion randomEmotion(Random random) {
+        Emotion[] values = Emotion.values();
+        return random.nextInt(4) == 0 ? null : values[random.nextInt(values.length)];
+    }
+}
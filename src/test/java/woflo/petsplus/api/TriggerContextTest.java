@@ -0,0 +1,63 @@
+package woflo.petsplus.api;
+
+import org.junit.jupiter.api.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the copy-on-write event payload of rebound trigger contexts:
+ * - Reads through getEventData see the shared payload without copying it and cannot write to it
+ * - Writes through withData or the mutable accessor land in a private copy, never the shared map
+ * - Rebinding drops the previous pet's private copy
+ */
+@DisplayName("TriggerContext")
+class TriggerContextTest {
+
+    private Map<String, Object> shared;
+    private TriggerContext context;
+
+    @BeforeEach
+    void setup() {
+        shared = new HashMap<>();
+        shared.put("damage", 4.0D);
+        context = new TriggerContext(null, null, null, null).rebind(null, null, null, "owner_attack", shared);
+    }
+
+    @Test
+    @DisplayName("read view reflects the shared payload and rejects writes")
+    void readView_isReadOnly() {
+        Map<String, Object> view = context.getEventData();
+
+        assertThat(view).containsEntry("damage", 4.0D);
+        assertThat(context.getEventData()).isSameAs(view);
+        assertThatThrownBy(() -> view.put("damage", 1.0D))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("writes go to a private copy")
+    void writes_leaveSharedPayloadAlone() {
+        context.withData("victim_hp_pct", 0.5D);
+        context.getMutableEventData().put("damage", 9.0D);
+
+        assertThat(shared).containsOnly(entry("damage", 4.0D));
+        assertThat(context.getEventData())
+            .containsEntry("damage", 9.0D)
+            .containsEntry("victim_hp_pct", 0.5D);
+        assertThat(context.getDamage()).isEqualTo(9.0D);
+    }
+
+    @Test
+    @DisplayName("rebinding drops the previous private copy")
+    void rebind_dropsPrivateCopy() {
+        context.withData("victim_hp_pct", 0.5D);
+
+        context.rebind(null, null, null, "owner_attack", shared);
+
+        assertThat(context.getEventData()).containsOnly(entry("damage", 4.0D));
+        assertThat(context.getVictimHpPercent()).isEqualTo(1.0D);
+    }
+}
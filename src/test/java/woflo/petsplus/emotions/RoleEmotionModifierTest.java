@@ -0,0 +1,132 @@
+package woflo.petsplus.emotions;
+
+import net.minecraft.entity.damage.DamageSource;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.Identifier;
+import org.junit.jupiter.api.*;
+import woflo.petsplus.emotions.modifiers.GuardianEmotionModifier;
+import woflo.petsplus.events.EmotionContextMapper.SocialInteractionType;
+import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.PetComponent.Emotion;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for role modifiers adjusting an event's emotion vector in place:
+ * - Guardian pets that get hurt trade fear for resolve, scaled by the damage
+ * - Guardian petting adds to existing emotions and introduces new ones
+ * - The registry rolls back a modifier that throws part-way and still runs the others
+ * - With the role_emotion_modifiers flag off the registry leaves event emotions untouched
+ */
+@DisplayName("Role emotion modifiers")
+class RoleEmotionModifierTest {
+
+    private static final Identifier TEST_ROLE = Identifier.of("petsplus", "test_role");
+
+    private final MobEntity pet = mock(MobEntity.class);
+    private final PetComponent petComp = mock(PetComponent.class);
+    private final PlayerEntity player = mock(PlayerEntity.class);
+
+    @AfterEach
+    void resetRegistry() {
+        RoleEmotionRegistry.getInstance().clear();
+        RoleEmotionRegistry.getInstance().setEnabledForTesting(null);
+    }
+
+    @Test
+    @DisplayName("hurt guardian gains resolve and drops fear")
+    void guardian_petVictim() {
+        EmotionVector emotions = new EmotionVector();
+        emotions.set(Emotion.ANGST, 0.4f);
+        emotions.set(Emotion.FOREBODING, 0.3f);
+        emotions.set(Emotion.CHEERFUL, 0.2f);
+
+        new GuardianEmotionModifier().modifyCombatEmotions(
+            pet, petComp, mock(DamageSource.class), 5.0f, false, true, emotions);
+
+        // scaleByDamage: 5 damage is half of the 10-damage reference
+        assertThat(emotions.get(Emotion.STOIC)).isCloseTo(0.2f, within(1.0e-6f));
+        assertThat(emotions.get(Emotion.SISU)).isCloseTo(0.15f, within(1.0e-6f));
+        assertThat(emotions.get(Emotion.GUARDIAN_VIGIL)).isCloseTo(0.1f, within(1.0e-6f));
+        assertThat(emotions.has(Emotion.ANGST)).isFalse();
+        assertThat(emotions.has(Emotion.FOREBODING)).isFalse();
+        assertThat(emotions.get(Emotion.CHEERFUL)).isEqualTo(0.2f);
+    }
+
+    @Test
+    @DisplayName("guardian petting adds onto the mapped emotions")
+    void guardian_petting() {
+        EmotionVector emotions = new EmotionVector();
+        emotions.set(Emotion.CONTENT, 0.3f);
+
+        new GuardianEmotionModifier().modifySocialEmotions(
+            pet, petComp, player, SocialInteractionType.PETTING, null, emotions);
+
+        assertThat(emotions.get(Emotion.CONTENT)).isCloseTo(0.45f, within(1.0e-6f));
+        assertThat(emotions.get(Emotion.GUARDIAN_VIGIL)).isCloseTo(0.2f, within(1.0e-6f));
+        assertThat(emotions.get(Emotion.QUERECIA)).isCloseTo(0.1f, within(1.0e-6f));
+        assertThat(emotions.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("a throwing modifier's partial changes are rolled back")
+    void registry_rollsBackFailedModifier() {
+        when(petComp.hasRole(TEST_ROLE)).thenReturn(true);
+        RoleEmotionRegistry registry = RoleEmotionRegistry.getInstance();
+        registry.clear();
+        registry.setEnabledForTesting(true);
+        registry.register(new BaseRoleEmotionModifier(TEST_ROLE, 5) {
+            @Override
+            public void modifySocialEmotions(MobEntity pet, PetComponent petComp, PlayerEntity player,
+                                             SocialInteractionType type, Object context, EmotionVector emotions) {
+                addEmotion(emotions, Emotion.CONTENT, 0.2f);
+                removeEmotion(emotions, Emotion.LOYALTY);
+                throw new IllegalStateException("boom");
+            }
+        });
+        registry.register(new BaseRoleEmotionModifier(TEST_ROLE, 1) {
+            @Override
+            public void modifySocialEmotions(MobEntity pet, PetComponent petComp, PlayerEntity player,
+                                             SocialInteractionType type, Object context, EmotionVector emotions) {
+                addEmotion(emotions, Emotion.CHEERFUL, 0.25f);
+            }
+        });
+
+        EmotionVector emotions = new EmotionVector();
+        emotions.set(Emotion.CONTENT, 0.3f);
+        emotions.set(Emotion.LOYALTY, 0.4f);
+
+        registry.applySocialModifiers(pet, petComp, player, SocialInteractionType.FEEDING, null, emotions);
+
+        assertThat(emotions.get(Emotion.CONTENT)).isEqualTo(0.3f);
+        assertThat(emotions.get(Emotion.LOYALTY)).isEqualTo(0.4f);
+        assertThat(emotions.get(Emotion.CHEERFUL)).isEqualTo(0.25f);
+    }
+
+    @Test
+    @DisplayName("disabled registry leaves emotions unchanged")
+    void registry_disabledPassesThrough() {
+        when(petComp.hasRole(TEST_ROLE)).thenReturn(true);
+        RoleEmotionRegistry registry = RoleEmotionRegistry.getInstance();
+        registry.clear();
+        registry.setEnabledForTesting(false);
+        registry.register(new BaseRoleEmotionModifier(TEST_ROLE, 1) {
+            @Override
+            public void modifySocialEmotions(MobEntity pet, PetComponent petComp, PlayerEntity player,
+                                             SocialInteractionType type, Object context, EmotionVector emotions) {
+                addEmotion(emotions, Emotion.CHEERFUL, 0.25f);
+            }
+        });
+
+        EmotionVector emotions = new EmotionVector();
+        emotions.set(Emotion.CONTENT, 0.3f);
+
+        registry.applySocialModifiers(pet, petComp, player, SocialInteractionType.FEEDING, null, emotions);
+
+        assertThat(emotions.get(Emotion.CONTENT)).isEqualTo(0.3f);
+        assertThat(emotions.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,287 @@
+package woflo.petsplus.events;
+
+import org.junit.jupiter.api.*;
+import woflo.petsplus.emotions.EmotionVector;
+import woflo.petsplus.state.PetComponent.Emotion;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for contradiction resolution over emotion vectors:
+ * - A higher-priority emotion evicts the lower-priority ones it contradicts
+ * - Resolving in place gives the same result as resolving into another vector
+ * - Dampening scales contradicting emotions and drops those that fall under the threshold
+ * - Context validation reduces inappropriate emotions regardless of context case
+ * - On random inputs, all three passes match the map-based implementation they replaced
+ */
+@DisplayName("EmotionContradictionResolver")
+class EmotionContradictionResolverTest {
+
+    private static EmotionVector vector(Object... pairs) {
+        EmotionVector vector = new EmotionVector();
+        for (int i = 0; i < pairs.length; i += 2) {
+            vector.set((Emotion) pairs[i], (Float) pairs[i + 1]);
+        }
+        return vector;
+    }
+
+    @Test
+    @DisplayName("higher priority emotion wins a contradiction, unrelated emotions survive")
+    void resolve_keepsHigherPriority() {
+        EmotionVector in = vector(Emotion.CHEERFUL, 0.5f, Emotion.ANGST, 0.4f, Emotion.FOCUSED, 0.3f);
+        EmotionVector out = new EmotionVector();
+
+        EmotionContradictionResolver.resolveContradictions(in, out);
+
+        assertThat(out.has(Emotion.CHEERFUL)).isFalse();
+        assertThat(out.get(Emotion.ANGST)).isEqualTo(0.4f);
+        assertThat(out.get(Emotion.FOCUSED)).isEqualTo(0.3f);
+        assertThat(out.size()).isEqualTo(2);
+        assertThat(in.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("resolving in place matches resolving into a separate vector")
+    void resolve_inPlace() {
+        EmotionVector separate = new EmotionVector();
+        EmotionContradictionResolver.resolveContradictions(
+            vector(Emotion.CHEERFUL, 0.5f, Emotion.ANGST, 0.4f, Emotion.FOCUSED, 0.3f), separate);
+
+        EmotionVector inPlace = vector(Emotion.CHEERFUL, 0.5f, Emotion.ANGST, 0.4f, Emotion.FOCUSED, 0.3f);
+        EmotionContradictionResolver.resolveContradictions(inPlace, inPlace);
+
+        assertThat(inPlace.mask()).isEqualTo(separate.mask());
+        assertThat(inPlace.toString()).isEqualTo(separate.toString());
+    }
+
+    @Test
+    @DisplayName("dampening scales contradicting emotions and drops faint ones")
+    void dampening_scalesContradictions() {
+        EmotionVector current = vector(Emotion.ANGST, 0.5f);
+        EmotionVector in = vector(Emotion.CHEERFUL, 0.5f, Emotion.CONTENT, 0.05f,
+            Emotion.FOCUSED, 0.3f, Emotion.ANGST, 0.2f);
+        EmotionVector out = new EmotionVector();
+
+        EmotionContradictionResolver.applyIntensityDampening(in, current, 0.6f, out);
+
+        assertThat(out.get(Emotion.CHEERFUL)).isCloseTo(0.3f, within(1.0e-6f));
+        assertThat(out.has(Emotion.CONTENT)).isFalse();
+        assertThat(out.get(Emotion.FOCUSED)).isEqualTo(0.3f);
+        assertThat(out.get(Emotion.ANGST)).isEqualTo(0.2f);
+    }
+
+    @Test
+    @DisplayName("combat context reduces positive emotions")
+    void contextValidation_reducesInappropriate() {
+        EmotionVector in = vector(Emotion.CHEERFUL, 0.5f, Emotion.ANGST, 0.4f, Emotion.LOYALTY, 0.1f);
+        EmotionVector out = new EmotionVector();
+
+        EmotionContradictionResolver.validateContextualAppropriateness(in, "COMBAT", out);
+
+        assertThat(out.get(Emotion.CHEERFUL)).isCloseTo(0.15f, within(1.0e-6f));
+        assertThat(out.get(Emotion.ANGST)).isEqualTo(0.4f);
+        assertThat(out.has(Emotion.LOYALTY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("random inputs resolve exactly as the map-based resolver did")
+    void resolve_matchesMapResolver() {
+        Random random = new Random(24L);
+        for (int trial = 0; trial < 2000; trial++) {
+            Map<Emotion, Float> input = randomEmotions(random, 1 + random.nextInt(12));
+            EmotionVector out = new EmotionVector();
+
+            EmotionContradictionResolver.resolveContradictions(toVector(input), out);
+
+            assertThat(toMap(out)).as("trial %d, input %s", trial, input)
+                .isEqualTo(MapResolver.resolveContradictions(input));
+        }
+    }
+
+    @Test
+    @DisplayName("random inputs dampen exactly as the map-based resolver did")
+    void dampening_matchesMapResolver() {
+        Random random = new Random(25L);
+        for (int trial = 0; trial < 2000; trial++) {
+            Map<Emotion, Float> input = randomEmotions(random, 1 + random.nextInt(10));
+            Map<Emotion, Float> current = randomEmotions(random, random.nextInt(6));
+            if (!current.isEmpty() && random.nextBoolean()) {
+                // Present-at-zero emotions take the contradiction path, not the same-family path
+                current.put(current.keySet().iterator().next(), 0.0f);
+            }
+            EmotionVector out = new EmotionVector();
+
+            EmotionContradictionResolver.applyIntensityDampening(toVector(input), toVector(current), 0.6f, out);
+
+            assertThat(toMap(out)).as("trial %d, input %s, current %s", trial, input, current)
+                .isEqualTo(MapResolver.applyIntensityDampening(input, current, 0.6f));
+        }
+    }
+
+    @Test
+    @DisplayName("random inputs validate exactly as the map-based resolver did in every context")
+    void contextValidation_matchesMapResolver() {
+        String[] contexts = {"combat", "SOCIAL", "discovery", "rest", "danger", "affection", "weather"};
+        Random random = new Random(26L);
+        for (int trial = 0; trial < 2000; trial++) {
+            Map<Emotion, Float> input = randomEmotions(random, 1 + random.nextInt(10));
+            String context = contexts[random.nextInt(contexts.length)];
+            EmotionVector out = new EmotionVector();
+
+            EmotionContradictionResolver.validateContextualAppropriateness(toVector(input), context, out);
+
+            assertThat(toMap(out)).as("trial %d, context %s, input %s", trial, context, input)
+                .isEqualTo(MapResolver.validateContextualAppropriateness(input, context));
+        }
+    }
+
+    private static Map<Emotion, Float> randomEmotions(Random random, int count) {
+        Emotion[] emotions = Emotion.values();
+        Map<Emotion, Float> result = new EnumMap<>(Emotion.class);
+        for (int i = 0; i < count; i++) {
+            result.put(emotions[random.nextInt(emotions.length)], 0.01f + random.nextFloat() * 0.99f);
+        }
+        return result;
+    }
+
+    private static EmotionVector toVector(Map<Emotion, Float> emotions) {
+        EmotionVector vector = new EmotionVector();
+        emotions.forEach(vector::set);
+        return vector;
+    }
+
+    private static Map<Emotion, Float> toMap(EmotionVector vector) {
+        Map<Emotion, Float> result = new EnumMap<>(Emotion.class);
+        for (int i = vector.next(0); i >= 0; i = vector.next(i + 1)) {
+            result.put(EmotionVector.emotion(i), vector.valueAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * The EnumMap-based passes as they stood before emotions moved to {@link EmotionVector},
+     * over the same contradiction and priority tables.
+     */
+    private static final class MapResolver {
+        private static final Map<Emotion, Set<Emotion>> CONTRADICTIONS = EmotionContradictionResolver.createContradictionMap();
+        private static final Map<Emotion, Integer> PRIORITIES = EmotionContradictionResolver.createPriorityMap();
+
+        static Map<Emotion, Float> resolveContradictions(Map<Emotion, Float> emotions) {
+            Map<Emotion, Float> resolved = new EnumMap<>(Emotion.class);
+            int iterations = 0;
+            boolean changed;
+            do {
+                changed = false;
+                iterations++;
+                if (iterations > 10) {
+                    break;
+                }
+                for (Map.Entry<Emotion, Float> entry : emotions.entrySet()) {
+                    Emotion emotion = entry.getKey();
+                    if (resolved.containsKey(emotion)) {
+                        continue;
+                    }
+                    if (!hasContradiction(emotion, resolved.keySet())) {
+                        resolved.put(emotion, entry.getValue());
+                    } else {
+                        boolean shouldReplace = false;
+                        for (Emotion existing : resolved.keySet()) {
+                            if (contradicts(emotion, existing) && priority(emotion) > priority(existing)) {
+                                shouldReplace = true;
+                                break;
+                            }
+                        }
+                        if (shouldReplace) {
+                            CONTRADICTIONS.get(emotion).forEach(resolved::remove);
+                            resolved.put(emotion, entry.getValue());
+                            changed = true;
+                        }
+                    }
+                }
+            } while (changed && iterations < 10);
+            return resolved;
+        }
+
+        static Map<Emotion, Float> applyIntensityDampening(Map<Emotion, Float> newEmotions,
+                                                           Map<Emotion, Float> currentEmotions,
+                                                           float dampeningFactor) {
+            Map<Emotion, Float> dampened = new EnumMap<>(Emotion.class);
+            for (Map.Entry<Emotion, Float> entry : newEmotions.entrySet()) {
+                Emotion emotion = entry.getKey();
+                float newIntensity = entry.getValue();
+                Float currentIntensity = currentEmotions.get(emotion);
+                if (currentIntensity != null && currentIntensity > 0f) {
+                    dampened.put(emotion, newIntensity);
+                } else if (hasContradiction(emotion, currentEmotions.keySet())) {
+                    float dampenedIntensity = newIntensity * dampeningFactor;
+                    if (dampenedIntensity > 0.05f) {
+                        dampened.put(emotion, dampenedIntensity);
+                    }
+                } else {
+                    dampened.put(emotion, newIntensity);
+                }
+            }
+            return dampened;
+        }
+
+        static Map<Emotion, Float> validateContextualAppropriateness(Map<Emotion, Float> emotions, String context) {
+            Map<Emotion, Float> validated = new EnumMap<>(Emotion.class);
+            for (Map.Entry<Emotion, Float> entry : emotions.entrySet()) {
+                Emotion emotion = entry.getKey();
+                float intensity = entry.getValue();
+                if (isContextuallyAppropriate(emotion, context)) {
+                    validated.put(emotion, intensity);
+                } else {
+                    float reducedIntensity = intensity * 0.3f;
+                    if (reducedIntensity > 0.05f) {
+                        validated.put(emotion, reducedIntensity);
+                    }
+                }
+            }
+            return validated;
+        }
+
+        private static boolean isContextuallyAppropriate(Emotion emotion, String context) {
+            if (priority(emotion) >= 7) {
+                return true;
+            }
+            return switch (context.toLowerCase()) {
+                case "combat", "danger" -> !POSITIVE.contains(emotion);
+                case "social", "affection" -> !NEGATIVE.contains(emotion);
+                case "discovery", "exploration" -> emotion == Emotion.CURIOUS
+                    || emotion == Emotion.HOPEFUL || emotion == Emotion.CHEERFUL;
+                case "rest", "safety" -> emotion == Emotion.CONTENT
+                    || emotion == Emotion.CHEERFUL || emotion == Emotion.RELIEF;
+                default -> true;
+            };
+        }
+
+        private static final Set<Emotion> POSITIVE = Set.of(
+            Emotion.CHEERFUL, Emotion.HOPEFUL, Emotion.CONTENT, Emotion.RELIEF, Emotion.UBUNTU,
+            Emotion.QUERECIA, Emotion.KEFI, Emotion.LOYALTY, Emotion.PLAYFULNESS, Emotion.PRIDE);
+
+        private static final Set<Emotion> NEGATIVE = Set.of(
+            Emotion.ANGST, Emotion.FOREBODING, Emotion.REGRET, Emotion.FRUSTRATION, Emotion.STARTLE,
+            Emotion.DISGUST, Emotion.ENNUI, Emotion.WORRIED, Emotion.RESTLESS, Emotion.MELANCHOLY,
+            Emotion.SAUDADE, Emotion.HIRAETH, Emotion.MONO_NO_AWARE);
+
+        private static boolean hasContradiction(Emotion emotion, Set<Emotion> existing) {
+            Set<Emotion> contradictions = CONTRADICTIONS.get(emotion);
+            return contradictions != null && existing.stream().anyMatch(contradictions::contains);
+        }
+
+        private static boolean contradicts(Emotion first, Emotion second) {
+            Set<Emotion> contradictions = CONTRADICTIONS.get(first);
+            return contradictions != null && contradictions.contains(second);
+        }
+
+        private static int priority(Emotion emotion) {
+            return PRIORITIES.getOrDefault(emotion, 0);
+        }
+    }
+}
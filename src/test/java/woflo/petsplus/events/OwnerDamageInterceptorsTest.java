@@ -0,0 +1,127 @@
+package woflo.petsplus.events;
+
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import org.junit.jupiter.api.*;
+import woflo.petsplus.TestFixtures;
+import woflo.petsplus.api.registry.PetRoleType;
+import woflo.petsplus.state.PetComponent;
+import woflo.petsplus.state.coordination.PetSwarmIndex;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the per-owner damage interception stages:
+ * - An owner's stage mask is the union of the stages their pets' roles answer
+ * - The mask is compiled once and reused until the owner's role mix or the loadout generation changes
+ * - Owners without tracked pets exit before anything is compiled
+ * - A mask compiled from one world's index is never reused for another world's index
+ */
+@DisplayName("OwnerDamageInterceptors")
+class OwnerDamageInterceptorsTest {
+
+    private static final UUID OWNER = TestFixtures.deterministicUuid(2501);
+    private static final Map<Identifier, Integer> ROLE_STAGES = Map.of(
+        PetRoleType.GUARDIAN_ID, OwnerDamageInterceptors.OWNER_INCOMING | OwnerDamageInterceptors.OWNER_LETHAL,
+        PetRoleType.ECLIPSED_ID, OwnerDamageInterceptors.OWNER_OUTGOING);
+
+    private final List<Identifier> compiled = new ArrayList<>();
+    private final Map<MobEntity, PetComponent> components = new HashMap<>();
+    private final ToIntFunction<Identifier> roleStages = roleId -> {
+        compiled.add(roleId);
+        return ROLE_STAGES.getOrDefault(roleId, 0);
+    };
+    private ServerWorld world;
+    private PetSwarmIndex index;
+
+    @BeforeEach
+    void setup() {
+        world = TestFixtures.mockWorld(1000L);
+        index = new PetSwarmIndex();
+    }
+
+    @AfterEach
+    void cleanup() {
+        OwnerDamageInterceptors.forget(OWNER);
+    }
+
+    @Test
+    @DisplayName("the stage mask is the union of the owner's role stages")
+    void stageMask_unionsRoles() {
+        track(index, 0, PetRoleType.GUARDIAN_ID);
+        assertThat(stages(index, 1))
+            .isEqualTo(OwnerDamageInterceptors.OWNER_INCOMING | OwnerDamageInterceptors.OWNER_LETHAL);
+
+        track(index, 1, PetRoleType.ECLIPSED_ID);
+        assertThat(stages(index, 1)).isEqualTo(OwnerDamageInterceptors.OWNER_INCOMING
+            | OwnerDamageInterceptors.OWNER_LETHAL | OwnerDamageInterceptors.OWNER_OUTGOING);
+    }
+
+    @Test
+    @DisplayName("the mask is reused until the role mix or loadouts change")
+    void compiledMask_invalidatesOnStampOrGeneration() {
+        MobEntity guardian = track(index, 0, PetRoleType.GUARDIAN_ID);
+        stages(index, 1);
+        stages(index, 1);
+        assertThat(compiled).containsExactly(PetRoleType.GUARDIAN_ID);
+
+        // Moving a pet leaves the role mix, and so the stamp, alone
+        when(guardian.getX()).thenReturn(guardian.getX() + 20.0D);
+        index.updatePet(guardian, components.get(guardian));
+        stages(index, 1);
+        assertThat(compiled).hasSize(1);
+
+        components.get(guardian).setRoleId(PetRoleType.ECLIPSED_ID);
+        index.refreshRole(guardian);
+        assertThat(stages(index, 1)).isEqualTo(OwnerDamageInterceptors.OWNER_OUTGOING);
+        assertThat(compiled).hasSize(2);
+
+        assertThat(stages(index, 2)).isEqualTo(OwnerDamageInterceptors.OWNER_OUTGOING);
+        assertThat(compiled).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("owners without tracked pets exit before compiling")
+    void ownerWithoutPets_exitsEarly() {
+        assertThat(stages(index, 1)).isZero();
+        assertThat(compiled).isEmpty();
+        assertThat(OwnerDamageInterceptors.any(index, OWNER, OwnerDamageInterceptors.OWNER_INCOMING)).isFalse();
+    }
+
+    @Test
+    @DisplayName("a mask from one world's index is not reused for another")
+    void otherWorldIndex_recompiles() {
+        track(index, 0, PetRoleType.GUARDIAN_ID);
+        PetSwarmIndex otherWorld = new PetSwarmIndex();
+        track(otherWorld, 1, PetRoleType.ECLIPSED_ID);
+
+        stages(index, 1);
+        assertThat(stages(otherWorld, 1)).isEqualTo(OwnerDamageInterceptors.OWNER_OUTGOING);
+        assertThat(compiled).containsExactly(PetRoleType.GUARDIAN_ID, PetRoleType.ECLIPSED_ID);
+    }
+
+    private int stages(PetSwarmIndex swarms, int generation) {
+        return OwnerDamageInterceptors.stagesForTesting(swarms, OWNER, generation, roleStages);
+    }
+
+    private MobEntity track(PetSwarmIndex swarms, int seed, Identifier roleId) {
+        MobEntity pet = TestFixtures.mockPetAtPosition(world, TestFixtures.deterministicUuid(2600 + seed),
+            new BlockPos(seed * 4, 64, 0));
+        PetComponent component = new PetComponent(pet);
+        component.setOwnerUuid(OWNER);
+        component.setRoleId(roleId);
+        swarms.trackPet(pet, component);
+        components.put(pet, component);
+        return pet;
+    }
+}
@@ -0,0 +1,87 @@
+package woflo.petsplus.mood;
+
+import org.junit.jupiter.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the striped coalescing window table:
+ * - Repeat stimuli inside the window coalesce, outside it they re-open the window
+ * - Keys are isolated per pet and per stimulus
+ * - Clearing a pet leaves other pets' windows intact
+ * - The table stays bounded under a flood of distinct keys
+ */
+@DisplayName("StimulusCoalescer")
+class StimulusCoalescerTest {
+
+    private static final int WINDOW = 8;
+
+    private StimulusCoalescer coalescer;
+
+    @BeforeEach
+    void setup() {
+        coalescer = new StimulusCoalescer(WINDOW);
+    }
+
+    @Test
+    @DisplayName("repeat inside the window coalesces against the opening tick")
+    void repeatInsideWindow_coalesces() {
+        assertThat(coalescer.tryCoalesce(1L, 42, 100)).isEqualTo(StimulusCoalescer.MISS);
+        assertThat(coalescer.tryCoalesce(1L, 42, 104)).isEqualTo(100L);
+        assertThat(coalescer.tryCoalesce(1L, 42, 108)).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("repeat after the window re-opens it")
+    void repeatAfterWindow_reopens() {
+        coalescer.tryCoalesce(1L, 42, 100);
+
+        assertThat(coalescer.tryCoalesce(1L, 42, 100 + WINDOW + 1)).isEqualTo(StimulusCoalescer.MISS);
+        assertThat(coalescer.tryCoalesce(1L, 42, 100 + WINDOW + 2)).isEqualTo(100L + WINDOW + 1);
+    }
+
+    @Test
+    @DisplayName("windows are isolated per pet and per stimulus key")
+    void windows_areIsolated() {
+        coalescer.tryCoalesce(1L, 42, 100);
+
+        assertThat(coalescer.tryCoalesce(2L, 42, 101)).isEqualTo(StimulusCoalescer.MISS);
+        assertThat(coalescer.tryCoalesce(1L, 43, 101)).isEqualTo(StimulusCoalescer.MISS);
+        assertThat(coalescer.tryCoalesce(1L, 42, 101)).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("clearing one pet keeps the others")
+    void clearPet_keepsOthers() {
+        for (long pet = 1L; pet <= 64L; pet++) {
+            for (int key = 1; key <= 4; key++) {
+                coalescer.tryCoalesce(pet, key, 100);
+            }
+        }
+
+        coalescer.clear(7L);
+
+        for (int key = 1; key <= 4; key++) {
+            assertThat(coalescer.tryCoalesce(7L, key, 101)).isEqualTo(StimulusCoalescer.MISS);
+        }
+        for (long pet = 1L; pet <= 64L; pet++) {
+            if (pet == 7L) {
+                continue;
+            }
+            for (int key = 1; key <= 4; key++) {
+                assertThat(coalescer.tryCoalesce(pet, key, 101)).as("pet %d key %d", pet, key).isEqualTo(100L);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("memory stays bounded under a flood of distinct keys")
+    void flood_staysBounded() {
+        for (int i = 1; i <= 200_000; i++) {
+            coalescer.tryCoalesce(i, i, 100);
+        }
+
+        int bound = StimulusCoalescer.STRIPE_COUNT * StimulusCoalescer.MAX_STRIPE_CAPACITY;
+        assertThat(coalescer.size()).isLessThanOrEqualTo(bound);
+    }
+}
@@ -0,0 +1,67 @@
+package woflo.petsplus.state;
+
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.world.ServerWorld;
+import org.junit.jupiter.api.*;
+import woflo.petsplus.TestFixtures;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the tiered component model:
+ * - Untamed mobs resolve to no component and never allocate one
+ * - Classification reports NONE for vanilla mobs and FULL once a component exists
+ *
+ * Heap per loaded mob is measured by {@code PetComponentHeapBenchmark} under src/jmh.
+ */
+@DisplayName("PetComponent tiers")
+class PetComponentTierTest {
+
+    private ServerWorld world;
+
+    @BeforeEach
+    void setup() {
+        world = TestFixtures.mockWorld(1000L);
+    }
+
+    @Test
+    @DisplayName("untamed mob is not a promotion candidate")
+    void untamedMob_isNotCandidate() {
+        MobEntity mob = TestFixtures.mockPet(world);
+
+        assertThat(PetComponent.isPromotionCandidate(mob)).isFalse();
+    }
+
+    @Test
+    @DisplayName("fast path returns null and leaves no component behind")
+    void untamedMob_fastPathAllocatesNothing() {
+        MobEntity mob = TestFixtures.mockPet(world);
+
+        assertThat(PetComponent.getIfPet(mob)).isNull();
+        assertThat(PetComponent.get(mob)).isNull();
+    }
+
+    @Test
+    @DisplayName("untamed undirected mob classifies as NONE")
+    void untamedMob_classifiesAsNone() {
+        MobEntity mob = TestFixtures.mockPet(world);
+
+        assertThat(PetComponent.classify(mob)).isEqualTo(PetComponent.Tier.NONE);
+        assertThat(PetComponent.get(mob)).isNull();
+    }
+
+    @Test
+    @DisplayName("mob with an attached component classifies as FULL")
+    void attachedComponent_classifiesAsFull() {
+        MobEntity mob = TestFixtures.mockPet(world);
+        PetComponent.set(mob, new PetComponent(mob));
+
+        assertThat(PetComponent.classify(mob)).isEqualTo(PetComponent.Tier.FULL);
+    }
+
+    @Test
+    @DisplayName("null mob classifies as NONE")
+    void nullMob_classifiesAsNone() {
+        assertThat(PetComponent.classify(null)).isEqualTo(PetComponent.Tier.NONE);
+    }
+}
@@ -0,0 +1,95 @@
+package woflo.petsplus.state;
+
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.nbt.NbtCompound;
+import org.junit.jupiter.api.*;
+import woflo.petsplus.TestFixtures;
+import woflo.petsplus.component.PetsplusComponents;
+import woflo.petsplus.state.coordination.PetWorkScheduler;
+import woflo.petsplus.state.modules.impl.DefaultSchedulingModule;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for reusing encoded snapshots between PetData writes:
+ * - Unchanged state data is encoded once, but every caller gets its own copy
+ * - Any store change re-encodes the state data
+ * - Rescheduling work does not invalidate the scheduling snapshot; cooldown changes do
+ * - The autosave size estimate is taken from the snapshot's own NBT, without re-encoding it
+ */
+@DisplayName("PetData snapshot reuse")
+class PetDataSnapshotReuseTest {
+
+    private MobEntity mob;
+    private PetComponent component;
+
+    @BeforeEach
+    void setup() {
+        mob = TestFixtures.mockPet(TestFixtures.mockWorld(100L));
+        component = new PetComponent(mob);
+    }
+
+    @Test
+    @DisplayName("reused state data is handed out as a copy")
+    void reusedStateData_isCopied() {
+        component.setStateData("test_counter", 3);
+
+        NbtCompound first = component.encodeStateDataForTesting();
+        assertThat(first).isNotNull();
+        first.putBoolean("edited_downstream", true);
+
+        NbtCompound second = component.encodeStateDataForTesting();
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.contains("edited_downstream")).isFalse();
+        assertThat(second.contains("test_counter")).isTrue();
+    }
+
+    @Test
+    @DisplayName("store changes re-encode the state data")
+    void storeChange_reencodes() {
+        component.setStateData("test_counter", 3);
+        component.encodeStateDataForTesting();
+
+        component.setStateData("test_flag", true);
+        NbtCompound encoded = component.encodeStateDataForTesting();
+
+        assertThat(encoded).isNotNull();
+        assertThat(encoded.contains("test_flag")).isTrue();
+
+        component.clearStateData("test_counter");
+        component.clearStateData("test_flag");
+        assertThat(component.encodeStateDataForTesting()).isNull();
+    }
+
+    @Test
+    @DisplayName("scheduling ticks leave the scheduling generation alone")
+    void scheduling_doesNotAdvanceGeneration() {
+        DefaultSchedulingModule scheduling = new DefaultSchedulingModule();
+        long generation = scheduling.dataGeneration();
+        PetWorkScheduler.TaskType type = PetWorkScheduler.TaskType.values()[0];
+
+        scheduling.schedule(type, 40L);
+        scheduling.schedule(type, 60L);
+        scheduling.unschedule(type);
+        scheduling.markUninitialized();
+        assertThat(scheduling.dataGeneration()).isEqualTo(generation);
+
+        scheduling.setCooldown("test_cooldown", 200L);
+        assertThat(scheduling.dataGeneration()).isGreaterThan(generation);
+    }
+
+    @Test
+    @DisplayName("autosave estimate measures the snapshot's state data")
+    void autosaveEstimate_tracksStateData() {
+        component.setStateData("test_counter", 3);
+        PetsplusComponents.PetData small = component.toComponentData();
+
+        component.setStateData("test_label", "a fairly long state value to grow the compound");
+        PetsplusComponents.PetData larger = component.toComponentData();
+
+        assertThat(PetComponent.estimateEncodedBytes(small))
+            .isGreaterThanOrEqualTo(small.stateData().orElseThrow().getSizeInBytes());
+        assertThat(PetComponent.estimateEncodedBytes(larger))
+            .isGreaterThan(PetComponent.estimateEncodedBytes(small));
+    }
+}
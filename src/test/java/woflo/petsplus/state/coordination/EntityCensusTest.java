@@ -0,0 +1,189 @@
+package woflo.petsplus.state.coordination;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.Vec3d;
+import org.junit.jupiter.api.*;
+import woflo.petsplus.TestFixtures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the section-bucketed entity census:
+ * - Box queries return the same entities as a direct intersection scan, without duplicates
+ * - Overlapping queries in one tick share a single world query, and a new tick rescans
+ * - Queries that straddle fresh and stale sections rescan only the stale ones
+ * - Entities removed after bucketing are skipped
+ * - Count and nearest answer from the buckets and agree with a direct scan
+ */
+@DisplayName("EntityCensus")
+class EntityCensusTest {
+
+    private static final int ENTITY_COUNT = 400;
+
+    private ServerWorld world;
+    private EntityCensus census;
+    private List<Entity> entities;
+
+    @BeforeEach
+    void setup() {
+        world = TestFixtures.mockWorld(1000L);
+        entities = new ArrayList<>(ENTITY_COUNT);
+        Random random = new Random(17L);
+        for (int i = 0; i < ENTITY_COUNT; i++) {
+            double x = random.nextDouble() * 96.0D - 48.0D;
+            double y = 56.0D + random.nextDouble() * 24.0D;
+            double z = random.nextDouble() * 96.0D - 48.0D;
+            double halfWidth = random.nextInt(10) == 0 ? 1.5D : 0.3D;
+            entities.add(mockEntity(x, y, z, halfWidth));
+        }
+        when(world.getOtherEntities(isNull(), any(Box.class), any())).thenAnswer(invocation -> {
+            Box box = invocation.getArgument(1);
+            Predicate<? super Entity> predicate = invocation.getArgument(2);
+            List<Entity> found = new ArrayList<>();
+            for (Entity entity : entities) {
+                if (entity.getBoundingBox().intersects(box) && predicate.test(entity)) {
+                    found.add(entity);
+                }
+            }
+            return found;
+        });
+        census = new EntityCensus(world);
+    }
+
+    @Test
+    @DisplayName("box queries match a direct intersection scan")
+    void forEachInBox_matchesBruteForce() {
+        Random random = new Random(3L);
+        for (int probe = 0; probe < 60; probe++) {
+            if (probe % 20 == 0) {
+                when(world.getTime()).thenReturn(1000L + probe);
+            }
+            double x = random.nextDouble() * 100.0D - 50.0D;
+            double y = 56.0D + random.nextDouble() * 24.0D;
+            double z = random.nextDouble() * 100.0D - 50.0D;
+            Box box = new Box(x, y, z, x, y, z).expand(2.0D + random.nextDouble() * 12.0D);
+
+            List<Entity> found = new ArrayList<>();
+            census.forEachInBox(Entity.class, box, entity -> true, found::add);
+
+            assertThat(found).as("probe %d", probe).containsExactlyInAnyOrderElementsOf(bruteForce(box));
+        }
+    }
+
+    @Test
+    @DisplayName("one world query serves every overlapping query in a tick")
+    void overlappingQueries_shareOneScan() {
+        Box base = new Box(0.0D, 64.0D, 0.0D, 0.0D, 64.0D, 0.0D).expand(8.0D);
+
+        census.forEachInBox(Entity.class, base, entity -> true, entity -> { });
+        census.forEachInBox(Entity.class, base.offset(2.0D, 0.0D, -2.0D), entity -> true, entity -> { });
+        census.forEachInBox(Entity.class, base.contract(4.0D), entity -> true, entity -> { });
+        verify(world, times(1)).getOtherEntities(isNull(), any(Box.class), any());
+
+        when(world.getTime()).thenReturn(1001L);
+        census.forEachInBox(Entity.class, base, entity -> true, entity -> { });
+        verify(world, times(2)).getOtherEntities(isNull(), any(Box.class), any());
+    }
+
+    @Test
+    @DisplayName("a query over fresh and stale sections rescans once without duplicates")
+    void partiallyFreshRange_doesNotDuplicate() {
+        Box first = new Box(0.0D, 64.0D, 0.0D, 0.0D, 64.0D, 0.0D).expand(8.0D);
+        Box wider = first.expand(24.0D, 0.0D, 24.0D);
+
+        census.forEachInBox(Entity.class, first, entity -> true, entity -> { });
+        List<Entity> found = new ArrayList<>();
+        census.forEachInBox(Entity.class, wider, entity -> true, found::add);
+        census.forEachInBox(Entity.class, wider, entity -> true, entity -> { });
+
+        verify(world, times(2)).getOtherEntities(isNull(), any(Box.class), any());
+        assertThat(found).containsExactlyInAnyOrderElementsOf(bruteForce(wider));
+    }
+
+    @Test
+    @DisplayName("entities removed after bucketing are skipped")
+    void removedEntities_areSkipped() {
+        Box box = new Box(-48.0D, 56.0D, -48.0D, 48.0D, 80.0D, 48.0D);
+        census.forEachInBox(Entity.class, box, entity -> true, entity -> { });
+        Entity removed = bruteForce(box).get(0);
+        when(removed.isRemoved()).thenReturn(true);
+
+        List<Entity> found = new ArrayList<>();
+        census.forEachInBox(Entity.class, box, entity -> true, found::add);
+
+        assertThat(found).hasSize(bruteForce(box).size() - 1).doesNotContain(removed);
+    }
+
+    @Test
+    @DisplayName("count and nearest agree with a direct scan")
+    void countAndNearest_matchBruteForce() {
+        Random random = new Random(11L);
+        for (int probe = 0; probe < 40; probe++) {
+            double x = random.nextDouble() * 100.0D - 50.0D;
+            double y = 56.0D + random.nextDouble() * 24.0D;
+            double z = random.nextDouble() * 100.0D - 50.0D;
+            Vec3d center = new Vec3d(x, y, z);
+            Box box = new Box(x, y, z, x, y, z).expand(2.0D + random.nextDouble() * 12.0D);
+            List<Entity> expected = bruteForce(box);
+
+            assertThat(census.countInBox(Entity.class, box, entity -> true)).as("probe %d", probe)
+                .isEqualTo(expected.size());
+            Entity nearest = census.nearestInBox(Entity.class, box, center, entity -> true);
+            if (expected.isEmpty()) {
+                assertThat(nearest).as("probe %d", probe).isNull();
+            } else {
+                double best = expected.stream().mapToDouble(entity -> entity.squaredDistanceTo(center)).min().orElseThrow();
+                assertThat(nearest).as("probe %d", probe).isNotNull();
+                assertThat(nearest.squaredDistanceTo(center)).isEqualTo(best);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("count and nearest honour the predicate")
+    void countAndNearest_applyPredicate() {
+        Box box = new Box(-48.0D, 56.0D, -48.0D, 48.0D, 80.0D, 48.0D);
+        Vec3d origin = new Vec3d(0.0D, 64.0D, 0.0D);
+        Entity excluded = census.nearestInBox(Entity.class, box, origin, entity -> true);
+
+        Entity runnerUp = census.nearestInBox(Entity.class, box, origin, entity -> entity != excluded);
+
+        assertThat(census.countInBox(Entity.class, box, entity -> entity != excluded))
+            .isEqualTo(bruteForce(box).size() - 1);
+        assertThat(runnerUp).isNotNull().isNotSameAs(excluded);
+        assertThat(runnerUp.squaredDistanceTo(origin)).isGreaterThanOrEqualTo(excluded.squaredDistanceTo(origin));
+        assertThat(census.nearestInBox(Entity.class, box, origin, entity -> false)).isNull();
+    }
+
+    private List<Entity> bruteForce(Box box) {
+        List<Entity> result = new ArrayList<>();
+        for (Entity entity : entities) {
+            if (entity.getBoundingBox().intersects(box)) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    private static Entity mockEntity(double x, double y, double z, double halfWidth) {
+        Entity entity = mock(Entity.class);
+        when(entity.getBlockPos()).thenReturn(BlockPos.ofFloored(x, y, z));
+        when(entity.getBoundingBox()).thenReturn(new Box(x - halfWidth, y, z - halfWidth, x + halfWidth, y + 1.8D, z + halfWidth));
+        when(entity.squaredDistanceTo(any(Vec3d.class))).thenAnswer(invocation -> {
+            Vec3d point = invocation.getArgument(0);
+            return point.squaredDistanceTo(x, y, z);
+        });
+        return entity;
+    }
+}
@@ -0,0 +1,126 @@
+package woflo.petsplus.state.coordination;
+
+import net.minecraft.entity.ItemEntity;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.Vec3d;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the item kind table and loot filters in the item entity index:
+ * - Each item gets every kind whose table predicate accepts its item type, and kind queries skip the rest
+ * - Kinds are recomputed when an item entity's stack changes type
+ * - The loot filter drops dead and emptied items, and the gift filter also waits out the pickup delay
+ * - Nearest lookups return the closest item that passes the filter
+ */
+@DisplayName("ItemEntityIndex")
+class ItemEntityIndexTest {
+
+    private static final int KIND_SHINY = 2;
+    private static final Vec3d ORIGIN = new Vec3d(0.0D, 64.0D, 0.0D);
+
+    private final Item potion = mock(Item.class);
+    private final Item gem = mock(Item.class);
+    private final Item stick = mock(Item.class);
+    private ItemEntityIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new ItemEntityIndex(List.of(
+            new ItemEntityIndex.KindRule(ItemEntityIndex.KIND_POTION, item -> item == potion),
+            new ItemEntityIndex.KindRule(KIND_SHINY, item -> item == potion || item == gem)));
+    }
+
+    @Test
+    @DisplayName("kind queries see only items their predicates accept")
+    void kindTable_classifiesItems() {
+        ItemEntity potionDrop = drop(potion, 1.0D);
+        ItemEntity gemDrop = drop(gem, 2.0D);
+        ItemEntity stickDrop = drop(stick, 3.0D);
+
+        assertThat(collect(ItemEntityIndex.KIND_POTION, item -> true)).containsExactly(potionDrop);
+        assertThat(collect(KIND_SHINY, item -> true)).containsExactlyInAnyOrder(potionDrop, gemDrop);
+        assertThat(collect(ItemEntityIndex.KIND_ANY, item -> true))
+            .containsExactlyInAnyOrder(potionDrop, gemDrop, stickDrop);
+    }
+
+    @Test
+    @DisplayName("a stack that changes type is reclassified")
+    void changedItem_isReclassified() {
+        ItemEntity entity = drop(stick, 1.0D);
+        assertThat(collect(KIND_SHINY, item -> true)).isEmpty();
+
+        ItemStack stack = entity.getStack();
+        when(stack.getItem()).thenReturn(gem);
+        index.update(entity);
+
+        assertThat(collect(KIND_SHINY, item -> true)).containsExactly(entity);
+    }
+
+    @Test
+    @DisplayName("loot and gift filters check entity state")
+    void lootAndGiftFilters_checkEntityState() {
+        ItemEntity fresh = drop(gem, 1.0D);
+        ItemEntity delayed = drop(gem, 2.0D);
+        when(delayed.cannotPickup()).thenReturn(true);
+        ItemEntity dead = drop(gem, 3.0D);
+        when(dead.isAlive()).thenReturn(false);
+        ItemEntity emptied = drop(gem, 4.0D);
+        when(emptied.getStack().isEmpty()).thenReturn(true);
+
+        assertThat(collect(ItemEntityIndex.KIND_ANY, ItemEntityIndex.LOOSE_LOOT))
+            .containsExactlyInAnyOrder(fresh, delayed);
+        assertThat(collect(ItemEntityIndex.KIND_ANY, ItemEntityIndex.GIFTABLE)).containsExactly(fresh);
+    }
+
+    @Test
+    @DisplayName("nearest lookup returns the closest match")
+    void nearest_returnsClosestMatch() {
+        ItemEntity closeDelayed = drop(stick, 1.0D);
+        when(closeDelayed.cannotPickup()).thenReturn(true);
+        ItemEntity middle = drop(stick, 4.0D);
+        drop(stick, 7.0D);
+
+        assertThat(index.findNearest(ORIGIN, 8.0D, ItemEntityIndex.KIND_ANY, ItemEntityIndex.LOOSE_LOOT))
+            .isSameAs(closeDelayed);
+        assertThat(index.findNearest(ORIGIN, 8.0D, ItemEntityIndex.KIND_ANY, ItemEntityIndex.GIFTABLE))
+            .isSameAs(middle);
+        assertThat(index.findNearest(ORIGIN, 8.0D, KIND_SHINY, ItemEntityIndex.LOOSE_LOOT)).isNull();
+    }
+
+    private List<ItemEntity> collect(int kindMask, Predicate<? super ItemEntity> filter) {
+        List<ItemEntity> found = new ArrayList<>();
+        index.forEachInRange(ORIGIN, 16.0D, kindMask, filter, found::add);
+        return found;
+    }
+
+    private ItemEntity drop(Item item, double x) {
+        ItemStack stack = mock(ItemStack.class);
+        when(stack.getItem()).thenReturn(item);
+        ItemEntity entity = mock(ItemEntity.class);
+        when(entity.getStack()).thenReturn(stack);
+        when(entity.isAlive()).thenReturn(true);
+        when(entity.getX()).thenReturn(x);
+        when(entity.getY()).thenReturn(ORIGIN.y);
+        when(entity.getZ()).thenReturn(ORIGIN.z);
+        when(entity.getBlockX()).thenReturn((int) Math.floor(x));
+        when(entity.getBlockY()).thenReturn((int) ORIGIN.y);
+        when(entity.getBlockZ()).thenReturn((int) ORIGIN.z);
+        when(entity.squaredDistanceTo(any(Vec3d.class))).thenAnswer(invocation -> {
+            Vec3d center = invocation.getArgument(0);
+            double dx = x - center.x;
+            return dx * dx;
+        });
+        index.update(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,107 @@
+package woflo.petsplus.state.coordination;
+
+import net.minecraft.entity.ai.pathing.EntityNavigation;
+import net.minecraft.entity.ai.pathing.Path;
+import net.minecraft.entity.ai.pathing.PathNode;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import org.junit.jupiter.api.*;
+import woflo.petsplus.TestFixtures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for sharing one follower's path with its packmates:
+ * - A packmate next to the trail rides it from the nearest node and appends its own target
+ * - Off-trail packmates and packmates of a different width run their own search
+ * - Trails survive small owner drift but expire on larger drift or after their TTL
+ * - Forgetting an owner drops their trails
+ */
+@DisplayName("PackPathService")
+class PackPathServiceTest {
+
+    private static final UUID OWNER = TestFixtures.deterministicUuid(1);
+    private static final Vec3d OWNER_POS = new Vec3d(24.0D, 64.0D, 0.0D);
+    private static final Vec3d MOVE_TARGET = new Vec3d(22.5D, 64.0D, 1.5D);
+    private static final long NOW = 500L;
+
+    private final EntityNavigation navigation = mock(EntityNavigation.class);
+    private PackPathService service;
+
+    @BeforeEach
+    void setup() {
+        service = new PackPathService();
+        List<PathNode> nodes = new ArrayList<>();
+        for (int x = 0; x <= 20; x++) {
+            nodes.add(new PathNode(x, 64, 0));
+        }
+        service.publish(follower(0, 0.6f), OWNER, OWNER_POS, new Path(nodes, new BlockPos(20, 64, 0), true), NOW);
+    }
+
+    @Test
+    @DisplayName("a packmate on the trail splices in at the nearest node")
+    void onTrail_splicesFromNearestNode() {
+        Path path = service.trySplice(follower(5, 0.6f), OWNER, OWNER_POS, MOVE_TARGET, NOW + 2L);
+
+        assertThat(path).isNotNull();
+        // Nodes 6..20 of the trail, then the follower's own target
+        assertThat(path.getLength()).isEqualTo(16);
+        assertThat(path.getNode(0).x).isEqualTo(6);
+        assertThat(path.getNode(path.getLength() - 1).getBlockPos()).isEqualTo(new BlockPos(22, 64, 1));
+        assertThat(path.getTarget()).isEqualTo(new BlockPos(22, 64, 1));
+    }
+
+    @Test
+    @DisplayName("off-trail or differently sized packmates search for themselves")
+    void mismatchedFollowers_getNoSplice() {
+        MobEntity offTrail = follower(5, 0.6f);
+        when(offTrail.getBlockZ()).thenReturn(10);
+
+        assertThat(service.trySplice(offTrail, OWNER, OWNER_POS, MOVE_TARGET, NOW)).isNull();
+        assertThat(service.trySplice(follower(5, 1.4f), OWNER, OWNER_POS, MOVE_TARGET, NOW)).isNull();
+    }
+
+    @Test
+    @DisplayName("trails survive small owner drift and expire on large drift")
+    void ownerDrift_expiresTrailPastLimit() {
+        Vec3d nudged = OWNER_POS.add(3.0D, 0.0D, 0.0D);
+        assertThat(service.trySplice(follower(5, 0.6f), OWNER, nudged, MOVE_TARGET, NOW)).isNotNull();
+
+        Vec3d moved = OWNER_POS.add(5.0D, 0.0D, 0.0D);
+        assertThat(service.trySplice(follower(5, 0.6f), OWNER, moved, MOVE_TARGET, NOW)).isNull();
+        // The stale trail was dropped, not just skipped
+        assertThat(service.trySplice(follower(5, 0.6f), OWNER, OWNER_POS, MOVE_TARGET, NOW)).isNull();
+    }
+
+    @Test
+    @DisplayName("trails expire after their TTL")
+    void oldTrail_expires() {
+        assertThat(service.trySplice(follower(5, 0.6f), OWNER, OWNER_POS, MOVE_TARGET, NOW + 40L)).isNotNull();
+        assertThat(service.trySplice(follower(5, 0.6f), OWNER, OWNER_POS, MOVE_TARGET, NOW + 41L)).isNull();
+    }
+
+    @Test
+    @DisplayName("forgetting an owner drops their trails")
+    void forgetOwner_dropsTrails() {
+        service.forgetOwner(OWNER);
+
+        assertThat(service.trySplice(follower(5, 0.6f), OWNER, OWNER_POS, MOVE_TARGET, NOW)).isNull();
+    }
+
+    private MobEntity follower(int x, float width) {
+        MobEntity mob = mock(MobEntity.class);
+        when(mob.getNavigation()).thenReturn(navigation);
+        when(mob.getWidth()).thenReturn(width);
+        when(mob.getBlockX()).thenReturn(x);
+        when(mob.getBlockY()).thenReturn(64);
+        when(mob.getBlockZ()).thenReturn(1);
+        return mob;
+    }
+}
@@ -0,0 +1,252 @@
+package woflo.petsplus.state.coordination;
+
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import org.junit.jupiter.api.*;
+import woflo.petsplus.TestFixtures;
+import woflo.petsplus.api.registry.PetRoleType;
+import woflo.petsplus.state.PetComponent;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the world-level grid in the swarm index:
+ * - Global range queries return the same pets as a brute-force scan across owners
+ * - Nearest-pet queries return the k closest pets in order and skip the excluded pet
+ * - Untracked pets drop out of the grid and their slots stop resolving
+ * - Listeners get one coalesced delta per owner per flush, and membership-only listeners skip moves
+ * - Role queries see only the owner's pets of that role, and untracked pets leave their role
+ * - The role-set stamp ignores moves and changes only when an owner gains or loses a role
+ */
+@DisplayName("PetSwarmIndex world grid")
+class PetSwarmIndexTest {
+
+    private static final int PET_COUNT = 300;
+    private static final int OWNER_COUNT = 12;
+
+    private ServerWorld world;
+    private PetSwarmIndex index;
+    private List<MobEntity> pets;
+    private List<PetComponent> components;
+
+    @BeforeEach
+    void setup() {
+        world = TestFixtures.mockWorld(1000L);
+        index = new PetSwarmIndex();
+        pets = new ArrayList<>(PET_COUNT);
+        components = new ArrayList<>(PET_COUNT);
+        Random random = new Random(11L);
+        for (int i = 0; i < PET_COUNT; i++) {
+            BlockPos pos = new BlockPos(random.nextInt(160) - 80, 40 + random.nextInt(48), random.nextInt(160) - 80);
+            MobEntity pet = TestFixtures.mockPetAtPosition(world, TestFixtures.deterministicUuid(i), pos);
+            PetComponent component = new PetComponent(pet);
+            component.setOwnerUuid(ownerOf(i));
+            index.trackPet(pet, component);
+            pets.add(pet);
+            components.add(component);
+        }
+    }
+
+    @Test
+    @DisplayName("global range query matches a brute-force scan")
+    void rangeQuery_matchesBruteForce() {
+        Random random = new Random(3L);
+        for (int probe = 0; probe < 50; probe++) {
+            Vec3d center = new Vec3d(random.nextInt(200) - 100, 40 + random.nextInt(48), random.nextInt(200) - 100);
+            double radius = 2.0D + random.nextDouble() * 40.0D;
+
+            List<MobEntity> found = new ArrayList<>();
+            index.forEachPetInRange(center, radius, entry -> found.add(entry.pet()));
+
+            assertThat(found).as("probe %d", probe)
+                .containsExactlyInAnyOrderElementsOf(bruteForce(center, radius));
+        }
+    }
+
+    @Test
+    @DisplayName("nearest query returns the k closest pets in order")
+    void nearest_matchesBruteForce() {
+        int[] slots = new int[6];
+        double[] distances = new double[6];
+        Random random = new Random(5L);
+        for (int probe = 0; probe < 50; probe++) {
+            MobEntity self = pets.get(random.nextInt(PET_COUNT));
+            Vec3d center = new Vec3d(self.getX(), self.getY(), self.getZ());
+            double radius = 4.0D + random.nextDouble() * 60.0D;
+
+            int count = index.findNearest(center.x, center.y, center.z, radius, self, slots, distances);
+
+            List<MobEntity> expected = bruteForce(center, radius);
+            expected.remove(self);
+            expected.sort(Comparator.comparingDouble(pet -> squaredDistance(pet, center)));
+            assertThat(count).as("probe %d", probe).isEqualTo(Math.min(slots.length, expected.size()));
+            for (int i = 0; i < count; i++) {
+                PetSwarmIndex.SwarmEntry entry = index.entryForSlot(slots[i]);
+                assertThat(entry).isNotNull();
+                assertThat(distances[i]).isEqualTo(squaredDistance(expected.get(i), center));
+                assertThat(entry.pet()).isNotSameAs(self);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("untracked pets leave the grid and their slots")
+    void untrack_removesFromGrid() {
+        MobEntity pet = pets.get(0);
+        Vec3d center = new Vec3d(pet.getX(), pet.getY(), pet.getZ());
+        int[] slots = new int[1];
+        double[] distances = new double[1];
+        assertThat(index.findNearest(center.x, center.y, center.z, 0.5D, null, slots, distances)).isEqualTo(1);
+        int slot = slots[0];
+
+        index.untrackPet(pet);
+
+        assertThat(index.entryForSlot(slot)).isNull();
+        List<MobEntity> found = new ArrayList<>();
+        index.forEachPetInRange(center, 200.0D, entry -> found.add(entry.pet()));
+        assertThat(found).hasSize(PET_COUNT - 1).doesNotContain(pet);
+    }
+
+    @Test
+    @DisplayName("a pack moving every tick yields one delta per owner per flush")
+    void movement_coalescesPerOwner() {
+        List<PetSwarmIndex.SwarmDelta> deltas = new ArrayList<>();
+        index.addListener(deltas::add);
+        index.flushChanges(1000L, 1);
+
+        for (int step = 1; step <= 4; step++) {
+            for (int i = 0; i < PET_COUNT; i++) {
+                moveBy(i, step);
+            }
+        }
+        index.flushChanges(1001L, 1);
+
+        assertThat(deltas).hasSize(OWNER_COUNT);
+        for (PetSwarmIndex.SwarmDelta delta : deltas) {
+            assertThat(delta.membershipChanged()).isFalse();
+            assertThat(delta.moved()).hasSize(PET_COUNT / OWNER_COUNT);
+            assertThat(delta.entries()).hasSize(PET_COUNT / OWNER_COUNT);
+        }
+    }
+
+    @Test
+    @DisplayName("membership-only listeners ignore moves, and add-then-remove cancels out")
+    void membershipOnly_skipsMoves() {
+        List<PetSwarmIndex.SwarmDelta> deltas = new ArrayList<>();
+        index.addListener(new PetSwarmIndex.SwarmListener() {
+            @Override
+            public void onSwarmChanged(PetSwarmIndex.SwarmDelta delta) {
+                deltas.add(delta);
+            }
+
+            @Override
+            public boolean membershipOnly() {
+                return true;
+            }
+        });
+        index.flushChanges(1000L, 1);
+
+        moveBy(0, 3);
+        MobEntity visitor = TestFixtures.mockPetAtPosition(world, TestFixtures.deterministicUuid(-7L), new BlockPos(0, 64, 0));
+        PetComponent visitorComponent = new PetComponent(visitor);
+        visitorComponent.setOwnerUuid(ownerOf(0));
+        index.trackPet(visitor, visitorComponent);
+        index.untrackPet(visitor);
+        index.flushChanges(1001L, 1);
+        assertThat(deltas).isEmpty();
+
+        index.untrackPet(pets.get(0));
+        index.flushChanges(1002L, 1);
+        assertThat(deltas).hasSize(1);
+        assertThat(deltas.get(0).ownerId()).isEqualTo(ownerOf(0));
+        assertThat(deltas.get(0).removed()).extracting(PetSwarmIndex.SwarmEntry::pet).containsExactly(pets.get(0));
+    }
+
+    @Test
+    @DisplayName("role queries match an owner-filtered scan")
+    void roleQuery_matchesOwnerScan() {
+        UUID owner = ownerOf(0);
+        // Unassigned pets report the default Guardian role
+        assertThat(index.roleCount(owner, PetRoleType.GUARDIAN_ID)).isEqualTo(PET_COUNT / OWNER_COUNT);
+        assertThat(index.roleCount(owner, PetRoleType.ECLIPSED_ID)).isZero();
+
+        MobEntity anchor = pets.get(0);
+        Vec3d center = new Vec3d(anchor.getX(), anchor.getY(), anchor.getZ());
+        List<MobEntity> expected = bruteForce(center, 48.0D);
+        expected.removeIf(pet -> !components.get(pets.indexOf(pet)).getOwnerUuid().equals(owner));
+
+        List<MobEntity> found = new ArrayList<>();
+        index.forEachRoleMemberInRange(owner, PetRoleType.GUARDIAN_ID, center, 48.0D, entry -> found.add(entry.pet()));
+        assertThat(found).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(index.anyRoleMemberInRange(owner, PetRoleType.GUARDIAN_ID, center, 48.0D, 0)).isTrue();
+        assertThat(index.maxRoleLevelInRange(owner, PetRoleType.GUARDIAN_ID, center, 48.0D))
+            .isEqualTo(components.get(0).getLevel());
+
+        index.untrackPet(anchor);
+
+        assertThat(index.roleCount(owner, PetRoleType.GUARDIAN_ID)).isEqualTo(PET_COUNT / OWNER_COUNT - 1);
+    }
+
+    @Test
+    @DisplayName("role-set stamp changes only when the owner's set of roles changes")
+    void roleSetStamp_tracksRoleMix() {
+        UUID owner = ownerOf(0);
+        long initial = index.roleSetStamp(owner);
+        assertThat(initial).isNotZero();
+        assertThat(index.roleSetStamp(UUID.randomUUID())).isZero();
+
+        moveBy(0, 24.0D);
+        index.untrackPet(pets.get(OWNER_COUNT));
+        assertThat(index.roleSetStamp(owner)).isEqualTo(initial);
+
+        components.get(0).setRoleId(PetRoleType.ECLIPSED_ID);
+        index.refreshRole(pets.get(0));
+        long mixed = index.roleSetStamp(owner);
+        assertThat(mixed).isNotEqualTo(initial);
+        assertThat(index.roleSetStamp(ownerOf(1))).isNotEqualTo(mixed);
+
+        List<Object> roles = new ArrayList<>();
+        index.forEachOwnerRole(owner, roles::add);
+        assertThat(roles).containsExactlyInAnyOrder(PetRoleType.GUARDIAN_ID, PetRoleType.ECLIPSED_ID);
+
+        index.untrackPet(pets.get(0));
+        assertThat(index.roleSetStamp(owner)).isNotEqualTo(mixed);
+    }
+
+    private void moveBy(int petIndex, double offset) {
+        MobEntity pet = pets.get(petIndex);
+        double x = pet.getX() + offset;
+        when(pet.getX()).thenReturn(x);
+        index.updatePet(pet, components.get(petIndex));
+    }
+
+    private static UUID ownerOf(int petIndex) {
+        return TestFixtures.deterministicUuid(10_000L + (petIndex % OWNER_COUNT));
+    }
+
+    private List<MobEntity> bruteForce(Vec3d center, double radius) {
+        List<MobEntity> result = new ArrayList<>();
+        for (MobEntity pet : pets) {
+            if (squaredDistance(pet, center) <= radius * radius) {
+                result.add(pet);
+            }
+        }
+        return result;
+    }
+
+    private static double squaredDistance(MobEntity pet, Vec3d center) {
+        double dx = pet.getX() - center.x;
+        double dy = pet.getY() - center.y;
+        double dz = pet.getZ() - center.z;
+        return (dx * dx) + (dy * dy) + (dz * dz);
+    }
+}
@@ -0,0 +1,99 @@
+package woflo.petsplus.state.coordination;
+
+import org.junit.jupiter.api.*;
+import woflo.petsplus.TestFixtures;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the server-wide tick budget governor:
+ * - Before the first closed tick only the per-owner baselines apply
+ * - An over-budget tick shrinks the shared pools and the scaled owner baselines, and denials are counted
+ * - The pools refill on the next tick
+ * - With the governor disabled, mood and async lanes are unmetered and path starts keep their fixed owner cap
+ */
+@DisplayName("TickBudgetGovernor")
+class TickBudgetGovernorTest {
+
+    private static final UUID OWNER = TestFixtures.deterministicUuid(1);
+    private static final long OVER_BUDGET_NANOS = 4_000_000_000L;
+
+    private TickBudgetGovernor governor;
+
+    @BeforeEach
+    void setup() {
+        governor = new TickBudgetGovernor();
+    }
+
+    @Test
+    @DisplayName("only owner baselines apply before the first tick closes")
+    void unarmed_enforcesOwnerBaselineOnly() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(governor.tryAcquire(TickBudgetGovernor.Lane.MOOD_RECOMPUTE, OWNER, 3)).isTrue();
+        }
+        assertThat(governor.tryAcquire(TickBudgetGovernor.Lane.MOOD_RECOMPUTE, OWNER, 3)).isFalse();
+        assertThat(governor.deniedCount(TickBudgetGovernor.Lane.MOOD_RECOMPUTE)).isEqualTo(1L);
+
+        int granted = acquireAll(TickBudgetGovernor.Lane.ASYNC_SUBMISSION, null, 1, 500);
+        assertThat(granted).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("an over-budget tick shrinks pools and owner baselines")
+    void overBudget_exhaustsScaledPool() {
+        governor.recordWork(OVER_BUDGET_NANOS);
+        governor.endServerTick(4.0);
+
+        assertThat(governor.scale()).isEqualTo(0.1);
+        // 64 async tokens at a scale of 0.1
+        assertThat(acquireAll(TickBudgetGovernor.Lane.ASYNC_SUBMISSION, null, 1, 100)).isEqualTo(6);
+        assertThat(governor.deniedCount(TickBudgetGovernor.Lane.ASYNC_SUBMISSION)).isEqualTo(94L);
+        // An owner baseline of 16 mood recomputes scales down to 2
+        assertThat(acquireAll(TickBudgetGovernor.Lane.MOOD_RECOMPUTE, OWNER, 16, 100)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("exhausted pools refill on the next tick")
+    void exhaustedPool_refillsNextTick() {
+        governor.recordWork(OVER_BUDGET_NANOS);
+        governor.endServerTick(4.0);
+        acquireAll(TickBudgetGovernor.Lane.ASYNC_SUBMISSION, null, 1, 100);
+        assertThat(governor.tryAcquire(TickBudgetGovernor.Lane.ASYNC_SUBMISSION, null, 1)).isFalse();
+
+        governor.endServerTick(4.0);
+
+        assertThat(governor.tryAcquire(TickBudgetGovernor.Lane.ASYNC_SUBMISSION, null, 1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("a disabled governor meters only the fixed path and aura owner caps")
+    void disabled_skipsGovernorChecks() {
+        governor.recordWork(OVER_BUDGET_NANOS);
+        governor.endServerTick(4.0);
+        acquireAll(TickBudgetGovernor.Lane.ASYNC_SUBMISSION, null, 1, 100);
+
+        governor.skipServerTick();
+
+        assertThat(acquireAll(TickBudgetGovernor.Lane.ASYNC_SUBMISSION, null, 1, 100)).isEqualTo(100);
+        assertThat(acquireAll(TickBudgetGovernor.Lane.MOOD_RECOMPUTE, OWNER, 1, 100)).isEqualTo(100);
+        assertThat(acquireAll(TickBudgetGovernor.Lane.ASYNC_SUBMISSION, OWNER, 1, 100)).isEqualTo(100);
+        assertThat(acquireAll(TickBudgetGovernor.Lane.PATH_START, OWNER, 2, 100)).isEqualTo(2);
+
+        // Metering resumes; an idle tick lifts the scale to its 4x ceiling
+        governor.endServerTick(4.0);
+
+        assertThat(acquireAll(TickBudgetGovernor.Lane.MOOD_RECOMPUTE, OWNER, 1, 100)).isEqualTo(4);
+    }
+
+    private int acquireAll(TickBudgetGovernor.Lane lane, UUID ownerId, int baseline, int attempts) {
+        int granted = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (governor.tryAcquire(lane, ownerId, baseline)) {
+                granted++;
+            }
+        }
+        return granted;
+    }
+}
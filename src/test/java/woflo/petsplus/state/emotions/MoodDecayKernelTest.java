@@ -0,0 +1,253 @@
+package woflo.petsplus.state.emotions;
+
+import net.minecraft.util.math.MathHelper;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Differential tests for the batched mood kernel:
+ * - Every decayed column matches the shared decay helpers PetMoodEngine's scalar refresh calls, bit for bit
+ * - Rows already at the pet's tick are left untouched
+ * - Large batches take the fork-join path and still match
+ * - Completions run once per pet, in submission order, with their own row ranges
+ * - Pets submitted from a completion are queued for the next flush
+ * - A throwing completion does not stop the rest of the batch
+ */
+@DisplayName("MoodDecayKernel")
+class MoodDecayKernelTest {
+
+    private static final int EMOTIONS = 8;
+
+    private record Tuning(long now, float habituationBase, float halfLifeMultiplier, float minHalfLife,
+                          float maxHalfLife, float negativePersistence, float conditionPresentMultiplier,
+                          float homeostasisRecoveryHalf) {
+    }
+
+    private record Row(float intensity, float impactBudget, float cadenceEMA, float homeostasisBias,
+                       float contagionShare, long lastUpdateTime, float emotionMultiplier, boolean negative,
+                       boolean ongoing) {
+    }
+
+    private record Decayed(float intensity, float impactBudget, float homeostasisBias,
+                           float contagionShare, long lastUpdateTime) {
+    }
+
+    @Test
+    @DisplayName("batched decay matches the scalar path exactly")
+    void batchedDecay_matchesScalar() {
+        assertDifferential(new Random(42L), 64);
+    }
+
+    @Test
+    @DisplayName("fork-join batches match the scalar path exactly")
+    void parallelDecay_matchesScalar() {
+        int pets = MoodDecayKernel.PARALLEL_THRESHOLD / EMOTIONS + 32;
+        assertDifferential(new Random(7L), pets);
+    }
+
+    @Test
+    @DisplayName("rows already at the current tick are not decayed")
+    void freshRows_areUntouched() {
+        MoodDecayKernel kernel = new MoodDecayKernel();
+        int pet = kernel.beginPet(100L, 40f, 1.5f, 20f, 400f, 1.2f, 1.4f, 600f, (k, first, count) -> {});
+        int row = kernel.addRow(pet, 0.8f, 0.4f, 30f, 1.0f, 0.05f, 100L, 1f, false, false);
+
+        float[] seen = new float[1];
+        boolean[] decayed = new boolean[1];
+        kernel.beginPet(100L, 40f, 1.5f, 20f, 400f, 1.2f, 1.4f, 600f, (k, first, count) -> {
+            seen[0] = k.intensity(row);
+            decayed[0] = k.decayed(row);
+        });
+        kernel.flush();
+
+        assertThat(seen[0]).isEqualTo(0.8f);
+        assertThat(decayed[0]).isFalse();
+    }
+
+    @Test
+    @DisplayName("completions run in submission order over their own rows")
+    void completions_runInOrder() {
+        MoodDecayKernel kernel = new MoodDecayKernel();
+        List<int[]> calls = new ArrayList<>();
+        for (int p = 0; p < 3; p++) {
+            int pet = kernel.beginPet(50L, 40f, 1.5f, 20f, 400f, 1.2f, 1.4f, 600f,
+                (k, first, count) -> calls.add(new int[]{first, count}));
+            for (int e = 0; e <= p; e++) {
+                kernel.addRow(pet, 0.5f, 0.2f, 10f, 1f, 0f, 10L, 1f, false, false);
+            }
+        }
+
+        kernel.flush();
+
+        assertThat(calls).hasSize(3);
+        assertThat(calls.get(0)).containsExactly(0, 1);
+        assertThat(calls.get(1)).containsExactly(1, 2);
+        assertThat(calls.get(2)).containsExactly(3, 3);
+        assertThat(kernel.isEmpty()).isTrue();
+        assertThat(kernel.rowsProcessed()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("pets submitted from a completion run on the next flush")
+    void reentrantSubmission_isQueued() {
+        MoodDecayKernel kernel = new MoodDecayKernel();
+        List<String> calls = new ArrayList<>();
+        float[] followUp = new float[1];
+
+        int first = kernel.beginPet(200L, 40f, 1.5f, 20f, 400f, 1.2f, 1.4f, 600f, (k, firstRow, count) -> {
+            calls.add("first");
+            // A follow-up refresh, as PetMoodEngine.applyAsyncResult issues through ensureFresh
+            int again = k.beginPet(300L, 40f, 1.5f, 20f, 400f, 1.2f, 1.4f, 600f, (k2, row, rows) -> {
+                calls.add("follow-up");
+                assertThat(row).isZero();
+                assertThat(rows).isEqualTo(1);
+                followUp[0] = k2.intensity(row);
+            });
+            k.addRow(again, k.intensity(firstRow), 0.4f, 30f, 1.0f, 0f, k.lastUpdateTime(firstRow), 1f, false, false);
+        });
+        kernel.addRow(first, 0.8f, 0.4f, 30f, 1.0f, 0f, 100L, 1f, false, false);
+        int second = kernel.beginPet(200L, 40f, 1.5f, 20f, 400f, 1.2f, 1.4f, 600f,
+            (k, firstRow, count) -> calls.add("second"));
+        kernel.addRow(second, 0.5f, 0.2f, 10f, 1f, 0f, 150L, 1f, false, false);
+
+        kernel.flush();
+
+        assertThat(calls).containsExactly("first", "second");
+        assertThat(kernel.pendingPets()).isEqualTo(1);
+        assertThat(kernel.pendingRows()).isEqualTo(1);
+
+        kernel.flush();
+
+        assertThat(calls).containsExactly("first", "second", "follow-up");
+        assertThat(kernel.isEmpty()).isTrue();
+        float expected = 0.8f;
+        expected *= MoodDecayKernel.decayFactor(100L, 30f, 1f, false, false, 40f, 1.5f, 20f, 400f, 1.2f, 1.4f);
+        expected *= MoodDecayKernel.decayFactor(100L, 30f, 1f, false, false, 40f, 1.5f, 20f, 400f, 1.2f, 1.4f);
+        assertThat(followUp[0]).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("a throwing completion does not strand the rest of the batch")
+    void failingCompletion_stillDrainsBatch() {
+        MoodDecayKernel kernel = new MoodDecayKernel();
+        List<Integer> completed = new ArrayList<>();
+        for (int p = 0; p < 3; p++) {
+            int index = p;
+            int pet = kernel.beginPet(50L, 40f, 1.5f, 20f, 400f, 1.2f, 1.4f, 600f, (k, first, count) -> {
+                if (index == 1) {
+                    throw new IllegalStateException("boom");
+                }
+                completed.add(index);
+            });
+            kernel.addRow(pet, 0.5f, 0.2f, 10f, 1f, 0f, 10L, 1f, false, false);
+        }
+
+        assertThatThrownBy(kernel::flush).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+        assertThat(completed).containsExactly(0, 2);
+        assertThat(kernel.isEmpty()).isTrue();
+    }
+
+    private void assertDifferential(Random random, int pets) {
+        MoodDecayKernel kernel = new MoodDecayKernel();
+        List<Decayed> expected = new ArrayList<>();
+        List<Decayed> actual = new ArrayList<>();
+
+        for (int p = 0; p < pets; p++) {
+            Tuning tuning = randomTuning(random);
+            List<Row> rows = new ArrayList<>(EMOTIONS);
+            for (int e = 0; e < EMOTIONS; e++) {
+                Row row = randomRow(random, tuning.now());
+                rows.add(row);
+                expected.add(scalarDecay(tuning, row));
+            }
+            int pet = kernel.beginPet(tuning.now(), tuning.habituationBase(), tuning.halfLifeMultiplier(),
+                tuning.minHalfLife(), tuning.maxHalfLife(), tuning.negativePersistence(),
+                tuning.conditionPresentMultiplier(), tuning.homeostasisRecoveryHalf(),
+                (k, first, count) -> {
+                    for (int i = first; i < first + count; i++) {
+                        actual.add(new Decayed(k.intensity(i), k.impactBudget(i), k.homeostasisBias(i),
+                            k.contagionShare(i), k.lastUpdateTime(i)));
+                    }
+                });
+            for (Row row : rows) {
+                kernel.addRow(pet, row.intensity(), row.impactBudget(), row.cadenceEMA(), row.homeostasisBias(),
+                    row.contagionShare(), row.lastUpdateTime(), row.emotionMultiplier(), row.negative(),
+                    row.ongoing());
+            }
+        }
+
+        kernel.flush();
+
+        assertThat(actual).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            Decayed want = expected.get(i);
+            Decayed got = actual.get(i);
+            assertThat(Float.floatToIntBits(got.intensity())).as("intensity row %d", i)
+                .isEqualTo(Float.floatToIntBits(want.intensity()));
+            assertThat(Float.floatToIntBits(got.impactBudget())).as("impact row %d", i)
+                .isEqualTo(Float.floatToIntBits(want.impactBudget()));
+            assertThat(Float.floatToIntBits(got.homeostasisBias())).as("homeostasis row %d", i)
+                .isEqualTo(Float.floatToIntBits(want.homeostasisBias()));
+            assertThat(Float.floatToIntBits(got.contagionShare())).as("contagion row %d", i)
+                .isEqualTo(Float.floatToIntBits(want.contagionShare()));
+            assertThat(got.lastUpdateTime()).as("last update row %d", i).isEqualTo(want.lastUpdateTime());
+        }
+    }
+
+    /** The per-record decay step PetMoodEngine.processEmotionRecord runs on the scalar path. */
+    private static Decayed scalarDecay(Tuning tuning, Row row) {
+        float intensity = MathHelper.clamp(row.intensity(), 0f, 1f);
+        float impactBudget = Math.max(0f, row.impactBudget());
+        float homeostasisBias = MathHelper.clamp(row.homeostasisBias(), 0.5f, 1.5f);
+        float contagionShare = row.contagionShare();
+        long lastUpdateTime = row.lastUpdateTime();
+        if (tuning.now() > lastUpdateTime) {
+            long delta = tuning.now() - lastUpdateTime;
+            float decay = MoodDecayKernel.decayFactor(delta, Math.max(0f, row.cadenceEMA()),
+                row.emotionMultiplier(), row.negative(), row.ongoing(), tuning.habituationBase(),
+                tuning.halfLifeMultiplier(), tuning.minHalfLife(), tuning.maxHalfLife(),
+                tuning.negativePersistence(), tuning.conditionPresentMultiplier());
+            intensity *= decay;
+            impactBudget *= decay;
+            homeostasisBias = MoodDecayKernel.relaxHomeostasis(homeostasisBias, delta,
+                tuning.homeostasisRecoveryHalf());
+            contagionShare = MoodDecayKernel.decayContagion(contagionShare, delta);
+            lastUpdateTime = tuning.now();
+        }
+        return new Decayed(intensity, impactBudget, homeostasisBias, contagionShare, lastUpdateTime);
+    }
+
+    private static Tuning randomTuning(Random random) {
+        float minHalf = 20f + random.nextFloat() * 60f;
+        return new Tuning(
+            1_000L + random.nextInt(100_000),
+            10f + random.nextFloat() * 120f,
+            0.5f + random.nextFloat() * 2f,
+            minHalf,
+            minHalf + 100f + random.nextFloat() * 2_000f,
+            1f + random.nextFloat(),
+            1f + random.nextFloat(),
+            200f + random.nextFloat() * 1_200f);
+    }
+
+    private static Row randomRow(Random random, long now) {
+        // Roughly one in eight rows is already current and must come back unchanged.
+        long age = random.nextInt(8) == 0 ? 0L : 1L + random.nextInt(4_000);
+        return new Row(
+            random.nextFloat(),
+            random.nextFloat() * 1.5f,
+            random.nextInt(5) == 0 ? 0f : random.nextFloat() * 300f,
+            0.5f + random.nextFloat(),
+            (random.nextFloat() - 0.5f) * 0.6f,
+            now - age,
+            0.5f + random.nextFloat() * 1.5f,
+            random.nextBoolean(),
+            random.nextBoolean());
+    }
+}
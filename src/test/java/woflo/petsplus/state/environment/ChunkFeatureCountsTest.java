@@ -0,0 +1,99 @@
+package woflo.petsplus.state.environment;
+
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+import org.junit.jupiter.api.*;
+import woflo.petsplus.state.environment.EnvironmentFeatureIndex.Feature;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the per-section environment feature counts:
+ * - Every feature bit fits the byte-wide per-state table and per-section mask
+ * - Block changes in sections that were never counted are ignored until the section is queried
+ * - Placements and removals keep counts and the section mask current
+ * - A rebuilt classification table recounts the section on its next query
+ */
+@DisplayName("ChunkFeatureCounts")
+class ChunkFeatureCountsTest {
+
+    private static final int HAZARD = Feature.HAZARD.mask();
+    private static final int WATER = Feature.WATER.mask();
+    private static final int HEARTH = Feature.HEARTH.mask();
+
+    private final EnvironmentFeatureIndex.Table table = table(1);
+    private WorldChunk chunk;
+    private ChunkFeatureCounts counts;
+
+    @BeforeEach
+    void setup() {
+        chunk = mock(WorldChunk.class);
+        // Empty sections count as zero without reading a palette
+        when(chunk.getSectionArray()).thenReturn(new ChunkSection[4]);
+        counts = new ChunkFeatureCounts(4);
+    }
+
+    @Test
+    @DisplayName("feature bits fit in a byte")
+    void features_fitByteMask() {
+        assertThat(Feature.values().length).isLessThanOrEqualTo(Byte.SIZE);
+        for (Feature feature : Feature.values()) {
+            assertThat(feature.mask()).isEqualTo(1 << feature.ordinal());
+        }
+    }
+
+    @Test
+    @DisplayName("changes before the first query are ignored")
+    void uncountedSection_ignoresChanges() {
+        counts.apply(1, 0, HAZARD, table);
+
+        assertThat(counts.mask(chunk, 1, table)).isZero();
+        assertThat(counts.count(chunk, 1, Feature.HAZARD, table)).isZero();
+    }
+
+    @Test
+    @DisplayName("placements and removals keep counts and masks current")
+    void blockChanges_updateCountsAndMask() {
+        assertThat(counts.mask(chunk, 2, table)).isZero();
+
+        counts.apply(2, 0, HAZARD | HEARTH, table);
+        counts.apply(2, 0, HAZARD, table);
+        assertThat(counts.count(chunk, 2, Feature.HAZARD, table)).isEqualTo(2);
+        assertThat(counts.count(chunk, 2, Feature.HEARTH, table)).isEqualTo(1);
+        assertThat(counts.mask(chunk, 2, table)).isEqualTo(HAZARD | HEARTH);
+
+        // A campfire doused into a waterlogged block: hearth leaves, water arrives
+        counts.apply(2, HAZARD | HEARTH, WATER, table);
+        assertThat(counts.mask(chunk, 2, table)).isEqualTo(HAZARD | WATER);
+
+        counts.apply(2, HAZARD, 0, table);
+        assertThat(counts.mask(chunk, 2, table)).isEqualTo(WATER);
+        assertThat(counts.count(chunk, 2, Feature.HAZARD, table)).isZero();
+
+        // Other sections and out-of-range indices are untouched
+        counts.apply(7, 0, HAZARD, table);
+        assertThat(counts.mask(chunk, 1, table)).isZero();
+    }
+
+    @Test
+    @DisplayName("a rebuilt table recounts the section")
+    void newTable_recountsSection() {
+        counts.mask(chunk, 0, table);
+        counts.apply(0, 0, HAZARD, table);
+        assertThat(counts.mask(chunk, 0, table)).isEqualTo(HAZARD);
+
+        // The recount drops counts built against the old table
+        EnvironmentFeatureIndex.Table rebuilt = table(2);
+        assertThat(counts.mask(chunk, 0, rebuilt)).isZero();
+
+        // Changes classified against the old table no longer apply
+        counts.apply(0, 0, WATER, table);
+        assertThat(counts.mask(chunk, 0, rebuilt)).isZero();
+    }
+
+    private static EnvironmentFeatureIndex.Table table(int generation) {
+        return new EnvironmentFeatureIndex.Table(generation, 0, 0, new byte[0]);
+    }
+}
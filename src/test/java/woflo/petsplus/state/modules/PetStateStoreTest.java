@@ -0,0 +1,55 @@
+package woflo.petsplus.state.modules;
+
+import org.junit.jupiter.api.*;
+import woflo.petsplus.state.PetComponent;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for typed slot handles on the state store:
+ * - Typed writes are visible through the string API and vice versa
+ * - Missing slots fall back to the supplied default
+ * - Typed writes advance the generation counter like string writes
+ */
+@DisplayName("PetStateStore typed slots")
+class PetStateStoreTest {
+
+    @Test
+    @DisplayName("typed and string access share the same slot")
+    void typedAndStringAccess_shareSlot() {
+        PetStateStore store = new PetStateStore();
+
+        store.setLong(PetStateStore.LAST_PET_TIME, 1234L);
+        store.put(PetComponent.StateKeys.GOSSIP_STALL_COUNT, 3);
+
+        assertThat(store.get(PetComponent.StateKeys.LAST_PET_TIME, Long.class)).isEqualTo(1234L);
+        assertThat(store.getInt(PetStateStore.GOSSIP_STALL_COUNT, 0)).isEqualTo(3);
+        assertThat(PetStateStore.LAST_PET_TIME.name()).isEqualTo(PetComponent.StateKeys.LAST_PET_TIME);
+    }
+
+    @Test
+    @DisplayName("missing slot returns the default until written")
+    void missingSlot_returnsDefault() {
+        PetStateStore store = new PetStateStore();
+
+        assertThat(store.has(PetStateStore.PACK_LAST_NEARBY_STRENGTH)).isFalse();
+        assertThat(store.getFloat(PetStateStore.PACK_LAST_NEARBY_STRENGTH, 0.5f)).isEqualTo(0.5f);
+
+        store.setFloat(PetStateStore.PACK_LAST_NEARBY_STRENGTH, 0.75f);
+        store.remove(PetComponent.StateKeys.PACK_LAST_NEARBY_STRENGTH);
+
+        assertThat(store.getFloat(PetStateStore.PACK_LAST_NEARBY_STRENGTH, 0.5f)).isEqualTo(0.5f);
+    }
+
+    @Test
+    @DisplayName("typed writes advance the generation")
+    void typedWrite_advancesGeneration() {
+        PetStateStore store = new PetStateStore();
+        long before = store.generation();
+
+        store.setBoolean(PetStateStore.BREEDING_INHERITED_STATS, true);
+
+        assertThat(store.generation()).isGreaterThan(before);
+        assertThat(store.getBoolean(PetStateStore.BREEDING_INHERITED_STATS, false)).isTrue();
+    }
+}
@@ -4,9 +4,11 @@ import org.awaitility.Awaitility;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import woflo.petsplus.state.coordination.TickBudgetGovernor;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -22,6 +24,7 @@ import static org.assertj.core.api.Assertions.*;
  * - Lifecycle management and cleanup
  * - Error handling and recovery
  * - Priority-based scheduling
+ * - Tick budget deferral, the defer queue cap and stale owner snapshot expiry
  * 
  * CRITICAL: AsyncWorkCoordinator uses double-buffered result queues.
  * Tests MUST call coordinator.drainMainThreadTasks() to process results!
@@ -461,6 +464,158 @@ class AsyncWorkCoordinatorTest {
         }
     }
 
+    @Nested
+    @DisplayName("Tick Budget")
+    class TickBudgetTests {
+
+        private final TickBudgetGovernor governor = TickBudgetGovernor.global();
+
+        @BeforeEach
+        void exhaustAsyncBudget() {
+            // A tick far over budget shrinks the async pool to a handful of tokens; take them all
+            governor.reset();
+            governor.recordWork(4_000_000_000L);
+            governor.endServerTick(4.0);
+            while (governor.tryAcquire(TickBudgetGovernor.Lane.ASYNC_SUBMISSION, null, 1)) {
+                // drain the pool
+            }
+        }
+
+        @AfterEach
+        void resetGovernor() {
+            governor.reset();
+        }
+
+        @Test
+        @DisplayName("should defer budget-denied jobs to a later tick")
+        void submitStandalone_defersWhenBudgetExhausted() throws Exception {
+            // When: Submit with no tokens left this tick
+            AtomicInteger runs = new AtomicInteger();
+            CompletableFuture<Integer> future = coordinator.submitStandalone(
+                "deferred-job",
+                runs::incrementAndGet,
+                null
+            );
+
+            // Then: Neither run nor rejected
+            Thread.sleep(50);
+            assertThat(runs.get()).isZero();
+            assertThat(future).isNotDone();
+
+            // When: Next tick refills the pool and retries
+            governor.endServerTick(4.0);
+            assertThat(coordinator.retryDeferredSubmissions(0L)).isEqualTo(1);
+
+            // Then: The original future follows the resubmitted job
+            Awaitility.await().until(() -> runs.get() == 1);
+            drainAndExecute();
+            assertThat(future).succeedsWithin(1, TimeUnit.SECONDS).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should keep deferring while the budget stays exhausted")
+        void retryDeferred_requeuesWhenStillDenied() throws Exception {
+            CompletableFuture<String> future = coordinator.submitStandalone("deferred-job", () -> "done", null);
+
+            // When: Retry in the same tick, with the pool still empty
+            assertThat(coordinator.retryDeferredSubmissions(0L)).isEqualTo(1);
+
+            // Then: Still pending, and queued for the next retry
+            assertThat(future).isNotDone();
+            governor.endServerTick(4.0);
+            assertThat(coordinator.retryDeferredSubmissions(0L)).isEqualTo(1);
+            Thread.sleep(50);
+            drainAndExecute();
+            assertThat(future).succeedsWithin(1, TimeUnit.SECONDS).isEqualTo("done");
+        }
+
+        @Test
+        @DisplayName("should never defer critical jobs")
+        void submitStandalone_criticalBypassesBudget() throws Exception {
+            CompletableFuture<String> future = coordinator.submitStandalone(
+                "critical-job", () -> "done", null, AsyncJobPriority.CRITICAL);
+
+            Thread.sleep(50);
+            drainAndExecute();
+
+            assertThat(future).succeedsWithin(1, TimeUnit.SECONDS).isEqualTo("done");
+        }
+
+        @Test
+        @DisplayName("should run jobs immediately while the governor is disabled")
+        void submitStandalone_disabledGovernorDoesNotDefer() throws Exception {
+            governor.skipServerTick();
+
+            CompletableFuture<String> future = coordinator.submitStandalone("job", () -> "done", null);
+
+            Thread.sleep(50);
+            drainAndExecute();
+
+            assertThat(future).succeedsWithin(1, TimeUnit.SECONDS).isEqualTo("done");
+        }
+
+        @Test
+        @DisplayName("should reject jobs once the defer queue is full")
+        void submitStandalone_rejectsPastDeferCap() {
+            List<CompletableFuture<Integer>> parked = new ArrayList<>();
+            for (int i = 0; i < AsyncWorkCoordinator.MAX_DEFERRED_SUBMISSIONS; i++) {
+                parked.add(coordinator.submitStandalone("deferred-job", () -> 1, null));
+            }
+
+            CompletableFuture<Integer> overflow = coordinator.submitStandalone("overflow-job", () -> 1, null);
+
+            assertThat(parked).noneMatch(CompletableFuture::isDone);
+            assertThat(coordinator.deferredSubmissionCount()).isEqualTo(AsyncWorkCoordinator.MAX_DEFERRED_SUBMISSIONS);
+            assertThat(overflow).failsWithin(1, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(RejectedExecutionException.class);
+        }
+
+        @Test
+        @DisplayName("should drop deferred owner batches once their snapshot is too old")
+        void retryDeferred_dropsStaleOwnerSnapshots() throws Exception {
+            long capturedTick = 100L;
+            OwnerBatchSnapshot snapshot;
+            try (OwnerTaskBatch batch = OwnerTaskBatch.obtain(UUID.randomUUID(), capturedTick, null)) {
+                snapshot = OwnerBatchSnapshot.capture(batch);
+            }
+            AtomicInteger runs = new AtomicInteger();
+            CompletableFuture<Integer> future = coordinator.submitOwnerBatch(
+                snapshot, snap -> runs.incrementAndGet(), null, AsyncJobPriority.NORMAL);
+
+            // When: Retried at the age limit with the budget still exhausted
+            long limit = capturedTick + AsyncWorkCoordinator.MAX_DEFERRED_SNAPSHOT_AGE_TICKS;
+            assertThat(coordinator.retryDeferredSubmissions(limit)).isEqualTo(1);
+
+            // Then: Still parked
+            assertThat(future).isNotDone();
+            assertThat(coordinator.deferredSubmissionCount()).isEqualTo(1);
+
+            // When: One tick past the limit, with budget available again
+            governor.endServerTick(4.0);
+            assertThat(coordinator.retryDeferredSubmissions(limit + 1)).isZero();
+
+            // Then: Rejected without running against the stale snapshot
+            Thread.sleep(50);
+            drainAndExecute();
+            assertThat(runs.get()).isZero();
+            assertThat(coordinator.deferredSubmissionCount()).isZero();
+            assertThat(future).failsWithin(1, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(RejectedExecutionException.class);
+        }
+
+        @Test
+        @DisplayName("should reject deferred jobs on close")
+        void close_rejectsDeferredJobs() {
+            CompletableFuture<String> future = coordinator.submitStandalone("deferred-job", () -> "done", null);
+
+            coordinator.close();
+
+            assertThat(future).isCompletedExceptionally();
+        }
+    }
+
     // Helper: Thread-safe double wrapper for atomic load factor
     private static class AtomicDouble {
         private final AtomicReference<Double> value;
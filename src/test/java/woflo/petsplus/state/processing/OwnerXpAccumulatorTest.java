@@ -0,0 +1,73 @@
+package woflo.petsplus.state.processing;
+
+import net.minecraft.server.network.ServerPlayerEntity;
+import org.junit.jupiter.api.*;
+import woflo.petsplus.TestFixtures;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for per-owner XP coalescing:
+ * - Many pickups in one tick flush as a single summed total per owner
+ * - Totals reset after a flush, and owners that left the world are dropped
+ */
+@DisplayName("OwnerXpAccumulator")
+class OwnerXpAccumulatorTest {
+
+    private record Flushed(ServerPlayerEntity owner, int xpAmount, int orbCount) {}
+
+    private OwnerXpAccumulator accumulator;
+    private List<Flushed> flushed;
+
+    @BeforeEach
+    void setup() {
+        accumulator = new OwnerXpAccumulator();
+        flushed = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("pickups in one tick flush as one total per owner")
+    void pickups_coalescePerOwner() {
+        ServerPlayerEntity first = mockOwner(1L);
+        ServerPlayerEntity second = mockOwner(2L);
+        for (int i = 0; i < 40; i++) {
+            accumulator.add(first, 3);
+        }
+        accumulator.add(second, 7);
+        accumulator.add(first, 0);
+
+        accumulator.flush((owner, xp, orbs) -> flushed.add(new Flushed(owner, xp, orbs)));
+
+        assertThat(flushed).containsExactly(new Flushed(first, 120, 40), new Flushed(second, 7, 1));
+        assertThat(accumulator.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("totals reset after a flush and removed owners are dropped")
+    void flush_resetsTotals() {
+        ServerPlayerEntity owner = mockOwner(3L);
+        accumulator.add(owner, 5);
+        accumulator.flush((o, xp, orbs) -> { });
+
+        accumulator.add(owner, 2);
+        when(owner.isRemoved()).thenReturn(true);
+        accumulator.flush((o, xp, orbs) -> flushed.add(new Flushed(o, xp, orbs)));
+        assertThat(flushed).isEmpty();
+
+        when(owner.isRemoved()).thenReturn(false);
+        accumulator.add(owner, 4);
+        accumulator.flush((o, xp, orbs) -> flushed.add(new Flushed(o, xp, orbs)));
+        assertThat(flushed).containsExactly(new Flushed(owner, 4, 1));
+    }
+
+    private static ServerPlayerEntity mockOwner(long seed) {
+        ServerPlayerEntity owner = mock(ServerPlayerEntity.class);
+        when(owner.getUuid()).thenReturn(TestFixtures.deterministicUuid(seed));
+        return owner;
+    }
+}
@@ -0,0 +1,138 @@
+package woflo.petsplus.state.tracking;
+
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.text.Text;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.ChunkPos;
+import org.junit.jupiter.api.*;
+import woflo.petsplus.state.PetComponent;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static woflo.petsplus.TestFixtures.*;
+
+/**
+ * Tests for the persistent owner-to-pet registry:
+ * - Recording lists a pet under its owner with its dimension, chunk, name, role and level
+ * - Re-recording after a level-up or rename replaces the snapshot, and unchanged data stays clean
+ * - Transfers move the pet to the new owner, and ownerless pets are forgotten
+ * - The codec round-trip keeps every record and rebuilds the pet-to-owner index
+ */
+@DisplayName("OwnedPetRegistry")
+class OwnedPetRegistryTest {
+
+    private static final Identifier GUARDIAN = Identifier.of("petsplus", "guardian");
+
+    private ServerWorld world;
+    private OwnedPetRegistry registry;
+    private UUID ownerId;
+    private UUID petId;
+    private MobEntity pet;
+    private PetComponent component;
+
+    @BeforeEach
+    void setup() {
+        world = mockWorldForDimension("overworld", 0L);
+        registry = new OwnedPetRegistry();
+        ownerId = deterministicUuid(1L);
+        petId = deterministicUuid(2L);
+        pet = mockPet(world, petId);
+        when(pet.getChunkPos()).thenReturn(new ChunkPos(3, -4));
+        when(pet.hasCustomName()).thenReturn(true);
+        when(pet.getCustomName()).thenReturn(Text.literal("Biscuit"));
+        component = mock(PetComponent.class);
+        when(component.getOwnerUuid()).thenReturn(ownerId);
+        when(component.getAssignedRoleId()).thenReturn(GUARDIAN);
+        when(component.getLevel()).thenReturn(5);
+    }
+
+    @Test
+    @DisplayName("records a snapshot under the owner")
+    void recordPet_listsSnapshotUnderOwner() {
+        registry.recordPet(world, pet, component);
+
+        assertThat(registry.ownerOf(petId)).isEqualTo(ownerId);
+        assertThat(registry.petsOf(ownerId)).containsOnlyKeys(petId);
+        assertThat(registry.find(petId)).isEqualTo(new OwnedPetRegistry.PetRecord(
+            Identifier.ofVanilla("overworld"), new ChunkPos(3, -4).toLong(), "Biscuit", GUARDIAN, 5));
+        assertThat(registry.isDirty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("re-recording picks up a level-up and rename, and unchanged data stays clean")
+    void recordPet_refreshesChangedFields() {
+        registry.recordPet(world, pet, component);
+        registry.setDirty(false);
+
+        registry.recordPet(world, pet, component);
+        assertThat(registry.isDirty()).isFalse();
+
+        when(component.getLevel()).thenReturn(6);
+        when(pet.getCustomName()).thenReturn(Text.literal("Sir Biscuit"));
+        registry.recordPet(world, pet, component);
+
+        assertThat(registry.isDirty()).isTrue();
+        assertThat(registry.find(petId)).extracting(OwnedPetRegistry.PetRecord::level, OwnedPetRegistry.PetRecord::name)
+            .containsExactly(6, "Sir Biscuit");
+    }
+
+    @Test
+    @DisplayName("a transfer moves the pet to the new owner")
+    void recordPet_movesTransferredPet() {
+        registry.recordPet(world, pet, component);
+        UUID newOwner = deterministicUuid(3L);
+        when(component.getOwnerUuid()).thenReturn(newOwner);
+
+        registry.recordPet(world, pet, component);
+
+        assertThat(registry.ownerOf(petId)).isEqualTo(newOwner);
+        assertThat(registry.petsOf(newOwner)).containsOnlyKeys(petId);
+        assertThat(registry.petsOf(ownerId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("forgetting drops the pet, and an ownerless pet is forgotten")
+    void forgetPet_dropsEntries() {
+        registry.recordPet(world, pet, component);
+        registry.forgetPet(petId);
+
+        assertThat(registry.ownerOf(petId)).isNull();
+        assertThat(registry.find(petId)).isNull();
+        assertThat(registry.petsOf(ownerId)).isEmpty();
+
+        registry.recordPet(world, pet, component);
+        when(component.getOwnerUuid()).thenReturn(null);
+        registry.recordPet(world, pet, component);
+
+        assertThat(registry.ownerOf(petId)).isNull();
+        assertThat(registry.petsOf(ownerId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("codec round-trip keeps records and the owner index")
+    void codec_roundTrips() {
+        registry.recordPet(world, pet, component);
+        UUID strayId = deterministicUuid(4L);
+        MobEntity stray = mockPet(world, strayId);
+        when(stray.getChunkPos()).thenReturn(new ChunkPos(0, 0));
+        when(stray.hasCustomName()).thenReturn(true);
+        when(stray.getCustomName()).thenReturn(Text.literal("Pebble"));
+        PetComponent strayComponent = mock(PetComponent.class);
+        when(strayComponent.getOwnerUuid()).thenReturn(ownerId);
+        when(strayComponent.getLevel()).thenReturn(1);
+        registry.recordPet(world, stray, strayComponent);
+
+        NbtElement encoded = OwnedPetRegistry.CODEC.encodeStart(NbtOps.INSTANCE, registry).getOrThrow();
+        OwnedPetRegistry decoded = OwnedPetRegistry.CODEC.parse(NbtOps.INSTANCE, encoded).getOrThrow();
+
+        assertThat(decoded.petsOf(ownerId)).isEqualTo(registry.petsOf(ownerId));
+        assertThat(decoded.ownerOf(petId)).isEqualTo(ownerId);
+        assertThat(decoded.ownerOf(strayId)).isEqualTo(ownerId);
+        assertThat(decoded.find(strayId).roleId()).isNull();
+    }
+}